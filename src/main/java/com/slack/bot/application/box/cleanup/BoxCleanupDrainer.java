@@ -0,0 +1,198 @@
+package com.slack.bot.application.box.cleanup;
+
+import com.slack.bot.global.config.properties.BoxCleanupProperties;
+import com.slack.bot.infrastructure.common.lease.repository.SchedulerLeaseRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class BoxCleanupDrainer {
+
+    private static final String LEASE_NAME = "box-cleanup";
+
+    private final Clock clock;
+    private final BoxCleanupProperties boxCleanupProperties;
+    private final BoxCleanupService boxCleanupService;
+    private final BoxCleanupMetrics boxCleanupMetrics;
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final BoxCleanupReplicationLagProbe replicationLagProbe;
+    private final PauseSleeper pauseSleeper;
+    private final String leaseOwner = UUID.randomUUID().toString();
+
+    @Autowired
+    public BoxCleanupDrainer(
+            Clock clock,
+            BoxCleanupProperties boxCleanupProperties,
+            BoxCleanupService boxCleanupService,
+            BoxCleanupMetrics boxCleanupMetrics,
+            SchedulerLeaseRepository schedulerLeaseRepository,
+            BoxCleanupReplicationLagProbe replicationLagProbe
+    ) {
+        this(
+                clock,
+                boxCleanupProperties,
+                boxCleanupService,
+                boxCleanupMetrics,
+                schedulerLeaseRepository,
+                replicationLagProbe,
+                Thread::sleep
+        );
+    }
+
+    BoxCleanupDrainer(
+            Clock clock,
+            BoxCleanupProperties boxCleanupProperties,
+            BoxCleanupService boxCleanupService,
+            BoxCleanupMetrics boxCleanupMetrics,
+            SchedulerLeaseRepository schedulerLeaseRepository,
+            BoxCleanupReplicationLagProbe replicationLagProbe,
+            PauseSleeper pauseSleeper
+    ) {
+        this.clock = clock;
+        this.boxCleanupProperties = boxCleanupProperties;
+        this.boxCleanupService = boxCleanupService;
+        this.boxCleanupMetrics = boxCleanupMetrics;
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.replicationLagProbe = replicationLagProbe;
+        this.pauseSleeper = pauseSleeper;
+    }
+
+    public DrainResult drain(Instant completedBefore) {
+        Instant startedAt = clock.instant();
+        if (!acquireLease(startedAt)) {
+            return DrainResult.skipped();
+        }
+
+        try {
+            return drainWithLease(completedBefore, startedAt.plusMillis(boxCleanupProperties.maxRunDurationMs()));
+        } finally {
+            schedulerLeaseRepository.release(LEASE_NAME, leaseOwner);
+        }
+    }
+
+    private DrainResult drainWithLease(Instant completedBefore, Instant deadline) {
+        int deleteBatchSize = boxCleanupProperties.deleteBatchSize();
+        BoxCleanupService.CleanupResult total = BoxCleanupService.CleanupResult.empty();
+        int rounds = 0;
+
+        while (true) {
+            Instant roundStartedAt = clock.instant();
+            BoxCleanupService.CleanupResult round = boxCleanupService.cleanCompletedBoxes(
+                    completedBefore,
+                    deleteBatchSize
+            );
+            Instant roundFinishedAt = clock.instant();
+            Duration latency = Duration.between(roundStartedAt, roundFinishedAt);
+
+            rounds++;
+            total = total.plus(round);
+            boxCleanupMetrics.recordRound(round, latency);
+
+            if (round.hasFailure()) {
+                return finish(completedBefore, total, rounds, false);
+            }
+            if (round.isCaughtUp(deleteBatchSize)) {
+                return finish(completedBefore, total, rounds, true);
+            }
+            if (!roundFinishedAt.isBefore(deadline) || !acquireLease(roundFinishedAt)) {
+                return finish(completedBefore, total, rounds, false);
+            }
+            if (!pause(latency, deadline)) {
+                return finish(completedBefore, total, rounds, false);
+            }
+        }
+    }
+
+    private DrainResult finish(
+            Instant completedBefore,
+            BoxCleanupService.CleanupResult total,
+            int rounds,
+            boolean caughtUp
+    ) {
+        boxCleanupMetrics.refreshBacklog(completedBefore);
+        return new DrainResult(total, rounds, caughtUp, true);
+    }
+
+    private boolean acquireLease(Instant now) {
+        try {
+            return schedulerLeaseRepository.tryAcquire(
+                    LEASE_NAME,
+                    leaseOwner,
+                    now,
+                    now.plusMillis(boxCleanupProperties.leaseTtlMs())
+            );
+        } catch (Exception exception) {
+            log.warn("box cleanup lease 획득에 실패했습니다.", exception);
+            return false;
+        }
+    }
+
+    private boolean pause(Duration latency, Instant deadline) {
+        try {
+            pauseSleeper.sleep(resolvePause(latency));
+            return awaitReplicationCatchUp(deadline);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean awaitReplicationCatchUp(Instant deadline) throws InterruptedException {
+        while (isReplicationLagging()) {
+            boxCleanupMetrics.recordReplicationLagPause();
+
+            Instant now = clock.instant();
+            if (!now.isBefore(deadline) || !acquireLease(now)) {
+                return false;
+            }
+            pauseSleeper.sleep(Duration.ofMillis(boxCleanupProperties.maxPauseMs()));
+        }
+
+        return true;
+    }
+
+    private boolean isReplicationLagging() {
+        try {
+            return replicationLagProbe.currentLag()
+                                      .map(lag -> lag.toMillis() > boxCleanupProperties.maxReplicationLagMs())
+                                      .orElse(false);
+        } catch (Exception exception) {
+            log.warn("replica 지연 조회에 실패해 box cleanup 다음 라운드를 보류합니다.", exception);
+            return true;
+        }
+    }
+
+    Duration resolvePause(Duration latency) {
+        long pauseMs = (long) (latency.toMillis() * boxCleanupProperties.pauseToLatencyRatio());
+        long boundedPauseMs = Math.max(
+                boxCleanupProperties.minPauseMs(),
+                Math.min(boxCleanupProperties.maxPauseMs(), pauseMs)
+        );
+
+        return Duration.ofMillis(boundedPauseMs);
+    }
+
+    @FunctionalInterface
+    interface PauseSleeper {
+
+        void sleep(Duration duration) throws InterruptedException;
+    }
+
+    public record DrainResult(
+            BoxCleanupService.CleanupResult total,
+            int rounds,
+            boolean caughtUp,
+            boolean leaseAcquired
+    ) {
+
+        public static DrainResult skipped() {
+            return new DrainResult(BoxCleanupService.CleanupResult.empty(), 0, false, false);
+        }
+    }
+}
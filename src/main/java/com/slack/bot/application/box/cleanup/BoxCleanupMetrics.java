@@ -0,0 +1,116 @@
+package com.slack.bot.application.box.cleanup;
+
+import com.slack.bot.infrastructure.interaction.box.in.repository.SlackInteractionInboxRepository;
+import com.slack.bot.infrastructure.interaction.box.out.repository.SlackNotificationOutboxRepository;
+import com.slack.bot.infrastructure.review.box.in.repository.ReviewRequestInboxRepository;
+import com.slack.bot.infrastructure.review.box.out.repository.ReviewNotificationOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class BoxCleanupMetrics {
+
+    private final Timer roundTimer;
+    private final Counter replicationLagPauseCounter;
+    private final BoxMeters interactionInbox;
+    private final BoxMeters interactionOutbox;
+    private final BoxMeters reviewInbox;
+    private final BoxMeters reviewOutbox;
+
+    public BoxCleanupMetrics(
+            MeterRegistry meterRegistry,
+            SlackInteractionInboxRepository slackInteractionInboxRepository,
+            SlackNotificationOutboxRepository slackNotificationOutboxRepository,
+            ReviewRequestInboxRepository reviewRequestInboxRepository,
+            ReviewNotificationOutboxRepository reviewNotificationOutboxRepository
+    ) {
+        this.roundTimer = Timer.builder("box.cleanup.round")
+                               .description("box cleanup 한 라운드의 삭제 지연 시간")
+                               .register(meterRegistry);
+        this.replicationLagPauseCounter = Counter.builder("box.cleanup.replication_lag_pauses")
+                                                 .description("replica 지연으로 box cleanup 라운드를 보류한 횟수")
+                                                 .register(meterRegistry);
+        this.interactionInbox = new BoxMeters(
+                meterRegistry,
+                "interaction_inbox",
+                slackInteractionInboxRepository::countCompletedBefore
+        );
+        this.interactionOutbox = new BoxMeters(
+                meterRegistry,
+                "interaction_outbox",
+                slackNotificationOutboxRepository::countCompletedBefore
+        );
+        this.reviewInbox = new BoxMeters(
+                meterRegistry,
+                "review_inbox",
+                reviewRequestInboxRepository::countCompletedBefore
+        );
+        this.reviewOutbox = new BoxMeters(
+                meterRegistry,
+                "review_outbox",
+                reviewNotificationOutboxRepository::countCompletedBefore
+        );
+    }
+
+    public void recordRound(BoxCleanupService.CleanupResult result, Duration latency) {
+        roundTimer.record(latency);
+        interactionInbox.recordDeleted(result.interactionInboxDeleted());
+        interactionOutbox.recordDeleted(result.interactionOutboxDeleted());
+        reviewInbox.recordDeleted(result.reviewInboxDeleted());
+        reviewOutbox.recordDeleted(result.reviewOutboxDeleted());
+    }
+
+    public void recordReplicationLagPause() {
+        replicationLagPauseCounter.increment();
+    }
+
+    public void refreshBacklog(Instant completedBefore) {
+        interactionInbox.refreshBacklog(completedBefore);
+        interactionOutbox.refreshBacklog(completedBefore);
+        reviewInbox.refreshBacklog(completedBefore);
+        reviewOutbox.refreshBacklog(completedBefore);
+    }
+
+    private static final class BoxMeters {
+
+        private final String boxName;
+        private final Counter deletedCounter;
+        private final AtomicLong backlog = new AtomicLong();
+        private final ToLongFunction<Instant> backlogCounter;
+
+        private BoxMeters(MeterRegistry meterRegistry, String boxName, ToLongFunction<Instant> backlogCounter) {
+            this.boxName = boxName;
+            this.backlogCounter = backlogCounter;
+            this.deletedCounter = Counter.builder("box.cleanup.deleted")
+                                         .description("box cleanup으로 삭제한 완료 row 수")
+                                         .tag("box", boxName)
+                                         .register(meterRegistry);
+
+            Gauge.builder("box.cleanup.backlog", backlog, AtomicLong::get)
+                 .description("보존 기간이 지나 삭제 대기 중인 완료 row 수")
+                 .tag("box", boxName)
+                 .register(meterRegistry);
+        }
+
+        private void recordDeleted(int deletedCount) {
+            deletedCounter.increment(deletedCount);
+        }
+
+        private void refreshBacklog(Instant completedBefore) {
+            try {
+                backlog.set(backlogCounter.applyAsLong(completedBefore));
+            } catch (Exception exception) {
+                log.warn("{} cleanup backlog 집계에 실패했습니다.", boxName, exception);
+            }
+        }
+    }
+}
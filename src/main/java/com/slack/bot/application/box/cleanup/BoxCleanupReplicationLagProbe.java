@@ -0,0 +1,12 @@
+package com.slack.bot.application.box.cleanup;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@FunctionalInterface
+public interface BoxCleanupReplicationLagProbe {
+
+    BoxCleanupReplicationLagProbe NONE = Optional::empty;
+
+    Optional<Duration> currentLag();
+}
@@ -18,20 +18,30 @@ public class BoxCleanupScheduler {
 
     private final Clock clock;
     private final BoxCleanupProperties boxCleanupProperties;
-    private final BoxCleanupService boxCleanupService;
+    private final BoxCleanupDrainer boxCleanupDrainer;
 
-    @Scheduled(fixedDelayString = "${app.cleanup.box.fixed-delay-ms:1800000}")
+    private volatile Instant nextRunAt = Instant.MIN;
+
+    @Scheduled(fixedDelayString = "${app.cleanup.box.catch-up-delay-ms:5000}")
     public void cleanCompletedBoxes() {
+        Instant now = clock.instant();
+        if (now.isBefore(nextRunAt)) {
+            return;
+        }
+
+        nextRunAt = now.plusMillis(boxCleanupProperties.fixedDelayMs());
         try {
-            Instant completedBefore = clock.instant()
-                                           .minus(Duration.ofDays(boxCleanupProperties.retentionDays()));
-            BoxCleanupService.CleanupResult result = boxCleanupService.cleanCompletedBoxes(
-                    completedBefore,
-                    boxCleanupProperties.deleteBatchSize()
-            );
+            Instant completedBefore = now.minus(Duration.ofDays(boxCleanupProperties.retentionDays()));
+            BoxCleanupDrainer.DrainResult drainResult = boxCleanupDrainer.drain(completedBefore);
+            if (!drainResult.leaseAcquired()) {
+                log.info("다른 노드가 box cleanup lease를 보유하고 있어 이번 실행을 건너뜁니다.");
+                return;
+            }
+
+            BoxCleanupService.CleanupResult result = drainResult.total();
             if (result.hasFailure()) {
                 log.warn(
-                        "box cleanup이 부분 실패로 종료됐습니다. interactionInboxDeleted={}, interactionInboxFailed={}, interactionOutboxDeleted={}, interactionOutboxFailed={}, reviewInboxDeleted={}, reviewInboxFailed={}, reviewOutboxDeleted={}, reviewOutboxFailed={}, totalDeleted={}",
+                        "box cleanup이 부분 실패로 종료됐습니다. interactionInboxDeleted={}, interactionInboxFailed={}, interactionOutboxDeleted={}, interactionOutboxFailed={}, reviewInboxDeleted={}, reviewInboxFailed={}, reviewOutboxDeleted={}, reviewOutboxFailed={}, totalDeleted={}, rounds={}",
                         result.interactionInboxDeleted(),
                         result.interactionInbox().failed(),
                         result.interactionOutboxDeleted(),
@@ -40,17 +50,23 @@ public class BoxCleanupScheduler {
                         result.reviewInbox().failed(),
                         result.reviewOutboxDeleted(),
                         result.reviewOutbox().failed(),
-                        result.totalDeleted()
+                        result.totalDeleted(),
+                        drainResult.rounds()
                 );
                 return;
             }
+            if (!drainResult.caughtUp()) {
+                nextRunAt = now;
+            }
             log.info(
-                    "box cleanup을 완료했습니다. interactionInboxDeleted={}, interactionOutboxDeleted={}, reviewInboxDeleted={}, reviewOutboxDeleted={}, totalDeleted={}",
+                    "box cleanup을 완료했습니다. interactionInboxDeleted={}, interactionOutboxDeleted={}, reviewInboxDeleted={}, reviewOutboxDeleted={}, totalDeleted={}, rounds={}, caughtUp={}",
                     result.interactionInboxDeleted(),
                     result.interactionOutboxDeleted(),
                     result.reviewInboxDeleted(),
                     result.reviewOutboxDeleted(),
-                    result.totalDeleted()
+                    result.totalDeleted(),
+                    drainResult.rounds(),
+                    drainResult.caughtUp()
             );
         } catch (Exception exception) {
             log.error("box cleanup scheduler 실행에 실패했습니다.", exception);
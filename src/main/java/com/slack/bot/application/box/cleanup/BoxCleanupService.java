@@ -1,5 +1,7 @@
 package com.slack.bot.application.box.cleanup;
 
+import com.slack.bot.global.config.properties.BoxHistoryPartitionProperties;
+import com.slack.bot.infrastructure.common.BoxHistoryRetention;
 import com.slack.bot.infrastructure.interaction.box.in.repository.SlackInteractionInboxRepository;
 import com.slack.bot.infrastructure.interaction.box.out.repository.SlackNotificationOutboxRepository;
 import com.slack.bot.infrastructure.review.box.in.repository.ReviewRequestInboxRepository;
@@ -18,26 +20,44 @@ public class BoxCleanupService {
     private final SlackNotificationOutboxRepository slackNotificationOutboxRepository;
     private final ReviewRequestInboxRepository reviewRequestInboxRepository;
     private final ReviewNotificationOutboxRepository reviewNotificationOutboxRepository;
+    private final BoxHistoryPartitionProperties boxHistoryPartitionProperties;
 
     public CleanupResult cleanCompletedBoxes(Instant completedBefore, int deleteBatchSize) {
         validateCompletedBefore(completedBefore);
         validateDeleteBatchSize(deleteBatchSize);
 
+        BoxHistoryRetention historyRetention = resolveHistoryRetention();
         DomainCleanupResult interactionInboxResult = cleanDomain(
                 "interaction inbox",
-                () -> slackInteractionInboxRepository.deleteCompletedBefore(completedBefore, deleteBatchSize)
+                () -> slackInteractionInboxRepository.deleteCompletedBefore(
+                        completedBefore,
+                        deleteBatchSize,
+                        historyRetention
+                )
         );
         DomainCleanupResult interactionOutboxResult = cleanDomain(
                 "interaction outbox",
-                () -> slackNotificationOutboxRepository.deleteCompletedBefore(completedBefore, deleteBatchSize)
+                () -> slackNotificationOutboxRepository.deleteCompletedBefore(
+                        completedBefore,
+                        deleteBatchSize,
+                        historyRetention
+                )
         );
         DomainCleanupResult reviewInboxResult = cleanDomain(
                 "review inbox",
-                () -> reviewRequestInboxRepository.deleteCompletedBefore(completedBefore, deleteBatchSize)
+                () -> reviewRequestInboxRepository.deleteCompletedBefore(
+                        completedBefore,
+                        deleteBatchSize,
+                        historyRetention
+                )
         );
         DomainCleanupResult reviewOutboxResult = cleanDomain(
                 "review outbox",
-                () -> reviewNotificationOutboxRepository.deleteCompletedBefore(completedBefore, deleteBatchSize)
+                () -> reviewNotificationOutboxRepository.deleteCompletedBefore(
+                        completedBefore,
+                        deleteBatchSize,
+                        historyRetention
+                )
         );
 
         return new CleanupResult(
@@ -48,6 +68,14 @@ public class BoxCleanupService {
         );
     }
 
+    private BoxHistoryRetention resolveHistoryRetention() {
+        if (boxHistoryPartitionProperties.enabled()) {
+            return BoxHistoryRetention.DROP_PARTITIONS;
+        }
+
+        return BoxHistoryRetention.DELETE_ROWS;
+    }
+
     private void validateCompletedBefore(Instant completedBefore) {
         if (completedBefore == null) {
             throw new IllegalArgumentException("completedBefore는 비어 있을 수 없습니다.");
@@ -82,6 +110,31 @@ public class BoxCleanupService {
             DomainCleanupResult reviewOutbox
     ) {
 
+        public static CleanupResult empty() {
+            return new CleanupResult(
+                    DomainCleanupResult.succeeded(0),
+                    DomainCleanupResult.succeeded(0),
+                    DomainCleanupResult.succeeded(0),
+                    DomainCleanupResult.succeeded(0)
+            );
+        }
+
+        public CleanupResult plus(CleanupResult other) {
+            return new CleanupResult(
+                    interactionInbox.plus(other.interactionInbox),
+                    interactionOutbox.plus(other.interactionOutbox),
+                    reviewInbox.plus(other.reviewInbox),
+                    reviewOutbox.plus(other.reviewOutbox)
+            );
+        }
+
+        public boolean isCaughtUp(int deleteBatchSize) {
+            return interactionInbox.deletedCount() < deleteBatchSize
+                    && interactionOutbox.deletedCount() < deleteBatchSize
+                    && reviewInbox.deletedCount() < deleteBatchSize
+                    && reviewOutbox.deletedCount() < deleteBatchSize;
+        }
+
         public int interactionInboxDeleted() {
             return interactionInbox.deletedCount();
         }
@@ -129,5 +182,9 @@ public class BoxCleanupService {
         public static DomainCleanupResult failedResult() {
             return new DomainCleanupResult(0, true);
         }
+
+        public DomainCleanupResult plus(DomainCleanupResult other) {
+            return new DomainCleanupResult(deletedCount + other.deletedCount, failed || other.failed);
+        }
     }
 }
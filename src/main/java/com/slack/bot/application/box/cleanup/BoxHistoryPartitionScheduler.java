@@ -0,0 +1,48 @@
+package com.slack.bot.application.box.cleanup;
+
+import java.time.Clock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.cleanup.box.history-partition", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class BoxHistoryPartitionScheduler {
+
+    private final Clock clock;
+    private final BoxHistoryPartitionService boxHistoryPartitionService;
+
+    @Scheduled(fixedDelayString = "${app.cleanup.box.history-partition.fixed-delay-ms:3600000}")
+    public void maintainPartitions() {
+        try {
+            BoxHistoryPartitionService.MaintenanceResult result = boxHistoryPartitionService.maintainPartitions(
+                    clock.instant()
+            );
+            if (!result.leaseAcquired()) {
+                log.info("다른 노드가 box history partition lease를 보유하고 있어 이번 실행을 건너뜁니다.");
+                return;
+            }
+            if (result.hasFailure()) {
+                log.warn(
+                        "box history partition 관리가 부분 실패로 종료됐습니다. addedPartitions={}, droppedPartitions={}, failedTables={}, unpartitionedTables={}",
+                        result.addedPartitions(),
+                        result.droppedPartitions(),
+                        result.failedTables(),
+                        result.unpartitionedTables()
+                );
+                return;
+            }
+            log.info(
+                    "box history partition 관리를 완료했습니다. addedPartitions={}, droppedPartitions={}",
+                    result.addedPartitions(),
+                    result.droppedPartitions()
+            );
+        } catch (Exception exception) {
+            log.error("box history partition scheduler 실행에 실패했습니다.", exception);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.slack.bot.application.box.cleanup;
+
+import com.slack.bot.global.config.properties.BoxCleanupProperties;
+import com.slack.bot.global.config.properties.BoxHistoryPartitionProperties;
+import com.slack.bot.infrastructure.common.partition.BoxHistoryPartitionNames;
+import com.slack.bot.infrastructure.common.lease.repository.SchedulerLeaseRepository;
+import com.slack.bot.infrastructure.common.partition.repository.BoxHistoryPartitionRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoxHistoryPartitionService {
+
+    private static final String LEASE_NAME = "box-history-partition";
+
+    private static final List<String> HISTORY_TABLES = List.of(
+            "slack_interaction_inbox_history",
+            "slack_notification_outbox_history",
+            "review_request_inbox_history",
+            "review_notification_outbox_history"
+    );
+
+    private final Clock clock;
+    private final BoxCleanupProperties boxCleanupProperties;
+    private final BoxHistoryPartitionProperties boxHistoryPartitionProperties;
+    private final BoxHistoryPartitionRepository boxHistoryPartitionRepository;
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final String leaseOwner = UUID.randomUUID().toString();
+
+    public MaintenanceResult maintainPartitions(Instant now) {
+        if (now == null) {
+            throw new IllegalArgumentException("now는 비어 있을 수 없습니다.");
+        }
+        if (!acquireLease(now)) {
+            return MaintenanceResult.skipped();
+        }
+
+        try {
+            return maintainAllTables(now);
+        } finally {
+            schedulerLeaseRepository.release(LEASE_NAME, leaseOwner);
+        }
+    }
+
+    private MaintenanceResult maintainAllTables(Instant now) {
+        Instant completedBefore = now.minus(Duration.ofDays(boxCleanupProperties.retentionDays()));
+        YearMonth lastMonth = toYearMonth(now).plusMonths(boxHistoryPartitionProperties.precreateMonths());
+        MaintenanceResult result = MaintenanceResult.empty();
+
+        for (String tableName : HISTORY_TABLES) {
+            result = result.plus(maintainTable(tableName, completedBefore, lastMonth));
+        }
+
+        return result;
+    }
+
+    private MaintenanceResult maintainTable(String tableName, Instant completedBefore, YearMonth lastMonth) {
+        try {
+            List<String> partitionNames = boxHistoryPartitionRepository.findPartitionNames(tableName);
+            if (partitionNames.isEmpty()) {
+                log.warn("{}는 아직 partition되지 않아 관리를 건너뜁니다. db/ops/box_history_partitioning.sql 전환 작업이 필요합니다.", tableName);
+                return new MaintenanceResult(0, 0, 0, 1, true);
+            }
+
+            List<YearMonth> missingMonths = resolveMissingMonths(partitionNames, completedBefore, lastMonth);
+            if (!missingMonths.isEmpty()) {
+                boxHistoryPartitionRepository.addMonthlyPartitions(tableName, missingMonths);
+            }
+
+            List<String> expiredPartitionNames = resolveExpiredPartitionNames(partitionNames, completedBefore);
+            if (!expiredPartitionNames.isEmpty()) {
+                boxHistoryPartitionRepository.dropPartitions(tableName, expiredPartitionNames);
+            }
+
+            return new MaintenanceResult(missingMonths.size(), expiredPartitionNames.size(), 0, 0, true);
+        } catch (Exception exception) {
+            log.error("{} partition 관리에 실패했습니다.", tableName, exception);
+            return new MaintenanceResult(0, 0, 1, 0, true);
+        }
+    }
+
+    private boolean acquireLease(Instant now) {
+        try {
+            return schedulerLeaseRepository.tryAcquire(
+                    LEASE_NAME,
+                    leaseOwner,
+                    now,
+                    now.plusMillis(boxHistoryPartitionProperties.leaseTtlMs())
+            );
+        } catch (Exception exception) {
+            log.warn("box history partition lease 획득에 실패했습니다.", exception);
+            return false;
+        }
+    }
+
+    private List<YearMonth> resolveMissingMonths(
+            List<String> partitionNames,
+            Instant completedBefore,
+            YearMonth lastMonth
+    ) {
+        Optional<YearMonth> latestMonth = partitionNames.stream()
+                                                     .map(BoxHistoryPartitionNames::parseMonth)
+                                                     .flatMap(Optional::stream)
+                                                     .max(YearMonth::compareTo);
+        YearMonth firstMissingMonth = latestMonth.map(month -> month.plusMonths(1L))
+                                                 .orElse(toYearMonth(completedBefore));
+
+        return monthsBetween(firstMissingMonth, lastMonth);
+    }
+
+    private List<String> resolveExpiredPartitionNames(List<String> partitionNames, Instant completedBefore) {
+        List<String> expiredPartitionNames = new ArrayList<>();
+
+        for (String partitionName : partitionNames) {
+            BoxHistoryPartitionNames.parseMonth(partitionName)
+                                    .filter(month -> !upperBoundOf(month).isAfter(completedBefore))
+                                    .ifPresent(month -> expiredPartitionNames.add(partitionName));
+        }
+
+        return expiredPartitionNames;
+    }
+
+    private List<YearMonth> monthsBetween(YearMonth firstMonth, YearMonth lastMonth) {
+        List<YearMonth> months = new ArrayList<>();
+
+        for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1L)) {
+            months.add(month);
+        }
+
+        return months;
+    }
+
+    private Instant upperBoundOf(YearMonth month) {
+        return month.plusMonths(1L)
+                    .atDay(1)
+                    .atStartOfDay(clock.getZone())
+                    .toInstant();
+    }
+
+    private YearMonth toYearMonth(Instant instant) {
+        return YearMonth.from(instant.atZone(clock.getZone()));
+    }
+
+    public record MaintenanceResult(
+            int addedPartitions,
+            int droppedPartitions,
+            int failedTables,
+            int unpartitionedTables,
+            boolean leaseAcquired
+    ) {
+
+        public static MaintenanceResult empty() {
+            return new MaintenanceResult(0, 0, 0, 0, true);
+        }
+
+        public static MaintenanceResult skipped() {
+            return new MaintenanceResult(0, 0, 0, 0, false);
+        }
+
+        public MaintenanceResult plus(MaintenanceResult other) {
+            return new MaintenanceResult(
+                    addedPartitions + other.addedPartitions,
+                    droppedPartitions + other.droppedPartitions,
+                    failedTables + other.failedTables,
+                    unpartitionedTables + other.unpartitionedTables,
+                    leaseAcquired && other.leaseAcquired
+            );
+        }
+
+        public boolean hasFailure() {
+            return failedTables > 0 || unpartitionedTables > 0;
+        }
+    }
+}
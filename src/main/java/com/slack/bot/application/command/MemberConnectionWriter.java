@@ -3,6 +3,7 @@ package com.slack.bot.application.command;
 import com.slack.bot.domain.member.ProjectMember;
 import com.slack.bot.domain.member.repository.ProjectMemberRepository;
 import com.slack.bot.domain.member.vo.GithubId;
+import com.slack.bot.infrastructure.member.cache.ProjectMemberDirectoryCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,9 +13,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberConnectionWriter {
 
     private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectMemberDirectoryCache projectMemberDirectoryCache;
 
     @Transactional
     public String saveOrUpdateMember(String teamId, String slackUserId, String displayName, String githubId) {
+        projectMemberDirectoryCache.evictTeam(teamId);
         return projectMemberRepository.findBySlackUser(teamId, slackUserId)
                                       .map(projectMember -> updateMemberGithubId(projectMember, githubId))
                                       .orElseGet(
@@ -3,12 +3,16 @@ package com.slack.bot.application.command.link;
 import com.slack.bot.domain.link.dto.AccessLinkSequenceBlockDto;
 import com.slack.bot.domain.link.repository.AccessLinkSequenceRepository;
 import com.slack.bot.global.config.properties.AccessLinkKeyProperties;
-import java.math.BigInteger;
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
 import org.springframework.stereotype.Component;
@@ -18,14 +22,17 @@ public class AccessLinkKeyGenerator {
 
     private static final char[] ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
     private static final int ENCODED_LENGTH = 22;
+    private static final int BLOCK_BYTES = 16;
     private static final Long INITIAL_COUNTER = 916_132_831L;
     private static final Long BLOCK_SIZE = 1_000L;
+    private static final int MAX_POOLED_ENCODERS = Runtime.getRuntime().availableProcessors();
 
     private final AccessLinkSequenceRepository sequenceRepository;
-    private final SecretKeySpec secretKey;
     private final AtomicLong nextValue = new AtomicLong(1L);
     private final AtomicLong endValue = new AtomicLong(0L);
-    private final Object lock = new Object();
+    private final ReentrantLock refillLock = new ReentrantLock();
+    private final BlockingQueue<KeyEncoder> keyEncoders = new ArrayBlockingQueue<>(MAX_POOLED_ENCODERS);
+    private final SecretKeySpec secretKey;
 
     public AccessLinkKeyGenerator(AccessLinkSequenceRepository sequenceRepository, AccessLinkKeyProperties properties) {
         this.sequenceRepository = sequenceRepository;
@@ -35,7 +42,42 @@ public class AccessLinkKeyGenerator {
     public String generateKey() {
         long value = nextValue();
 
-        return encode(encrypt(value));
+        return encode(value);
+    }
+
+    public List<String> generateKeys(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("생성할 키 개수는 0보다 커야 합니다.");
+        }
+        if (count < BLOCK_SIZE) {
+            return generateFromSharedBlock(count);
+        }
+
+        AccessLinkSequenceBlockDto block = sequenceRepository.allocateBlock((long) count, INITIAL_COUNTER);
+        List<String> keys = new ArrayList<>(count);
+        KeyEncoder keyEncoder = borrowKeyEncoder();
+
+        try {
+            for (long value = block.start(); value <= block.end(); value++) {
+                keys.add(keyEncoder.encode(value));
+            }
+        } finally {
+            keyEncoders.offer(keyEncoder);
+        }
+        return keys;
+    }
+
+    int pooledEncoderCount() {
+        return keyEncoders.size();
+    }
+
+    private List<String> generateFromSharedBlock(int count) {
+        List<String> keys = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            keys.add(generateKey());
+        }
+        return keys;
     }
 
     private long nextValue() {
@@ -51,7 +93,8 @@ public class AccessLinkKeyGenerator {
     }
 
     private void refillBlock() {
-        synchronized (lock) {
+        refillLock.lock();
+        try {
             if (nextValue.get() <= endValue.get()) {
                 return;
             }
@@ -60,49 +103,28 @@ public class AccessLinkKeyGenerator {
 
             nextValue.set(block.start());
             endValue.set(block.end());
+        } finally {
+            refillLock.unlock();
         }
     }
 
-    private byte[] encrypt(long value) {
-        byte[] input = ByteBuffer.allocate(16)
-                                 .putLong(0L)
-                                 .putLong(value)
-                                 .array();
-        try {
-            @SuppressWarnings("java:S5542")
-            Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
+    private String encode(long value) {
+        KeyEncoder keyEncoder = borrowKeyEncoder();
 
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-            return cipher.doFinal(input);
-        } catch (Exception ex) {
-            throw new IllegalStateException("키를 생성할 수 없습니다.");
-        }
-    }
-
-    private String encode(byte[] bytes) {
-        BigInteger value = new BigInteger(1, bytes);
-        if (value.equals(BigInteger.ZERO)) {
-            return leftPad("", ENCODED_LENGTH);
-        }
-
-        StringBuilder builder = new StringBuilder();
-        BigInteger base = BigInteger.valueOf(ALPHABET.length);
-        BigInteger current = value;
-        while (current.compareTo(BigInteger.ZERO) > 0) {
-            BigInteger[] divRem = current.divideAndRemainder(base);
-            int index = divRem[1].intValue();
-            builder.append(ALPHABET[index]);
-            current = divRem[0];
+        try {
+            return keyEncoder.encode(value);
+        } finally {
+            keyEncoders.offer(keyEncoder);
         }
-        return leftPad(builder.reverse().toString(), ENCODED_LENGTH);
     }
 
-    private String leftPad(String value, int length) {
-        if (value.length() >= length) {
-            return value;
+    private KeyEncoder borrowKeyEncoder() {
+        KeyEncoder keyEncoder = keyEncoders.poll();
+        if (keyEncoder != null) {
+            return keyEncoder;
         }
 
-        return String.valueOf(ALPHABET[0]).repeat(length - value.length()) + value;
+        return new KeyEncoder(secretKey);
     }
 
     private byte[] hashKey(String key) {
@@ -117,4 +139,73 @@ public class AccessLinkKeyGenerator {
             throw new IllegalStateException("키를 생성할 수 없습니다.");
         }
     }
+
+    private static final class KeyEncoder {
+
+        private final Cipher cipher;
+        private final byte[] plainBlock = new byte[BLOCK_BYTES];
+        private final byte[] cipherBlock = new byte[BLOCK_BYTES];
+        private final long[] limbs = new long[BLOCK_BYTES / Integer.BYTES];
+        private final char[] encoded = new char[ENCODED_LENGTH];
+
+        private KeyEncoder(SecretKeySpec secretKey) {
+            try {
+                @SuppressWarnings("java:S5542")
+                Cipher initializedCipher = Cipher.getInstance("AES/ECB/NoPadding");
+
+                initializedCipher.init(Cipher.ENCRYPT_MODE, secretKey);
+                this.cipher = initializedCipher;
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalStateException("키를 생성할 수 없습니다.", ex);
+            }
+        }
+
+        private String encode(long value) {
+            encrypt(value);
+            loadLimbs();
+
+            for (int position = ENCODED_LENGTH - 1; position >= 0; position--) {
+                encoded[position] = ALPHABET[divideLimbsByBase()];
+            }
+            return new String(encoded);
+        }
+
+        private void encrypt(long value) {
+            long remaining = value;
+
+            for (int i = BLOCK_BYTES - 1; i >= Long.BYTES; i--) {
+                plainBlock[i] = (byte) remaining;
+                remaining >>>= 8;
+            }
+
+            try {
+                cipher.doFinal(plainBlock, 0, BLOCK_BYTES, cipherBlock, 0);
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalStateException("키를 생성할 수 없습니다.", ex);
+            }
+        }
+
+        private void loadLimbs() {
+            for (int limb = 0; limb < limbs.length; limb++) {
+                long value = 0L;
+
+                for (int i = limb * Integer.BYTES; i < (limb + 1) * Integer.BYTES; i++) {
+                    value = (value << 8) | (cipherBlock[i] & 0xFFL);
+                }
+                limbs[limb] = value;
+            }
+        }
+
+        private int divideLimbsByBase() {
+            long remainder = 0L;
+
+            for (int i = 0; i < limbs.length; i++) {
+                long dividend = (remainder << Integer.SIZE) | limbs[i];
+
+                limbs[i] = dividend / ALPHABET.length;
+                remainder = dividend % ALPHABET.length;
+            }
+            return (int) remainder;
+        }
+    }
 }
@@ -1,8 +1,12 @@
 package com.slack.bot.application.event.handler;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.slack.bot.application.worker.PollingHintPublisher;
+import com.slack.bot.application.worker.PollingHintTarget;
 import com.slack.bot.domain.channel.repository.ChannelRepository;
 import com.slack.bot.domain.workspace.repository.WorkspaceRepository;
+import com.slack.bot.infrastructure.project.cache.ProjectChannelRouteCache;
+import com.slack.bot.infrastructure.workspace.cache.WorkspaceAccessTokenCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
@@ -14,7 +18,10 @@ public class AppUninstalledEventHandler implements SlackEventHandler {
 
     private final ChannelRepository channelRepository;
     private final WorkspaceRepository workspaceRepository;
+    private final WorkspaceAccessTokenCache workspaceAccessTokenCache;
+    private final ProjectChannelRouteCache projectChannelRouteCache;
     private final TransactionTemplate transactionTemplate;
+    private final PollingHintPublisher pollingHintPublisher;
 
     @Override
     @Async("slackEventExecutor")
@@ -24,6 +31,9 @@ public class AppUninstalledEventHandler implements SlackEventHandler {
         transactionTemplate.executeWithoutResult(status -> {
             channelRepository.deleteByTeamId(teamId);
             workspaceRepository.deleteByTeamId(teamId);
+            workspaceAccessTokenCache.evict(teamId);
+            pollingHintPublisher.publish(PollingHintTarget.WORKSPACE_ACCESS_TOKEN);
+            projectChannelRouteCache.evictTeam(teamId);
         });
     }
 }
@@ -12,6 +12,7 @@ import com.slack.bot.domain.channel.repository.ChannelRepository;
 import com.slack.bot.domain.workspace.Workspace;
 import com.slack.bot.domain.workspace.repository.WorkspaceRepository;
 import com.slack.bot.global.config.properties.EventMessageProperties;
+import com.slack.bot.infrastructure.project.cache.ProjectChannelRouteCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -29,6 +30,7 @@ public class MemberJoinedChannelEventHandler implements SlackEventHandler {
     private final MemberJoinedEventParser memberJoinedEventParser;
     private final EventMessageProperties eventMessageProperties;
     private final TransactionTemplate transactionTemplate;
+    private final ProjectChannelRouteCache projectChannelRouteCache;
 
     @Override
     @Async("slackEventExecutor")
@@ -79,6 +81,7 @@ public class MemberJoinedChannelEventHandler implements SlackEventHandler {
                                  existing -> existing.updateChannel(eventPayload.channelId(), fetchedChannelName),
                                  () -> saveChannel(eventPayload, fetchedChannelName)
                          );
+        projectChannelRouteCache.evictTeam(eventPayload.teamId());
     }
 
     private void saveChannel(MemberJoinedEventPayload eventPayload, String fetchedChannelName) {
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.slack.bot.application.command.exception.WorkspaceNotFoundException;
+import com.slack.bot.application.interaction.box.SlackInteractionPayloadContext;
+import com.slack.bot.application.interaction.dto.SlackInteractionPayload;
 import com.slack.bot.application.interaction.reply.dto.response.SlackActionResponse;
 import com.slack.bot.application.interaction.view.ViewSubmissionRouter;
 import lombok.RequiredArgsConstructor;
@@ -18,18 +20,20 @@ public class SlackInteractionServiceFacade {
     private final ObjectMapper objectMapper;
     private final ViewSubmissionRouter viewSubmissionRouter;
     private final BlockActionInteractionService blockActionInteractionService;
+    private final SlackInteractionPayloadContext slackInteractionPayloadContext;
 
     public SlackActionResponse handle(String payloadJson) {
+        return handle(payloadJson, System.nanoTime());
+    }
+
+    public SlackActionResponse handle(String payloadJson, long receivedNanos) {
         try {
             JsonNode payload = objectMapper.readTree(payloadJson);
-            String type = resolveInteractionType(payload);
-
-            if ("view_submission".equals(type)) {
-                return viewSubmissionRouter.handle(payload);
-            }
 
-            blockActionInteractionService.handle(payload);
-            return SlackActionResponse.empty();
+            return slackInteractionPayloadContext.withPayload(
+                    new SlackInteractionPayload(payloadJson, payload, receivedNanos),
+                    () -> route(payload)
+            );
         } catch (JsonProcessingException e) {
             log.warn("슬랙 인터랙션 payload 파싱에 실패했습니다.", e);
         } catch (WorkspaceNotFoundException e) {
@@ -43,6 +47,17 @@ public class SlackInteractionServiceFacade {
         return SlackActionResponse.empty();
     }
 
+    private SlackActionResponse route(JsonNode payload) {
+        String type = resolveInteractionType(payload);
+
+        if ("view_submission".equals(type)) {
+            return viewSubmissionRouter.handle(payload);
+        }
+
+        blockActionInteractionService.handle(payload);
+        return SlackActionResponse.empty();
+    }
+
     private String resolveInteractionType(JsonNode payload) {
         return payload.path("type").asText("block_actions");
     }
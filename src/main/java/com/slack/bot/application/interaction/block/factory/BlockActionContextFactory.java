@@ -5,7 +5,7 @@ import com.fasterxml.jackson.databind.node.MissingNode;
 import com.slack.bot.application.command.exception.WorkspaceNotFoundException;
 import com.slack.bot.application.interaction.block.dto.BlockActionContextDto;
 import com.slack.bot.application.interaction.block.dto.BlockActionIdentityDto;
-import com.slack.bot.domain.workspace.repository.WorkspaceRepository;
+import com.slack.bot.infrastructure.workspace.cache.WorkspaceAccessTokenCache;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,7 +16,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class BlockActionContextFactory {
 
-    private final WorkspaceRepository workspaceRepository;
+    private final WorkspaceAccessTokenCache workspaceAccessTokenCache;
 
     public Optional<BlockActionContextDto> create(JsonNode payload) {
         BlockActionIdentityDto identity = extractIdentity(payload);
@@ -68,9 +68,8 @@ public class BlockActionContextFactory {
     }
 
     private String resolveToken(String teamId) {
-        return workspaceRepository.findByTeamId(teamId)
-                                  .orElseThrow(() -> new WorkspaceNotFoundException())
-                                  .getAccessToken();
+        return workspaceAccessTokenCache.findAccessToken(teamId)
+                                        .orElseThrow(() -> new WorkspaceNotFoundException());
     }
 
     private JsonNode firstAction(JsonNode payload) {
@@ -0,0 +1,58 @@
+package com.slack.bot.application.interaction.box;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+public class BoxCompletionBuffer<T> {
+
+    private final int flushSize;
+    private final Consumer<List<T>> flusher;
+    private final Queue<T> pendingCompletions = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    public BoxCompletionBuffer(int flushSize, Consumer<List<T>> flusher) {
+        if (flushSize <= 0) {
+            throw new IllegalArgumentException("flushSize는 0보다 커야 합니다.");
+        }
+        if (flusher == null) {
+            throw new IllegalArgumentException("flusher는 null일 수 없습니다.");
+        }
+
+        this.flushSize = flushSize;
+        this.flusher = flusher;
+    }
+
+    public void add(T completion) {
+        pendingCompletions.add(completion);
+        if (pendingCount.incrementAndGet() >= flushSize) {
+            flushChunk();
+        }
+    }
+
+    public void flush() {
+        boolean flushed = flushChunk();
+        while (flushed) {
+            flushed = flushChunk();
+        }
+    }
+
+    private boolean flushChunk() {
+        List<T> chunk = new ArrayList<>(flushSize);
+        T completion;
+
+        while (chunk.size() < flushSize && (completion = pendingCompletions.poll()) != null) {
+            chunk.add(completion);
+        }
+        if (chunk.isEmpty()) {
+            return false;
+        }
+
+        pendingCount.addAndGet(-chunk.size());
+        flusher.accept(List.copyOf(chunk));
+        return true;
+    }
+}
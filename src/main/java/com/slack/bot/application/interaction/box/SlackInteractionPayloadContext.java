@@ -0,0 +1,54 @@
+package com.slack.bot.application.interaction.box;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.slack.bot.application.interaction.dto.SlackInteractionPayload;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SlackInteractionPayloadContext {
+
+    private static final ThreadLocal<SlackInteractionPayload> PAYLOAD = new ThreadLocal<>();
+
+    public void withPayload(SlackInteractionPayload payload, Runnable runnable) {
+        withPayload(payload, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    public <T> T withPayload(SlackInteractionPayload payload, Supplier<T> supplier) {
+        SlackInteractionPayload previous = PAYLOAD.get();
+
+        PAYLOAD.set(payload);
+
+        try {
+            return supplier.get();
+        } finally {
+            if (previous != null) {
+                PAYLOAD.set(previous);
+            }
+            if (previous == null) {
+                PAYLOAD.remove();
+            }
+        }
+    }
+
+    public String resolveJson(JsonNode node) {
+        SlackInteractionPayload payload = PAYLOAD.get();
+        if (payload != null && payload.isSameNode(node)) {
+            return payload.json();
+        }
+
+        return node.toString();
+    }
+
+    public long resolveReceivedNanos() {
+        SlackInteractionPayload payload = PAYLOAD.get();
+        if (payload != null) {
+            return payload.receivedNanos();
+        }
+
+        return System.nanoTime();
+    }
+}
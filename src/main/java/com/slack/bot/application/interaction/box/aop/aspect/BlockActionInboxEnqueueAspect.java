@@ -3,6 +3,7 @@ package com.slack.bot.application.interaction.box.aop.aspect;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.slack.bot.application.interaction.block.BlockActionType;
 import com.slack.bot.application.interaction.box.ProcessingSourceContext;
+import com.slack.bot.application.interaction.box.SlackInteractionPayloadContext;
 import com.slack.bot.application.interaction.box.aop.aspect.exception.BlockActionAopProceedException;
 import com.slack.bot.application.interaction.box.in.SlackInteractionInboxProcessor;
 import java.util.Optional;
@@ -21,6 +22,7 @@ public class BlockActionInboxEnqueueAspect {
 
     private final SlackInteractionInboxProcessor slackInteractionInboxProcessor;
     private final ProcessingSourceContext processingSourceContext;
+    private final SlackInteractionPayloadContext slackInteractionPayloadContext;
 
     @Around("@annotation(com.slack.bot.application.interaction.box.aop.EnqueueBlockActionInInbox) && args(payload,..)")
     public void enqueue(ProceedingJoinPoint joinPoint, JsonNode payload) {
@@ -29,7 +31,7 @@ public class BlockActionInboxEnqueueAspect {
             return;
         }
 
-        String payloadJson = payload.toString();
+        String payloadJson = slackInteractionPayloadContext.resolveJson(payload);
 
         try {
             boolean enqueued = slackInteractionInboxProcessor.enqueueBlockAction(payloadJson);
@@ -2,6 +2,7 @@ package com.slack.bot.application.interaction.box.aop.aspect;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.slack.bot.application.interaction.box.ProcessingSourceContext;
+import com.slack.bot.application.interaction.box.SlackInteractionPayloadContext;
 import com.slack.bot.application.interaction.box.aop.aspect.exception.ViewSubmissionAopProceedException;
 import com.slack.bot.application.interaction.box.in.SlackInteractionInboxProcessor;
 import com.slack.bot.application.interaction.view.dto.ViewSubmissionImmediateDto;
@@ -19,6 +20,7 @@ import org.springframework.stereotype.Component;
 public class ViewSubmissionInboxEnqueueAspect {
 
     private final ProcessingSourceContext processingSourceContext;
+    private final SlackInteractionPayloadContext slackInteractionPayloadContext;
     private final SlackInteractionInboxProcessor slackInteractionInboxProcessor;
 
     @Around("@annotation(com.slack.bot.application.interaction.box.aop.EnqueueViewSubmissionInInbox) && args(payload,..)")
@@ -30,7 +32,7 @@ public class ViewSubmissionInboxEnqueueAspect {
         ViewSubmissionImmediateDto syncResultDto = proceedInViewSubmissionContext(joinPoint);
 
         if (syncResultDto.shouldEnqueue()) {
-            String payloadJson = payload.toString();
+            String payloadJson = slackInteractionPayloadContext.resolveJson(payload);
             String payloadType = payload.path("type").asText(null);
 
             try {
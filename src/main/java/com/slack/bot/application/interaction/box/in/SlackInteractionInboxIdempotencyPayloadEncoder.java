@@ -1,9 +1,14 @@
 package com.slack.bot.application.interaction.box.in;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.MissingNode;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -13,101 +18,166 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class SlackInteractionInboxIdempotencyPayloadEncoder {
 
+    private static final Set<String> TEAM_ID_PATHS = Set.of("team_id", "team.id", "user.team_id");
+    private static final Set<String> BLOCK_ACTION_PATHS = withTeamIdPaths(
+            "channel.id",
+            "user.id",
+            "actions.0.action_id",
+            "actions.0.value",
+            "action.action_id",
+            "action.value",
+            "view.id"
+    );
+    private static final Set<String> VIEW_SUBMISSION_PATHS = withTeamIdPaths(
+            "user.id",
+            "view.id",
+            "view.callback_id",
+            "view.private_metadata"
+    );
+
     private final ObjectMapper objectMapper;
 
     public String encodeBlockAction(String payloadJson) {
-        JsonNode payload = parsePayload(payloadJson);
+        PayloadFields fields = extractFields(payloadJson, BLOCK_ACTION_PATHS);
 
-        if (payload.isMissingNode()) {
+        if (fields == null) {
             return payloadJson;
         }
 
-        JsonNode action = firstAction(payload);
+        String actionPath = resolveActionPath(fields);
 
         return encode(
                 new BlockActionIdempotencySource(
-                        resolveTeamId(payload),
-                        resolveText(payload.path("channel").path("id")),
-                        resolveText(payload.path("user").path("id")),
-                        resolveText(action.path("action_id")),
-                        resolveText(action.path("value")),
-                        resolveText(payload.path("view").path("id"))
+                        resolveTeamId(fields),
+                        fields.text("channel.id"),
+                        fields.text("user.id"),
+                        fields.text(actionPath + ".action_id"),
+                        fields.text(actionPath + ".value"),
+                        fields.text("view.id")
                 ),
                 payloadJson
         );
     }
 
     public String encodeViewSubmission(String payloadJson) {
-        JsonNode payload = parsePayload(payloadJson);
+        PayloadFields fields = extractFields(payloadJson, VIEW_SUBMISSION_PATHS);
 
-        if (payload.isMissingNode()) {
+        if (fields == null) {
             return payloadJson;
         }
 
-        JsonNode view = payload.path("view");
-
         return encode(
                 new ViewSubmissionIdempotencySource(
-                        resolveTeamId(payload),
-                        resolveText(payload.path("user").path("id")),
-                        resolveText(view.path("id")),
-                        resolveText(view.path("callback_id")),
-                        resolveText(view.path("private_metadata"))
+                        resolveTeamId(fields),
+                        fields.text("user.id"),
+                        fields.text("view.id"),
+                        fields.text("view.callback_id"),
+                        fields.text("view.private_metadata")
                 ),
                 payloadJson
         );
     }
 
-    private JsonNode parsePayload(String payloadJson) {
+    private PayloadFields extractFields(String payloadJson, Set<String> targetPaths) {
         if (payloadJson == null || payloadJson.isBlank()) {
-            return MissingNode.getInstance();
+            return null;
         }
 
-        try {
-            return objectMapper.readTree(payloadJson);
-        } catch (JsonProcessingException exception) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(payloadJson)) {
+            PayloadFields fields = new PayloadFields(targetPaths);
+
+            if (parser.nextToken() != null) {
+                collect(parser, "", fields);
+            }
+            return fields;
+        } catch (IOException exception) {
             log.warn(
                     "Slack 인터랙션 payload 파싱에 실패했습니다. payloadLength={}",
                     payloadJson.length(),
                     exception
             );
-            return MissingNode.getInstance();
+            return null;
         }
     }
 
-    private JsonNode firstAction(JsonNode payload) {
-        JsonNode actions = payload.path("actions");
+    private void collect(JsonParser parser, String path, PayloadFields fields) throws IOException {
+        JsonToken token = parser.currentToken();
+
+        if (token.isScalarValue()) {
+            fields.putText(path, resolveText(parser, token));
+            return;
+        }
 
-        if (!actions.isArray() || actions.isEmpty()) {
-            return payload.path("action");
+        fields.clearText(path);
+        if (!fields.isTargetPrefix(path)) {
+            parser.skipChildren();
+            return;
+        }
+        if (token == JsonToken.START_OBJECT) {
+            collectObject(parser, path, fields);
+            return;
         }
 
-        return actions.get(0);
+        collectArray(parser, path, fields);
     }
 
-    private String resolveTeamId(JsonNode payload) {
-        String teamId = resolveText(payload.path("team_id"));
-        if (!teamId.isBlank()) {
-            return teamId;
-        }
+    private void collectObject(JsonParser parser, String path, PayloadFields fields) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String childPath = childPath(path, parser.currentName());
 
-        teamId = resolveText(payload.path("team").path("id"));
-        if (!teamId.isBlank()) {
-            return teamId;
+            parser.nextToken();
+            collect(parser, childPath, fields);
         }
+    }
 
-        return resolveText(payload.path("user").path("team_id"));
+    private void collectArray(JsonParser parser, String path, PayloadFields fields) throws IOException {
+        int index = 0;
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            collect(parser, childPath(path, String.valueOf(index)), fields);
+            index++;
+        }
+        if (index > 0) {
+            fields.markNonEmptyArray(path);
+        }
     }
 
-    private String resolveText(JsonNode node) {
-        if (node == null) {
+    private String resolveText(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
             return "";
         }
-        if (node.isMissingNode() || node.isNull() || !node.isValueNode()) {
-            return "";
+
+        return parser.getText();
+    }
+
+    private String childPath(String path, String name) {
+        if (path.isEmpty()) {
+            return name;
+        }
+
+        return path + "." + name;
+    }
+
+    private String resolveActionPath(PayloadFields fields) {
+        if (fields.isNonEmptyArray("actions")) {
+            return "actions.0";
+        }
+
+        return "action";
+    }
+
+    private String resolveTeamId(PayloadFields fields) {
+        String teamId = fields.text("team_id");
+        if (!teamId.isBlank()) {
+            return teamId;
+        }
+
+        teamId = fields.text("team.id");
+        if (!teamId.isBlank()) {
+            return teamId;
         }
 
-        return node.asText("");
+        return fields.text("user.team_id");
     }
 
     private String encode(Object source, String fallbackJson) {
@@ -123,6 +193,56 @@ public class SlackInteractionInboxIdempotencyPayloadEncoder {
         }
     }
 
+    private static Set<String> withTeamIdPaths(String... paths) {
+        Set<String> targetPaths = new HashSet<>(TEAM_ID_PATHS);
+
+        targetPaths.addAll(Set.of(paths));
+        return Set.copyOf(targetPaths);
+    }
+
+    private static final class PayloadFields {
+
+        private final Set<String> targetPaths;
+        private final Map<String, String> texts = new HashMap<>();
+        private final Set<String> nonEmptyArrays = new HashSet<>();
+
+        private PayloadFields(Set<String> targetPaths) {
+            this.targetPaths = targetPaths;
+        }
+
+        private boolean isTargetPrefix(String path) {
+            if (path.isEmpty()) {
+                return true;
+            }
+
+            String prefix = path + ".";
+            return targetPaths.stream()
+                              .anyMatch(targetPath -> targetPath.startsWith(prefix));
+        }
+
+        private void putText(String path, String text) {
+            if (targetPaths.contains(path)) {
+                texts.put(path, text);
+            }
+        }
+
+        private void clearText(String path) {
+            texts.remove(path);
+        }
+
+        private void markNonEmptyArray(String path) {
+            nonEmptyArrays.add(path);
+        }
+
+        private boolean isNonEmptyArray(String path) {
+            return nonEmptyArrays.contains(path);
+        }
+
+        private String text(String path) {
+            return texts.getOrDefault(path, "");
+        }
+    }
+
     private record BlockActionIdempotencySource(
             String teamId,
             String channelId,
@@ -3,29 +3,39 @@ package com.slack.bot.application.interaction.box.out;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.slack.bot.application.interaction.box.BoxCompletionBuffer;
 import com.slack.bot.application.interaction.box.BoxFailureReasonTruncator;
 import com.slack.bot.application.interaction.box.out.exception.OutboxProcessingLeaseLostException;
 import com.slack.bot.application.interaction.box.out.exception.OutboxWorkspaceNotFoundException;
 import com.slack.bot.application.interaction.box.out.exception.UnsupportedSlackNotificationOutboxMessageTypeException;
 import com.slack.bot.application.interaction.box.retry.InteractionRetryExceptionClassifier;
+import com.slack.bot.application.interaction.client.exception.SlackApiRateLimitedException;
+import com.slack.bot.application.interaction.client.exception.SlackChannelNotFoundException;
 import com.slack.bot.application.worker.PollingHintPublisher;
 import com.slack.bot.application.worker.PollingHintTarget;
-import com.slack.bot.domain.workspace.Workspace;
-import com.slack.bot.domain.workspace.repository.WorkspaceRepository;
 import com.slack.bot.global.config.properties.InteractionRetryProperties;
 import com.slack.bot.global.config.properties.InteractionWorkerProperties;
 import com.slack.bot.infrastructure.common.BoxProcessingLease;
 import com.slack.bot.infrastructure.interaction.box.SlackInteractionFailureType;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutbox;
+import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxClaimExclusion;
+import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxCompletion;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxHistory;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxMessageType;
 import com.slack.bot.infrastructure.interaction.box.out.repository.SlackNotificationOutboxRepository;
 import com.slack.bot.infrastructure.interaction.client.NotificationTransportApiClient;
+import com.slack.bot.infrastructure.interaction.client.SlackApiRateLimiter;
+import com.slack.bot.infrastructure.interaction.client.ThrottledSlackApi;
+import com.slack.bot.infrastructure.interaction.dm.cache.DirectMessageChannelCache;
+import com.slack.bot.infrastructure.workspace.cache.WorkspaceAccessTokenCache;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,54 +49,56 @@ public class SlackNotificationOutboxProcessor {
 
     private static final String PROCESSING_TIMEOUT_FAILURE_REASON = "PROCESSING 타임아웃으로 복구 처리되었습니다.";
     private static final String UNKNOWN_FAILURE_REASON = "unknown failure";
+    private static final String RATE_LIMITED_RELEASE_REASON = "Slack API 호출 한도 초과로 처리를 미뤘습니다.";
+    private static final int COMPLETION_FLUSH_SIZE = 10;
 
     private final Clock clock;
     private final ObjectMapper objectMapper;
     private final RetryTemplate slackNotificationOutboxRetryTemplate;
-    private final WorkspaceRepository workspaceRepository;
+    private final WorkspaceAccessTokenCache workspaceAccessTokenCache;
     private final BoxFailureReasonTruncator failureReasonTruncator;
     private final InteractionRetryProperties interactionRetryProperties;
     private final InteractionWorkerProperties interactionWorkerProperties;
     private final PollingHintPublisher pollingHintPublisher;
     private final NotificationTransportApiClient notificationTransportApiClient;
+    private final SlackApiRateLimiter slackApiRateLimiter;
     private final SlackNotificationOutboxRepository slackNotificationOutboxRepository;
     private final InteractionRetryExceptionClassifier retryExceptionClassifier;
+    private final DirectMessageChannelCache directMessageChannelCache;
 
     public int processPending(int limit) {
-        Set<Long> claimedOutboxIds = new HashSet<>();
-        int claimedCount = 0;
-        for (int count = 0; count < limit; count++) {
-            Instant claimedProcessingStartedAt = currentLeaseStartedAt();
-            int nextClaimedCount = processNextClaimedOutbox(
-                    claimedOutboxIds,
-                    claimedCount,
-                    claimedProcessingStartedAt
-            );
-            if (nextClaimedCount == claimedCount) {
-                return claimedCount;
-            }
+        return processPending(limit, Runnable::run);
+    }
 
-            claimedCount = nextClaimedCount;
+    public int processPending(int limit, Executor dispatchExecutor) {
+        if (limit <= 0) {
+            return 0;
         }
 
-        return claimedCount;
-    }
-
-    private int processNextClaimedOutbox(
-            Set<Long> claimedOutboxIds,
-            int claimedCount,
-            Instant claimedProcessingStartedAt
-    ) {
-        return slackNotificationOutboxRepository.claimNextId(
-                    claimedProcessingStartedAt,
-                    claimedOutboxIds
-            )
-            .map(claimedOutboxId -> {
-                claimedOutboxIds.add(claimedOutboxId);
-                processClaimedOutboxSafely(claimedOutboxId, claimedProcessingStartedAt);
-                return claimedCount + 1;
-            })
-            .orElse(claimedCount);
+        Instant claimedProcessingStartedAt = currentLeaseStartedAt();
+        List<SlackNotificationOutbox> claimedOutboxes = slackNotificationOutboxRepository.claimBatch(
+                claimedProcessingStartedAt,
+                limit,
+                resolveClaimExclusions()
+        );
+        BoxCompletionBuffer<SlackNotificationOutboxCompletion> completions = new BoxCompletionBuffer<>(
+                COMPLETION_FLUSH_SIZE,
+                this::persistCompletions
+        );
+        CompletableFuture<?>[] dispatches = claimedOutboxes.stream()
+                                                           .map(claimedOutbox -> CompletableFuture.runAsync(
+                                                                   () -> processClaimedOutboxSafely(
+                                                                           claimedOutbox,
+                                                                           claimedProcessingStartedAt,
+                                                                           completions
+                                                                   ),
+                                                                   dispatchExecutor
+                                                           ))
+                                                           .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(dispatches).join();
+        completions.flush();
+
+        return claimedOutboxes.size();
     }
 
     public int recoverTimeoutProcessing() {
@@ -107,17 +119,45 @@ public class SlackNotificationOutboxProcessor {
         return recoveredCount;
     }
 
-    private void processClaimedOutboxSafely(Long outboxId, Instant claimedProcessingStartedAt) {
-        slackNotificationOutboxRepository.findById(outboxId)
-                                         .ifPresentOrElse(
-                                                 outbox -> processClaimedOutbox(outbox, claimedProcessingStartedAt),
-                                                 () -> logMissingOutbox(outboxId)
-                                         );
+    private List<SlackNotificationOutboxClaimExclusion> resolveClaimExclusions() {
+        return slackApiRateLimiter.throttledApis()
+                                  .stream()
+                                  .map(throttledApi -> toClaimExclusion(throttledApi))
+                                  .flatMap(Optional::stream)
+                                  .toList();
+    }
+
+    private Optional<SlackNotificationOutboxClaimExclusion> toClaimExclusion(ThrottledSlackApi throttledApi) {
+        List<SlackNotificationOutboxMessageType> messageTypes =
+                SlackNotificationOutboxMessageType.usingSlackApiMethod(throttledApi.apiName());
+
+        if (messageTypes.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new SlackNotificationOutboxClaimExclusion(throttledApi.teamId(), messageTypes));
+    }
+
+    private void processClaimedOutboxSafely(
+            SlackNotificationOutbox outbox,
+            Instant claimedProcessingStartedAt,
+            BoxCompletionBuffer<SlackNotificationOutboxCompletion> completions
+    ) {
+        try {
+            processClaimedOutbox(outbox, claimedProcessingStartedAt, completions);
+        } catch (Exception unexpected) {
+            log.error(
+                    "슬랙 알림 outbox 처리 중 예기치 못한 예외가 발생했습니다. outboxId={}",
+                    outbox.getId(),
+                    unexpected
+            );
+        }
     }
 
     private void processClaimedOutbox(
             SlackNotificationOutbox outbox,
-            Instant claimedProcessingStartedAt
+            Instant claimedProcessingStartedAt,
+            BoxCompletionBuffer<SlackNotificationOutboxCompletion> completions
     ) {
         if (!hasProcessingLease(outbox, claimedProcessingStartedAt)) {
             logLeaseLost(outbox.getId(), claimedProcessingStartedAt, outbox.getProcessingLease());
@@ -133,6 +173,9 @@ public class SlackNotificationOutboxProcessor {
             });
         } catch (OutboxProcessingLeaseLostException e) {
             return;
+        } catch (SlackApiRateLimitedException e) {
+            releaseRateLimitedClaim(outbox, e, currentProcessingStartedAt.get());
+            return;
         } catch (Exception e) {
             log.warn(
                     "슬랙 알림 outbox 처리에 실패했습니다. outboxId={}",
@@ -140,23 +183,25 @@ public class SlackNotificationOutboxProcessor {
                     e
             );
             SlackNotificationOutboxHistory history = markFailureStatus(outbox, e);
-            persistFailureStatus(outbox, history, currentProcessingStartedAt.get());
+            completions.add(new SlackNotificationOutboxCompletion(outbox, history, currentProcessingStartedAt.get()));
             return;
         }
 
         SlackNotificationOutboxHistory history = outbox.markSent(clock.instant());
-        persistSentStatus(outbox, history, currentProcessingStartedAt.get());
+        completions.add(new SlackNotificationOutboxCompletion(outbox, history, currentProcessingStartedAt.get()));
     }
 
-    private void persistSentStatus(
+    private void releaseRateLimitedClaim(
             SlackNotificationOutbox outbox,
-            SlackNotificationOutboxHistory history,
+            SlackApiRateLimitedException exception,
             Instant claimedProcessingStartedAt
     ) {
+        slackApiRateLimiter.throttle(outbox.getTeamId(), exception.getApiName(), exception.getRetryAfter());
+        outbox.releaseClaim(clock.instant(), RATE_LIMITED_RELEASE_REASON);
+
         try {
             boolean updated = slackNotificationOutboxRepository.saveIfProcessingLeaseMatched(
                     outbox,
-                    history,
                     claimedProcessingStartedAt
             );
             if (updated) {
@@ -164,7 +209,7 @@ public class SlackNotificationOutboxProcessor {
             }
         } catch (Exception e) {
             log.error(
-                    "슬랙 알림 outbox 전송은 성공했지만 최종 상태 저장에 실패했습니다. outboxId={}",
+                    "슬랙 알림 outbox 호출 한도 초과 반환 상태 저장에 실패했습니다. outboxId={}",
                     outbox.getId(),
                     e
             );
@@ -174,37 +219,48 @@ public class SlackNotificationOutboxProcessor {
         logPersistLeaseLost(outbox.getId(), claimedProcessingStartedAt);
     }
 
-    private void persistFailureStatus(
-            SlackNotificationOutbox outbox,
-            SlackNotificationOutboxHistory history,
-            Instant claimedProcessingStartedAt
-    ) {
+    private void persistCompletions(List<SlackNotificationOutboxCompletion> completions) {
+        if (completions.isEmpty()) {
+            return;
+        }
+
+        Set<Long> leaseLostOutboxIds;
+        try {
+            leaseLostOutboxIds = slackNotificationOutboxRepository.saveAllIfProcessingLeaseMatched(completions);
+        } catch (Exception e) {
+            log.warn("슬랙 알림 outbox 최종 상태 일괄 저장에 실패해 건별로 저장합니다. count={}", completions.size(), e);
+            completions.forEach(this::persistCompletion);
+            return;
+        }
+
+        completions.stream()
+                   .filter(completion -> leaseLostOutboxIds.contains(completion.outboxId()))
+                   .forEach(completion -> logPersistLeaseLost(
+                           completion.outboxId(),
+                           completion.claimedProcessingStartedAt()
+                   ));
+    }
+
+    private void persistCompletion(SlackNotificationOutboxCompletion completion) {
         try {
             boolean updated = slackNotificationOutboxRepository.saveIfProcessingLeaseMatched(
-                    outbox,
-                    history,
-                    claimedProcessingStartedAt
+                    completion.outbox(),
+                    completion.history(),
+                    completion.claimedProcessingStartedAt()
             );
             if (updated) {
                 return;
             }
         } catch (Exception e) {
             log.error(
-                    "슬랙 알림 outbox 실패 상태 저장에 실패했습니다. outboxId={}",
-                    outbox.getId(),
+                    "슬랙 알림 outbox 최종 상태 저장에 실패했습니다. outboxId={}",
+                    completion.outboxId(),
                     e
             );
             return;
         }
 
-        logPersistLeaseLost(outbox.getId(), claimedProcessingStartedAt);
-    }
-
-    private void logMissingOutbox(Long outboxId) {
-        log.warn(
-                "PROCESSING으로 전이된 outbox를 조회하지 못했습니다. outboxId={}",
-                outboxId
-        );
+        logPersistLeaseLost(completion.outboxId(), completion.claimedProcessingStartedAt());
     }
 
     private void dispatch(SlackNotificationOutbox outbox) throws JsonProcessingException {
@@ -213,23 +269,60 @@ public class SlackNotificationOutboxProcessor {
             throw new UnsupportedSlackNotificationOutboxMessageTypeException(null);
         }
         String token = resolveToken(outbox.getTeamId());
-        SlackNotificationOutboxMessageType.Dispatcher dispatcher = createDispatcher(token, outbox);
-        messageType.dispatch(dispatcher);
+
+        try {
+            dispatchTo(token, outbox, outbox.getChannelId());
+        } catch (SlackChannelNotFoundException e) {
+            String reopenedChannelId = reopenDirectMessageChannel(token, outbox).orElseThrow(() -> e);
+
+            dispatchTo(token, outbox, reopenedChannelId);
+        }
+    }
+
+    private void dispatchTo(
+            String token,
+            SlackNotificationOutbox outbox,
+            String channelId
+    ) throws JsonProcessingException {
+        SlackNotificationOutboxMessageType messageType = outbox.getMessageType();
+
+        acquireRateLimitPermit(outbox.getTeamId(), messageType.slackApiMethod());
+        messageType.dispatch(createDispatcher(token, outbox, channelId));
+    }
+
+    private Optional<String> reopenDirectMessageChannel(String token, SlackNotificationOutbox outbox) {
+        try {
+            return directMessageChannelCache.reopen(
+                    outbox.getTeamId(),
+                    outbox.getChannelId(),
+                    userId -> notificationTransportApiClient.openDirectMessageChannel(token, userId)
+            );
+        } catch (RuntimeException e) {
+            log.warn("DM 채널을 다시 열지 못했습니다. outboxId={}", outbox.getId(), e);
+            return Optional.empty();
+        }
+    }
+
+    private void acquireRateLimitPermit(String teamId, String apiMethod) {
+        if (slackApiRateLimiter.tryAcquire(teamId, apiMethod)) {
+            return;
+        }
+
+        throw new SlackApiRateLimitedException(apiMethod, slackApiRateLimiter.remainingThrottle(teamId, apiMethod));
     }
 
     private SlackNotificationOutboxMessageType.Dispatcher createDispatcher(
             String token,
-            SlackNotificationOutbox outbox
+            SlackNotificationOutbox outbox,
+            String channelId
     ) {
         SlackNotificationOutboxMessageType.DispatchAction dispatchEphemeralText = () -> {
-            String channelId = outbox.getChannelId();
             String userId = outbox.requiredUserId();
             String text = outbox.requiredText();
 
             notificationTransportApiClient.sendEphemeralMessage(token, channelId, userId, text);
         };
         SlackNotificationOutboxMessageType.DispatchAction dispatchEphemeralBlocks = () -> {
-            String channelId = outbox.getChannelId();
             String userId = outbox.requiredUserId();
             JsonNode blocks = readBlocks(outbox.requiredBlocksJson());
             String fallbackText = outbox.fallbackTextOrBlank();
@@ -243,13 +336,11 @@ public class SlackNotificationOutboxProcessor {
             );
         };
         SlackNotificationOutboxMessageType.DispatchAction dispatchChannelText = () -> {
-            String channelId = outbox.getChannelId();
             String text = outbox.requiredText();
 
             notificationTransportApiClient.sendMessage(token, channelId, text);
         };
         SlackNotificationOutboxMessageType.DispatchAction dispatchChannelBlocks = () -> {
-            String channelId = outbox.getChannelId();
             JsonNode blocks = readBlocks(outbox.requiredBlocksJson());
             String fallbackText = outbox.fallbackTextOrBlank();
 
@@ -269,10 +360,8 @@ public class SlackNotificationOutboxProcessor {
     }
 
     private String resolveToken(String teamId) {
-        Workspace workspace = workspaceRepository.findByTeamId(teamId)
-                                                 .orElseThrow(() -> OutboxWorkspaceNotFoundException.forTeamId(teamId));
-
-        return workspace.getAccessToken();
+        return workspaceAccessTokenCache.findAccessToken(teamId)
+                                        .orElseThrow(() -> OutboxWorkspaceNotFoundException.forTeamId(teamId));
     }
 
     private SlackNotificationOutboxHistory markFailureStatus(SlackNotificationOutbox outbox, Exception exception) {
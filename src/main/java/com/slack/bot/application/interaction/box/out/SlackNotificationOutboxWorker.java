@@ -1,8 +1,10 @@
 package com.slack.bot.application.interaction.box.out;
 
 import com.slack.bot.application.worker.AdaptivePollingRunner;
+import com.slack.bot.application.worker.BoundedDispatchExecutor;
 import com.slack.bot.application.worker.PollingHintEvent;
 import com.slack.bot.application.worker.PollingHintTarget;
+import com.slack.bot.global.config.properties.InteractionWorkerProperties.OutboxProperties;
 import java.time.Duration;
 import org.springframework.context.SmartLifecycle;
 import org.springframework.context.event.EventListener;
@@ -10,9 +12,11 @@ import org.springframework.context.event.EventListener;
 public class SlackNotificationOutboxWorker implements SmartLifecycle {
 
     private static final int BATCH_SIZE = 50;
+    private static final String DISPATCH_EXECUTOR_NAME = "interaction outbox";
 
     private final SlackNotificationOutboxProcessor slackNotificationOutboxProcessor;
     private final AdaptivePollingRunner adaptivePollingRunner;
+    private final BoundedDispatchExecutor dispatchExecutor;
 
     public SlackNotificationOutboxWorker(
             SlackNotificationOutboxProcessor slackNotificationOutboxProcessor,
@@ -27,6 +31,32 @@ public class SlackNotificationOutboxWorker implements SmartLifecycle {
             long pollDelayMs,
             long pollCapMs,
             boolean autoStartup
+    ) {
+        this(slackNotificationOutboxProcessor, pollDelayMs, pollCapMs, OutboxProperties.DEFAULT_DISPATCH_CONCURRENCY, autoStartup);
+    }
+
+    public SlackNotificationOutboxWorker(
+            SlackNotificationOutboxProcessor slackNotificationOutboxProcessor,
+            long pollDelayMs,
+            long pollCapMs,
+            int dispatchConcurrency,
+            boolean autoStartup
+    ) {
+        this(
+                slackNotificationOutboxProcessor,
+                new BoundedDispatchExecutor(DISPATCH_EXECUTOR_NAME, dispatchConcurrency),
+                pollDelayMs,
+                pollCapMs,
+                autoStartup
+        );
+    }
+
+    private SlackNotificationOutboxWorker(
+            SlackNotificationOutboxProcessor slackNotificationOutboxProcessor,
+            BoundedDispatchExecutor dispatchExecutor,
+            long pollDelayMs,
+            long pollCapMs,
+            boolean autoStartup
     ) {
         this(
                 slackNotificationOutboxProcessor,
@@ -34,22 +64,36 @@ public class SlackNotificationOutboxWorker implements SmartLifecycle {
                         "interaction outbox worker",
                         Duration.ofMillis(pollDelayMs),
                         Duration.ofMillis(pollCapMs),
-                        () -> slackNotificationOutboxProcessor.processPending(BATCH_SIZE),
+                        () -> slackNotificationOutboxProcessor.processPending(BATCH_SIZE, dispatchExecutor),
                         autoStartup
-                )
+                ),
+                dispatchExecutor
         );
     }
 
     SlackNotificationOutboxWorker(
             SlackNotificationOutboxProcessor slackNotificationOutboxProcessor,
             AdaptivePollingRunner adaptivePollingRunner
+    ) {
+        this(
+                slackNotificationOutboxProcessor,
+                adaptivePollingRunner,
+                new BoundedDispatchExecutor(DISPATCH_EXECUTOR_NAME, OutboxProperties.DEFAULT_DISPATCH_CONCURRENCY)
+        );
+    }
+
+    SlackNotificationOutboxWorker(
+            SlackNotificationOutboxProcessor slackNotificationOutboxProcessor,
+            AdaptivePollingRunner adaptivePollingRunner,
+            BoundedDispatchExecutor dispatchExecutor
     ) {
         this.slackNotificationOutboxProcessor = slackNotificationOutboxProcessor;
         this.adaptivePollingRunner = adaptivePollingRunner;
+        this.dispatchExecutor = dispatchExecutor;
     }
 
     public int processPendingOutbox() {
-        return slackNotificationOutboxProcessor.processPending(BATCH_SIZE);
+        return slackNotificationOutboxProcessor.processPending(BATCH_SIZE, dispatchExecutor);
     }
 
     @EventListener
@@ -61,17 +105,22 @@ public class SlackNotificationOutboxWorker implements SmartLifecycle {
 
     @Override
     public void start() {
+        dispatchExecutor.start();
         adaptivePollingRunner.start();
     }
 
     @Override
     public void stop() {
         adaptivePollingRunner.stop();
+        dispatchExecutor.stop();
     }
 
     @Override
     public void stop(Runnable callback) {
-        adaptivePollingRunner.stop(callback);
+        adaptivePollingRunner.stop(() -> {
+            dispatchExecutor.stop();
+            callback.run();
+        });
     }
 
     @Override
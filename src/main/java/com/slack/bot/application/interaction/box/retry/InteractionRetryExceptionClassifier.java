@@ -1,6 +1,8 @@
 package com.slack.bot.application.interaction.box.retry;
 
+import com.slack.bot.application.interaction.client.exception.SlackApiRateLimitedException;
 import com.slack.bot.application.interaction.client.exception.SlackBotMessageDispatchException;
+import com.slack.bot.application.interaction.client.exception.SlackChannelNotFoundException;
 import java.util.HashSet;
 import java.util.HashMap;
 import java.util.Set;
@@ -10,11 +12,13 @@ import org.springframework.web.client.ResourceAccessException;
 public class InteractionRetryExceptionClassifier {
 
     private final Set<Class<? extends Throwable>> retryableExceptionTypes;
+    private final Set<Class<? extends Throwable>> nonRetryableExceptionTypes;
 
     public static InteractionRetryExceptionClassifier create() {
         Set<Class<? extends Throwable>> retryableExceptionTypes = createRetryableExceptionTypes();
+        Set<Class<? extends Throwable>> nonRetryableExceptionTypes = createNonRetryableExceptionTypes();
 
-        return new InteractionRetryExceptionClassifier(retryableExceptionTypes);
+        return new InteractionRetryExceptionClassifier(retryableExceptionTypes, nonRetryableExceptionTypes);
     }
 
     private static Set<Class<? extends Throwable>> createRetryableExceptionTypes() {
@@ -25,8 +29,20 @@ public class InteractionRetryExceptionClassifier {
         return Set.copyOf(retryableTypes);
     }
 
-    private InteractionRetryExceptionClassifier(Set<Class<? extends Throwable>> retryableExceptionTypes) {
+    private static Set<Class<? extends Throwable>> createNonRetryableExceptionTypes() {
+        Set<Class<? extends Throwable>> nonRetryableTypes = new HashSet<>();
+
+        nonRetryableTypes.add(SlackApiRateLimitedException.class);
+        nonRetryableTypes.add(SlackChannelNotFoundException.class);
+        return Set.copyOf(nonRetryableTypes);
+    }
+
+    private InteractionRetryExceptionClassifier(
+            Set<Class<? extends Throwable>> retryableExceptionTypes,
+            Set<Class<? extends Throwable>> nonRetryableExceptionTypes
+    ) {
         this.retryableExceptionTypes = retryableExceptionTypes;
+        this.nonRetryableExceptionTypes = nonRetryableExceptionTypes;
     }
 
     public Map<Class<? extends Throwable>, Boolean> getRetryableExceptions() {
@@ -34,6 +50,9 @@ public class InteractionRetryExceptionClassifier {
         for (Class<? extends Throwable> retryableType : retryableExceptionTypes) {
             retryables.put(retryableType, true);
         }
+        for (Class<? extends Throwable> nonRetryableType : nonRetryableExceptionTypes) {
+            retryables.put(nonRetryableType, false);
+        }
         return Map.copyOf(retryables);
     }
 
@@ -41,10 +60,11 @@ public class InteractionRetryExceptionClassifier {
         Throwable cursor = throwable;
 
         while (cursor != null) {
-            for (Class<? extends Throwable> retryableType : retryableExceptionTypes) {
-                if (retryableType.isAssignableFrom(cursor.getClass())) {
-                    return true;
-                }
+            if (isAssignableToAny(nonRetryableExceptionTypes, cursor)) {
+                return false;
+            }
+            if (isAssignableToAny(retryableExceptionTypes, cursor)) {
+                return true;
             }
 
             Throwable next = cursor.getCause();
@@ -64,4 +84,14 @@ public class InteractionRetryExceptionClassifier {
 
         return true;
     }
+
+    private boolean isAssignableToAny(Set<Class<? extends Throwable>> exceptionTypes, Throwable throwable) {
+        for (Class<? extends Throwable> exceptionType : exceptionTypes) {
+            if (exceptionType.isAssignableFrom(throwable.getClass())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
 }
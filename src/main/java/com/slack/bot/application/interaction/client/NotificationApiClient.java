@@ -6,6 +6,7 @@ import com.slack.bot.application.interaction.box.out.OutboxIdempotencySourceCont
 import com.slack.bot.application.interaction.box.out.OutboxWorkspaceResolver;
 import com.slack.bot.application.interaction.box.out.SlackNotificationOutboxWriter;
 import com.slack.bot.infrastructure.interaction.client.NotificationTransportApiClient;
+import com.slack.bot.infrastructure.interaction.dm.cache.DirectMessageChannelCache;
 import java.util.UUID;
 import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ public class NotificationApiClient {
     private final SlackNotificationOutboxWriter slackNotificationOutboxWriter;
     private final NotificationTransportApiClient notificationTransportApiClient;
     private final OutboxIdempotencySourceContext outboxIdempotencySourceContext;
+    private final DirectMessageChannelCache directMessageChannelCache;
 
     public void sendEphemeralMessage(String token, String channelId, String targetUserId, String text) {
         sendEphemeralMessage(null, token, channelId, targetUserId, text);
@@ -111,8 +113,12 @@ public class NotificationApiClient {
         );
     }
 
-    public void openModal(String token, String triggerId, View view) {
-        notificationTransportApiClient.openModal(token, triggerId, view);
+    public String openModal(String token, String triggerId, View view) {
+        return notificationTransportApiClient.openModal(token, triggerId, view);
+    }
+
+    public void updateModal(String token, String viewId, View view) {
+        notificationTransportApiClient.updateModal(token, viewId, view);
     }
 
     public void openModal(String token, String triggerId, JsonNode view) {
@@ -120,7 +126,13 @@ public class NotificationApiClient {
     }
 
     public String openDirectMessageChannel(String token, String userId) {
-        return notificationTransportApiClient.openDirectMessageChannel(token, userId);
+        String teamId = outboxWorkspaceResolver.resolve(token);
+
+        return directMessageChannelCache.resolve(
+                teamId,
+                userId,
+                () -> notificationTransportApiClient.openDirectMessageChannel(token, userId)
+        );
     }
 
     public <T> T withBusinessEventSource(String businessEventId, Supplier<T> supplier) {
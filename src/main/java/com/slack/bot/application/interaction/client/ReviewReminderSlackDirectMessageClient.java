@@ -3,7 +3,10 @@ package com.slack.bot.application.interaction.client;
 import com.slack.bot.application.interaction.client.dto.response.SlackConversationsOpenResponse;
 import com.slack.bot.application.interaction.client.dto.response.SlackConversationsOpenResponse.SlackChannel;
 import com.slack.bot.application.interaction.client.dto.response.SlackChatPostMessageResponse;
+import com.slack.bot.application.interaction.client.exception.SlackApiRateLimitedException;
 import com.slack.bot.application.interaction.client.exception.SlackDmException;
+import com.slack.bot.infrastructure.interaction.client.SlackApiRateLimiter;
+import com.slack.bot.infrastructure.interaction.dm.cache.DirectMessageChannelCache;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
@@ -17,15 +20,28 @@ import org.springframework.web.client.RestClient;
 public class ReviewReminderSlackDirectMessageClient {
 
     private static final int ERROR_BODY_MAX_LENGTH = 500;
+    private static final String CHANNEL_NOT_FOUND_ERROR = "channel_not_found";
+    private static final String CONVERSATIONS_OPEN_API = "conversations.open";
+    private static final String CHAT_POST_MESSAGE_API = "chat.postMessage";
 
     private final RestClient slackClient;
+    private final DirectMessageChannelCache directMessageChannelCache;
+    private final SlackApiRateLimiter slackApiRateLimiter;
 
-    public void send(String botToken, String userId, String message) {
+    public void send(String teamId, String botToken, String userId, String message) {
         validateInputs(botToken, userId, message);
 
-        String channelId = openDirectMessageChannel(botToken, userId);
+        String channelId = resolveDirectMessageChannel(teamId, botToken, userId);
+        SlackChatPostMessageResponse response = postDirectMessage(teamId, botToken, channelId, message);
 
-        postDirectMessage(botToken, channelId, message);
+        if (isChannelNotFound(response)) {
+            directMessageChannelCache.evictChannel(teamId, channelId);
+
+            String reopenedChannelId = resolveDirectMessageChannel(teamId, botToken, userId);
+            response = postDirectMessage(teamId, botToken, reopenedChannelId, message);
+        }
+
+        validatePostMessageResponse(response);
     }
 
     private void validateInputs(String botToken, String userId, String message) {
@@ -40,30 +56,57 @@ public class ReviewReminderSlackDirectMessageClient {
         }
     }
 
-    private String openDirectMessageChannel(String botToken, String userId) {
+    private String resolveDirectMessageChannel(String teamId, String botToken, String userId) {
+        return directMessageChannelCache.resolve(
+                teamId,
+                userId,
+                () -> openDirectMessageChannel(teamId, botToken, userId)
+        );
+    }
+
+    private String openDirectMessageChannel(String teamId, String botToken, String userId) {
+        acquireRateLimitPermit(teamId, CONVERSATIONS_OPEN_API);
+
         SlackConversationsOpenResponse response = slackClient.post()
-                         .uri("conversations.open")
+                         .uri(CONVERSATIONS_OPEN_API)
                          .header("Authorization", "Bearer " + botToken)
                          .contentType(MediaType.APPLICATION_JSON)
                          .body(Map.of("users", userId))
                          .retrieve()
-                         .onStatus(status -> status.isError(), slackApiErrorHandler("conversations.open"))
+                         .onStatus(status -> status.isError(), slackApiErrorHandler(CONVERSATIONS_OPEN_API))
                          .body(SlackConversationsOpenResponse.class);
 
         return extractChannelId(response);
     }
 
-    private void postDirectMessage(String botToken, String channelId, String message) {
-        SlackChatPostMessageResponse response = slackClient.post()
-                   .uri("chat.postMessage")
+    private SlackChatPostMessageResponse postDirectMessage(
+            String teamId,
+            String botToken,
+            String channelId,
+            String message
+    ) {
+        acquireRateLimitPermit(teamId, CHAT_POST_MESSAGE_API);
+
+        return slackClient.post()
+                   .uri(CHAT_POST_MESSAGE_API)
                    .header("Authorization", "Bearer " + botToken)
                    .contentType(MediaType.APPLICATION_JSON)
                    .body(Map.of("channel", channelId, "text", message))
                    .retrieve()
-                   .onStatus(status -> status.isError(), slackApiErrorHandler("chat.postMessage"))
+                   .onStatus(status -> status.isError(), slackApiErrorHandler(CHAT_POST_MESSAGE_API))
                    .body(SlackChatPostMessageResponse.class);
+    }
 
-        validatePostMessageResponse(response);
+    private void acquireRateLimitPermit(String teamId, String apiName) {
+        if (slackApiRateLimiter.tryAcquire(teamId, apiName)) {
+            return;
+        }
+
+        throw new SlackApiRateLimitedException(apiName, slackApiRateLimiter.remainingThrottle(teamId, apiName));
+    }
+
+    private boolean isChannelNotFound(SlackChatPostMessageResponse response) {
+        return response != null && !response.ok() && CHANNEL_NOT_FOUND_ERROR.equals(response.error());
     }
 
     private RestClient.ResponseSpec.ErrorHandler slackApiErrorHandler(String apiName) {
@@ -0,0 +1,23 @@
+package com.slack.bot.application.interaction.client.exception;
+
+import java.time.Duration;
+
+public class SlackApiRateLimitedException extends SlackBotMessageDispatchException {
+
+    private final String apiName;
+    private final Duration retryAfter;
+
+    public SlackApiRateLimitedException(String apiName, Duration retryAfter) {
+        super("슬랙 봇 메시지 전송 실패: Slack API 요청 실패 (" + apiName + "). 상태코드=429, retryAfter=" + retryAfter);
+        this.apiName = apiName;
+        this.retryAfter = retryAfter;
+    }
+
+    public String getApiName() {
+        return apiName;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,8 @@
+package com.slack.bot.application.interaction.client.exception;
+
+public class SlackChannelNotFoundException extends SlackBotMessageDispatchException {
+
+    public SlackChannelNotFoundException(String message) {
+        super(message);
+    }
+}
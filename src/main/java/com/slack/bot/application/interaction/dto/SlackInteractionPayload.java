@@ -0,0 +1,23 @@
+package com.slack.bot.application.interaction.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public record SlackInteractionPayload(String json, JsonNode node, long receivedNanos) {
+
+    public SlackInteractionPayload(String json, JsonNode node) {
+        this(json, node, System.nanoTime());
+    }
+
+    public SlackInteractionPayload {
+        if (json == null || json.isBlank()) {
+            throw new IllegalArgumentException("json은 비어 있을 수 없습니다.");
+        }
+        if (node == null) {
+            throw new IllegalArgumentException("node는 null일 수 없습니다.");
+        }
+    }
+
+    public boolean isSameNode(JsonNode other) {
+        return node == other;
+    }
+}
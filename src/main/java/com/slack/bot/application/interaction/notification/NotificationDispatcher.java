@@ -2,7 +2,7 @@ package com.slack.bot.application.interaction.notification;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.slack.bot.application.interaction.client.NotificationApiClient;
-import com.slack.bot.domain.setting.repository.NotificationSettingsRepository;
+import com.slack.bot.infrastructure.setting.cache.NotificationSettingsCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -13,7 +13,7 @@ import org.springframework.stereotype.Component;
 public class NotificationDispatcher {
 
     private final NotificationApiClient notificationApiClient;
-    private final NotificationSettingsRepository notificationSettingsRepository;
+    private final NotificationSettingsCache notificationSettingsCache;
 
     public void sendEphemeral(String token, String channelId, String userId, String text) {
         notificationApiClient.sendEphemeralMessage(token, channelId, userId, text);
@@ -48,9 +48,9 @@ public class NotificationDispatcher {
             String fallback,
             String ephemeralText
     ) {
-        boolean sendChannelEphemeral = notificationSettingsRepository.findBySlackUser(teamId, userId)
-                                                                     .map(settings -> settings.isReservationChannelEphemeralEnabled())
-                                                                     .orElse(true);
+        boolean sendChannelEphemeral = notificationSettingsCache.findBySlackUser(teamId, userId)
+                                                                .map(settings -> settings.reservationChannelEphemeralEnabled())
+                                                                .orElse(true);
 
         if (sendChannelEphemeral) {
             sendEphemeral(token, channelId, userId, ephemeralText);
@@ -84,17 +84,17 @@ public class NotificationDispatcher {
             JsonNode blocks,
             String fallback
     ) {
-        notificationSettingsRepository.findBySlackUser(teamId, userId)
-                                      .ifPresentOrElse(
-                                              settings -> {
-                                                  if (settings.isDirectMessageEnabled()) {
-                                                      sendEphemeralBlocks(token, channelId, userId, blocks, fallback);
-                                                      return;
-                                                  }
-                                                  sendDirectMessageBlocks(token, userId, blocks, fallback);
-                                              },
-                                              () -> sendDirectMessageBlocks(token, userId, blocks, fallback)
-                                      );
+        notificationSettingsCache.findBySlackUser(teamId, userId)
+                                 .ifPresentOrElse(
+                                         settings -> {
+                                             if (settings.directMessageEnabled()) {
+                                                 sendEphemeralBlocks(token, channelId, userId, blocks, fallback);
+                                                 return;
+                                             }
+                                             sendDirectMessageBlocks(token, userId, blocks, fallback);
+                                         },
+                                         () -> sendDirectMessageBlocks(token, userId, blocks, fallback)
+                                 );
     }
 
     public void sendText(String teamId,
@@ -103,28 +103,28 @@ public class NotificationDispatcher {
             String userId,
             String text) {
 
-        notificationSettingsRepository.findBySlackUser(teamId, userId)
-                                      .ifPresentOrElse(
-                                              settings -> {
-                                                  if (settings.isDirectMessageEnabled()) {
-                                                      sendDmText(token, userId, text);
-                                                      return;
-                                                  }
-                                                  sendEphemeral(token, channelId, userId, text);
-                                              },
-                                              () -> sendEphemeral(token, channelId, userId, text)
-                                      );
+        notificationSettingsCache.findBySlackUser(teamId, userId)
+                                 .ifPresentOrElse(
+                                         settings -> {
+                                             if (settings.directMessageEnabled()) {
+                                                 sendDmText(token, userId, text);
+                                                 return;
+                                             }
+                                             sendEphemeral(token, channelId, userId, text);
+                                         },
+                                         () -> sendEphemeral(token, channelId, userId, text)
+                                 );
     }
 
     public void sendDirectMessageIfEnabled(String teamId, String token, String userId, String text) {
-        notificationSettingsRepository.findBySlackUser(teamId, userId)
-                                      .ifPresent(
-                                              settings -> {
-                                                  if (settings.isDirectMessageEnabled()) {
-                                                      sendDmText(token, userId, text);
-                                                  }
-                                              }
-                                      );
+        notificationSettingsCache.findBySlackUser(teamId, userId)
+                                 .ifPresent(
+                                         settings -> {
+                                             if (settings.directMessageEnabled()) {
+                                                 sendDmText(token, userId, text);
+                                             }
+                                         }
+                                 );
     }
 
     public void sendDirectMessageBySettingOrDefault(
@@ -133,15 +133,15 @@ public class NotificationDispatcher {
             String userId,
             String text
     ) {
-        notificationSettingsRepository.findBySlackUser(teamId, userId)
-                                      .ifPresentOrElse(
-                                              settings -> {
-                                                  if (settings.isDirectMessageEnabled()) {
-                                                      sendDmText(token, userId, text);
-                                                  }
-                                              },
-                                              () -> sendDmText(token, userId, text)
-                                      );
+        notificationSettingsCache.findBySlackUser(teamId, userId)
+                                 .ifPresentOrElse(
+                                         settings -> {
+                                             if (settings.directMessageEnabled()) {
+                                                 sendDmText(token, userId, text);
+                                             }
+                                         },
+                                         () -> sendDmText(token, userId, text)
+                                 );
     }
 
     private void sendDmText(String token, String userId, String text) {
@@ -1,14 +1,27 @@
 package com.slack.bot.application.interaction.reminder;
 
 import com.slack.bot.application.interaction.client.ReviewReminderSlackDirectMessageClient;
+import com.slack.bot.application.interaction.client.exception.SlackApiRateLimitedException;
 import com.slack.bot.domain.reservation.ReviewReminder;
 import com.slack.bot.domain.reservation.repository.ReviewReminderRepository;
 import com.slack.bot.domain.reservation.vo.ReminderParticipants;
-import com.slack.bot.domain.setting.repository.NotificationSettingsRepository;
-import com.slack.bot.domain.workspace.repository.WorkspaceRepository;
-import com.slack.bot.global.config.properties.ReviewReminderMessageProperties;
+import com.slack.bot.domain.setting.dto.NotificationSettingsSnapshotDto;
+import com.slack.bot.infrastructure.interaction.client.SlackApiRateLimiter;
+import com.slack.bot.infrastructure.setting.cache.NotificationSettingsCache;
+import com.slack.bot.infrastructure.workspace.cache.WorkspaceAccessTokenCache;
 import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -18,133 +31,195 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ReviewReminderDispatcher {
 
+    private static final String CHAT_POST_MESSAGE_API = "chat.postMessage";
+
     private final Clock clock;
-    private final WorkspaceRepository workspaceRepository;
+    private final WorkspaceAccessTokenCache workspaceAccessTokenCache;
     private final ReviewReminderRepository reviewReminderRepository;
     private final ReviewReminderSlackDirectMessageClient reviewReminderSlackDirectMessageClient;
-    private final ReviewReminderMessageProperties messageProperties;
-    private final NotificationSettingsRepository notificationSettingsRepository;
+    private final ReviewReminderMessageRenderer reviewReminderMessageRenderer;
+    private final NotificationSettingsCache notificationSettingsCache;
+    private final SlackApiRateLimiter slackApiRateLimiter;
 
     public void send(ReviewReminder reviewReminder) {
-        resolveToken(reviewReminder.getDestination().getTeamId()).ifPresentOrElse(
-                token -> dispatch(token, reviewReminder),
-                () -> {
-                    log.warn("워크스페이스 토큰을 찾을 수 없습니다. teamId={}", reviewReminder.getDestination().getTeamId());
-                    markFired(reviewReminder);
-                }
-        );
+        sendAll(List.of(reviewReminder), Runnable::run);
     }
 
-    private Optional<String> resolveToken(String teamId) {
-        return workspaceRepository.findByTeamId(teamId)
-                                  .map(workspace -> workspace.getAccessToken())
-                                  .filter(token -> token != null && !token.isBlank());
+    public void sendAll(List<ReviewReminder> reviewReminders, Executor dispatchExecutor) {
+        Queue<ReviewReminder> firedReminders = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<Void>> dispatches = new ArrayList<>();
+
+        try {
+            groupByTeam(reviewReminders).forEach(
+                    (teamId, teamReminders) -> dispatches.addAll(
+                            dispatchTeam(teamId, teamReminders, dispatchExecutor, firedReminders)
+                    )
+            );
+            CompletableFuture.allOf(dispatches.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            markFired(List.copyOf(firedReminders));
+        }
     }
 
-    private void dispatch(String token, ReviewReminder reviewReminder) {
-        String teamId = reviewReminder.getDestination().getTeamId();
-        String reviewerSlackId = reviewReminder.getParticipants().getReviewerSlackId();
+    private Map<String, List<ReviewReminder>> groupByTeam(List<ReviewReminder> reviewReminders) {
+        Map<String, List<ReviewReminder>> remindersByTeam = new LinkedHashMap<>();
 
-        if (reviewerSlackId == null || reviewerSlackId.isBlank()) {
-            sendDirectMessages(token, reviewReminder);
-            markFired(reviewReminder);
-            return;
+        for (ReviewReminder reviewReminder : reviewReminders) {
+            remindersByTeam.computeIfAbsent(reviewReminder.getDestination().getTeamId(), ignored -> new ArrayList<>())
+                           .add(reviewReminder);
         }
+        return remindersByTeam;
+    }
 
-        if (isNotReviewReminderNotificationActive(teamId, reviewerSlackId)) {
-            markFired(reviewReminder);
-            return;
+    private List<CompletableFuture<Void>> dispatchTeam(
+            String teamId,
+            List<ReviewReminder> teamReminders,
+            Executor dispatchExecutor,
+            Queue<ReviewReminder> firedReminders
+    ) {
+        Optional<String> token = workspaceAccessTokenCache.findAccessToken(teamId);
+        if (token.isEmpty()) {
+            log.warn("워크스페이스 토큰을 찾을 수 없습니다. teamId={}", teamId);
+            teamReminders.forEach(firedReminders::add);
+            return List.of();
         }
 
-        sendDirectMessages(token, reviewReminder);
-        markFired(reviewReminder);
+        Map<String, NotificationSettingsSnapshotDto> reviewerSettings = findReviewerSettings(teamId, teamReminders);
+        boolean throttled = isThrottled(teamId);
+        List<CompletableFuture<Void>> dispatches = new ArrayList<>();
+
+        for (ReviewReminder reviewReminder : teamReminders) {
+            if (isNotReviewReminderNotificationActive(reviewerSettings, reviewReminder)) {
+                firedReminders.add(reviewReminder);
+                continue;
+            }
+            if (throttled) {
+                log.info(
+                        "Slack API 호출 한도로 리뷰 리마인더 전송을 미룹니다. teamId={}, reservationId={}",
+                        teamId,
+                        reviewReminder.getReservationId()
+                );
+                continue;
+            }
+
+            dispatches.add(CompletableFuture.runAsync(
+                    () -> {
+                        if (sendDirectMessages(token.get(), reviewReminder)) {
+                            firedReminders.add(reviewReminder);
+                        }
+                    },
+                    dispatchExecutor
+            ));
+        }
+        return dispatches;
     }
 
-    private boolean isNotReviewReminderNotificationActive(String teamId, String reviewerSlackId) {
-        return !notificationSettingsRepository.findBySlackUser(teamId, reviewerSlackId)
-                                              .map(notificationSettings -> notificationSettings.getOptionalNotifications())
-                                              .map(notifications -> notifications.isReviewReminderEnabled())
-                                              .orElse(true);
+    private boolean isThrottled(String teamId) {
+        return slackApiRateLimiter.remainingThrottle(teamId, CHAT_POST_MESSAGE_API)
+                                  .isPositive();
     }
 
-    private void sendDirectMessages(String token, ReviewReminder reviewReminder) {
-        try {
-            Long reservationId = reviewReminder.getReservationId();
-            ReminderParticipants participants = reviewReminder.getParticipants();
+    private Map<String, NotificationSettingsSnapshotDto> findReviewerSettings(
+            String teamId,
+            List<ReviewReminder> teamReminders
+    ) {
+        Set<String> reviewerSlackIds = new HashSet<>();
 
-            sendMessage(
+        for (ReviewReminder reviewReminder : teamReminders) {
+            String reviewerSlackId = reviewReminder.getParticipants().getReviewerSlackId();
+            if (reviewerSlackId != null && !reviewerSlackId.isBlank()) {
+                reviewerSlackIds.add(reviewerSlackId);
+            }
+        }
+        if (reviewerSlackIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return notificationSettingsCache.findAllBySlackUsers(teamId, reviewerSlackIds);
+    }
+
+    private boolean isNotReviewReminderNotificationActive(
+            Map<String, NotificationSettingsSnapshotDto> reviewerSettings,
+            ReviewReminder reviewReminder
+    ) {
+        String reviewerSlackId = reviewReminder.getParticipants().getReviewerSlackId();
+        if (reviewerSlackId == null || reviewerSlackId.isBlank()) {
+            return false;
+        }
+
+        NotificationSettingsSnapshotDto notificationSettings = reviewerSettings.get(reviewerSlackId);
+        if (notificationSettings == null) {
+            return false;
+        }
+
+        return !notificationSettings.reviewReminderEnabled();
+    }
+
+    private boolean sendDirectMessages(String token, ReviewReminder reviewReminder) {
+        String teamId = reviewReminder.getDestination().getTeamId();
+        Long reservationId = reviewReminder.getReservationId();
+        ReminderParticipants participants = reviewReminder.getParticipants();
+        boolean authorMessageSent = false;
+
+        try {
+            authorMessageSent = sendMessage(
+                    teamId,
                     token,
                     participants.getPullRequestAuthorSlackId(),
-                    buildAuthorMessage(reviewReminder),
+                    reviewReminderMessageRenderer.renderAuthorMessage(reviewReminder),
                     reservationId
             );
 
             sendMessage(
+                    teamId,
                     token,
                     participants.getReviewerSlackId(),
-                    buildReviewerMessage(reviewReminder),
+                    reviewReminderMessageRenderer.renderReviewerMessage(reviewReminder),
                     reservationId
             );
 
             log.info("리뷰 리마인더 전송 완료. reservationId={}", reservationId);
+        } catch (SlackApiRateLimitedException e) {
+            if (!authorMessageSent) {
+                log.info(
+                        "Slack API 호출 한도로 리뷰 리마인더 전송을 미룹니다. teamId={}, reservationId={}, apiName={}",
+                        teamId,
+                        reservationId,
+                        e.getApiName()
+                );
+                return false;
+            }
+            log.warn(
+                    "Slack API 호출 한도로 리뷰어 리마인더를 보내지 못했습니다. 작성자 DM 중복을 막기 위해 발사로 처리합니다. reservationId={}",
+                    reservationId
+            );
         } catch (Exception e) {
-            log.error("리뷰 리마인더 전송 실패. reservationId={}", reviewReminder.getReservationId(), e);
+            log.error("리뷰 리마인더 전송 실패. reservationId={}", reservationId, e);
         }
+        return true;
     }
 
-    private void sendMessage(String token, String slackId, String message, Long reservationId) {
+    private boolean sendMessage(String teamId, String token, String slackId, String message, Long reservationId) {
         if (slackId == null || slackId.isBlank()) {
             log.warn("대상 슬랙 아이디가 존재하지 않아 전송을 건너뜁니다. reservationId={}", reservationId);
-            return;
+            return false;
         }
 
-        reviewReminderSlackDirectMessageClient.send(token, slackId, message);
-    }
-
-    private void markFired(ReviewReminder reviewReminder) {
-        reviewReminder.markFired(clock.instant());
-        reviewReminderRepository.save(reviewReminder);
+        reviewReminderSlackDirectMessageClient.send(teamId, token, slackId, message);
+        return true;
     }
 
-    private String buildAuthorMessage(ReviewReminder reminder) {
-        return messageProperties.reviewee()
-                                .formatted(
-                                        formatReviewerMention(reminder.getParticipants().getReviewerSlackId()),
-                                        formatPullRequestLink(reminder)
-                                );
-    }
-
-    private String buildReviewerMessage(ReviewReminder reviewReminder) {
-        return messageProperties.reviewer()
-                                .formatted(
-                                        reviewReminder.getPullRequest().getPullRequestTitle(),
-                                        reviewReminder.getPullRequest().getPullRequestUrl()
-                                );
-    }
-
-    private String formatReviewerMention(String reviewerSlackId) {
-        if (reviewerSlackId == null || reviewerSlackId.isBlank()) {
-            return "";
-        }
-
-        return "<@" + reviewerSlackId + ">";
-    }
-
-    private String formatPullRequestLink(ReviewReminder reminder) {
-        String url = reminder.getPullRequest().getPullRequestUrl();
-        String title = reminder.getPullRequest().getPullRequestTitle();
-
-        if (url == null || url.isBlank()) {
-            if (title != null) {
-                return title;
-            }
-            return "";
+    private void markFired(List<ReviewReminder> firedReminders) {
+        if (firedReminders.isEmpty()) {
+            return;
         }
 
-        if (title == null || title.isBlank()) {
-            return url;
+        Instant firedAt = clock.instant();
+        List<Long> reminderIds = new ArrayList<>();
+        for (ReviewReminder reviewReminder : firedReminders) {
+            reviewReminder.markFired(firedAt);
+            reminderIds.add(reviewReminder.getId());
         }
-
-        return "<" + url + "|" + title + ">";
+        reviewReminderRepository.markFiredAll(reminderIds, firedAt);
     }
 }
@@ -0,0 +1,129 @@
+package com.slack.bot.application.interaction.reminder;
+
+import com.slack.bot.domain.reservation.ReviewReminder;
+import com.slack.bot.global.config.properties.ReviewReminderMessageProperties;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReviewReminderMessageRenderer {
+
+    private static final int TEMPLATE_ARGUMENT_COUNT = 2;
+
+    private final MessageTemplate authorTemplate;
+    private final MessageTemplate reviewerTemplate;
+
+    public ReviewReminderMessageRenderer(ReviewReminderMessageProperties messageProperties) {
+        this.authorTemplate = MessageTemplate.compile(messageProperties.reviewee());
+        this.reviewerTemplate = MessageTemplate.compile(messageProperties.reviewer());
+    }
+
+    public String renderAuthorMessage(ReviewReminder reviewReminder) {
+        return authorTemplate.render(
+                formatReviewerMention(reviewReminder.getParticipants().getReviewerSlackId()),
+                formatPullRequestLink(reviewReminder)
+        );
+    }
+
+    public String renderReviewerMessage(ReviewReminder reviewReminder) {
+        return reviewerTemplate.render(
+                reviewReminder.getPullRequest().getPullRequestTitle(),
+                reviewReminder.getPullRequest().getPullRequestUrl()
+        );
+    }
+
+    private String formatReviewerMention(String reviewerSlackId) {
+        if (reviewerSlackId == null || reviewerSlackId.isBlank()) {
+            return "";
+        }
+
+        return "<@" + reviewerSlackId + ">";
+    }
+
+    private String formatPullRequestLink(ReviewReminder reminder) {
+        String url = reminder.getPullRequest().getPullRequestUrl();
+        String title = reminder.getPullRequest().getPullRequestTitle();
+
+        if (url == null || url.isBlank()) {
+            if (title != null) {
+                return title;
+            }
+            return "";
+        }
+
+        if (title == null || title.isBlank()) {
+            return url;
+        }
+
+        return "<" + url + "|" + title + ">";
+    }
+
+    private record MessageTemplate(List<String> literals, int literalLength) {
+
+        private static final MessageTemplate MISSING = new MessageTemplate(List.of(), 0);
+
+        private static MessageTemplate compile(String template) {
+            if (template == null) {
+                return MISSING;
+            }
+
+            List<String> literals = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            int literalLength = 0;
+
+            for (int i = 0; i < template.length(); i++) {
+                char current = template.charAt(i);
+                if (current != '%') {
+                    literal.append(current);
+                    continue;
+                }
+                if (i + 1 >= template.length()) {
+                    throw new IllegalArgumentException("리마인더 메시지 템플릿이 %로 끝날 수 없습니다.");
+                }
+
+                char specifier = template.charAt(++i);
+                switch (specifier) {
+                    case 's' -> {
+                        literalLength += literal.length();
+                        literals.add(literal.toString());
+                        literal.setLength(0);
+                    }
+                    case 'n' -> literal.append(System.lineSeparator());
+                    case '%' -> literal.append('%');
+                    default -> throw new IllegalArgumentException(
+                            "리마인더 메시지 템플릿은 %s, %n, %%만 지원합니다."
+                    );
+                }
+            }
+            if (literals.size() > TEMPLATE_ARGUMENT_COUNT) {
+                throw new IllegalArgumentException("리마인더 메시지 템플릿의 %s는 최대 2개입니다.");
+            }
+
+            literalLength += literal.length();
+            literals.add(literal.toString());
+            return new MessageTemplate(List.copyOf(literals), literalLength);
+        }
+
+        private String render(String first, String second) {
+            if (literals.isEmpty()) {
+                throw new IllegalStateException("리마인더 메시지 템플릿이 설정되지 않았습니다.");
+            }
+
+            StringBuilder message = new StringBuilder(literalLength + 64);
+            int placeholderCount = literals.size() - 1;
+
+            message.append(literals.getFirst());
+            if (placeholderCount >= 1) {
+                message.append(first)
+                       .append(literals.get(1));
+            }
+            if (placeholderCount >= 2) {
+                message.append(second)
+                       .append(literals.get(2));
+            }
+
+            return message.toString();
+        }
+    }
+}
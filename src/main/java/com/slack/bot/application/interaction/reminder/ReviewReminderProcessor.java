@@ -0,0 +1,55 @@
+package com.slack.bot.application.interaction.reminder;
+
+import com.slack.bot.domain.reservation.ReviewReminder;
+import com.slack.bot.domain.reservation.repository.ReviewReminderRepository;
+import com.slack.bot.global.config.properties.ReviewReminderWorkerProperties;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewReminderProcessor {
+
+    private final Clock clock;
+    private final ReviewReminderRepository reviewReminderRepository;
+    private final ReviewReminderDispatcher reviewReminderDispatcher;
+    private final ReviewReminderWorkerProperties reviewReminderWorkerProperties;
+
+    public int processDue(int limit) {
+        return processDue(limit, Runnable::run);
+    }
+
+    public int processDue(int limit, Executor dispatchExecutor) {
+        if (limit <= 0) {
+            return 0;
+        }
+
+        Instant now = clock.instant().truncatedTo(ChronoUnit.MICROS);
+        List<ReviewReminder> dueReminders = reviewReminderRepository.claimDue(
+                now,
+                now.minusMillis(reviewReminderWorkerProperties.processingTimeoutMs()),
+                limit
+        );
+        if (dueReminders.isEmpty()) {
+            return 0;
+        }
+
+        sendSafely(dueReminders, dispatchExecutor);
+        return dueReminders.size();
+    }
+
+    private void sendSafely(List<ReviewReminder> dueReminders, Executor dispatchExecutor) {
+        try {
+            reviewReminderDispatcher.sendAll(dueReminders, dispatchExecutor);
+        } catch (Exception e) {
+            log.error("리뷰 리마인더 일괄 처리 중 예기치 못한 예외가 발생했습니다. count={}", dueReminders.size(), e);
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package com.slack.bot.application.interaction.reminder;
 
 import com.slack.bot.application.interaction.reminder.dto.ReminderScheduleCommandDto;
+import com.slack.bot.application.worker.PollingHintPublisher;
+import com.slack.bot.application.worker.PollingHintTarget;
 import com.slack.bot.domain.reservation.repository.ReviewReminderRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,23 +12,17 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ReviewReminderScheduler {
 
-    private final TaskScheduler taskScheduler;
+    private final PollingHintPublisher pollingHintPublisher;
     private final ReviewReminderRepository reviewReminderRepository;
-    private final ReviewReminderDispatcher reviewReminderDispatcher;
 
     @Transactional
     public void schedule(ReminderScheduleCommandDto command) {
         reviewReminderRepository.save(command.toReminder());
-        taskScheduler.schedule(() -> fire(command.reservationId()), command.scheduledAt());
+        pollingHintPublisher.publish(PollingHintTarget.REVIEW_REMINDER);
     }
 
     @Transactional
     public void cancelByReservationId(Long reservationId) {
         reviewReminderRepository.deleteByReservationId(reservationId);
     }
-
-    private void fire(Long reservationId) {
-        reviewReminderRepository.findByReservationId(reservationId)
-                .ifPresent(reviewReminder -> reviewReminderDispatcher.send(reviewReminder));
-    }
 }
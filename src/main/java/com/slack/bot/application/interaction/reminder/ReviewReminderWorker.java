@@ -0,0 +1,153 @@
+package com.slack.bot.application.interaction.reminder;
+
+import com.slack.bot.application.worker.AdaptivePollingRunner;
+import com.slack.bot.application.worker.BoundedDispatchExecutor;
+import com.slack.bot.application.worker.PollingHintEvent;
+import com.slack.bot.application.worker.PollingHintTarget;
+import com.slack.bot.global.config.properties.ReviewReminderWorkerProperties;
+import java.time.Duration;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+
+public class ReviewReminderWorker implements SmartLifecycle {
+
+    private static final String DISPATCH_EXECUTOR_NAME = "review reminder";
+
+    private final ReviewReminderProcessor reviewReminderProcessor;
+    private final int batchSize;
+    private final AdaptivePollingRunner adaptivePollingRunner;
+    private final BoundedDispatchExecutor dispatchExecutor;
+
+    public ReviewReminderWorker(
+            ReviewReminderProcessor reviewReminderProcessor,
+            int batchSize,
+            long pollDelayMs,
+            long pollCapMs
+    ) {
+        this(reviewReminderProcessor, batchSize, pollDelayMs, pollCapMs, true);
+    }
+
+    public ReviewReminderWorker(
+            ReviewReminderProcessor reviewReminderProcessor,
+            int batchSize,
+            long pollDelayMs,
+            long pollCapMs,
+            boolean autoStartup
+    ) {
+        this(reviewReminderProcessor, batchSize, pollDelayMs, pollCapMs, ReviewReminderWorkerProperties.DEFAULT_DISPATCH_CONCURRENCY, autoStartup);
+    }
+
+    public ReviewReminderWorker(
+            ReviewReminderProcessor reviewReminderProcessor,
+            int batchSize,
+            long pollDelayMs,
+            long pollCapMs,
+            int dispatchConcurrency,
+            boolean autoStartup
+    ) {
+        this(
+                reviewReminderProcessor,
+                batchSize,
+                new BoundedDispatchExecutor(DISPATCH_EXECUTOR_NAME, dispatchConcurrency),
+                pollDelayMs,
+                pollCapMs,
+                autoStartup
+        );
+    }
+
+    private ReviewReminderWorker(
+            ReviewReminderProcessor reviewReminderProcessor,
+            int batchSize,
+            BoundedDispatchExecutor dispatchExecutor,
+            long pollDelayMs,
+            long pollCapMs,
+            boolean autoStartup
+    ) {
+        this(
+                reviewReminderProcessor,
+                batchSize,
+                new AdaptivePollingRunner(
+                        "review reminder worker",
+                        Duration.ofMillis(pollDelayMs),
+                        Duration.ofMillis(pollCapMs),
+                        () -> reviewReminderProcessor.processDue(batchSize, dispatchExecutor),
+                        autoStartup
+                ),
+                dispatchExecutor
+        );
+    }
+
+    ReviewReminderWorker(
+            ReviewReminderProcessor reviewReminderProcessor,
+            int batchSize,
+            AdaptivePollingRunner adaptivePollingRunner
+    ) {
+        this(
+                reviewReminderProcessor,
+                batchSize,
+                adaptivePollingRunner,
+                new BoundedDispatchExecutor(DISPATCH_EXECUTOR_NAME, ReviewReminderWorkerProperties.DEFAULT_DISPATCH_CONCURRENCY)
+        );
+    }
+
+    ReviewReminderWorker(
+            ReviewReminderProcessor reviewReminderProcessor,
+            int batchSize,
+            AdaptivePollingRunner adaptivePollingRunner,
+            BoundedDispatchExecutor dispatchExecutor
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize는 0보다 커야 합니다.");
+        }
+        this.reviewReminderProcessor = reviewReminderProcessor;
+        this.batchSize = batchSize;
+        this.adaptivePollingRunner = adaptivePollingRunner;
+        this.dispatchExecutor = dispatchExecutor;
+    }
+
+    public int processDueReminders() {
+        return reviewReminderProcessor.processDue(batchSize, dispatchExecutor);
+    }
+
+    @EventListener
+    public void wakeUp(PollingHintEvent pollingHintEvent) {
+        if (pollingHintEvent.target() == PollingHintTarget.REVIEW_REMINDER) {
+            adaptivePollingRunner.wakeUp();
+        }
+    }
+
+    @Override
+    public void start() {
+        dispatchExecutor.start();
+        adaptivePollingRunner.start();
+    }
+
+    @Override
+    public void stop() {
+        adaptivePollingRunner.stop();
+        dispatchExecutor.stop();
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        adaptivePollingRunner.stop(() -> {
+            dispatchExecutor.stop();
+            callback.run();
+        });
+    }
+
+    @Override
+    public boolean isRunning() {
+        return adaptivePollingRunner.isRunning();
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return adaptivePollingRunner.isAutoStartup();
+    }
+
+    @Override
+    public int getPhase() {
+        return adaptivePollingRunner.getPhase();
+    }
+}
@@ -0,0 +1,28 @@
+package com.slack.bot.application.interaction.view;
+
+import com.slack.bot.global.config.properties.ModalOpenBudgetProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ModalOpenBudget {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration budget;
+    private final Duration loadingThreshold;
+
+    public ModalOpenBudget(MeterRegistry meterRegistry, ModalOpenBudgetProperties modalOpenBudgetProperties) {
+        this.meterRegistry = meterRegistry;
+        this.budget = Duration.ofMillis(modalOpenBudgetProperties.budgetMs());
+        this.loadingThreshold = Duration.ofMillis(modalOpenBudgetProperties.loadingThresholdMs());
+    }
+
+    public ModalOpenDeadline start(String flow) {
+        return start(flow, System.nanoTime());
+    }
+
+    public ModalOpenDeadline start(String flow, long receivedNanos) {
+        return new ModalOpenDeadline(meterRegistry, flow, budget, loadingThreshold, receivedNanos);
+    }
+}
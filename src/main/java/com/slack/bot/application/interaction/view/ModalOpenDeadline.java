@@ -0,0 +1,81 @@
+package com.slack.bot.application.interaction.view;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class ModalOpenDeadline {
+
+    private static final String METRIC_PREFIX = "slack.modal.open";
+
+    private final MeterRegistry meterRegistry;
+    private final String flow;
+    private final Duration budget;
+    private final Duration loadingThreshold;
+    private final long startedNanos;
+
+    private long lastStageNanos;
+
+    ModalOpenDeadline(
+            MeterRegistry meterRegistry,
+            String flow,
+            Duration budget,
+            Duration loadingThreshold,
+            long startedNanos
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.flow = flow;
+        this.budget = budget;
+        this.loadingThreshold = loadingThreshold;
+        this.startedNanos = startedNanos;
+        this.lastStageNanos = startedNanos;
+    }
+
+    public void recordStage(String stage) {
+        long now = System.nanoTime();
+
+        Timer.builder(METRIC_PREFIX + ".stage")
+             .description("trigger_id 기반 모달 오픈 단계별 소요 시간")
+             .tag("flow", flow)
+             .tag("stage", stage)
+             .register(meterRegistry)
+             .record(now - lastStageNanos, TimeUnit.NANOSECONDS);
+        lastStageNanos = now;
+    }
+
+    public Duration remainingBeforeLoading() {
+        Duration remaining = loadingThreshold.minus(elapsed());
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+
+        return remaining;
+    }
+
+    public void finish(String outcome) {
+        Duration elapsed = elapsed();
+
+        Timer.builder(METRIC_PREFIX + ".duration")
+             .description("trigger_id 기반 모달 오픈 전체 소요 시간")
+             .tag("flow", flow)
+             .tag("outcome", outcome)
+             .register(meterRegistry)
+             .record(elapsed);
+        if (elapsed.compareTo(budget) > 0) {
+            log.warn(
+                    "모달 오픈이 trigger_id 유효 시간을 넘겼습니다. flow={}, outcome={}, elapsedMs={}, budgetMs={}",
+                    flow,
+                    outcome,
+                    elapsed.toMillis(),
+                    budget.toMillis()
+            );
+        }
+    }
+
+    private Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - startedNanos);
+    }
+}
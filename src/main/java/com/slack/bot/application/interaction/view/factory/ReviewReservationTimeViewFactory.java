@@ -1,6 +1,7 @@
 package com.slack.bot.application.interaction.view.factory;
 
 import com.slack.api.model.block.Blocks;
+import com.slack.api.model.block.LayoutBlock;
 import com.slack.api.model.block.composition.BlockCompositions;
 import com.slack.api.model.block.composition.OptionObject;
 import com.slack.api.model.block.element.BlockElements;
@@ -11,35 +12,54 @@ import com.slack.bot.global.config.properties.ReviewReservationTimeOptionsProper
 import com.slack.bot.global.config.properties.ReviewReservationTimeOptionsProperties.TimeOption;
 import java.util.ArrayList;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class ReviewReservationTimeViewFactory {
 
-    private final ReviewReservationTimeOptionsProperties timeOptionsProperties;
+    private static final String MODAL_TITLE = "리뷰 시간 설정";
+    private static final String LOADING_MESSAGE = "⏳ 리뷰 예약 정보를 불러오는 중입니다...";
+
     private final ReviewCustomDatetimeModalViewFactory customDatetimeModalViewFactory;
+    private final List<LayoutBlock> reviewTimeBlocks;
+    private final List<LayoutBlock> loadingBlocks;
+
+    public ReviewReservationTimeViewFactory(
+            ReviewReservationTimeOptionsProperties timeOptionsProperties,
+            ReviewCustomDatetimeModalViewFactory customDatetimeModalViewFactory
+    ) {
+        this.customDatetimeModalViewFactory = customDatetimeModalViewFactory;
+        this.reviewTimeBlocks = List.copyOf(buildReviewTimeBlocks(timeOptionsProperties));
+        this.loadingBlocks = List.copyOf(buildMessageBlocks(LOADING_MESSAGE));
+    }
 
     public View reviewTimeSubmitModal(String metaJson) {
         return Views.view(view -> view
                 .type("modal")
                 .callbackId(ViewCallbackId.REVIEW_TIME_SUBMIT.value())
                 .privateMetadata(metaJson)
-                .title(Views.viewTitle(t -> t.type("plain_text").text("리뷰 시간 설정")))
+                .title(Views.viewTitle(t -> t.type("plain_text").text(MODAL_TITLE)))
                 .submit(Views.viewSubmit(s -> s.type("plain_text").text("확인")))
                 .close(Views.viewClose(c -> c.type("plain_text").text("취소")))
-                .blocks(Blocks.asBlocks(
-                        Blocks.input(input -> input
-                                .blockId("time_block")
-                                .optional(false)
-                                .label(BlockCompositions.plainText("리뷰 시작 시간을 선택하세요"))
-                                .element(BlockElements.radioButtons(radio -> radio
-                                        .actionId("time_action")
-                                        .options(buildTimeOptions())
-                                ))
-                        )
-                ))
+                .blocks(reviewTimeBlocks)
+        );
+    }
+
+    public View loadingModal() {
+        return Views.view(view -> view
+                .type("modal")
+                .title(Views.viewTitle(t -> t.type("plain_text").text(MODAL_TITLE)))
+                .close(Views.viewClose(c -> c.type("plain_text").text("취소")))
+                .blocks(loadingBlocks)
+        );
+    }
+
+    public View noticeModal(String message) {
+        return Views.view(view -> view
+                .type("modal")
+                .title(Views.viewTitle(t -> t.type("plain_text").text(MODAL_TITLE)))
+                .close(Views.viewClose(c -> c.type("plain_text").text("닫기")))
+                .blocks(buildMessageBlocks(message))
         );
     }
 
@@ -47,6 +67,26 @@ public class ReviewReservationTimeViewFactory {
         return customDatetimeModalViewFactory.create(metaJson, initialDate);
     }
 
+    private List<LayoutBlock> buildReviewTimeBlocks(ReviewReservationTimeOptionsProperties timeOptionsProperties) {
+        return Blocks.asBlocks(
+                Blocks.input(input -> input
+                        .blockId("time_block")
+                        .optional(false)
+                        .label(BlockCompositions.plainText("리뷰 시작 시간을 선택하세요"))
+                        .element(BlockElements.radioButtons(radio -> radio
+                                .actionId("time_action")
+                                .options(buildTimeOptions(timeOptionsProperties))
+                        ))
+                )
+        );
+    }
+
+    private List<LayoutBlock> buildMessageBlocks(String message) {
+        return Blocks.asBlocks(
+                Blocks.section(section -> section.text(BlockCompositions.plainText(message)))
+        );
+    }
+
     private OptionObject createOption(String text, String value) {
         return BlockCompositions.option(opt -> opt
                 .text(BlockCompositions.plainText(text))
@@ -54,15 +94,15 @@ public class ReviewReservationTimeViewFactory {
         );
     }
 
-    private List<OptionObject> buildTimeOptions() {
+    private List<OptionObject> buildTimeOptions(ReviewReservationTimeOptionsProperties timeOptionsProperties) {
         List<OptionObject> options = new ArrayList<>();
         options.add(createOption("지금 바로", "now"));
-        options.addAll(resolveConfiguredTimeOptions());
+        options.addAll(resolveConfiguredTimeOptions(timeOptionsProperties));
         options.add(createOption("시간 직접 선택", "custom"));
         return options;
     }
 
-    private List<OptionObject> resolveConfiguredTimeOptions() {
+    private List<OptionObject> resolveConfiguredTimeOptions(ReviewReservationTimeOptionsProperties timeOptionsProperties) {
         List<OptionObject> options = new ArrayList<>();
         List<TimeOption> timeOptions = timeOptionsProperties.options();
         if (timeOptions == null || timeOptions.isEmpty()) {
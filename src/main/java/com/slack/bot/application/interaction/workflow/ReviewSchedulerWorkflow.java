@@ -2,6 +2,7 @@ package com.slack.bot.application.interaction.workflow;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.slack.api.model.view.View;
+import com.slack.bot.application.interaction.box.SlackInteractionPayloadContext;
 import com.slack.bot.application.interaction.client.NotificationApiClient;
 import com.slack.bot.application.interaction.dto.ReviewScheduleMetaDto;
 import com.slack.bot.application.interaction.publisher.ReviewInteractionEventPublisher;
@@ -13,12 +14,22 @@ import com.slack.bot.application.interaction.reservation.ProjectIdResolver;
 import com.slack.bot.application.interaction.reservation.ReservationMetaResolver;
 import com.slack.bot.application.interaction.reservation.ReviewReservationCoordinator;
 import com.slack.bot.application.interaction.reservation.exception.ReservationMetaInvalidException;
+import com.slack.bot.application.interaction.view.ModalOpenBudget;
+import com.slack.bot.application.interaction.view.ModalOpenDeadline;
 import com.slack.bot.application.interaction.view.factory.ReviewReservationTimeViewFactory;
 import com.slack.bot.application.interaction.workflow.dto.SchedulerContextDto;
 import com.slack.bot.domain.reservation.ReviewReservation;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -26,6 +37,9 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ReviewSchedulerWorkflow {
 
+    private static final String OPEN_SCHEDULER_FLOW = "open_review_scheduler";
+    private static final String ACTIVE_RESERVATION_NOTICE = "이미 예약된 리뷰가 있습니다. 채널 메시지를 확인해 주세요.";
+
     private final AuthorResolver authorResolver;
     private final ProjectIdResolver projectIdResolver;
     private final NotificationApiClient slackApiClient;
@@ -34,6 +48,9 @@ public class ReviewSchedulerWorkflow {
     private final ReservationMetaResolver reservationMetaResolver;
     private final ReviewReservationCoordinator reviewReservationCoordinator;
     private final ReviewInteractionEventPublisher reviewInteractionEventPublisher;
+    private final ModalOpenBudget modalOpenBudget;
+    private final SlackInteractionPayloadContext slackInteractionPayloadContext;
+    private final TaskExecutor reviewSchedulerLookupExecutor;
 
     public Optional<ReviewReservation> handleOpenScheduler(
             JsonNode payload,
@@ -43,37 +60,84 @@ public class ReviewSchedulerWorkflow {
             String slackUserId,
             String token
     ) {
+        ModalOpenDeadline deadline = modalOpenBudget.start(
+                OPEN_SCHEDULER_FLOW,
+                slackInteractionPayloadContext.resolveReceivedNanos()
+        );
         SchedulerContextDto context = buildContext(payload, action, teamId, channelId, slackUserId, token);
 
         if (context == null) {
+            deadline.finish("invalid_context");
             return Optional.empty();
         }
 
         ReviewScheduleMetaDto meta = parseMetaSafely(context);
 
         if (meta == null) {
+            deadline.finish("invalid_meta");
             return Optional.empty();
         }
+        deadline.recordStage("meta");
 
-        if (isRevieweeRequester(meta, context.slackUserId())) {
-            errorNotifier.notify(token, channelId, slackUserId, InteractionErrorType.REVIEWEE_CANNOT_RESERVE);
-            return Optional.empty();
-        }
+        CompletableFuture<String> authorLookup = lookupAuthorSlackId(meta, context.slackUserId());
+        CompletableFuture<SchedulerLookup> reservationLookup = supplyLookup(() -> lookupReservation(meta, context));
+        String loadingViewId = openLoadingModalIfDeadlineAtRisk(context, deadline, authorLookup, reservationLookup);
 
         try {
-            Long projectId = projectIdResolver.resolve(meta.projectId(), context.teamId());
-            publishReservationRequest(context, meta, projectId);
-
-            return findActiveReservation(meta, context, projectId).or(() -> {
-                openReviewTimeModal(context);
+            if (isRevieweeRequester(context.slackUserId(), await(authorLookup))) {
+                errorNotifier.notify(token, channelId, slackUserId, InteractionErrorType.REVIEWEE_CANNOT_RESERVE);
+                showNoticeOnLoadingModal(context, loadingViewId, InteractionErrorType.REVIEWEE_CANNOT_RESERVE.message());
+                deadline.finish("reviewee");
                 return Optional.empty();
-            });
-        } catch (IllegalStateException e) {
-            errorNotifier.notify(token, channelId, slackUserId, InteractionErrorType.RESERVATION_LOAD_FAILURE);
+            }
+
+            SchedulerLookup lookup = await(reservationLookup);
+            deadline.recordStage("lookup");
+            publishReservationRequest(context, meta, lookup.projectId());
+
+            if (lookup.activeReservation().isPresent()) {
+                showNoticeOnLoadingModal(context, loadingViewId, ACTIVE_RESERVATION_NOTICE);
+                deadline.finish("duplicate");
+                return lookup.activeReservation();
+            }
+
+            openReviewTimeModal(context, loadingViewId);
+            deadline.recordStage("open");
+            deadline.finish(resolveOpenOutcome(loadingViewId));
             return Optional.empty();
+        } catch (IllegalStateException e) {
+            return handleLoadFailure(context, deadline, loadingViewId);
+        } catch (RuntimeException e) {
+            if (loadingViewId == null) {
+                throw e;
+            }
+
+            log.error(
+                    "로딩 모달을 연 뒤 리뷰 예약 처리에 실패했습니다. teamId={}, viewId={}",
+                    context.teamId(),
+                    loadingViewId,
+                    e
+            );
+            return handleLoadFailure(context, deadline, loadingViewId);
         }
     }
 
+    private Optional<ReviewReservation> handleLoadFailure(
+            SchedulerContextDto context,
+            ModalOpenDeadline deadline,
+            String loadingViewId
+    ) {
+        errorNotifier.notify(
+                context.token(),
+                context.channelId(),
+                context.slackUserId(),
+                InteractionErrorType.RESERVATION_LOAD_FAILURE
+        );
+        showNoticeOnLoadingModal(context, loadingViewId, InteractionErrorType.RESERVATION_LOAD_FAILURE.message());
+        deadline.finish("load_failure");
+        return Optional.empty();
+    }
+
     private ReviewScheduleMetaDto parseMeta(String metaJson) {
         return reservationMetaResolver.parseMeta(metaJson);
     }
@@ -93,13 +157,18 @@ public class ReviewSchedulerWorkflow {
         }
     }
 
-    private boolean isRevieweeRequester(ReviewScheduleMetaDto meta, String requesterSlackUserId) {
-        if (meta == null || requesterSlackUserId == null || requesterSlackUserId.isBlank()) {
-            return false;
+    private CompletableFuture<String> lookupAuthorSlackId(ReviewScheduleMetaDto meta, String requesterSlackUserId) {
+        if (requesterSlackUserId == null || requesterSlackUserId.isBlank()) {
+            return CompletableFuture.completedFuture(null);
         }
 
-        String authorSlackId = authorResolver.resolveAuthorSlackId(meta);
+        return supplyLookup(() -> authorResolver.resolveAuthorSlackId(meta));
+    }
 
+    private boolean isRevieweeRequester(String requesterSlackUserId, String authorSlackId) {
+        if (requesterSlackUserId == null || requesterSlackUserId.isBlank()) {
+            return false;
+        }
         if (authorSlackId == null || authorSlackId.isBlank()) {
             return false;
         }
@@ -107,6 +176,87 @@ public class ReviewSchedulerWorkflow {
         return requesterSlackUserId.equals(authorSlackId);
     }
 
+    private SchedulerLookup lookupReservation(ReviewScheduleMetaDto meta, SchedulerContextDto context) {
+        Long projectId = projectIdResolver.resolve(meta.projectId(), context.teamId());
+
+        return new SchedulerLookup(projectId, findActiveReservation(meta, context, projectId));
+    }
+
+    private <T> CompletableFuture<T> supplyLookup(Supplier<T> lookup) {
+        try {
+            return CompletableFuture.supplyAsync(lookup, reviewSchedulerLookupExecutor);
+        } catch (RejectedExecutionException e) {
+            log.debug("리뷰 예약 조회 작업이 거절되어 요청 스레드에서 실행합니다.");
+            return completeInline(lookup);
+        }
+    }
+
+    private <T> CompletableFuture<T> completeInline(Supplier<T> lookup) {
+        try {
+            return CompletableFuture.completedFuture(lookup.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> lookup) {
+        try {
+            return lookup.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String openLoadingModalIfDeadlineAtRisk(
+            SchedulerContextDto context,
+            ModalOpenDeadline deadline,
+            CompletableFuture<?>... lookups
+    ) {
+        try {
+            CompletableFuture.allOf(lookups)
+                             .get(deadline.remainingBeforeLoading().toNanos(), TimeUnit.NANOSECONDS);
+            return null;
+        } catch (TimeoutException e) {
+            log.info(
+                    "리뷰 예약 조회가 지연되어 로딩 모달을 먼저 엽니다. teamId={}, userId={}",
+                    context.teamId(),
+                    context.slackUserId()
+            );
+            String viewId = slackApiClient.openModal(context.token(), context.triggerId(), slackViews.loadingModal());
+
+            deadline.recordStage("loading");
+            return viewId;
+        } catch (ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private void showNoticeOnLoadingModal(SchedulerContextDto context, String loadingViewId, String message) {
+        if (loadingViewId == null) {
+            return;
+        }
+
+        try {
+            slackApiClient.updateModal(context.token(), loadingViewId, slackViews.noticeModal(message));
+        } catch (RuntimeException e) {
+            log.warn("로딩 모달 안내 갱신에 실패했습니다. teamId={}, viewId={}", context.teamId(), loadingViewId, e);
+        }
+    }
+
+    private String resolveOpenOutcome(String loadingViewId) {
+        if (loadingViewId == null) {
+            return "opened";
+        }
+
+        return "updated";
+    }
+
     private SchedulerContextDto buildContext(
             JsonNode payload,
             JsonNode action,
@@ -156,7 +306,7 @@ public class ReviewSchedulerWorkflow {
         );
     }
 
-    private void openReviewTimeModal(SchedulerContextDto context) {
+    private void openReviewTimeModal(SchedulerContextDto context, String loadingViewId) {
         int metaLength = 0;
         if (context.metaJson() != null) {
             metaLength = context.metaJson().length();
@@ -171,6 +321,10 @@ public class ReviewSchedulerWorkflow {
         );
         View view = slackViews.reviewTimeSubmitModal(context.metaJson());
 
+        if (loadingViewId != null) {
+            slackApiClient.updateModal(context.token(), loadingViewId, view);
+            return;
+        }
         slackApiClient.openModal(context.token(), context.triggerId(), view);
     }
 
@@ -198,4 +352,7 @@ public class ReviewSchedulerWorkflow {
         int endIndex = Math.min(value.length(), 12);
         return value.substring(0, endIndex);
     }
+
+    private record SchedulerLookup(Long projectId, Optional<ReviewReservation> activeReservation) {
+    }
 }
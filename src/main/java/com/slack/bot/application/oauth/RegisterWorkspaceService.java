@@ -1,8 +1,14 @@
 package com.slack.bot.application.oauth;
 
 import com.slack.bot.application.oauth.dto.response.SlackTokenResponse;
+import com.slack.bot.application.worker.PollingHintEvent;
+import com.slack.bot.application.worker.PollingHintPublisher;
+import com.slack.bot.application.worker.PollingHintTarget;
 import com.slack.bot.domain.workspace.repository.WorkspaceRepository;
+import com.slack.bot.infrastructure.project.cache.ProjectChannelRouteCache;
+import com.slack.bot.infrastructure.workspace.cache.WorkspaceAccessTokenCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,6 +17,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class RegisterWorkspaceService {
 
     private final WorkspaceRepository workspaceRepository;
+    private final WorkspaceAccessTokenCache workspaceAccessTokenCache;
+    private final ProjectChannelRouteCache projectChannelRouteCache;
+    private final PollingHintPublisher pollingHintPublisher;
 
     @Transactional
     public void registerWorkspace(SlackTokenResponse tokenResponse, Long userId) {
@@ -22,6 +31,15 @@ public class RegisterWorkspaceService {
                                    ),
                                    () -> workspaceRepository.save(tokenResponse.toEntity(userId))
                            );
+        workspaceAccessTokenCache.evict(tokenResponse.teamId());
+        pollingHintPublisher.publish(PollingHintTarget.WORKSPACE_ACCESS_TOKEN);
+        projectChannelRouteCache.evictAll();
+    }
 
+    @EventListener
+    public void evictCachedAccessTokens(PollingHintEvent pollingHintEvent) {
+        if (pollingHintEvent.target() == PollingHintTarget.WORKSPACE_ACCESS_TOKEN) {
+            workspaceAccessTokenCache.evictAll();
+        }
     }
 }
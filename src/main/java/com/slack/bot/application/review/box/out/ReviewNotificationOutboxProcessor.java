@@ -10,8 +10,6 @@ import com.slack.bot.application.interaction.box.retry.InteractionRetryException
 import com.slack.bot.application.review.dto.ReviewMessageDto;
 import com.slack.bot.application.worker.PollingHintPublisher;
 import com.slack.bot.application.worker.PollingHintTarget;
-import com.slack.bot.domain.workspace.Workspace;
-import com.slack.bot.domain.workspace.repository.WorkspaceRepository;
 import com.slack.bot.global.config.properties.InteractionRetryProperties;
 import com.slack.bot.global.config.properties.ReviewWorkerProperties;
 import com.slack.bot.infrastructure.interaction.box.SlackInteractionFailureType;
@@ -19,6 +17,7 @@ import com.slack.bot.infrastructure.interaction.client.NotificationTransportApiC
 import com.slack.bot.infrastructure.review.box.out.ReviewNotificationOutbox;
 import com.slack.bot.infrastructure.review.box.out.ReviewNotificationOutboxHistory;
 import com.slack.bot.infrastructure.review.box.out.repository.ReviewNotificationOutboxRepository;
+import com.slack.bot.infrastructure.workspace.cache.WorkspaceAccessTokenCache;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -43,7 +42,7 @@ public class ReviewNotificationOutboxProcessor {
     private final ObjectMapper objectMapper;
     private final ReviewNotificationMessageRenderer reviewNotificationMessageRenderer;
     private final RetryTemplate slackNotificationOutboxRetryTemplate;
-    private final WorkspaceRepository workspaceRepository;
+    private final WorkspaceAccessTokenCache workspaceAccessTokenCache;
     private final BoxFailureReasonTruncator failureReasonTruncator;
     private final InteractionRetryProperties interactionRetryProperties;
     private final ReviewWorkerProperties reviewWorkerProperties;
@@ -162,42 +161,33 @@ public class ReviewNotificationOutboxProcessor {
             log.warn("review_notification outbox 처리에 실패했습니다. outboxId={}", outbox.getId(), exception);
 
             ReviewNotificationOutboxHistory history = markFailureStatus(outbox, exception);
-            try {
-                boolean updated = reviewNotificationOutboxRepository.saveIfProcessingLeaseMatched(
-                        outbox,
-                        history,
-                        currentProcessingStartedAt.get()
-                );
-                if (updated) {
-                    return;
-                }
-
-                logLeaseLost(outbox.getId(), currentProcessingStartedAt.get(), describeProcessingLease(outbox));
-            } catch (Exception e) {
-                log.error(
-                        "review_notification outbox 실패 상태 저장에 실패했습니다. outboxId={}",
-                        outbox.getId(),
-                        e
-                );
-            }
+            persistCompletion(outbox, history, currentProcessingStartedAt.get());
             return;
         }
 
         ReviewNotificationOutboxHistory history = outbox.markSent(clock.instant());
+        persistCompletion(outbox, history, currentProcessingStartedAt.get());
+    }
+
+    private void persistCompletion(
+            ReviewNotificationOutbox outbox,
+            ReviewNotificationOutboxHistory history,
+            Instant claimedProcessingStartedAt
+    ) {
         try {
             boolean updated = reviewNotificationOutboxRepository.saveIfProcessingLeaseMatched(
                     outbox,
                     history,
-                    currentProcessingStartedAt.get()
+                    claimedProcessingStartedAt
             );
             if (updated) {
                 return;
             }
 
-            logLeaseLost(outbox.getId(), currentProcessingStartedAt.get(), describeProcessingLease(outbox));
+            logLeaseLost(outbox.getId(), claimedProcessingStartedAt, describeProcessingLease(outbox));
         } catch (Exception e) {
             log.error(
-                "review_notification outbox 전송은 성공했지만 SENT 상태 저장에 실패했습니다. outboxId={}",
+                    "review_notification outbox 최종 상태 저장에 실패했습니다. outboxId={}",
                     outbox.getId(),
                     e
             );
@@ -218,12 +208,10 @@ public class ReviewNotificationOutboxProcessor {
     }
 
     private String resolveToken(String teamId) {
-        Workspace workspace = workspaceRepository.findByTeamId(teamId)
-                                                 .orElseThrow(() -> new IllegalStateException(
-                                                         "teamId에 해당하는 워크스페이스를 찾을 수 없습니다. teamId=" + teamId
-                                                 ));
-
-        return workspace.getAccessToken();
+        return workspaceAccessTokenCache.findAccessToken(teamId)
+                                        .orElseThrow(() -> new IllegalStateException(
+                                                "teamId에 해당하는 워크스페이스를 찾을 수 없습니다. teamId=" + teamId
+                                        ));
     }
 
     private JsonNode readBlocks(String blocksJson) throws JsonProcessingException {
@@ -2,11 +2,12 @@ package com.slack.bot.application.review.participant;
 
 import com.slack.bot.application.review.dto.ReviewNotificationPayload;
 import com.slack.bot.application.review.participant.dto.ReviewParticipantsDto;
-import com.slack.bot.domain.member.ProjectMember;
-import com.slack.bot.domain.member.repository.ProjectMemberRepository;
+import com.slack.bot.domain.member.dto.ProjectMemberMentionDto;
+import com.slack.bot.infrastructure.member.cache.ProjectMemberDirectoryCache;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -18,16 +19,20 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ReviewParticipantFormatter {
 
-    private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectMemberDirectoryCache projectMemberDirectoryCache;
 
     public ReviewParticipantsDto format(String teamId, ReviewNotificationPayload event) {
         List<String> unmappedGithubIds = new ArrayList<>();
         Set<String> reviewersToMention = normalizeGithubIds(event.reviewersToMention());
         boolean mentionAllReviewers = reviewersToMention.isEmpty();
+        Map<String, ProjectMemberMentionDto> members = projectMemberDirectoryCache.findByGithubIds(
+                teamId,
+                collectParticipantGithubIds(event)
+        );
 
-        String authorText = resolveSlackMention(teamId, event.authorGithubId(), unmappedGithubIds);
+        String authorText = resolveSlackMention(members, event.authorGithubId(), unmappedGithubIds);
         String pendingText = formatReviewers(
-                teamId,
+                members,
                 event.pendingReviewers(),
                 reviewersToMention,
                 mentionAllReviewers,
@@ -36,8 +41,18 @@ public class ReviewParticipantFormatter {
         return new ReviewParticipantsDto(authorText, pendingText, List.copyOf(unmappedGithubIds));
     }
 
+    private Set<String> collectParticipantGithubIds(ReviewNotificationPayload event) {
+        Set<String> githubIds = new LinkedHashSet<>();
+
+        githubIds.add(event.authorGithubId());
+        if (event.pendingReviewers() != null) {
+            githubIds.addAll(event.pendingReviewers());
+        }
+        return githubIds;
+    }
+
     private String formatReviewers(
-            String teamId,
+            Map<String, ProjectMemberMentionDto> members,
             List<String> reviewers,
             Set<String> reviewersToMention,
             boolean mentionAllReviewers,
@@ -48,12 +63,12 @@ public class ReviewParticipantFormatter {
         }
 
         return reviewers.stream()
-                        .map(ghId -> resolveReviewerText(teamId, ghId, reviewersToMention, mentionAllReviewers, unmappedGithubIds))
+                        .map(ghId -> resolveReviewerText(members, ghId, reviewersToMention, mentionAllReviewers, unmappedGithubIds))
                         .collect(Collectors.joining(", "));
     }
 
     private String resolveReviewerText(
-            String teamId,
+            Map<String, ProjectMemberMentionDto> members,
             String githubId,
             Set<String> reviewersToMention,
             boolean mentionAllReviewers,
@@ -63,43 +78,44 @@ public class ReviewParticipantFormatter {
             return "(none)";
         }
 
-        return projectMemberRepository.findByGithubUser(teamId, githubId)
-                                      .map(projectMember -> resolveReviewerMappedText(
-                                              githubId,
-                                              projectMember,
-                                              reviewersToMention,
-                                              mentionAllReviewers
-                                      ))
-                                      .orElseGet(() -> {
-                                          unmappedGithubIds.add(githubId);
-                                          return githubId;
-                                      });
+        ProjectMemberMentionDto member = members.get(githubId);
+        if (member == null) {
+            unmappedGithubIds.add(githubId);
+            return githubId;
+        }
+
+        return resolveReviewerMappedText(githubId, member, reviewersToMention, mentionAllReviewers);
     }
 
-    private String resolveSlackMention(String teamId, String githubId, List<String> unmappedGithubIds) {
+    private String resolveSlackMention(
+            Map<String, ProjectMemberMentionDto> members,
+            String githubId,
+            List<String> unmappedGithubIds
+    ) {
         if (githubId == null || githubId.isBlank()) {
             return "(none)";
         }
 
-        return projectMemberRepository.findByGithubUser(teamId, githubId)
-                                      .map(projectMember -> "<@" + projectMember.getSlackUserId() + ">")
-                                      .orElseGet(() -> {
-                                          unmappedGithubIds.add(githubId);
-                                          return githubId;
-                                      });
+        ProjectMemberMentionDto member = members.get(githubId);
+        if (member == null) {
+            unmappedGithubIds.add(githubId);
+            return githubId;
+        }
+
+        return member.mention();
     }
 
     private String resolveReviewerMappedText(
             String githubId,
-            ProjectMember projectMember,
+            ProjectMemberMentionDto member,
             Set<String> reviewersToMention,
             boolean mentionAllReviewers
     ) {
         if (mentionAllReviewers || reviewersToMention.contains(githubId)) {
-            return "<@" + projectMember.getSlackUserId() + ">";
+            return member.mention();
         }
 
-        return projectMember.getDisplayName();
+        return member.displayName();
     }
 
     private Set<String> normalizeGithubIds(List<String> githubIds) {
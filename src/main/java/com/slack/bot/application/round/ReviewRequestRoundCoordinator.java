@@ -4,13 +4,13 @@ import com.slack.bot.application.review.dto.request.ReviewAssignmentRequest;
 import com.slack.bot.application.round.dto.ReviewRoundRegistrationResultDto;
 import com.slack.bot.domain.round.PullRequestRound;
 import com.slack.bot.domain.round.RoundReviewer;
+import com.slack.bot.domain.round.RoundReviewerState;
 import com.slack.bot.domain.round.repository.PullRequestRoundRepository;
 import com.slack.bot.domain.round.repository.RoundReviewerRepository;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
@@ -31,25 +31,33 @@ public class ReviewRequestRoundCoordinator {
         String startCommitHash = normalizeStartCommitHash(request.startCommitHash());
         RoundResolution resolution = resolveRound(apiKey, request.githubPullRequestId(), startCommitHash);
         PullRequestRound round = resolution.round();
+        PullRequestRound previousRound = resolution.previousRound();
+        List<RoundReviewer> loadedReviewers = loadReviewers(round, previousRound);
+        RoundReviewerStates currentStates = RoundReviewerStates.of(round.getId(), loadedReviewers);
+        RoundReviewerStates previousStates = resolvePreviousStates(previousRound, loadedReviewers);
 
-        if (resolution.previousRound() != null) {
-            markReviewedReviewers(resolution.previousRound(), request.reviewedReviewers());
+        if (previousRound != null) {
+            markReviewedReviewers(previousStates, request.reviewedReviewers());
         }
 
         List<String> pendingReviewers = mergePendingWithCarryoverReviewedReviewers(
                 request.pendingReviewers(),
-                resolution.previousRound()
+                previousStates
         );
         Set<String> reviewersToMention = upsertPendingReviewers(
-                round,
-                resolution.previousRound(),
+                currentStates,
+                previousStates,
                 pendingReviewers
         );
 
-        if (resolution.previousRound() == null) {
-            markReviewedReviewers(round, request.reviewedReviewers());
+        if (previousRound == null) {
+            markReviewedReviewers(currentStates, request.reviewedReviewers());
         }
 
+        List<RoundReviewer> changedReviewers = new ArrayList<>(previousStates.changedReviewers());
+        changedReviewers.addAll(currentStates.changedReviewers());
+        roundReviewerRepository.upsertAll(changedReviewers);
+
         return new ReviewRoundRegistrationResultDto(
                 round.batchKey(),
                 round.getRoundNumber(),
@@ -118,15 +126,42 @@ public class ReviewRequestRoundCoordinator {
         }
     }
 
-    private Set<String> upsertPendingReviewers(
-            PullRequestRound round,
+    private List<RoundReviewer> loadReviewers(PullRequestRound round, PullRequestRound previousRound) {
+        List<Long> pullRequestRoundIds = new ArrayList<>();
+
+        if (round.getId() != null) {
+            pullRequestRoundIds.add(round.getId());
+        }
+        if (previousRound != null && previousRound.getId() != null) {
+            pullRequestRoundIds.add(previousRound.getId());
+        }
+        if (pullRequestRoundIds.isEmpty()) {
+            return List.of();
+        }
+
+        return roundReviewerRepository.findAllInRounds(pullRequestRoundIds);
+    }
+
+    private RoundReviewerStates resolvePreviousStates(
             PullRequestRound previousRound,
+            List<RoundReviewer> loadedReviewers
+    ) {
+        if (previousRound == null) {
+            return RoundReviewerStates.empty();
+        }
+
+        return RoundReviewerStates.of(previousRound.getId(), loadedReviewers);
+    }
+
+    private Set<String> upsertPendingReviewers(
+            RoundReviewerStates currentStates,
+            RoundReviewerStates previousStates,
             List<String> pendingReviewers
     ) {
         Set<String> reviewersToMention = new LinkedHashSet<>();
 
         for (String reviewerGithubId : normalizeReviewerGithubIds(pendingReviewers)) {
-            if (upsertReviewer(round, previousRound, reviewerGithubId)) {
+            if (upsertReviewer(currentStates, previousStates, reviewerGithubId)) {
                 reviewersToMention.add(reviewerGithubId);
             }
         }
@@ -134,83 +169,63 @@ public class ReviewRequestRoundCoordinator {
         return reviewersToMention;
     }
 
-    private void markReviewedReviewers(PullRequestRound round, List<String> reviewedReviewers) {
+    private void markReviewedReviewers(RoundReviewerStates states, List<String> reviewedReviewers) {
         for (String reviewerGithubId : normalizeReviewerGithubIds(reviewedReviewers)) {
-            roundReviewerRepository.findReviewerInRound(round.getId(), reviewerGithubId)
-                                   .ifPresentOrElse(
-                                           roundReviewer -> {
-                                               if (roundReviewer.isReviewed()) {
-                                                   return;
-                                               }
-
-                                               roundReviewer.markReviewed();
-                                               roundReviewerRepository.save(roundReviewer);
-                                           },
-                                           () -> roundReviewerRepository.save(
-                                                   RoundReviewer.reviewed(round.getId(), reviewerGithubId)
-                                           )
-                                   );
+            boolean alreadyReviewed = states.find(reviewerGithubId)
+                                            .map(state -> state.isReviewed())
+                                            .orElse(false);
+
+            if (!alreadyReviewed) {
+                states.change(reviewerGithubId, RoundReviewerState.REVIEWED);
+            }
         }
     }
 
     private List<String> mergePendingWithCarryoverReviewedReviewers(
             List<String> pendingReviewers,
-            PullRequestRound previousRound
+            RoundReviewerStates previousStates
     ) {
         LinkedHashSet<String> merged = new LinkedHashSet<>(normalizeReviewerGithubIds(pendingReviewers));
-        merged.addAll(loadCarryoverReviewedReviewerGithubIds(previousRound));
+        merged.addAll(previousStates.reviewedReviewerGithubIds());
         return new ArrayList<>(merged);
     }
 
-    private Set<String> loadCarryoverReviewedReviewerGithubIds(PullRequestRound previousRound) {
-        if (previousRound == null || previousRound.getId() == null) {
-            return Set.of();
-        }
-
-        return roundReviewerRepository.findAllInRound(previousRound.getId())
-                                      .stream()
-                                      .filter(roundReviewer -> roundReviewer.isReviewed())
-                                      .map(roundReviewer -> roundReviewer.getReviewerGithubId())
-                                      .collect(Collectors.toCollection(() -> new LinkedHashSet<>()));
-    }
-
     private boolean upsertReviewer(
-            PullRequestRound round,
-            PullRequestRound previousRound,
+            RoundReviewerStates currentStates,
+            RoundReviewerStates previousStates,
             String reviewerGithubId
     ) {
-        return roundReviewerRepository.findReviewerInRound(round.getId(), reviewerGithubId)
-                                      .map(roundReviewer -> markRequestedIfReviewed(roundReviewer))
-                                      .orElseGet(() -> createReviewer(round, previousRound, reviewerGithubId));
+        return currentStates.find(reviewerGithubId)
+                            .map(state -> markRequestedIfReviewed(currentStates, reviewerGithubId, state))
+                            .orElseGet(() -> createReviewer(currentStates, previousStates, reviewerGithubId));
     }
 
-    private boolean markRequestedIfReviewed(RoundReviewer roundReviewer) {
-        if (roundReviewer.isRequested()) {
+    private boolean markRequestedIfReviewed(
+            RoundReviewerStates currentStates,
+            String reviewerGithubId,
+            RoundReviewerState state
+    ) {
+        if (state.isRequested()) {
             return false;
         }
 
-        roundReviewer.markRequested();
-        roundReviewerRepository.save(roundReviewer);
+        currentStates.change(reviewerGithubId, state.request());
         return true;
     }
 
     private boolean createReviewer(
-            PullRequestRound round,
-            PullRequestRound previousRound,
+            RoundReviewerStates currentStates,
+            RoundReviewerStates previousStates,
             String reviewerGithubId
     ) {
-        roundReviewerRepository.save(RoundReviewer.requested(round.getId(), reviewerGithubId));
-        return !wasRequestedInPreviousRound(previousRound, reviewerGithubId);
+        currentStates.change(reviewerGithubId, RoundReviewerState.REQUESTED);
+        return !wasRequestedInPreviousRound(previousStates, reviewerGithubId);
     }
 
-    private boolean wasRequestedInPreviousRound(PullRequestRound previousRound, String reviewerGithubId) {
-        if (previousRound == null || previousRound.getId() == null) {
-            return false;
-        }
-
-        return roundReviewerRepository.findReviewerInRound(previousRound.getId(), reviewerGithubId)
-                                      .map(roundReviewer -> roundReviewer.isRequested())
-                                      .orElse(false);
+    private boolean wasRequestedInPreviousRound(RoundReviewerStates previousStates, String reviewerGithubId) {
+        return previousStates.find(reviewerGithubId)
+                             .map(state -> state.isRequested())
+                             .orElse(false);
     }
 
     private Set<String> normalizeReviewerGithubIds(List<String> reviewerGithubIds) {
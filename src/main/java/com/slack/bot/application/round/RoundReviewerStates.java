@@ -0,0 +1,71 @@
+package com.slack.bot.application.round;
+
+import com.slack.bot.domain.round.RoundReviewer;
+import com.slack.bot.domain.round.RoundReviewerState;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+class RoundReviewerStates {
+
+    private final Long pullRequestRoundId;
+    private final Map<String, RoundReviewerState> states = new LinkedHashMap<>();
+    private final Set<String> changedReviewerGithubIds = new LinkedHashSet<>();
+
+    static RoundReviewerStates of(Long pullRequestRoundId, List<RoundReviewer> roundReviewers) {
+        RoundReviewerStates roundReviewerStates = new RoundReviewerStates(pullRequestRoundId);
+
+        for (RoundReviewer roundReviewer : roundReviewers) {
+            if (roundReviewer.getPullRequestRoundId().equals(pullRequestRoundId)) {
+                roundReviewerStates.states.put(roundReviewer.getReviewerGithubId(), roundReviewer.getState());
+            }
+        }
+
+        return roundReviewerStates;
+    }
+
+    static RoundReviewerStates empty() {
+        return new RoundReviewerStates(null);
+    }
+
+    private RoundReviewerStates(Long pullRequestRoundId) {
+        this.pullRequestRoundId = pullRequestRoundId;
+    }
+
+    Optional<RoundReviewerState> find(String reviewerGithubId) {
+        return Optional.ofNullable(states.get(reviewerGithubId));
+    }
+
+    void change(String reviewerGithubId, RoundReviewerState state) {
+        states.put(reviewerGithubId, state);
+        changedReviewerGithubIds.add(reviewerGithubId);
+    }
+
+    Set<String> reviewedReviewerGithubIds() {
+        Set<String> reviewed = new LinkedHashSet<>();
+
+        states.forEach((reviewerGithubId, state) -> {
+            if (state.isReviewed()) {
+                reviewed.add(reviewerGithubId);
+            }
+        });
+        return reviewed;
+    }
+
+    List<RoundReviewer> changedReviewers() {
+        return changedReviewerGithubIds.stream()
+                                       .map(reviewerGithubId -> toRoundReviewer(reviewerGithubId))
+                                       .toList();
+    }
+
+    private RoundReviewer toRoundReviewer(String reviewerGithubId) {
+        if (states.get(reviewerGithubId).isReviewed()) {
+            return RoundReviewer.reviewed(pullRequestRoundId, reviewerGithubId);
+        }
+
+        return RoundReviewer.requested(pullRequestRoundId, reviewerGithubId);
+    }
+}
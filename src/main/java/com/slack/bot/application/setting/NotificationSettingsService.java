@@ -3,9 +3,14 @@ package com.slack.bot.application.setting;
 import com.slack.bot.application.setting.dto.request.UpdateNotificationSettingsRequest;
 import com.slack.bot.application.setting.dto.response.NotificationSettingsResponse;
 import com.slack.bot.application.setting.strategy.NotificationSettingsUpdater;
+import com.slack.bot.application.worker.PollingHintEvent;
+import com.slack.bot.application.worker.PollingHintPublisher;
+import com.slack.bot.application.worker.PollingHintTarget;
 import com.slack.bot.domain.setting.NotificationSettings;
 import com.slack.bot.domain.setting.repository.NotificationSettingsRepository;
+import com.slack.bot.infrastructure.setting.cache.NotificationSettingsCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +20,8 @@ public class NotificationSettingsService {
 
     private final NotificationSettingsUpdater notificationSettingsUpdater;
     private final NotificationSettingsRepository notificationSettingsRepository;
+    private final NotificationSettingsCache notificationSettingsCache;
+    private final PollingHintPublisher pollingHintPublisher;
 
     @Transactional
     public NotificationSettingsResponse findSettings(Long projectMemberId) {
@@ -31,9 +38,18 @@ public class NotificationSettingsService {
         NotificationSettings settings = findOrCreateSettingsEntity(projectMemberId);
 
         notificationSettingsUpdater.update(settings, request);
+        notificationSettingsCache.evictProjectMember(projectMemberId);
+        pollingHintPublisher.publish(PollingHintTarget.NOTIFICATION_SETTINGS);
         return NotificationSettingsResponse.from(settings);
     }
 
+    @EventListener
+    public void evictCachedSettings(PollingHintEvent pollingHintEvent) {
+        if (pollingHintEvent.target() == PollingHintTarget.NOTIFICATION_SETTINGS) {
+            notificationSettingsCache.evictAll();
+        }
+    }
+
     private NotificationSettings findOrCreateSettingsEntity(Long projectMemberId) {
         return notificationSettingsRepository.findByProjectMemberId(projectMemberId)
                      .orElseGet(() -> {
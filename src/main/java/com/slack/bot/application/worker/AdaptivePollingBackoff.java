@@ -2,12 +2,14 @@ package com.slack.bot.application.worker;
 
 import java.time.Duration;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class AdaptivePollingBackoff {
 
     private final long baseDelayMs;
     private final long capDelayMs;
     private final RandomSource randomSource;
+    private final ReentrantLock ownershipLock = new ReentrantLock();
 
     private long nextUpperBoundMs;
     private int consecutiveEmptyPolls;
@@ -53,7 +55,8 @@ public class AdaptivePollingBackoff {
 
     void releaseOwnership() {
         Thread currentThread = Thread.currentThread();
-        synchronized (this) {
+        ownershipLock.lock();
+        try {
             if (ownerThread == null) {
                 return;
             }
@@ -62,6 +65,8 @@ public class AdaptivePollingBackoff {
             }
 
             ownerThread = null;
+        } finally {
+            ownershipLock.unlock();
         }
     }
 
@@ -113,7 +118,8 @@ public class AdaptivePollingBackoff {
     private void claimOwnership() {
         Thread currentThread = Thread.currentThread();
 
-        synchronized (this) {
+        ownershipLock.lock();
+        try {
             if (ownerThread == null) {
                 ownerThread = currentThread;
                 return;
@@ -121,6 +127,8 @@ public class AdaptivePollingBackoff {
             if (ownerThread != currentThread) {
                 throw new IllegalStateException("AdaptivePollingBackoff는 단일 poller 스레드에서만 접근할 수 있습니다.");
             }
+        } finally {
+            ownershipLock.unlock();
         }
     }
 
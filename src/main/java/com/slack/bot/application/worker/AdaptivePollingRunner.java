@@ -1,6 +1,8 @@
 package com.slack.bot.application.worker;
 
 import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.IntSupplier;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.SmartLifecycle;
@@ -334,23 +336,18 @@ public class AdaptivePollingRunner implements SmartLifecycle {
 
     static final class MonitorPollingSleeper implements PollingSleeper {
 
-        private final Object monitor = new Object();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition wakeUpCondition = lock.newCondition();
         private boolean wakeUpRequested;
 
         @Override
         public PollingSleepResult sleep(Duration delay) throws InterruptedException {
-            long remainingMillis = delay.toMillis();
-            long deadlineMillis = System.currentTimeMillis() + remainingMillis;
+            long remainingNanos = delay.toNanos();
 
-            synchronized (monitor) {
-                if (wakeUpRequested) {
-                    wakeUpRequested = false;
-                    return PollingSleepResult.WOKEN_UP;
-                }
-
-                while (!wakeUpRequested && remainingMillis > 0L) {
-                    monitor.wait(remainingMillis);
-                    remainingMillis = deadlineMillis - System.currentTimeMillis();
+            lock.lockInterruptibly();
+            try {
+                while (!wakeUpRequested && remainingNanos > 0L) {
+                    remainingNanos = wakeUpCondition.awaitNanos(remainingNanos);
                 }
 
                 if (wakeUpRequested) {
@@ -359,14 +356,19 @@ public class AdaptivePollingRunner implements SmartLifecycle {
                 }
 
                 return PollingSleepResult.COMPLETED;
+            } finally {
+                lock.unlock();
             }
         }
 
         @Override
         public void wakeUp() {
-            synchronized (monitor) {
+            lock.lock();
+            try {
                 wakeUpRequested = true;
-                monitor.notifyAll();
+                wakeUpCondition.signalAll();
+            } finally {
+                lock.unlock();
             }
         }
     }
@@ -0,0 +1,73 @@
+package com.slack.bot.application.worker;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+public class BoundedDispatchExecutor implements Executor {
+
+    private final String executorName;
+    private final int concurrency;
+
+    private volatile ExecutorService delegate;
+
+    public BoundedDispatchExecutor(String executorName, int concurrency) {
+        if (executorName == null || executorName.isBlank()) {
+            throw new IllegalArgumentException("executorName은 비어 있을 수 없습니다.");
+        }
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency는 0보다 커야 합니다.");
+        }
+
+        this.executorName = executorName;
+        this.concurrency = concurrency;
+    }
+
+    public synchronized void start() {
+        if (delegate != null) {
+            return;
+        }
+
+        delegate = Executors.newFixedThreadPool(
+                concurrency,
+                Thread.ofVirtual()
+                      .name(buildThreadNamePrefix(), 0L)
+                      .factory()
+        );
+    }
+
+    public void stop() {
+        ExecutorService executorToStop;
+        synchronized (this) {
+            executorToStop = delegate;
+            delegate = null;
+        }
+        if (executorToStop != null) {
+            executorToStop.shutdown();
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        ExecutorService currentDelegate = delegate;
+        if (currentDelegate == null) {
+            command.run();
+            return;
+        }
+
+        try {
+            currentDelegate.execute(command);
+        } catch (RejectedExecutionException e) {
+            command.run();
+        }
+    }
+
+    public boolean isRunning() {
+        return delegate != null;
+    }
+
+    private String buildThreadNamePrefix() {
+        return "dispatch-" + executorName.replace(' ', '-').replace('_', '-') + "-";
+    }
+}
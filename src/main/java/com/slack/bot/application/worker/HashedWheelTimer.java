@@ -0,0 +1,357 @@
+package com.slack.bot.application.worker;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class HashedWheelTimer {
+
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+    private final String timerName;
+    private final long tickNanos;
+    private final int mask;
+    private final WheelBucket[] wheel;
+    private final Executor taskExecutor;
+    private final long startNanos = System.nanoTime();
+    private final Queue<WheelTimeout> scheduledTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private volatile boolean running;
+    private Thread tickerThread;
+
+    public HashedWheelTimer(String timerName, Duration tickDuration, int ticksPerWheel, Executor taskExecutor) {
+        if (timerName == null || timerName.isBlank()) {
+            throw new IllegalArgumentException("timerName은 비어 있을 수 없습니다.");
+        }
+        if (tickDuration == null || tickDuration.toMillis() <= 0L) {
+            throw new IllegalArgumentException("tickDuration은 1ms 이상이어야 합니다.");
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > (1 << 20)) {
+            throw new IllegalArgumentException("ticksPerWheel은 1 이상 1048576 이하여야 합니다.");
+        }
+        if (taskExecutor == null) {
+            throw new IllegalArgumentException("taskExecutor는 null일 수 없습니다.");
+        }
+
+        int wheelSize = normalizeWheelSize(ticksPerWheel);
+
+        this.timerName = timerName;
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = wheelSize - 1;
+        this.wheel = createWheel(wheelSize);
+        this.taskExecutor = taskExecutor;
+    }
+
+    public WheelTimeout schedule(Runnable task, Duration delay) {
+        if (task == null) {
+            throw new IllegalArgumentException("task는 null일 수 없습니다.");
+        }
+        if (delay == null || delay.isNegative()) {
+            throw new IllegalArgumentException("delay는 0 이상이어야 합니다.");
+        }
+
+        ensureStarted();
+
+        long deadlineNanos = System.nanoTime() - startNanos + delay.toNanos();
+        WheelTimeout timeout = new WheelTimeout(this, task, deadlineNanos);
+
+        pendingCount.incrementAndGet();
+        scheduledTimeouts.add(timeout);
+        return timeout;
+    }
+
+    public void stop() {
+        Thread threadToJoin;
+        synchronized (this) {
+            running = false;
+            threadToJoin = tickerThread;
+            tickerThread = null;
+        }
+        if (threadToJoin != null && threadToJoin != Thread.currentThread()) {
+            threadToJoin.interrupt();
+            joinUninterruptibly(threadToJoin);
+        }
+
+        synchronized (this) {
+            if (running) {
+                return;
+            }
+
+            cancelUnprocessedTimeouts();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int pendingCount() {
+        return pendingCount.get();
+    }
+
+    private synchronized void ensureStarted() {
+        if (running) {
+            return;
+        }
+
+        running = true;
+        tickerThread = new Thread(this::runLoop, buildThreadName());
+        tickerThread.setDaemon(true);
+        tickerThread.start();
+    }
+
+    private void runLoop() {
+        long tick = (System.nanoTime() - startNanos) / tickNanos;
+
+        while (running) {
+            long elapsedNanos = waitForNextTick(tick);
+            if (elapsedNanos < 0L) {
+                return;
+            }
+
+            removeCancelledTimeouts();
+            transferScheduledTimeouts(tick);
+            wheel[(int) (tick & mask)].expireTimeouts(elapsedNanos);
+            tick++;
+        }
+    }
+
+    private long waitForNextTick(long tick) {
+        long tickDeadlineNanos = tickNanos * (tick + 1);
+
+        while (true) {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long sleepMillis = (tickDeadlineNanos - elapsedNanos + 999_999L) / 1_000_000L;
+            if (sleepMillis <= 0L) {
+                return elapsedNanos;
+            }
+
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return -1L;
+                }
+            }
+        }
+    }
+
+    private void transferScheduledTimeouts(long tick) {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            WheelTimeout timeout = scheduledTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+
+            long calculatedTick = timeout.deadlineNanos / tickNanos;
+            long targetTick = Math.max(calculatedTick, tick);
+
+            timeout.remainingRounds = (calculatedTick - tick) / wheel.length;
+            wheel[(int) (targetTick & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        WheelTimeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            timeout.removeFromBucket();
+        }
+    }
+
+    private void cancelUnprocessedTimeouts() {
+        WheelTimeout timeout;
+        while ((timeout = scheduledTimeouts.poll()) != null) {
+            timeout.cancel();
+        }
+        for (WheelBucket bucket : wheel) {
+            bucket.cancelAll();
+        }
+        cancelledTimeouts.clear();
+    }
+
+    private void execute(WheelTimeout timeout) {
+        try {
+            taskExecutor.execute(() -> runSafely(timeout.task));
+        } catch (RejectedExecutionException e) {
+            log.warn("{} 만료 작업 실행이 거절되었습니다.", timerName, e);
+        }
+    }
+
+    private void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("{} 만료 작업 실행에 실패했습니다.", timerName, e);
+        }
+    }
+
+    private void joinUninterruptibly(Thread threadToJoin) {
+        boolean interrupted = false;
+
+        while (threadToJoin.isAlive()) {
+            try {
+                threadToJoin.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String buildThreadName() {
+        return "wheel-timer-" + timerName.replace(' ', '-').replace('_', '-');
+    }
+
+    private static int normalizeWheelSize(int ticksPerWheel) {
+        int wheelSize = 1;
+        while (wheelSize < ticksPerWheel) {
+            wheelSize <<= 1;
+        }
+        return wheelSize;
+    }
+
+    private static WheelBucket[] createWheel(int wheelSize) {
+        WheelBucket[] wheel = new WheelBucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new WheelBucket();
+        }
+        return wheel;
+    }
+
+    public static final class WheelTimeout {
+
+        private static final int STATE_PENDING = 0;
+        private static final int STATE_CANCELLED = 1;
+        private static final int STATE_EXPIRED = 2;
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final AtomicInteger state = new AtomicInteger(STATE_PENDING);
+
+        private long remainingRounds;
+        private WheelBucket bucket;
+        private WheelTimeout next;
+        private WheelTimeout prev;
+
+        private WheelTimeout(HashedWheelTimer timer, Runnable task, long deadlineNanos) {
+            this.timer = timer;
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public boolean cancel() {
+            if (!state.compareAndSet(STATE_PENDING, STATE_CANCELLED)) {
+                return false;
+            }
+
+            timer.pendingCount.decrementAndGet();
+            timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == STATE_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == STATE_EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(STATE_PENDING, STATE_EXPIRED)) {
+                return;
+            }
+
+            timer.pendingCount.decrementAndGet();
+            timer.execute(this);
+        }
+
+        private void removeFromBucket() {
+            if (bucket != null) {
+                bucket.remove(this);
+            }
+        }
+    }
+
+    private static final class WheelBucket {
+
+        private WheelTimeout head;
+        private WheelTimeout tail;
+
+        private void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = timeout;
+                tail = timeout;
+                return;
+            }
+
+            tail.next = timeout;
+            timeout.prev = tail;
+            tail = timeout;
+        }
+
+        private void expireTimeouts(long elapsedNanos) {
+            WheelTimeout timeout = head;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0L && timeout.deadlineNanos <= elapsedNanos) {
+                    remove(timeout);
+                    timeout.expire();
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void cancelAll() {
+            WheelTimeout timeout = head;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                remove(timeout);
+                timeout.cancel();
+                timeout = next;
+            }
+        }
+
+        private void remove(WheelTimeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+
+            WheelTimeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
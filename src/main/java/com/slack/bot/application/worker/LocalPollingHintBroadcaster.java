@@ -0,0 +1,8 @@
+package com.slack.bot.application.worker;
+
+public class LocalPollingHintBroadcaster implements PollingHintBroadcaster {
+
+    @Override
+    public void broadcast(PollingHintTarget target) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.slack.bot.application.worker;
+
+public interface PollingHintBroadcaster {
+
+    void broadcast(PollingHintTarget target);
+}
@@ -3,14 +3,49 @@ package com.slack.bot.application.worker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Component
 @RequiredArgsConstructor
 public class PollingHintPublisher {
 
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final PollingHintBroadcaster pollingHintBroadcaster;
 
     public void publish(PollingHintTarget target) {
+        if (!isTransactionActive()) {
+            publishNow(target);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new AfterCommitPublication(target));
+    }
+
+    private void publishNow(PollingHintTarget target) {
         applicationEventPublisher.publishEvent(new PollingHintEvent(target));
+        pollingHintBroadcaster.broadcast(target);
+    }
+
+    private boolean isTransactionActive() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+
+        return TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private final class AfterCommitPublication implements TransactionSynchronization {
+
+        private final PollingHintTarget target;
+
+        private AfterCommitPublication(PollingHintTarget target) {
+            this.target = target;
+        }
+
+        @Override
+        public void afterCommit() {
+            publishNow(target);
+        }
     }
 }
@@ -5,5 +5,8 @@ public enum PollingHintTarget {
     VIEW_SUBMISSION_INBOX,
     INTERACTION_OUTBOX,
     REVIEW_REQUEST_INBOX,
-    REVIEW_NOTIFICATION_OUTBOX
+    REVIEW_NOTIFICATION_OUTBOX,
+    REVIEW_REMINDER,
+    NOTIFICATION_SETTINGS,
+    WORKSPACE_ACCESS_TOKEN
 }
@@ -0,0 +1,19 @@
+package com.slack.bot.domain.member.dto;
+
+import com.slack.bot.domain.member.ProjectMember;
+
+public record ProjectMemberMentionDto(String teamId, String githubId, String slackUserId, String displayName) {
+
+    public static ProjectMemberMentionDto from(ProjectMember projectMember) {
+        return new ProjectMemberMentionDto(
+                projectMember.getTeamId(),
+                projectMember.getGithubId().getValue(),
+                projectMember.getSlackUserId(),
+                projectMember.getDisplayName()
+        );
+    }
+
+    public String mention() {
+        return "<@" + slackUserId + ">";
+    }
+}
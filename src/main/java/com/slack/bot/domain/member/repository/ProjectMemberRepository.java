@@ -1,6 +1,8 @@
 package com.slack.bot.domain.member.repository;
 
 import com.slack.bot.domain.member.ProjectMember;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProjectMemberRepository {
@@ -10,4 +12,6 @@ public interface ProjectMemberRepository {
     Optional<ProjectMember> findBySlackUser(String teamId, String slackUserId);
 
     Optional<ProjectMember> findByGithubUser(String teamId, String githubId);
+
+    List<ProjectMember> findByGithubUsers(String teamId, Collection<String> githubIds);
 }
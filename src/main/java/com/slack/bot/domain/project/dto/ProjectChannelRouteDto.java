@@ -0,0 +1,18 @@
+package com.slack.bot.domain.project.dto;
+
+public record ProjectChannelRouteDto(Long projectId, String teamId, String accessToken, String channelId) {
+
+    public ProjectChannelRouteDto {
+        if (projectId == null) {
+            throw new IllegalArgumentException("프로젝트 ID는 비어 있을 수 없습니다.");
+        }
+    }
+
+    public boolean hasWorkspace() {
+        return teamId != null && accessToken != null;
+    }
+
+    public boolean hasChannel() {
+        return channelId != null;
+    }
+}
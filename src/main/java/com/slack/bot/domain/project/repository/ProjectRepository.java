@@ -1,6 +1,7 @@
 package com.slack.bot.domain.project.repository;
 
 import com.slack.bot.domain.project.Project;
+import com.slack.bot.domain.project.dto.ProjectChannelRouteDto;
 import java.util.Optional;
 
 public interface ProjectRepository {
@@ -9,5 +10,7 @@ public interface ProjectRepository {
 
     Optional<Long> findIdByApiKey(String apiKey);
 
+    Optional<ProjectChannelRouteDto> findChannelRouteByApiKey(String apiKey);
+
     boolean existsById(Long projectId);
 }
@@ -1,6 +1,9 @@
 package com.slack.bot.domain.reservation.repository;
 
 import com.slack.bot.domain.reservation.ReviewReminder;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReviewReminderRepository {
@@ -10,4 +13,8 @@ public interface ReviewReminderRepository {
     Optional<ReviewReminder> findByReservationId(Long reservationId);
 
     void deleteByReservationId(Long reservationId);
+
+    List<ReviewReminder> claimDue(Instant dueAt, Instant leaseExpiredBefore, int claimLimit);
+
+    int markFiredAll(Collection<Long> reminderIds, Instant firedAt);
 }
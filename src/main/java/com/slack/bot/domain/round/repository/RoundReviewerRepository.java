@@ -1,6 +1,7 @@
 package com.slack.bot.domain.round.repository;
 
 import com.slack.bot.domain.round.RoundReviewer;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,7 +11,11 @@ public interface RoundReviewerRepository {
 
     List<RoundReviewer> findAllInRound(Long pullRequestRoundId);
 
+    List<RoundReviewer> findAllInRounds(Collection<Long> pullRequestRoundIds);
+
     RoundReviewer save(RoundReviewer roundReviewer);
 
+    void upsertAll(List<RoundReviewer> roundReviewers);
+
     List<RoundReviewer> findAll();
 }
@@ -0,0 +1,32 @@
+package com.slack.bot.domain.setting.dto;
+
+import com.slack.bot.domain.setting.NotificationSettings;
+import com.slack.bot.domain.setting.vo.OptionalNotifications;
+
+public record NotificationSettingsSnapshotDto(
+        Long projectMemberId,
+        boolean directMessageEnabled,
+        boolean reservationChannelEphemeralEnabled,
+        boolean reviewReminderEnabled
+) {
+
+    public NotificationSettingsSnapshotDto {
+        if (projectMemberId == null) {
+            throw new IllegalArgumentException("프로젝트 멤버의 식별자는 비어 있을 수 없습니다.");
+        }
+    }
+
+    public static NotificationSettingsSnapshotDto from(NotificationSettings notificationSettings) {
+        OptionalNotifications optionalNotifications = notificationSettings.getOptionalNotifications();
+        if (optionalNotifications == null) {
+            optionalNotifications = OptionalNotifications.defaults();
+        }
+
+        return new NotificationSettingsSnapshotDto(
+                notificationSettings.getProjectMemberId(),
+                notificationSettings.isDirectMessageEnabled(),
+                optionalNotifications.isReservationChannelEphemeralEnabled(),
+                optionalNotifications.isReviewReminderEnabled()
+        );
+    }
+}
@@ -1,6 +1,8 @@
 package com.slack.bot.domain.setting.repository;
 
 import com.slack.bot.domain.setting.NotificationSettings;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public interface NotificationSettingsRepository {
@@ -9,6 +11,8 @@ public interface NotificationSettingsRepository {
 
     Optional<NotificationSettings> findBySlackUser(String teamId, String slackUserId);
 
+    Map<String, NotificationSettings> findAllBySlackUsers(String teamId, Collection<String> slackUserIds);
+
     NotificationSettings save(NotificationSettings notificationSettings);
 
     NotificationSettings saveOrFindOnDuplicate(NotificationSettings notificationSettings);
@@ -2,6 +2,7 @@ package com.slack.bot.global.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.slack.bot.application.box.cleanup.BoxCleanupReplicationLagProbe;
 import com.slack.bot.application.command.AccessLinker;
 import com.slack.bot.application.command.MemberConnector;
 import com.slack.bot.application.command.ProjectMemberReader;
@@ -17,19 +18,40 @@ import com.slack.bot.application.interaction.block.handler.ClaimMappingActionHan
 import com.slack.bot.application.interaction.block.handler.OpenReviewSchedulerActionHandler;
 import com.slack.bot.application.interaction.block.handler.StartReviewActionHandler;
 import com.slack.bot.application.setting.strategy.NotificationSettingsUpdater;
+import com.slack.bot.domain.member.repository.ProjectMemberRepository;
+import com.slack.bot.domain.project.repository.ProjectRepository;
+import com.slack.bot.domain.setting.repository.NotificationSettingsRepository;
+import com.slack.bot.domain.workspace.repository.WorkspaceRepository;
 import com.slack.bot.global.config.properties.AccessLinkKeyProperties;
 import com.slack.bot.global.config.properties.AppProperties;
 import com.slack.bot.global.config.properties.BoxCleanupProperties;
+import com.slack.bot.global.config.properties.BoxHistoryPartitionProperties;
 import com.slack.bot.global.config.properties.ClaimMappingMessageProperties;
 import com.slack.bot.global.config.properties.CommandMessageProperties;
+import com.slack.bot.global.config.properties.DirectMessageChannelCacheProperties;
 import com.slack.bot.global.config.properties.EventMessageProperties;
+import com.slack.bot.global.config.properties.ModalOpenBudgetProperties;
+import com.slack.bot.global.config.properties.NotificationSettingsCacheProperties;
+import com.slack.bot.global.config.properties.ProjectChannelRouteCacheProperties;
+import com.slack.bot.global.config.properties.ProjectMemberDirectoryCacheProperties;
 import com.slack.bot.global.config.properties.ReviewWorkerProperties;
 import com.slack.bot.global.config.properties.ReviewReminderMessageProperties;
 import com.slack.bot.global.config.properties.ReviewReservationTimeOptionsProperties;
+import com.slack.bot.global.config.properties.SlackApiRateLimitProperties;
 import com.slack.bot.global.config.properties.SlackEventAsyncProperties;
+import com.slack.bot.global.config.properties.SlackHttpTransportProperties;
 import com.slack.bot.global.config.properties.SlackProperties;
+import com.slack.bot.global.config.properties.WorkspaceTokenCacheProperties;
+import com.slack.bot.infrastructure.common.http.SlackHttpTransport;
+import com.slack.bot.infrastructure.interaction.client.SlackApiRateLimiter;
+import com.slack.bot.infrastructure.interaction.dm.cache.DirectMessageChannelCache;
+import com.slack.bot.infrastructure.interaction.dm.repository.DirectMessageChannelRepository;
+import com.slack.bot.infrastructure.member.cache.ProjectMemberDirectoryCache;
+import com.slack.bot.infrastructure.project.cache.ProjectChannelRouteCache;
+import com.slack.bot.infrastructure.setting.cache.NotificationSettingsCache;
+import com.slack.bot.infrastructure.workspace.cache.WorkspaceAccessTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Clock;
-import java.time.Duration;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.EnumMap;
@@ -39,7 +61,6 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestClient;
@@ -48,28 +69,120 @@ import org.springframework.web.client.RestClient;
 @EnableScheduling
 @EnableConfigurationProperties({
         SlackProperties.class, AccessLinkKeyProperties.class, CommandMessageProperties.class, AppProperties.class,
-        BoxCleanupProperties.class,
+        BoxCleanupProperties.class, BoxHistoryPartitionProperties.class, SlackApiRateLimitProperties.class,
         SlackEventAsyncProperties.class, EventMessageProperties.class, ReviewReminderMessageProperties.class,
-        ReviewReservationTimeOptionsProperties.class, ClaimMappingMessageProperties.class, ReviewWorkerProperties.class
+        ReviewReservationTimeOptionsProperties.class, ClaimMappingMessageProperties.class, ReviewWorkerProperties.class,
+        WorkspaceTokenCacheProperties.class, ProjectChannelRouteCacheProperties.class,
+        ProjectMemberDirectoryCacheProperties.class, DirectMessageChannelCacheProperties.class,
+        SlackHttpTransportProperties.class, ModalOpenBudgetProperties.class,
+        NotificationSettingsCacheProperties.class
 })
 public class AppConfig {
 
     private static final String DATE_TIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss";
 
     @Bean
-    public RestClient.Builder slackRestClientBuilder() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+    public SlackHttpTransport slackHttpTransport(
+            MeterRegistry meterRegistry,
+            SlackHttpTransportProperties slackHttpTransportProperties
+    ) {
+        return new SlackHttpTransport(meterRegistry, slackHttpTransportProperties);
+    }
 
-        factory.setConnectTimeout(Duration.ofSeconds(1L));
-        factory.setReadTimeout(Duration.ofSeconds(3L));
+    @Bean
+    public RestClient.Builder slackRestClientBuilder(SlackHttpTransport slackHttpTransport) {
         return RestClient.builder()
-                         .requestFactory(factory)
+                         .requestFactory(slackHttpTransport.requestFactory())
+                         .requestInterceptor(slackHttpTransport)
                          .baseUrl("https://slack.com/api/");
     }
 
     @Bean
-    public RestClient slackClient() {
-        return slackRestClientBuilder().build();
+    public RestClient slackClient(RestClient.Builder slackRestClientBuilder) {
+        return slackRestClientBuilder.build();
+    }
+
+    @Bean
+    public SlackApiRateLimiter slackApiRateLimiter(
+            MeterRegistry meterRegistry,
+            SlackApiRateLimitProperties slackApiRateLimitProperties
+    ) {
+        return new SlackApiRateLimiter(Clock.systemUTC(), meterRegistry, slackApiRateLimitProperties);
+    }
+
+    @Bean
+    public WorkspaceAccessTokenCache workspaceAccessTokenCache(
+            MeterRegistry meterRegistry,
+            WorkspaceTokenCacheProperties workspaceTokenCacheProperties,
+            WorkspaceRepository workspaceRepository
+    ) {
+        return new WorkspaceAccessTokenCache(
+                Clock.systemUTC(),
+                meterRegistry,
+                workspaceTokenCacheProperties,
+                workspaceRepository
+        );
+    }
+
+    @Bean
+    public ProjectChannelRouteCache projectChannelRouteCache(
+            MeterRegistry meterRegistry,
+            ProjectChannelRouteCacheProperties projectChannelRouteCacheProperties,
+            ProjectRepository projectRepository
+    ) {
+        return new ProjectChannelRouteCache(
+                Clock.systemUTC(),
+                meterRegistry,
+                projectChannelRouteCacheProperties,
+                projectRepository
+        );
+    }
+
+    @Bean
+    public ProjectMemberDirectoryCache projectMemberDirectoryCache(
+            MeterRegistry meterRegistry,
+            ProjectMemberDirectoryCacheProperties projectMemberDirectoryCacheProperties,
+            ProjectMemberRepository projectMemberRepository
+    ) {
+        return new ProjectMemberDirectoryCache(
+                Clock.systemUTC(),
+                meterRegistry,
+                projectMemberDirectoryCacheProperties,
+                projectMemberRepository
+        );
+    }
+
+    @Bean
+    public DirectMessageChannelCache directMessageChannelCache(
+            MeterRegistry meterRegistry,
+            DirectMessageChannelCacheProperties directMessageChannelCacheProperties,
+            DirectMessageChannelRepository directMessageChannelRepository
+    ) {
+        return new DirectMessageChannelCache(
+                Clock.systemUTC(),
+                meterRegistry,
+                directMessageChannelCacheProperties,
+                directMessageChannelRepository
+        );
+    }
+
+    @Bean
+    public NotificationSettingsCache notificationSettingsCache(
+            MeterRegistry meterRegistry,
+            NotificationSettingsCacheProperties notificationSettingsCacheProperties,
+            NotificationSettingsRepository notificationSettingsRepository
+    ) {
+        return new NotificationSettingsCache(
+                Clock.systemUTC(),
+                meterRegistry,
+                notificationSettingsCacheProperties,
+                notificationSettingsRepository
+        );
+    }
+
+    @Bean
+    public BoxCleanupReplicationLagProbe boxCleanupReplicationLagProbe() {
+        return BoxCleanupReplicationLagProbe.NONE;
     }
 
     @Bean
@@ -1,14 +1,22 @@
 package com.slack.bot.global.config;
 
+import com.slack.bot.application.worker.HashedWheelTimer;
+import com.slack.bot.global.config.properties.ModalOpenBudgetProperties;
 import com.slack.bot.global.config.properties.ReviewInteractionAsyncProperties;
 import com.slack.bot.global.config.properties.SlackEventAsyncProperties;
+import java.time.Duration;
+import java.time.Instant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -27,26 +35,84 @@ public class AsyncConfig implements AsyncConfigurer {
     private final ReviewInteractionAsyncProperties reviewInteractionAsyncProperties;
 
     @Bean(name = "slackEventExecutor")
-    public TaskExecutor slackEventExecutor() {
+    public TaskExecutor slackEventExecutor(Environment environment) {
+        return createTaskExecutor(
+                Threading.VIRTUAL.isActive(environment),
+                slackEventAsyncProperties.corePoolSize(),
+                slackEventAsyncProperties.maxPoolSize(),
+                slackEventAsyncProperties.threadNamePrefix(),
+                slackEventAsyncProperties.queueCapacity(),
+                slackEventAsyncProperties.virtualConcurrencyLimit()
+        );
+    }
+
+    @Bean(name = "reviewInteractionExecutor")
+    public TaskExecutor reviewInteractionExecutor(Environment environment) {
+        return createTaskExecutor(
+                Threading.VIRTUAL.isActive(environment),
+                reviewInteractionAsyncProperties.corePoolSize(),
+                reviewInteractionAsyncProperties.maxPoolSize(),
+                reviewInteractionAsyncProperties.threadNamePrefix(),
+                reviewInteractionAsyncProperties.queueCapacity(),
+                reviewInteractionAsyncProperties.virtualConcurrencyLimit()
+        );
+    }
+
+    @Bean(name = "reviewSchedulerLookupExecutor")
+    public TaskExecutor reviewSchedulerLookupExecutor(
+            Environment environment,
+            ModalOpenBudgetProperties modalOpenBudgetProperties
+    ) {
+        int lookupPoolSize = modalOpenBudgetProperties.lookupPoolSize();
+
+        return createTaskExecutor(
+                Threading.VIRTUAL.isActive(environment),
+                lookupPoolSize,
+                lookupPoolSize,
+                "review-scheduler-lookup-",
+                0,
+                lookupPoolSize
+        );
+    }
+
+    @Bean(name = "reviewEventBatchTimer", destroyMethod = "stop")
+    public HashedWheelTimer reviewEventBatchTimer(TaskScheduler taskScheduler) {
+        return new HashedWheelTimer(
+                "review event batch",
+                Duration.ofMillis(100L),
+                512,
+                task -> taskScheduler.schedule(task, Instant.now())
+        );
+    }
+
+    static TaskExecutor createTaskExecutor(
+            boolean virtualThreads,
+            int corePoolSize,
+            int maxPoolSize,
+            String threadNamePrefix,
+            int queueCapacity,
+            int virtualConcurrencyLimit
+    ) {
+        if (virtualThreads) {
+            return createVirtualThreadExecutor(threadNamePrefix, virtualConcurrencyLimit);
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
-        executor.setCorePoolSize(slackEventAsyncProperties.corePoolSize());
-        executor.setMaxPoolSize(slackEventAsyncProperties.maxPoolSize());
-        executor.setThreadNamePrefix(slackEventAsyncProperties.threadNamePrefix());
-        executor.setQueueCapacity(slackEventAsyncProperties.queueCapacity());
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setQueueCapacity(queueCapacity);
         executor.initialize();
         return executor;
     }
 
-    @Bean(name = "reviewInteractionExecutor")
-    public TaskExecutor reviewInteractionExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    private static TaskExecutor createVirtualThreadExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
 
-        executor.setCorePoolSize(reviewInteractionAsyncProperties.corePoolSize());
-        executor.setMaxPoolSize(reviewInteractionAsyncProperties.maxPoolSize());
-        executor.setThreadNamePrefix(reviewInteractionAsyncProperties.threadNamePrefix());
-        executor.setQueueCapacity(reviewInteractionAsyncProperties.queueCapacity());
-        executor.initialize();
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setRejectTasksWhenLimitReached(true);
         return executor;
     }
 
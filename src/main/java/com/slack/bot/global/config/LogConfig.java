@@ -7,6 +7,7 @@ import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.filter.ThresholdFilter;
 import com.slack.bot.global.log.SlackAppender;
+import com.slack.bot.infrastructure.common.http.SlackHttpTransport;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.format.DateTimeFormatter;
@@ -16,7 +17,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 @Profile("slack-error-logging")
@@ -26,15 +26,14 @@ public class LogConfig {
     private static final String SLACK_APPENDER_NAME = "SLACK_APPENDER";
     private static final String ASYNC_SLACK_APPENDER_NAME = "ASYNC_SLACK_APPENDER";
     private static final String DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm:ss";
+    private static final Duration WEBHOOK_CONNECT_TIMEOUT = Duration.ofSeconds(3L);
+    private static final Duration WEBHOOK_READ_TIMEOUT = Duration.ofSeconds(5L);
 
     @Bean
-    public RestClient slackWebhookRestClient() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(Duration.ofSeconds(3));
-        factory.setReadTimeout(Duration.ofSeconds(5));
-
+    public RestClient slackWebhookRestClient(SlackHttpTransport slackHttpTransport) {
         return RestClient.builder()
-                         .requestFactory(factory)
+                         .requestFactory(slackHttpTransport.requestFactory(WEBHOOK_CONNECT_TIMEOUT, WEBHOOK_READ_TIMEOUT))
+                         .requestInterceptor(slackHttpTransport)
                          .build();
     }
 
@@ -22,7 +22,9 @@ public class OutboxWorkerConfig {
         return new SlackNotificationOutboxWorker(
                 slackNotificationOutboxProcessor,
                 interactionWorkerProperties.outbox().pollDelayMs(),
-                interactionWorkerProperties.outbox().pollCapMs()
+                interactionWorkerProperties.outbox().pollCapMs(),
+                interactionWorkerProperties.outbox().dispatchConcurrency(),
+                true
         );
     }
 
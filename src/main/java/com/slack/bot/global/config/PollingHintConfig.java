@@ -0,0 +1,42 @@
+package com.slack.bot.global.config;
+
+import com.slack.bot.application.worker.LocalPollingHintBroadcaster;
+import com.slack.bot.application.worker.PollingHintBroadcaster;
+import com.slack.bot.global.config.properties.PollingHintProperties;
+import com.slack.bot.infrastructure.worker.JdbcPollingHintBroadcaster;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@Configuration
+@EnableConfigurationProperties(PollingHintProperties.class)
+public class PollingHintConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.worker.polling-hint", name = "mode", havingValue = "jdbc")
+    public JdbcPollingHintBroadcaster jdbcPollingHintBroadcaster(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            ApplicationEventPublisher applicationEventPublisher,
+            PollingHintProperties pollingHintProperties
+    ) {
+        return new JdbcPollingHintBroadcaster(
+                namedParameterJdbcTemplate,
+                applicationEventPublisher,
+                pollingHintProperties.syncIntervalMs()
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "app.worker.polling-hint",
+            name = "mode",
+            havingValue = "local",
+            matchIfMissing = true
+    )
+    public PollingHintBroadcaster localPollingHintBroadcaster() {
+        return new LocalPollingHintBroadcaster();
+    }
+}
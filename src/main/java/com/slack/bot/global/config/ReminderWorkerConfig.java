@@ -0,0 +1,28 @@
+package com.slack.bot.global.config;
+
+import com.slack.bot.application.interaction.reminder.ReviewReminderProcessor;
+import com.slack.bot.application.interaction.reminder.ReviewReminderWorker;
+import com.slack.bot.global.config.properties.ReviewReminderWorkerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ReviewReminderWorkerProperties.class)
+public class ReminderWorkerConfig {
+
+    @Bean
+    public ReviewReminderWorker reviewReminderWorker(
+            ReviewReminderProcessor reviewReminderProcessor,
+            ReviewReminderWorkerProperties reviewReminderWorkerProperties
+    ) {
+        return new ReviewReminderWorker(
+                reviewReminderProcessor,
+                reviewReminderWorkerProperties.batchSize(),
+                reviewReminderWorkerProperties.pollDelayMs(),
+                reviewReminderWorkerProperties.pollCapMs(),
+                reviewReminderWorkerProperties.dispatchConcurrency(),
+                true
+        );
+    }
+}
@@ -10,10 +10,13 @@ import com.nimbusds.jose.crypto.AESEncrypter;
 import com.nimbusds.jose.crypto.MACSigner;
 import com.nimbusds.jose.crypto.MACVerifier;
 import com.slack.bot.domain.auth.TokenDecoder;
+import com.slack.bot.global.config.properties.DecodedTokenCacheProperties;
 import com.slack.bot.global.config.properties.TokenProperties;
 import com.slack.bot.infrastructure.auth.jwt.JwsSignerFinder;
 import com.slack.bot.infrastructure.auth.jwt.JwsVerifierFinder;
 import com.slack.bot.infrastructure.auth.jwt.JwtDecoder;
+import com.slack.bot.infrastructure.auth.jwt.cache.DecodedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.util.Base64;
@@ -26,7 +29,7 @@ import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @RequiredArgsConstructor
-@EnableConfigurationProperties(TokenProperties.class)
+@EnableConfigurationProperties({TokenProperties.class, DecodedTokenCacheProperties.class})
 public class TokenConfig {
 
     private static final int KEY_LENGTH = 32;
@@ -37,8 +40,20 @@ public class TokenConfig {
     private final TokenProperties tokenProperties;
 
     @Bean
-    public TokenDecoder tokenDecoder(JWEDecrypter jweDecrypter, JwsVerifierFinder jwsVerifierFinder) {
-        return new JwtDecoder(clock, jweDecrypter, jwsVerifierFinder, tokenProperties);
+    public TokenDecoder tokenDecoder(
+            JWEDecrypter jweDecrypter,
+            JwsVerifierFinder jwsVerifierFinder,
+            DecodedTokenCache decodedTokenCache
+    ) {
+        return new JwtDecoder(clock, jweDecrypter, jwsVerifierFinder, tokenProperties, decodedTokenCache);
+    }
+
+    @Bean
+    public DecodedTokenCache decodedTokenCache(
+            MeterRegistry meterRegistry,
+            DecodedTokenCacheProperties decodedTokenCacheProperties
+    ) {
+        return new DecodedTokenCache(clock, meterRegistry, decodedTokenCacheProperties);
     }
 
     @Bean
@@ -1,6 +1,7 @@
 package com.slack.bot.global.config.properties;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "app.cleanup.box")
@@ -8,13 +9,25 @@ public record BoxCleanupProperties(
         @DefaultValue("false") boolean enabled,
         @DefaultValue("1800000") long fixedDelayMs,
         @DefaultValue("30") long retentionDays,
-        @DefaultValue("500") int deleteBatchSize
+        @DefaultValue("500") int deleteBatchSize,
+        @DefaultValue("600000") long maxRunDurationMs,
+        @DefaultValue("20") long minPauseMs,
+        @DefaultValue("5000") long maxPauseMs,
+        @DefaultValue("1.0") double pauseToLatencyRatio,
+        @DefaultValue("120000") long leaseTtlMs,
+        @DefaultValue("5000") long catchUpDelayMs,
+        @DefaultValue("1000") long maxReplicationLagMs
 ) {
 
     public BoxCleanupProperties() {
         this(false, 1_800_000L, 30L, 500);
     }
 
+    public BoxCleanupProperties(boolean enabled, long fixedDelayMs, long retentionDays, int deleteBatchSize) {
+        this(enabled, fixedDelayMs, retentionDays, deleteBatchSize, 600_000L, 20L, 5_000L, 1.0d, 120_000L, 5_000L, 1_000L);
+    }
+
+    @ConstructorBinding
     public BoxCleanupProperties {
         if (fixedDelayMs <= 0L) {
             throw new IllegalArgumentException("box.fixedDelayMs는 0보다 커야 합니다.");
@@ -25,5 +38,26 @@ public record BoxCleanupProperties(
         if (deleteBatchSize <= 0) {
             throw new IllegalArgumentException("box.deleteBatchSize는 0보다 커야 합니다.");
         }
+        if (maxRunDurationMs <= 0L) {
+            throw new IllegalArgumentException("box.maxRunDurationMs는 0보다 커야 합니다.");
+        }
+        if (minPauseMs < 0L) {
+            throw new IllegalArgumentException("box.minPauseMs는 0 이상이어야 합니다.");
+        }
+        if (maxPauseMs < minPauseMs) {
+            throw new IllegalArgumentException("box.maxPauseMs는 minPauseMs보다 크거나 같아야 합니다.");
+        }
+        if (pauseToLatencyRatio < 0.0d) {
+            throw new IllegalArgumentException("box.pauseToLatencyRatio는 0 이상이어야 합니다.");
+        }
+        if (leaseTtlMs <= maxPauseMs) {
+            throw new IllegalArgumentException("box.leaseTtlMs는 maxPauseMs보다 커야 합니다.");
+        }
+        if (catchUpDelayMs <= 0L || catchUpDelayMs > fixedDelayMs) {
+            throw new IllegalArgumentException("box.catchUpDelayMs는 0보다 크고 fixedDelayMs 이하여야 합니다.");
+        }
+        if (maxReplicationLagMs < 0L) {
+            throw new IllegalArgumentException("box.maxReplicationLagMs는 0 이상이어야 합니다.");
+        }
     }
 }
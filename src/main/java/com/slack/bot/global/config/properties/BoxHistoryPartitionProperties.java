@@ -0,0 +1,35 @@
+package com.slack.bot.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.cleanup.box.history-partition")
+public record BoxHistoryPartitionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("3600000") long fixedDelayMs,
+        @DefaultValue("3") int precreateMonths,
+        @DefaultValue("600000") long leaseTtlMs
+) {
+
+    public BoxHistoryPartitionProperties() {
+        this(false, 3_600_000L, 3);
+    }
+
+    public BoxHistoryPartitionProperties(boolean enabled, long fixedDelayMs, int precreateMonths) {
+        this(enabled, fixedDelayMs, precreateMonths, 600_000L);
+    }
+
+    @ConstructorBinding
+    public BoxHistoryPartitionProperties {
+        if (fixedDelayMs <= 0L) {
+            throw new IllegalArgumentException("historyPartition.fixedDelayMs는 0보다 커야 합니다.");
+        }
+        if (precreateMonths <= 0) {
+            throw new IllegalArgumentException("historyPartition.precreateMonths는 0보다 커야 합니다.");
+        }
+        if (leaseTtlMs <= 0L) {
+            throw new IllegalArgumentException("historyPartition.leaseTtlMs는 0보다 커야 합니다.");
+        }
+    }
+}
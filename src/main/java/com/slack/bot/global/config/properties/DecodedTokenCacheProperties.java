@@ -0,0 +1,26 @@
+package com.slack.bot.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.auth.decoded-token-cache")
+public record DecodedTokenCacheProperties(
+        @DefaultValue("300000") long ttlMs,
+        @DefaultValue("10000") int maximumSize
+) {
+
+    public DecodedTokenCacheProperties() {
+        this(300_000L, 10_000);
+    }
+
+    @ConstructorBinding
+    public DecodedTokenCacheProperties {
+        if (ttlMs <= 0L) {
+            throw new IllegalArgumentException("decodedTokenCache.ttlMs는 0보다 커야 합니다.");
+        }
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("decodedTokenCache.maximumSize는 0보다 커야 합니다.");
+        }
+    }
+}
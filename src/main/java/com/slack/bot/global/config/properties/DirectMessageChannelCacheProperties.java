@@ -0,0 +1,26 @@
+package com.slack.bot.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.slack.dm-channel-cache")
+public record DirectMessageChannelCacheProperties(
+        @DefaultValue("86400000") long ttlMs,
+        @DefaultValue("10000") int maximumSize
+) {
+
+    public DirectMessageChannelCacheProperties() {
+        this(86_400_000L, 10_000);
+    }
+
+    @ConstructorBinding
+    public DirectMessageChannelCacheProperties {
+        if (ttlMs <= 0L) {
+            throw new IllegalArgumentException("dmChannelCache.ttlMs는 0보다 커야 합니다.");
+        }
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("dmChannelCache.maximumSize는 0보다 커야 합니다.");
+        }
+    }
+}
@@ -105,9 +105,12 @@ public record InteractionWorkerProperties(
             @DefaultValue("1000") long pollDelayMs,
             @DefaultValue("60000") long processingTimeoutMs,
             @DefaultValue("30000") long pollCapMs,
-            @DefaultValue("100") int timeoutRecoveryBatchSize
+            @DefaultValue("100") int timeoutRecoveryBatchSize,
+            @DefaultValue("" + OutboxProperties.DEFAULT_DISPATCH_CONCURRENCY) int dispatchConcurrency
     ) {
 
+        public static final int DEFAULT_DISPATCH_CONCURRENCY = 8;
+
         public OutboxProperties {
             validateInboxPollingProperties(
                     "outbox",
@@ -116,10 +119,22 @@ public record InteractionWorkerProperties(
                     pollCapMs,
                     timeoutRecoveryBatchSize
             );
+            if (dispatchConcurrency <= 0) {
+                throw new IllegalArgumentException("outbox.dispatchConcurrency는 0보다 커야 합니다.");
+            }
         }
 
         public OutboxProperties() {
-            this(1000L, 60000L, 30000L, 100);
+            this(1000L, 60000L, 30000L, 100, DEFAULT_DISPATCH_CONCURRENCY);
+        }
+
+        public OutboxProperties(
+                long pollDelayMs,
+                long processingTimeoutMs,
+                long pollCapMs,
+                int timeoutRecoveryBatchSize
+        ) {
+            this(pollDelayMs, processingTimeoutMs, pollCapMs, timeoutRecoveryBatchSize, DEFAULT_DISPATCH_CONCURRENCY);
         }
 
         public OutboxProperties(long pollDelayMs, long processingTimeoutMs) {
@@ -0,0 +1,34 @@
+package com.slack.bot.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.slack.modal-open")
+public record ModalOpenBudgetProperties(
+        @DefaultValue("3000") long budgetMs,
+        @DefaultValue("1500") long loadingThresholdMs,
+        @DefaultValue("8") int lookupPoolSize
+) {
+
+    public ModalOpenBudgetProperties() {
+        this(3_000L, 1_500L);
+    }
+
+    public ModalOpenBudgetProperties(long budgetMs, long loadingThresholdMs) {
+        this(budgetMs, loadingThresholdMs, 8);
+    }
+
+    @ConstructorBinding
+    public ModalOpenBudgetProperties {
+        if (budgetMs <= 0L) {
+            throw new IllegalArgumentException("modalOpen.budgetMs는 0보다 커야 합니다.");
+        }
+        if (loadingThresholdMs < 0L || loadingThresholdMs >= budgetMs) {
+            throw new IllegalArgumentException("modalOpen.loadingThresholdMs는 0 이상 budgetMs 미만이어야 합니다.");
+        }
+        if (lookupPoolSize <= 0) {
+            throw new IllegalArgumentException("modalOpen.lookupPoolSize는 0보다 커야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.slack.bot.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.setting.notification-cache")
+public record NotificationSettingsCacheProperties(
+        @DefaultValue("60000") long ttlMs,
+        @DefaultValue("5000") int maximumSize
+) {
+
+    public NotificationSettingsCacheProperties() {
+        this(60_000L, 5_000);
+    }
+
+    @ConstructorBinding
+    public NotificationSettingsCacheProperties {
+        if (ttlMs <= 0L) {
+            throw new IllegalArgumentException("notificationCache.ttlMs는 0보다 커야 합니다.");
+        }
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("notificationCache.maximumSize는 0보다 커야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.slack.bot.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.worker.polling-hint")
+public record PollingHintProperties(
+        @DefaultValue("LOCAL") Mode mode,
+        @DefaultValue("200") long syncIntervalMs
+) {
+
+    public PollingHintProperties() {
+        this(Mode.LOCAL, 200L);
+    }
+
+    @ConstructorBinding
+    public PollingHintProperties {
+        if (mode == null) {
+            mode = Mode.LOCAL;
+        }
+        if (syncIntervalMs <= 0L) {
+            throw new IllegalArgumentException("pollingHint.syncIntervalMs는 0보다 커야 합니다.");
+        }
+    }
+
+    public enum Mode {
+        LOCAL,
+        JDBC
+    }
+}
@@ -0,0 +1,26 @@
+package com.slack.bot.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.project.channel-route-cache")
+public record ProjectChannelRouteCacheProperties(
+        @DefaultValue("60000") long ttlMs,
+        @DefaultValue("500") int maximumSize
+) {
+
+    public ProjectChannelRouteCacheProperties() {
+        this(60_000L, 500);
+    }
+
+    @ConstructorBinding
+    public ProjectChannelRouteCacheProperties {
+        if (ttlMs <= 0L) {
+            throw new IllegalArgumentException("channelRouteCache.ttlMs는 0보다 커야 합니다.");
+        }
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("channelRouteCache.maximumSize는 0보다 커야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.slack.bot.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.member.directory-cache")
+public record ProjectMemberDirectoryCacheProperties(
+        @DefaultValue("300000") long ttlMs,
+        @DefaultValue("5000") int maximumSize
+) {
+
+    public ProjectMemberDirectoryCacheProperties() {
+        this(300_000L, 5_000);
+    }
+
+    @ConstructorBinding
+    public ProjectMemberDirectoryCacheProperties {
+        if (ttlMs <= 0L) {
+            throw new IllegalArgumentException("directoryCache.ttlMs는 0보다 커야 합니다.");
+        }
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("directoryCache.maximumSize는 0보다 커야 합니다.");
+        }
+    }
+}
@@ -1,12 +1,20 @@
 package com.slack.bot.global.config.properties;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "app.async.review-interaction")
 public record ReviewInteractionAsyncProperties(
         int corePoolSize,
         int maxPoolSize,
         String threadNamePrefix,
-        int queueCapacity
+        int queueCapacity,
+        @DefaultValue("512") int virtualConcurrencyLimit
 ) {
+
+    public ReviewInteractionAsyncProperties {
+        if (virtualConcurrencyLimit <= 0) {
+            throw new IllegalArgumentException("virtualConcurrencyLimit은 0보다 커야 합니다.");
+        }
+    }
 }
@@ -0,0 +1,43 @@
+package com.slack.bot.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.reminder")
+public record ReviewReminderWorkerProperties(
+        @DefaultValue("1000") long pollDelayMs,
+        @DefaultValue("5000") long pollCapMs,
+        @DefaultValue("50") int batchSize,
+        @DefaultValue("60000") long processingTimeoutMs,
+        @DefaultValue("" + ReviewReminderWorkerProperties.DEFAULT_DISPATCH_CONCURRENCY) int dispatchConcurrency
+) {
+
+    public static final int DEFAULT_DISPATCH_CONCURRENCY = 4;
+
+    public ReviewReminderWorkerProperties() {
+        this(1000L, 5000L, 50, 60000L, DEFAULT_DISPATCH_CONCURRENCY);
+    }
+
+    @ConstructorBinding
+    public ReviewReminderWorkerProperties {
+        if (pollDelayMs <= 0L) {
+            throw new IllegalArgumentException("reminder.pollDelayMs는 0보다 커야 합니다.");
+        }
+        if (pollCapMs <= 0L) {
+            throw new IllegalArgumentException("reminder.pollCapMs는 0보다 커야 합니다.");
+        }
+        if (pollCapMs < pollDelayMs) {
+            throw new IllegalArgumentException("reminder.pollCapMs는 pollDelayMs보다 크거나 같아야 합니다.");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("reminder.batchSize는 0보다 커야 합니다.");
+        }
+        if (processingTimeoutMs <= 0L) {
+            throw new IllegalArgumentException("reminder.processingTimeoutMs는 0보다 커야 합니다.");
+        }
+        if (dispatchConcurrency <= 0) {
+            throw new IllegalArgumentException("reminder.dispatchConcurrency는 0보다 커야 합니다.");
+        }
+    }
+}
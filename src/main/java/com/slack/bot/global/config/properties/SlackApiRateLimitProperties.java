@@ -0,0 +1,76 @@
+package com.slack.bot.global.config.properties;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.slack.rate-limit")
+public record SlackApiRateLimitProperties(
+        @DefaultValue("20") int defaultPermitsPerMinute,
+        @DefaultValue("5") int defaultBurstCapacity,
+        @DefaultValue("30000") long defaultRetryAfterMs,
+        Map<String, MethodLimit> methods,
+        @DefaultValue("600000") long idleBucketTtlMs
+) {
+
+    private static final Map<String, MethodLimit> DEFAULT_METHOD_LIMITS = Map.of(
+            "chat.postMessage", new MethodLimit(60, 10),
+            "chat.postEphemeral", new MethodLimit(100, 20),
+            "views.open", new MethodLimit(100, 20),
+            "conversations.open", new MethodLimit(50, 10)
+    );
+
+    public SlackApiRateLimitProperties() {
+        this(20, 5, 30_000L, DEFAULT_METHOD_LIMITS);
+    }
+
+    public SlackApiRateLimitProperties(
+            int defaultPermitsPerMinute,
+            int defaultBurstCapacity,
+            long defaultRetryAfterMs,
+            Map<String, MethodLimit> methods
+    ) {
+        this(defaultPermitsPerMinute, defaultBurstCapacity, defaultRetryAfterMs, methods, 600_000L);
+    }
+
+    @ConstructorBinding
+    public SlackApiRateLimitProperties {
+        if (defaultRetryAfterMs <= 0L) {
+            throw new IllegalArgumentException("rateLimit.defaultRetryAfterMs는 0보다 커야 합니다.");
+        }
+        if (idleBucketTtlMs <= 0L) {
+            throw new IllegalArgumentException("rateLimit.idleBucketTtlMs는 0보다 커야 합니다.");
+        }
+        validateMethodLimit("default", defaultPermitsPerMinute, defaultBurstCapacity);
+        if (methods == null) {
+            methods = DEFAULT_METHOD_LIMITS;
+        }
+        methods = Map.copyOf(methods);
+    }
+
+    public MethodLimit limitOf(String apiName) {
+        MethodLimit methodLimit = methods.get(apiName);
+        if (methodLimit == null) {
+            return new MethodLimit(defaultPermitsPerMinute, defaultBurstCapacity);
+        }
+
+        return methodLimit;
+    }
+
+    public record MethodLimit(int permitsPerMinute, int burstCapacity) {
+
+        public MethodLimit {
+            validateMethodLimit("methods", permitsPerMinute, burstCapacity);
+        }
+    }
+
+    private static void validateMethodLimit(String propertyName, int permitsPerMinute, int burstCapacity) {
+        if (permitsPerMinute <= 0) {
+            throw new IllegalArgumentException("rateLimit." + propertyName + ".permitsPerMinute는 0보다 커야 합니다.");
+        }
+        if (burstCapacity <= 0) {
+            throw new IllegalArgumentException("rateLimit." + propertyName + ".burstCapacity는 0보다 커야 합니다.");
+        }
+    }
+}
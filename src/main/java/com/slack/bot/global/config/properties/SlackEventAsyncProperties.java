@@ -1,12 +1,20 @@
 package com.slack.bot.global.config.properties;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "app.async.event")
 public record SlackEventAsyncProperties(
         int corePoolSize,
         int maxPoolSize,
         String threadNamePrefix,
-        int queueCapacity
+        int queueCapacity,
+        @DefaultValue("64") int virtualConcurrencyLimit
 ) {
+
+    public SlackEventAsyncProperties {
+        if (virtualConcurrencyLimit <= 0) {
+            throw new IllegalArgumentException("virtualConcurrencyLimit은 0보다 커야 합니다.");
+        }
+    }
 }
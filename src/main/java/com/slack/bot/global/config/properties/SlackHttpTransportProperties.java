@@ -0,0 +1,35 @@
+package com.slack.bot.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.slack.http")
+public record SlackHttpTransportProperties(
+        @DefaultValue("1000") long connectTimeoutMs,
+        @DefaultValue("3000") long readTimeoutMs,
+        @DefaultValue("64") int maxConnections,
+        @DefaultValue("500") long acquireTimeoutMs,
+        @DefaultValue("false") boolean http2Enabled
+) {
+
+    public SlackHttpTransportProperties() {
+        this(1_000L, 3_000L, 64, 500L, false);
+    }
+
+    @ConstructorBinding
+    public SlackHttpTransportProperties {
+        if (connectTimeoutMs <= 0L) {
+            throw new IllegalArgumentException("http.connectTimeoutMs는 0보다 커야 합니다.");
+        }
+        if (readTimeoutMs <= 0L) {
+            throw new IllegalArgumentException("http.readTimeoutMs는 0보다 커야 합니다.");
+        }
+        if (maxConnections <= 0) {
+            throw new IllegalArgumentException("http.maxConnections는 0보다 커야 합니다.");
+        }
+        if (acquireTimeoutMs < 0L) {
+            throw new IllegalArgumentException("http.acquireTimeoutMs는 0 이상이어야 합니다.");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.slack.bot.global.config.properties;
 
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties("slack")
@@ -8,6 +9,7 @@ public record SlackProperties(
         String clientId,
         String clientSecret,
         String redirectUri,
-        String scopes
+        String scopes,
+        List<String> previousSigningSecrets
 ) {
 }
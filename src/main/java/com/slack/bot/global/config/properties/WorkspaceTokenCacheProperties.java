@@ -0,0 +1,26 @@
+package com.slack.bot.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.workspace.token-cache")
+public record WorkspaceTokenCacheProperties(
+        @DefaultValue("300000") long ttlMs,
+        @DefaultValue("1000") int maximumSize
+) {
+
+    public WorkspaceTokenCacheProperties() {
+        this(300_000L, 1_000);
+    }
+
+    @ConstructorBinding
+    public WorkspaceTokenCacheProperties {
+        if (ttlMs <= 0L) {
+            throw new IllegalArgumentException("tokenCache.ttlMs는 0보다 커야 합니다.");
+        }
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("tokenCache.maximumSize는 0보다 커야 합니다.");
+        }
+    }
+}
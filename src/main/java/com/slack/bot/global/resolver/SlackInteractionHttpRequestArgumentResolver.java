@@ -2,11 +2,10 @@ package com.slack.bot.global.resolver;
 
 import com.slack.bot.presentation.interaction.dto.request.SlackInteractionHttpRequest;
 import jakarta.servlet.http.HttpServletRequest;
-import java.net.URLDecoder;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StreamUtils;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -15,6 +14,8 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 @Component
 public class SlackInteractionHttpRequestArgumentResolver implements HandlerMethodArgumentResolver {
 
+    private static final byte[] PAYLOAD_PARAMETER = "payload=".getBytes(StandardCharsets.US_ASCII);
+
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return SlackInteractionHttpRequest.class.isAssignableFrom(parameter.getParameterType());
@@ -27,44 +28,120 @@ public class SlackInteractionHttpRequestArgumentResolver implements HandlerMetho
             NativeWebRequest webRequest,
             WebDataBinderFactory binderFactory
     ) {
+        long receivedNanos = System.nanoTime();
         HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
 
         if (request == null) {
             throw new IllegalStateException("요청 객체를 찾을 수 없습니다.");
         }
 
-        return parse(request);
+        return parse(request, receivedNanos);
     }
 
-    private SlackInteractionHttpRequest parse(HttpServletRequest request) {
+    private SlackInteractionHttpRequest parse(HttpServletRequest request, long receivedNanos) {
         String timestamp = request.getHeader("X-Slack-Request-Timestamp");
         String signature = request.getHeader("X-Slack-Signature");
-        String rawBody = readBody(request);
+        byte[] rawBody = readBody(request);
         String payloadJson = extractPayloadJson(rawBody);
 
-        return new SlackInteractionHttpRequest(timestamp, signature, rawBody, payloadJson);
+        return new SlackInteractionHttpRequest(timestamp, signature, rawBody, payloadJson, receivedNanos);
     }
 
-    private String readBody(HttpServletRequest request) {
-        try {
-            return StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
+    private byte[] readBody(HttpServletRequest request) {
+        try (InputStream inputStream = request.getInputStream()) {
+            int contentLength = request.getContentLength();
+            if (contentLength >= 0) {
+                return inputStream.readNBytes(contentLength);
+            }
+
+            return inputStream.readAllBytes();
         } catch (Exception e) {
             throw new IllegalStateException("슬랙 인터랙티브 요청 바디를 읽을 수 없습니다.", e);
         }
     }
 
-    private String extractPayloadJson(String rawBody) {
-        if (rawBody == null) {
-            return null;
+    private String extractPayloadJson(byte[] rawBody) {
+        int start = findPayloadValueStart(rawBody);
+        int end = rawBody.length;
+
+        if (start > 0) {
+            end = findParameterEnd(rawBody, start);
+        }
+
+        return decode(rawBody, Math.max(start, 0), end);
+    }
+
+    private int findPayloadValueStart(byte[] rawBody) {
+        int parameterStart = 0;
+
+        while (parameterStart < rawBody.length) {
+            if (startsWith(rawBody, parameterStart, PAYLOAD_PARAMETER)) {
+                return parameterStart + PAYLOAD_PARAMETER.length;
+            }
+
+            parameterStart = findParameterEnd(rawBody, parameterStart) + 1;
+        }
+
+        return -1;
+    }
+
+    private int findParameterEnd(byte[] rawBody, int from) {
+        for (int i = from; i < rawBody.length; i++) {
+            if (rawBody[i] == '&') {
+                return i;
+            }
+        }
+
+        return rawBody.length;
+    }
+
+    private boolean startsWith(byte[] rawBody, int offset, byte[] prefix) {
+        if (rawBody.length - offset < prefix.length) {
+            return false;
+        }
+
+        for (int i = 0; i < prefix.length; i++) {
+            if (rawBody[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private String decode(byte[] rawBody, int start, int end) {
+        byte[] decoded = new byte[end - start];
+        int length = 0;
+
+        for (int i = start; i < end; i++) {
+            byte current = rawBody[i];
+
+            if (current == '+') {
+                decoded[length++] = ' ';
+                continue;
+            }
+            if (current != '%') {
+                decoded[length++] = current;
+                continue;
+            }
+            if (i + 2 >= end) {
+                throw new IllegalArgumentException("슬랙 인터랙티브 payload 인코딩 형식이 올바르지 않습니다.");
+            }
+
+            decoded[length++] = (byte) ((hexValue(rawBody[i + 1]) << 4) | hexValue(rawBody[i + 2]));
+            i += 2;
         }
 
-        int idx = rawBody.indexOf("payload=");
-        String encoded = rawBody;
+        return new String(decoded, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private int hexValue(byte hex) {
+        int value = Character.digit(hex, 16);
 
-        if (idx >= 0) {
-            encoded = rawBody.substring(idx + "payload=".length());
+        if (value < 0) {
+            throw new IllegalArgumentException("슬랙 인터랙티브 payload 인코딩 형식이 올바르지 않습니다.");
         }
 
-        return URLDecoder.decode(encoded, StandardCharsets.UTF_8);
+        return value;
     }
 }
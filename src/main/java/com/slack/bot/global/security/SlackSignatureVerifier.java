@@ -5,7 +5,9 @@ import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.HexFormat;
+import java.util.List;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import org.springframework.stereotype.Component;
@@ -14,14 +16,19 @@ import org.springframework.stereotype.Component;
 public class SlackSignatureVerifier {
 
     private static final long MAX_TIMESTAMP_DRIFT_SECONDS = 60L * 5L;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String SIGNATURE_PREFIX = "v0=";
+    private static final int DIGEST_HEX_LENGTH = 64;
+    private static final byte[] VERSION_PREFIX = "v0:".getBytes(StandardCharsets.US_ASCII);
+    private static final byte SEPARATOR = ':';
 
-    private final String signingSecret;
+    private final List<Mac> macPrototypes;
 
     public SlackSignatureVerifier(SlackProperties slackProperties) {
-        this.signingSecret = slackProperties.signingSecret();
+        this.macPrototypes = createMacPrototypes(slackProperties);
     }
 
-    public boolean verify(String timestamp, String signature, String rawBody) {
+    public boolean verify(String timestamp, String signature, byte[] rawBody) {
         long ts;
         try {
             ts = Long.parseLong(timestamp);
@@ -34,36 +41,86 @@ public class SlackSignatureVerifier {
             return false;
         }
 
-        String base = "v0:" + timestamp + ":" + rawBody;
-        String computed = "v0=" + hmacSha256(base, signingSecret);
+        byte[] expectedDigest = decodeSignature(signature);
+        if (expectedDigest == null) {
+            return false;
+        }
+
+        byte[] timestampBytes = timestamp.getBytes(StandardCharsets.US_ASCII);
+        boolean matched = false;
+        for (Mac macPrototype : macPrototypes) {
+            byte[] computedDigest = computeDigest(macPrototype, timestampBytes, rawBody);
+
+            matched |= MessageDigest.isEqual(computedDigest, expectedDigest);
+        }
 
-        return constantTimeEquals(computed, signature);
+        return matched;
     }
 
-    private String hmacSha256(String data, String secret) {
-        Mac mac = createHmacSha256Mac(secret);
-        byte[] digest = mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
-        return HexFormat.of().formatHex(digest);
+    private byte[] decodeSignature(String signature) {
+        if (signature == null || !signature.startsWith(SIGNATURE_PREFIX)) {
+            return null;
+        }
+
+        String digestHex = signature.substring(SIGNATURE_PREFIX.length());
+        if (digestHex.length() != DIGEST_HEX_LENGTH) {
+            return null;
+        }
+
+        try {
+            return HexFormat.of().parseHex(digestHex);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] computeDigest(Mac macPrototype, byte[] timestampBytes, byte[] rawBody) {
+        Mac mac = copyMac(macPrototype);
+
+        mac.update(VERSION_PREFIX);
+        mac.update(timestampBytes);
+        mac.update(SEPARATOR);
+        mac.update(rawBody);
+        return mac.doFinal();
+    }
+
+    private Mac copyMac(Mac macPrototype) {
+        try {
+            return (Mac) macPrototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HmacSHA256 Mac 복제를 지원하지 않는 provider입니다.", e);
+        }
+    }
+
+    private List<Mac> createMacPrototypes(SlackProperties slackProperties) {
+        List<String> signingSecrets = new ArrayList<>();
+
+        signingSecrets.add(slackProperties.signingSecret());
+        if (slackProperties.previousSigningSecrets() != null) {
+            signingSecrets.addAll(slackProperties.previousSigningSecrets());
+        }
+
+        List<Mac> prototypes = signingSecrets.stream()
+                                             .filter(secret -> secret != null && !secret.isBlank())
+                                             .distinct()
+                                             .map(secret -> createHmacSha256Mac(secret))
+                                             .toList();
+        if (prototypes.isEmpty()) {
+            throw new IllegalStateException("슬랙 signing secret이 설정되지 않았습니다.");
+        }
+
+        return prototypes;
     }
 
     private Mac createHmacSha256Mac(String secret) {
         try {
-            Mac mac = Mac.getInstance("HmacSHA256");
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
 
-            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            copyMac(mac);
             return mac;
         } catch (NoSuchAlgorithmException | InvalidKeyException e) {
             throw new IllegalStateException("HmacSHA256 Mac 초기화에 실패했습니다.", e);
         }
     }
-
-    private boolean constantTimeEquals(String a, String b) {
-        if (a == null || b == null) {
-            return false;
-        }
-        return MessageDigest.isEqual(
-                a.getBytes(StandardCharsets.UTF_8),
-                b.getBytes(StandardCharsets.UTF_8)
-        );
-    }
 }
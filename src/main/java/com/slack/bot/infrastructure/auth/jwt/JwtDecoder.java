@@ -10,6 +10,8 @@ import com.slack.bot.domain.auth.PrivateClaims;
 import com.slack.bot.domain.auth.TokenDecoder;
 import com.slack.bot.domain.auth.TokenType;
 import com.slack.bot.global.config.properties.TokenProperties;
+import com.slack.bot.infrastructure.auth.jwt.cache.DecodedToken;
+import com.slack.bot.infrastructure.auth.jwt.cache.DecodedTokenCache;
 import com.slack.bot.infrastructure.auth.jwt.exception.ExpiredTokenException;
 import com.slack.bot.infrastructure.auth.jwt.exception.InvalidTokenException;
 import java.text.ParseException;
@@ -27,14 +29,19 @@ public class JwtDecoder implements TokenDecoder {
     private final JWEDecrypter jweDecrypter;
     private final JwsVerifierFinder jwsVerifierFinder;
     private final TokenProperties tokenProperties;
+    private final DecodedTokenCache decodedTokenCache;
 
     @Override
     public PrivateClaims decode(TokenType tokenType, String token) {
         validateToken(token);
 
+        return decodedTokenCache.get(tokenType, token, () -> decodeToken(tokenType, token));
+    }
+
+    private DecodedToken decodeToken(TokenType tokenType, String token) {
         JWTClaimsSet claimsSet = parse(tokenType, token);
 
-        return convert(claimsSet);
+        return new DecodedToken(convert(claimsSet), claimsSet.getExpirationTime().toInstant());
     }
 
     private void validateToken(String token) {
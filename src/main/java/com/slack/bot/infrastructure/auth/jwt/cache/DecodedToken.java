@@ -0,0 +1,20 @@
+package com.slack.bot.infrastructure.auth.jwt.cache;
+
+import com.slack.bot.domain.auth.PrivateClaims;
+import java.time.Instant;
+
+public record DecodedToken(PrivateClaims claims, Instant expiresAt) {
+
+    public DecodedToken {
+        if (claims == null) {
+            throw new IllegalArgumentException("claims는 비어 있을 수 없습니다.");
+        }
+        if (expiresAt == null) {
+            throw new IllegalArgumentException("expiresAt은 비어 있을 수 없습니다.");
+        }
+    }
+
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,78 @@
+package com.slack.bot.infrastructure.auth.jwt.cache;
+
+import com.slack.bot.domain.auth.PrivateClaims;
+import com.slack.bot.domain.auth.TokenType;
+import com.slack.bot.global.config.properties.DecodedTokenCacheProperties;
+import com.slack.bot.infrastructure.common.cache.ExpiringLocalCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public class DecodedTokenCache {
+
+    private static final String METRIC_PREFIX = "auth.token.decoded_cache";
+
+    private final Clock clock;
+    private final ExpiringLocalCache<TokenKey, DecodedToken> tokens;
+    private final Counter expiredCounter;
+
+    public DecodedTokenCache(
+            Clock clock,
+            MeterRegistry meterRegistry,
+            DecodedTokenCacheProperties decodedTokenCacheProperties
+    ) {
+        this.clock = clock;
+        this.tokens = new ExpiringLocalCache<>(
+                METRIC_PREFIX,
+                clock,
+                meterRegistry,
+                Duration.ofMillis(decodedTokenCacheProperties.ttlMs()),
+                decodedTokenCacheProperties.maximumSize()
+        );
+        this.expiredCounter = Counter.builder(METRIC_PREFIX + ".expired")
+                                     .description("만료되어 캐시에서 제거된 토큰 수")
+                                     .register(meterRegistry);
+    }
+
+    public PrivateClaims get(TokenType tokenType, String token, Supplier<DecodedToken> decoder) {
+        TokenKey key = new TokenKey(tokenType, digest(token));
+        DecodedToken decodedToken = tokens.get(key, ignored -> Optional.of(decoder.get()))
+                                          .orElseThrow();
+
+        if (decodedToken.isExpiredAt(clock.instant())) {
+            expiredCounter.increment();
+            tokens.evict(key);
+            return decoder.get().claims();
+        }
+
+        return decodedToken.claims();
+    }
+
+    public void evictAll() {
+        tokens.evictAll();
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 찾을 수 없습니다.", e);
+        }
+    }
+
+    private record TokenKey(TokenType tokenType, String tokenDigest) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.slack.bot.infrastructure.common;
+
+public enum BoxHistoryRetention {
+    DELETE_ROWS,
+    DROP_PARTITIONS;
+
+    public boolean deletesRows() {
+        return this == DELETE_ROWS;
+    }
+}
@@ -0,0 +1,212 @@
+package com.slack.bot.infrastructure.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ExpiringLocalCache<K, V> {
+
+    private final Clock clock;
+    private final Duration ttl;
+    private final int maximumSize;
+    private final ConcurrentMap<K, CachedValue<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidationVersion = new AtomicLong();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ExpiringLocalCache(
+            String metricPrefix,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            Duration ttl,
+            int maximumSize
+    ) {
+        if (metricPrefix == null || metricPrefix.isBlank()) {
+            throw new IllegalArgumentException("metricPrefix는 비어 있을 수 없습니다.");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl은 0보다 커야 합니다.");
+        }
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize는 0보다 커야 합니다.");
+        }
+
+        this.clock = clock;
+        this.ttl = ttl;
+        this.maximumSize = maximumSize;
+        this.hitCounter = registerRequestCounter(meterRegistry, metricPrefix, "hit");
+        this.missCounter = registerRequestCounter(meterRegistry, metricPrefix, "miss");
+
+        Gauge.builder(metricPrefix + ".size", entries, Map::size)
+             .description("로컬 캐시 항목 수")
+             .register(meterRegistry);
+    }
+
+    public Optional<V> get(K key, Function<K, Optional<V>> loader) {
+        return get(key, loader, value -> true);
+    }
+
+    public Optional<V> get(K key, Function<K, Optional<V>> loader, Predicate<V> cacheable) {
+        Instant now = clock.instant();
+        CachedValue<V> cached = entries.get(key);
+        if (cached != null && cached.isAliveAt(now)) {
+            hitCounter.increment();
+            return Optional.of(cached.value());
+        }
+
+        missCounter.increment();
+        long version = invalidationVersion.get();
+        Optional<V> loaded = loader.apply(key);
+
+        loaded.filter(cacheable)
+              .ifPresent(value -> store(key, value, now, version));
+        return loaded;
+    }
+
+    public Map<K, V> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> loader) {
+        Instant now = clock.instant();
+        Map<K, V> found = new HashMap<>();
+        Set<K> missingKeys = new LinkedHashSet<>();
+        for (K key : keys) {
+            CachedValue<V> cached = entries.get(key);
+            if (cached != null && cached.isAliveAt(now)) {
+                found.put(key, cached.value());
+                continue;
+            }
+            missingKeys.add(key);
+        }
+
+        hitCounter.increment(found.size());
+        if (missingKeys.isEmpty()) {
+            return found;
+        }
+
+        missCounter.increment(missingKeys.size());
+        long version = invalidationVersion.get();
+        Map<K, V> loaded = loader.apply(Collections.unmodifiableSet(missingKeys));
+
+        loaded.forEach((key, value) -> {
+            if (!missingKeys.contains(key) || value == null) {
+                return;
+            }
+
+            found.put(key, value);
+            store(key, value, now, version);
+        });
+        return found;
+    }
+
+    public void evict(K key) {
+        remove(key);
+        if (isTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new AfterCompletionEviction(() -> remove(key))
+            );
+        }
+    }
+
+    public void evictIf(Predicate<V> condition) {
+        removeIf(condition);
+        if (isTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new AfterCompletionEviction(() -> removeIf(condition))
+            );
+        }
+    }
+
+    public void evictAll() {
+        evictIf(value -> true);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void store(K key, V value, Instant now, long version) {
+        entries.put(key, new CachedValue<>(value, now.plus(ttl)));
+        if (invalidationVersion.get() != version) {
+            entries.remove(key);
+            return;
+        }
+
+        evictOverflow(now);
+    }
+
+    private void evictOverflow(Instant now) {
+        if (entries.size() <= maximumSize) {
+            return;
+        }
+
+        entries.values().removeIf(cached -> !cached.isAliveAt(now));
+        while (entries.size() > maximumSize) {
+            entries.entrySet()
+                   .stream()
+                   .min(Comparator.comparing(entry -> entry.getValue().expiresAt()))
+                   .ifPresent(entry -> entries.remove(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private void remove(K key) {
+        invalidationVersion.incrementAndGet();
+        entries.remove(key);
+    }
+
+    private void removeIf(Predicate<V> condition) {
+        invalidationVersion.incrementAndGet();
+        entries.values().removeIf(cached -> condition.test(cached.value()));
+    }
+
+    private boolean isTransactionActive() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+
+        return TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private Counter registerRequestCounter(MeterRegistry meterRegistry, String metricPrefix, String result) {
+        return Counter.builder(metricPrefix + ".requests")
+                      .description("로컬 캐시 조회 수")
+                      .tag("result", result)
+                      .register(meterRegistry);
+    }
+
+    private record CachedValue<V>(V value, Instant expiresAt) {
+
+        private boolean isAliveAt(Instant now) {
+            return now.isBefore(expiresAt);
+        }
+    }
+
+    private static final class AfterCompletionEviction implements TransactionSynchronization {
+
+        private final Runnable eviction;
+
+        private AfterCompletionEviction(Runnable eviction) {
+            this.eviction = eviction;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            eviction.run();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.slack.bot.infrastructure.common.http;
+
+import com.slack.bot.global.config.properties.SlackHttpTransportProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+public class SlackHttpTransport implements ClientHttpRequestInterceptor, AutoCloseable {
+
+    private static final String METRIC_PREFIX = "slack.api.client";
+    private static final String API_PATH_PREFIX = "/api/";
+    private static final String OTHER_METHOD = "other";
+    private static final String POOL_SATURATED_ERROR = "pool_saturated";
+
+    private final MeterRegistry meterRegistry;
+    private final HttpClient.Version version;
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final Duration acquireTimeout;
+    private final int maxConnections;
+    private final Semaphore connectionPermits;
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private final ExecutorService httpClientExecutor;
+    private final Map<Duration, HttpClient> httpClients = new ConcurrentHashMap<>();
+
+    public SlackHttpTransport(MeterRegistry meterRegistry, SlackHttpTransportProperties slackHttpTransportProperties) {
+        this.meterRegistry = meterRegistry;
+        this.version = resolveVersion(slackHttpTransportProperties);
+        this.connectTimeout = Duration.ofMillis(slackHttpTransportProperties.connectTimeoutMs());
+        this.readTimeout = Duration.ofMillis(slackHttpTransportProperties.readTimeoutMs());
+        this.acquireTimeout = Duration.ofMillis(slackHttpTransportProperties.acquireTimeoutMs());
+        this.maxConnections = slackHttpTransportProperties.maxConnections();
+        this.connectionPermits = new Semaphore(maxConnections, true);
+        this.httpClientExecutor = Executors.newCachedThreadPool(
+                Thread.ofPlatform()
+                      .name("slack-http-", 0L)
+                      .daemon(true)
+                      .factory()
+        );
+        httpClients.put(connectTimeout, createHttpClient(connectTimeout));
+
+        Gauge.builder(METRIC_PREFIX + ".in_flight", inFlightRequests, AtomicInteger::get)
+             .description("처리 중인 Slack HTTP 요청 수")
+             .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pool.saturation", this, SlackHttpTransport::saturation)
+             .description("Slack HTTP 연결 풀 사용률")
+             .register(meterRegistry);
+    }
+
+    public ClientHttpRequestFactory requestFactory() {
+        return requestFactory(readTimeout);
+    }
+
+    public ClientHttpRequestFactory requestFactory(Duration callReadTimeout) {
+        return requestFactory(connectTimeout, callReadTimeout);
+    }
+
+    public ClientHttpRequestFactory requestFactory(Duration callConnectTimeout, Duration callReadTimeout) {
+        HttpClient httpClient = httpClients.computeIfAbsent(callConnectTimeout, this::createHttpClient);
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient, httpClientExecutor);
+
+        factory.setReadTimeout(callReadTimeout);
+        return factory;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(
+            HttpRequest request,
+            byte[] body,
+            ClientHttpRequestExecution execution
+    ) throws IOException {
+        String method = resolveMethod(request);
+
+        acquirePermit(method);
+        inFlightRequests.incrementAndGet();
+        long startedNanos = System.nanoTime();
+        String status = "IO_ERROR";
+        ClientHttpResponse response = null;
+        try {
+            response = execution.execute(request, body);
+
+            status = String.valueOf(response.getStatusCode().value());
+            if (response.getStatusCode().isError()) {
+                recordError(method, status);
+            }
+            return new PermitReleasingResponse(response);
+        } catch (IOException | RuntimeException e) {
+            recordError(method, e.getClass().getSimpleName());
+            if (response != null) {
+                response.close();
+            }
+            releasePermit();
+            throw e;
+        } finally {
+            requestTimer(method, status).record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public int inFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+    @Override
+    public void close() {
+        httpClients.values()
+                   .forEach(HttpClient::close);
+        httpClientExecutor.close();
+    }
+
+    private HttpClient createHttpClient(Duration callConnectTimeout) {
+        return HttpClient.newBuilder()
+                         .version(version)
+                         .connectTimeout(callConnectTimeout)
+                         .followRedirects(HttpClient.Redirect.NEVER)
+                         .executor(httpClientExecutor)
+                         .build();
+    }
+
+    private void acquirePermit(String method) throws IOException {
+        try {
+            if (connectionPermits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Slack HTTP 연결 대기 중 인터럽트가 발생했습니다. method=" + method, e);
+        }
+
+        recordError(method, POOL_SATURATED_ERROR);
+        throw new IOException("Slack HTTP 연결 풀이 포화되었습니다. method=" + method);
+    }
+
+    private void releasePermit() {
+        inFlightRequests.decrementAndGet();
+        connectionPermits.release();
+    }
+
+    private double saturation() {
+        return (double) (maxConnections - connectionPermits.availablePermits()) / maxConnections;
+    }
+
+    private Timer requestTimer(String method, String status) {
+        return Timer.builder(METRIC_PREFIX + ".requests")
+                    .description("Slack Web API 호출 지연 시간")
+                    .tag("method", method)
+                    .tag("status", status)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+    }
+
+    private void recordError(String method, String error) {
+        Counter.builder(METRIC_PREFIX + ".errors")
+               .description("Slack Web API 호출 실패 수")
+               .tag("method", method)
+               .tag("error", error)
+               .register(meterRegistry)
+               .increment();
+    }
+
+    private String resolveMethod(HttpRequest request) {
+        String path = request.getURI().getPath();
+        if (path == null || !path.startsWith(API_PATH_PREFIX)) {
+            return OTHER_METHOD;
+        }
+
+        String method = path.substring(API_PATH_PREFIX.length());
+        if (method.isBlank()) {
+            return OTHER_METHOD;
+        }
+        return method;
+    }
+
+    private HttpClient.Version resolveVersion(SlackHttpTransportProperties slackHttpTransportProperties) {
+        if (slackHttpTransportProperties.http2Enabled()) {
+            return HttpClient.Version.HTTP_2;
+        }
+
+        return HttpClient.Version.HTTP_1_1;
+    }
+
+    private final class PermitReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingResponse(ClientHttpResponse delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    releasePermit();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.slack.bot.infrastructure.common.lease.persistence;
+
+import com.slack.bot.infrastructure.common.lease.repository.SchedulerLeaseRepository;
+import java.sql.Timestamp;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class SchedulerLeaseRepositoryAdapter implements SchedulerLeaseRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    @Transactional
+    public boolean tryAcquire(String leaseName, String owner, Instant now, Instant leaseUntil) {
+        validateLeaseName(leaseName);
+        validateOwner(owner);
+        validateLeasePeriod(now, leaseUntil);
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("leaseName", leaseName)
+                .addValue("owner", owner)
+                .addValue("now", Timestamp.from(now))
+                .addValue("leaseUntil", Timestamp.from(leaseUntil));
+        int renewedCount = namedParameterJdbcTemplate.update(
+                """
+                UPDATE scheduler_leases
+                SET owner = :owner,
+                    lease_until = :leaseUntil
+                WHERE lease_name = :leaseName
+                  AND (owner = :owner OR lease_until <= :now)
+                """,
+                parameters
+        );
+        if (renewedCount > 0) {
+            return true;
+        }
+
+        return insertLease(parameters);
+    }
+
+    @Override
+    @Transactional
+    public void release(String leaseName, String owner) {
+        validateLeaseName(leaseName);
+        validateOwner(owner);
+
+        namedParameterJdbcTemplate.update(
+                """
+                DELETE FROM scheduler_leases
+                WHERE lease_name = :leaseName
+                  AND owner = :owner
+                """,
+                new MapSqlParameterSource()
+                        .addValue("leaseName", leaseName)
+                        .addValue("owner", owner)
+        );
+    }
+
+    private boolean insertLease(MapSqlParameterSource parameters) {
+        try {
+            namedParameterJdbcTemplate.update(
+                    """
+                    INSERT INTO scheduler_leases (lease_name, owner, lease_until)
+                    VALUES (:leaseName, :owner, :leaseUntil)
+                    """,
+                    parameters
+            );
+            return true;
+        } catch (DuplicateKeyException ignored) {
+            return false;
+        }
+    }
+
+    private void validateLeaseName(String leaseName) {
+        if (leaseName == null || leaseName.isBlank()) {
+            throw new IllegalArgumentException("leaseName은 비어 있을 수 없습니다.");
+        }
+    }
+
+    private void validateOwner(String owner) {
+        if (owner == null || owner.isBlank()) {
+            throw new IllegalArgumentException("owner는 비어 있을 수 없습니다.");
+        }
+    }
+
+    private void validateLeasePeriod(Instant now, Instant leaseUntil) {
+        if (now == null) {
+            throw new IllegalArgumentException("now는 비어 있을 수 없습니다.");
+        }
+        if (leaseUntil == null || !leaseUntil.isAfter(now)) {
+            throw new IllegalArgumentException("leaseUntil은 now 이후여야 합니다.");
+        }
+    }
+}
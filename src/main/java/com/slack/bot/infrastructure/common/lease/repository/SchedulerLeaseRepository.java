@@ -0,0 +1,10 @@
+package com.slack.bot.infrastructure.common.lease.repository;
+
+import java.time.Instant;
+
+public interface SchedulerLeaseRepository {
+
+    boolean tryAcquire(String leaseName, String owner, Instant now, Instant leaseUntil);
+
+    void release(String leaseName, String owner);
+}
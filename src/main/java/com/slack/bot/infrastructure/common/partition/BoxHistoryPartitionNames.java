@@ -0,0 +1,33 @@
+package com.slack.bot.infrastructure.common.partition;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+public final class BoxHistoryPartitionNames {
+
+    public static final String FUTURE_PARTITION = "p_future";
+
+    private static final String MONTHLY_PREFIX = "p";
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private BoxHistoryPartitionNames() {
+    }
+
+    public static String monthly(YearMonth month) {
+        return MONTHLY_PREFIX + month.format(MONTH_FORMATTER);
+    }
+
+    public static Optional<YearMonth> parseMonth(String partitionName) {
+        if (partitionName == null || !partitionName.startsWith(MONTHLY_PREFIX) || FUTURE_PARTITION.equals(partitionName)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(YearMonth.parse(partitionName.substring(MONTHLY_PREFIX.length()), MONTH_FORMATTER));
+        } catch (DateTimeParseException exception) {
+            return Optional.empty();
+        }
+    }
+}
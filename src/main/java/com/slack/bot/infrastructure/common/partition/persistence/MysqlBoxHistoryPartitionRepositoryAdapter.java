@@ -0,0 +1,96 @@
+package com.slack.bot.infrastructure.common.partition.persistence;
+
+import com.slack.bot.infrastructure.common.partition.BoxHistoryPartitionNames;
+import com.slack.bot.infrastructure.common.partition.repository.BoxHistoryPartitionRepository;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class MysqlBoxHistoryPartitionRepositoryAdapter implements BoxHistoryPartitionRepository {
+
+    private static final Set<String> HISTORY_TABLES = Set.of(
+            "slack_interaction_inbox_history",
+            "slack_notification_outbox_history",
+            "review_request_inbox_history",
+            "review_notification_outbox_history"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<String> findPartitionNames(String tableName) {
+        validateTableName(tableName);
+
+        return jdbcTemplate.queryForList(
+                """
+                SELECT partition_name
+                FROM information_schema.partitions
+                WHERE table_schema = DATABASE()
+                  AND table_name = ?
+                  AND partition_name IS NOT NULL
+                ORDER BY partition_ordinal_position
+                """,
+                String.class,
+                tableName
+        );
+    }
+
+    @Override
+    public void addMonthlyPartitions(String tableName, List<YearMonth> months) {
+        validateTableName(tableName);
+        validateMonths(months);
+
+        jdbcTemplate.execute(
+                "ALTER TABLE " + tableName
+                        + " REORGANIZE PARTITION " + BoxHistoryPartitionNames.FUTURE_PARTITION + " INTO ("
+                        + monthlyPartitionDefinitions(months)
+                        + ", " + futurePartitionDefinition()
+                        + ")"
+        );
+    }
+
+    @Override
+    public void dropPartitions(String tableName, List<String> partitionNames) {
+        validateTableName(tableName);
+        if (partitionNames == null || partitionNames.isEmpty()) {
+            throw new IllegalArgumentException("partitionNames는 비어 있을 수 없습니다.");
+        }
+        if (partitionNames.stream().anyMatch(name -> BoxHistoryPartitionNames.parseMonth(name).isEmpty())) {
+            throw new IllegalArgumentException("월 단위 partition만 삭제할 수 있습니다.");
+        }
+
+        jdbcTemplate.execute(
+                "ALTER TABLE " + tableName + " DROP PARTITION " + String.join(", ", partitionNames)
+        );
+    }
+
+    private String monthlyPartitionDefinitions(List<YearMonth> months) {
+        return months.stream()
+                     .sorted()
+                     .map(month -> "PARTITION " + BoxHistoryPartitionNames.monthly(month)
+                             + " VALUES LESS THAN ('" + month.plusMonths(1L).atDay(1) + " 00:00:00')")
+                     .collect(Collectors.joining(", "));
+    }
+
+    private String futurePartitionDefinition() {
+        return "PARTITION " + BoxHistoryPartitionNames.FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)";
+    }
+
+    private void validateTableName(String tableName) {
+        if (!HISTORY_TABLES.contains(tableName)) {
+            throw new IllegalArgumentException("partition 대상 history 테이블이 아닙니다.");
+        }
+    }
+
+    private void validateMonths(List<YearMonth> months) {
+        if (months == null || months.isEmpty()) {
+            throw new IllegalArgumentException("months는 비어 있을 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.slack.bot.infrastructure.common.partition.repository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface BoxHistoryPartitionRepository {
+
+    List<String> findPartitionNames(String tableName);
+
+    void addMonthlyPartitions(String tableName, List<YearMonth> months);
+
+    void dropPartitions(String tableName, List<String> partitionNames);
+}
@@ -1,5 +1,6 @@
 package com.slack.bot.infrastructure.interaction.box.in.repository;
 
+import com.slack.bot.infrastructure.common.BoxHistoryRetention;
 import com.slack.bot.infrastructure.interaction.box.in.SlackInteractionInbox;
 import com.slack.bot.infrastructure.interaction.box.in.SlackInteractionInboxHistory;
 import com.slack.bot.infrastructure.interaction.box.in.SlackInteractionInboxType;
@@ -30,6 +31,14 @@ public interface SlackInteractionInboxRepository {
 
     int deleteCompletedBefore(Instant completedBefore, int deleteBatchSize);
 
+    int deleteCompletedBefore(
+            Instant completedBefore,
+            int deleteBatchSize,
+            BoxHistoryRetention historyRetention
+    );
+
+    long countCompletedBefore(Instant completedBefore);
+
     boolean saveIfProcessingLeaseMatched(
             SlackInteractionInbox inbox,
             Instant claimedProcessingStartedAt
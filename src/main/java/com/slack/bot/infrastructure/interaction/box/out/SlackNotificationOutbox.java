@@ -229,6 +229,26 @@ public class SlackNotificationOutbox {
         this.failure = BoxFailureSnapshot.absent();
     }
 
+    public void releaseClaim(Instant releasedAt, String releaseReason) {
+        validateTransition(SlackNotificationOutboxStatus.PROCESSING, "claim 반환");
+        validateFailedAt(releasedAt);
+        validateFailureReason(releaseReason);
+
+        this.processingAttempt--;
+        this.processingLease = BoxProcessingLease.idle();
+        this.sentTime = BoxEventTime.absent();
+        if (this.processingAttempt == 0) {
+            this.status = SlackNotificationOutboxStatus.PENDING;
+            this.failedTime = BoxEventTime.absent();
+            this.failure = BoxFailureSnapshot.absent();
+            return;
+        }
+
+        this.status = SlackNotificationOutboxStatus.RETRY_PENDING;
+        this.failedTime = BoxEventTime.present(releasedAt);
+        this.failure = BoxFailureSnapshot.present(releaseReason, SlackInteractionFailureType.RETRYABLE);
+    }
+
     public SlackNotificationOutboxHistory markRetryPending(Instant failedAt, String failureReason) {
         return markRetryPending(failedAt, failureReason, SlackInteractionFailureType.RETRYABLE);
     }
@@ -0,0 +1,20 @@
+package com.slack.bot.infrastructure.interaction.box.out;
+
+import java.util.List;
+
+public record SlackNotificationOutboxClaimExclusion(
+        String teamId,
+        List<SlackNotificationOutboxMessageType> messageTypes
+) {
+
+    public SlackNotificationOutboxClaimExclusion {
+        if (teamId == null || teamId.isBlank()) {
+            throw new IllegalArgumentException("teamId는 비어 있을 수 없습니다.");
+        }
+        if (messageTypes == null || messageTypes.isEmpty()) {
+            throw new IllegalArgumentException("messageTypes는 비어 있을 수 없습니다.");
+        }
+
+        messageTypes = List.copyOf(messageTypes);
+    }
+}
@@ -0,0 +1,23 @@
+package com.slack.bot.infrastructure.interaction.box.out;
+
+import java.time.Instant;
+
+public record SlackNotificationOutboxCompletion(
+        SlackNotificationOutbox outbox,
+        SlackNotificationOutboxHistory history,
+        Instant claimedProcessingStartedAt
+) {
+
+    public SlackNotificationOutboxCompletion {
+        if (outbox == null) {
+            throw new IllegalArgumentException("outbox는 비어 있을 수 없습니다.");
+        }
+        if (claimedProcessingStartedAt == null) {
+            throw new IllegalArgumentException("claimedProcessingStartedAt은 비어 있을 수 없습니다.");
+        }
+    }
+
+    public Long outboxId() {
+        return outbox.getId();
+    }
+}
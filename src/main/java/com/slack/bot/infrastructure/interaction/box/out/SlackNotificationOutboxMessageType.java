@@ -1,9 +1,12 @@
 package com.slack.bot.infrastructure.interaction.box.out;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.Arrays;
+import java.util.List;
 
 public enum SlackNotificationOutboxMessageType {
     EPHEMERAL_TEXT(
+            "chat.postEphemeral",
             true,
             true,
             false,
@@ -11,6 +14,7 @@ public enum SlackNotificationOutboxMessageType {
             dispatcher -> dispatcher.dispatchEphemeralText()
     ),
     EPHEMERAL_BLOCKS(
+            "chat.postEphemeral",
             true,
             false,
             true,
@@ -18,6 +22,7 @@ public enum SlackNotificationOutboxMessageType {
             dispatcher -> dispatcher.dispatchEphemeralBlocks()
     ),
     CHANNEL_TEXT(
+            "chat.postMessage",
             false,
             true,
             false,
@@ -25,6 +30,7 @@ public enum SlackNotificationOutboxMessageType {
             dispatcher -> dispatcher.dispatchChannelText()
     ),
     CHANNEL_BLOCKS(
+            "chat.postMessage",
             false,
             false,
             true,
@@ -32,6 +38,7 @@ public enum SlackNotificationOutboxMessageType {
             dispatcher -> dispatcher.dispatchChannelBlocks()
     );
 
+    private final String slackApiMethod;
     private final boolean supportsUserId;
     private final boolean supportsText;
     private final boolean supportsBlocksJson;
@@ -39,12 +46,14 @@ public enum SlackNotificationOutboxMessageType {
     private final DispatchRouter dispatchRouter;
 
     SlackNotificationOutboxMessageType(
+            String slackApiMethod,
             boolean supportsUserId,
             boolean supportsText,
             boolean supportsBlocksJson,
             boolean supportsFallbackText,
             DispatchRouter dispatchRouter
     ) {
+        this.slackApiMethod = slackApiMethod;
         this.supportsUserId = supportsUserId;
         this.supportsText = supportsText;
         this.supportsBlocksJson = supportsBlocksJson;
@@ -52,6 +61,16 @@ public enum SlackNotificationOutboxMessageType {
         this.dispatchRouter = dispatchRouter;
     }
 
+    public static List<SlackNotificationOutboxMessageType> usingSlackApiMethod(String slackApiMethod) {
+        return Arrays.stream(values())
+                     .filter(messageType -> messageType.slackApiMethod.equals(slackApiMethod))
+                     .toList();
+    }
+
+    public String slackApiMethod() {
+        return slackApiMethod;
+    }
+
     public boolean supportsUserId() {
         return supportsUserId;
     }
@@ -1,10 +1,15 @@
 package com.slack.bot.infrastructure.interaction.box.out.repository;
 
+import com.slack.bot.infrastructure.common.BoxHistoryRetention;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutbox;
+import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxClaimExclusion;
+import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxCompletion;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxHistory;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface SlackNotificationOutboxRepository {
 
@@ -29,9 +34,15 @@ public interface SlackNotificationOutboxRepository {
             Instant claimedProcessingStartedAt
     );
 
+    Set<Long> saveAllIfProcessingLeaseMatched(List<SlackNotificationOutboxCompletion> completions);
+
     Optional<SlackNotificationOutbox> findById(Long outboxId);
 
-    Optional<Long> claimNextId(Instant processingStartedAt, Collection<Long> excludedOutboxIds);
+    List<SlackNotificationOutbox> claimBatch(
+            Instant processingStartedAt,
+            int claimLimit,
+            Collection<SlackNotificationOutboxClaimExclusion> claimExclusions
+    );
 
     int recoverTimeoutProcessing(
             Instant processingStartedBefore,
@@ -42,4 +53,12 @@ public interface SlackNotificationOutboxRepository {
     );
 
     int deleteCompletedBefore(Instant completedBefore, int deleteBatchSize);
+
+    int deleteCompletedBefore(
+            Instant completedBefore,
+            int deleteBatchSize,
+            BoxHistoryRetention historyRetention
+    );
+
+    long countCompletedBefore(Instant completedBefore);
 }
@@ -1,5 +1,6 @@
 package com.slack.bot.infrastructure.interaction.box.persistence.in;
 
+import com.slack.bot.infrastructure.common.BoxHistoryRetention;
 import com.slack.bot.infrastructure.common.BoxProcessingLease;
 import com.slack.bot.infrastructure.interaction.box.SlackInteractionFailureType;
 import com.slack.bot.infrastructure.interaction.box.in.SlackInteractionInbox;
@@ -128,18 +129,56 @@ public class SlackInteractionInboxRepositoryAdapter implements SlackInteractionI
     @Override
     @Transactional
     public int deleteCompletedBefore(Instant completedBefore, int deleteBatchSize) {
+        return deleteCompletedBefore(completedBefore, deleteBatchSize, BoxHistoryRetention.DELETE_ROWS);
+    }
+
+    @Override
+    @Transactional
+    public int deleteCompletedBefore(
+            Instant completedBefore,
+            int deleteBatchSize,
+            BoxHistoryRetention historyRetention
+    ) {
         validateCompletedBefore(completedBefore);
         validateDeleteBatchSize(deleteBatchSize);
+        validateHistoryRetention(historyRetention);
 
         List<Long> deletableInboxIds = selectCompletedDeletionTargetIds(completedBefore, deleteBatchSize);
         if (deletableInboxIds.isEmpty()) {
             return 0;
         }
 
-        deleteHistories(deletableInboxIds);
+        if (historyRetention.deletesRows()) {
+            deleteHistories(deletableInboxIds);
+        }
         return deleteInboxes(deletableInboxIds);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long countCompletedBefore(Instant completedBefore) {
+        validateCompletedBefore(completedBefore);
+
+        Long completedCount = namedParameterJdbcTemplate.queryForObject(
+                """
+                SELECT COUNT(*)
+                FROM slack_interaction_inbox
+                WHERE (status = :processedStatus AND processed_at < :completedBefore)
+                   OR (status = :failedStatus AND failed_at < :completedBefore)
+                """,
+                new MapSqlParameterSource()
+                        .addValue("processedStatus", SlackInteractionInboxStatus.PROCESSED.name())
+                        .addValue("failedStatus", SlackInteractionInboxStatus.FAILED.name())
+                        .addValue("completedBefore", Timestamp.from(completedBefore)),
+                Long.class
+        );
+        if (completedCount == null) {
+            return 0L;
+        }
+
+        return completedCount;
+    }
+
     private List<Long> selectCompletedDeletionTargetIds(
             Instant completedBefore,
             int deleteBatchSize
@@ -341,6 +380,12 @@ public class SlackInteractionInboxRepositoryAdapter implements SlackInteractionI
         }
     }
 
+    private void validateHistoryRetention(BoxHistoryRetention historyRetention) {
+        if (historyRetention == null) {
+            throw new IllegalArgumentException("historyRetention은 비어 있을 수 없습니다.");
+        }
+    }
+
     @Override
     @Transactional
     public SlackInteractionInbox save(SlackInteractionInbox inbox) {
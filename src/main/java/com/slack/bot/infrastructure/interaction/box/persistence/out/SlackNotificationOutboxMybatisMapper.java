@@ -5,6 +5,7 @@ import com.slack.bot.infrastructure.common.BoxFailureState;
 import com.slack.bot.infrastructure.common.BoxProcessingLeaseState;
 import com.slack.bot.infrastructure.interaction.box.SlackInteractionFailureType;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutbox;
+import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxClaimExclusion;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxFieldState;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxMessageType;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxStatus;
@@ -147,20 +148,25 @@ public interface SlackNotificationOutboxMybatisMapper {
             "  <foreach collection='claimableStatuses' item='claimableStatus' open='(' separator=',' close=')'>",
             "    #{claimableStatus}",
             "  </foreach>",
-            "  <if test='excludedOutboxIds != null and excludedOutboxIds.size &gt; 0'>",
-            "    AND id NOT IN",
-            "    <foreach collection='excludedOutboxIds' item='excludedOutboxId' open='(' separator=',' close=')'>",
-            "      #{excludedOutboxId}",
-            "    </foreach>",
-            "  </if>",
+            "<if test='claimExclusions != null and !claimExclusions.isEmpty()'>",
+            "  AND NOT (",
+            "  <foreach collection='claimExclusions' item='claimExclusion' separator=' OR '>",
+            "    (team_id = #{claimExclusion.teamId} AND message_type IN",
+            "    <foreach collection='claimExclusion.messageTypes' item='messageType' open='(' separator=',' close=')'>",
+            "      #{messageType}",
+            "    </foreach>)",
+            "  </foreach>",
+            "  )",
+            "</if>",
             "ORDER BY id ASC",
-            "LIMIT 1",
+            "LIMIT #{claimLimit}",
             "FOR UPDATE SKIP LOCKED",
             "</script>"
     })
-    Optional<SlackNotificationOutboxRow> findClaimableRowForUpdate(
+    List<SlackNotificationOutboxRow> findClaimableRowsForUpdate(
             @Param("claimableStatuses") List<String> claimableStatuses,
-            @Param("excludedOutboxIds") Collection<Long> excludedOutboxIds
+            @Param("claimExclusions") Collection<SlackNotificationOutboxClaimExclusion> claimExclusions,
+            @Param("claimLimit") int claimLimit
     );
 
     @ResultMap("slackNotificationOutboxRowResultMap")
@@ -324,6 +330,36 @@ public interface SlackNotificationOutboxMybatisMapper {
             """)
     int update(SlackNotificationOutboxRow row);
 
+    @Update({
+            "<script>",
+            "UPDATE slack_notification_outbox",
+            "SET updated_at = CURRENT_TIMESTAMP(6),",
+            "    status = #{processingStatus},",
+            "    processing_attempt = processing_attempt + 1,",
+            "    processing_lease_state = #{claimedLeaseState},",
+            "    processing_started_at = #{processingStartedAt},",
+            "    sent_time_state = #{absentTimeState},",
+            "    sent_at = NULL,",
+            "    failed_time_state = #{absentTimeState},",
+            "    failed_at = NULL,",
+            "    failure_state = #{absentFailureState},",
+            "    failure_reason = NULL,",
+            "    failure_type = NULL",
+            "WHERE id IN",
+            "  <foreach collection='outboxIds' item='outboxId' open='(' separator=',' close=')'>",
+            "    #{outboxId}",
+            "  </foreach>",
+            "</script>"
+    })
+    int claimRows(
+            @Param("outboxIds") Collection<Long> outboxIds,
+            @Param("processingStatus") String processingStatus,
+            @Param("claimedLeaseState") String claimedLeaseState,
+            @Param("processingStartedAt") Instant processingStartedAt,
+            @Param("absentTimeState") String absentTimeState,
+            @Param("absentFailureState") String absentFailureState
+    );
+
     default Optional<SlackNotificationOutbox> findDomainById(Long id) {
         return Optional.ofNullable(findRowById(id))
                        .map(row -> row.toDomain());
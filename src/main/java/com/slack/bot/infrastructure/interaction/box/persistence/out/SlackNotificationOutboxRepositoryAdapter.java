@@ -1,19 +1,32 @@
 package com.slack.bot.infrastructure.interaction.box.persistence.out;
 
+import com.slack.bot.infrastructure.common.BoxEventTimeState;
+import com.slack.bot.infrastructure.common.BoxFailureState;
+import com.slack.bot.infrastructure.common.BoxHistoryRetention;
 import com.slack.bot.infrastructure.common.BoxProcessingLease;
+import com.slack.bot.infrastructure.common.BoxProcessingLeaseState;
 import com.slack.bot.infrastructure.interaction.box.SlackInteractionFailureType;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutbox;
+import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxClaimExclusion;
+import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxCompletion;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxHistory;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxStatus;
 import com.slack.bot.infrastructure.interaction.box.out.repository.SlackNotificationOutboxRepository;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -99,21 +112,32 @@ public class SlackNotificationOutboxRepositoryAdapter implements SlackNotificati
 
     @Override
     @Transactional
-    public Optional<Long> claimNextId(Instant processingStartedAt, Collection<Long> excludedOutboxIds) {
+    public List<SlackNotificationOutbox> claimBatch(
+            Instant processingStartedAt,
+            int claimLimit,
+            Collection<SlackNotificationOutboxClaimExclusion> claimExclusions
+    ) {
         validateProcessingStartedAt(processingStartedAt);
+        validateClaimLimit(claimLimit);
+        validateClaimExclusions(claimExclusions);
 
-        return slackNotificationOutboxMybatisMapper.findClaimableRowForUpdate(
+        List<SlackNotificationOutboxRow> claimableRows = slackNotificationOutboxMybatisMapper.findClaimableRowsForUpdate(
                 List.of(
                         SlackNotificationOutboxStatus.PENDING.name(),
                         SlackNotificationOutboxStatus.RETRY_PENDING.name()
                 ),
-                excludedOutboxIds
-        ).map(row -> {
-            SlackNotificationOutbox outbox = row.toDomain();
-            outbox.claim(processingStartedAt);
-            updateOutbox(outbox);
-            return outbox.getId();
-        });
+                claimExclusions,
+                claimLimit
+        );
+        if (claimableRows.isEmpty()) {
+            return List.of();
+        }
+
+        List<SlackNotificationOutbox> claimedOutboxes = claimableRows.stream()
+                                                                     .map(row -> claim(row, processingStartedAt))
+                                                                     .toList();
+        claimOutboxes(claimedOutboxes, processingStartedAt);
+        return claimedOutboxes;
     }
 
     @Override
@@ -164,18 +188,56 @@ public class SlackNotificationOutboxRepositoryAdapter implements SlackNotificati
     @Override
     @Transactional
     public int deleteCompletedBefore(Instant completedBefore, int deleteBatchSize) {
+        return deleteCompletedBefore(completedBefore, deleteBatchSize, BoxHistoryRetention.DELETE_ROWS);
+    }
+
+    @Override
+    @Transactional
+    public int deleteCompletedBefore(
+            Instant completedBefore,
+            int deleteBatchSize,
+            BoxHistoryRetention historyRetention
+    ) {
         validateCompletedBefore(completedBefore);
         validateDeleteBatchSize(deleteBatchSize);
+        validateHistoryRetention(historyRetention);
 
         List<Long> deletableOutboxIds = selectCompletedDeletionTargetIds(completedBefore, deleteBatchSize);
         if (deletableOutboxIds.isEmpty()) {
             return 0;
         }
 
-        deleteHistories(deletableOutboxIds);
+        if (historyRetention.deletesRows()) {
+            deleteHistories(deletableOutboxIds);
+        }
         return deleteOutboxes(deletableOutboxIds);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long countCompletedBefore(Instant completedBefore) {
+        validateCompletedBefore(completedBefore);
+
+        Long completedCount = namedParameterJdbcTemplate.queryForObject(
+                """
+                SELECT COUNT(*)
+                FROM slack_notification_outbox
+                WHERE (status = :sentStatus AND sent_at < :completedBefore)
+                   OR (status = :failedStatus AND failed_at < :completedBefore)
+                """,
+                new MapSqlParameterSource()
+                        .addValue("sentStatus", SlackNotificationOutboxStatus.SENT.name())
+                        .addValue("failedStatus", SlackNotificationOutboxStatus.FAILED.name())
+                        .addValue("completedBefore", Timestamp.from(completedBefore)),
+                Long.class
+        );
+        if (completedCount == null) {
+            return 0L;
+        }
+
+        return completedCount;
+    }
+
     private List<Long> selectCompletedDeletionTargetIds(
             Instant completedBefore,
             int deleteBatchSize
@@ -255,6 +317,12 @@ public class SlackNotificationOutboxRepositoryAdapter implements SlackNotificati
         }
     }
 
+    private void validateHistoryRetention(BoxHistoryRetention historyRetention) {
+        if (historyRetention == null) {
+            throw new IllegalArgumentException("historyRetention은 비어 있을 수 없습니다.");
+        }
+    }
+
     private SlackNotificationOutboxHistory recoverTimeoutProcessing(
             SlackNotificationOutbox outbox,
             Instant failedAt,
@@ -313,6 +381,171 @@ public class SlackNotificationOutboxRepositoryAdapter implements SlackNotificati
                                                    .orElse(false);
     }
 
+    @Override
+    @Transactional
+    public Set<Long> saveAllIfProcessingLeaseMatched(List<SlackNotificationOutboxCompletion> completions) {
+        validateCompletions(completions);
+        if (completions.isEmpty()) {
+            return Set.of();
+        }
+
+        Map<Long, ProcessingLeaseSnapshot> leaseSnapshots = selectProcessingLeasesForUpdate(completions);
+        Set<Long> leaseLostOutboxIds = new HashSet<>();
+        List<SlackNotificationOutboxCompletion> leaseMatchedCompletions = new ArrayList<>();
+        for (SlackNotificationOutboxCompletion completion : completions) {
+            ProcessingLeaseSnapshot leaseSnapshot = leaseSnapshots.get(completion.outboxId());
+            if (leaseSnapshot == null || !leaseSnapshot.isClaimedBy(completion.claimedProcessingStartedAt())) {
+                leaseLostOutboxIds.add(completion.outboxId());
+                continue;
+            }
+
+            leaseMatchedCompletions.add(completion);
+        }
+        if (leaseMatchedCompletions.isEmpty()) {
+            return leaseLostOutboxIds;
+        }
+
+        namedParameterJdbcTemplate.batchUpdate(
+                buildCompletionUpdateSql(),
+                leaseMatchedCompletions.stream()
+                                       .map(completion -> toCompletionUpdateParameters(completion.outbox()))
+                                       .toArray(SqlParameterSource[]::new)
+        );
+        namedParameterJdbcTemplate.batchUpdate(
+                buildHistoryInsertSql(),
+                leaseMatchedCompletions.stream()
+                                       .map(completion -> toHistoryInsertParameters(completion.history()))
+                                       .toArray(SqlParameterSource[]::new)
+        );
+        return leaseLostOutboxIds;
+    }
+
+    private Map<Long, ProcessingLeaseSnapshot> selectProcessingLeasesForUpdate(
+            List<SlackNotificationOutboxCompletion> completions
+    ) {
+        List<Long> outboxIds = completions.stream()
+                                          .map(completion -> completion.outboxId())
+                                          .toList();
+        Map<Long, ProcessingLeaseSnapshot> leaseSnapshots = new HashMap<>();
+
+        namedParameterJdbcTemplate.query(
+                """
+                SELECT id, status, processing_lease_state, processing_started_at
+                FROM slack_notification_outbox
+                WHERE id IN (:outboxIds)
+                ORDER BY id ASC
+                FOR UPDATE
+                """,
+                new MapSqlParameterSource()
+                        .addValue("outboxIds", outboxIds),
+                resultSet -> {
+                    Timestamp processingStartedAt = resultSet.getTimestamp("processing_started_at");
+                    leaseSnapshots.put(
+                            resultSet.getLong("id"),
+                            new ProcessingLeaseSnapshot(
+                                    resultSet.getString("status"),
+                                    resultSet.getString("processing_lease_state"),
+                                    processingStartedAt == null ? null : processingStartedAt.toInstant()
+                            )
+                    );
+                }
+        );
+        return leaseSnapshots;
+    }
+
+    private String buildCompletionUpdateSql() {
+        return """
+                UPDATE slack_notification_outbox
+                SET updated_at = CURRENT_TIMESTAMP(6),
+                    status = :status,
+                    processing_attempt = :processingAttempt,
+                    processing_lease_state = :processingLeaseState,
+                    processing_started_at = :processingStartedAt,
+                    sent_time_state = :sentTimeState,
+                    sent_at = :sentAt,
+                    failed_time_state = :failedTimeState,
+                    failed_at = :failedAt,
+                    failure_state = :failureState,
+                    failure_reason = :failureReason,
+                    failure_type = :failureType
+                WHERE id = :id
+                """;
+    }
+
+    private SqlParameterSource toCompletionUpdateParameters(SlackNotificationOutbox outbox) {
+        SlackNotificationOutboxRow row = SlackNotificationOutboxRow.from(outbox);
+
+        return new MapSqlParameterSource()
+                .addValue("id", row.getId())
+                .addValue("status", row.getStatus().name())
+                .addValue("processingAttempt", row.getProcessingAttempt())
+                .addValue("processingLeaseState", row.getProcessingLeaseState().name())
+                .addValue("processingStartedAt", toTimestamp(row.getProcessingStartedAt()), Types.TIMESTAMP)
+                .addValue("sentTimeState", row.getSentTimeState().name())
+                .addValue("sentAt", toTimestamp(row.getSentAt()), Types.TIMESTAMP)
+                .addValue("failedTimeState", row.getFailedTimeState().name())
+                .addValue("failedAt", toTimestamp(row.getFailedAt()), Types.TIMESTAMP)
+                .addValue("failureState", row.getFailureState().name())
+                .addValue("failureReason", row.getFailureReason(), Types.VARCHAR)
+                .addValue("failureType", enumName(row.getFailureType()), Types.VARCHAR);
+    }
+
+    private String buildHistoryInsertSql() {
+        return """
+                INSERT INTO slack_notification_outbox_history (
+                    created_at,
+                    updated_at,
+                    outbox_id,
+                    processing_attempt,
+                    status,
+                    completed_at,
+                    failure_state,
+                    failure_reason,
+                    failure_type
+                )
+                VALUES (
+                    CURRENT_TIMESTAMP(6),
+                    CURRENT_TIMESTAMP(6),
+                    :outboxId,
+                    :processingAttempt,
+                    :status,
+                    :completedAt,
+                    :failureState,
+                    :failureReason,
+                    :failureType
+                )
+                """;
+    }
+
+    private SqlParameterSource toHistoryInsertParameters(SlackNotificationOutboxHistory history) {
+        SlackNotificationOutboxHistoryRow row = SlackNotificationOutboxHistoryRow.from(history);
+
+        return new MapSqlParameterSource()
+                .addValue("outboxId", row.getOutboxId())
+                .addValue("processingAttempt", row.getProcessingAttempt())
+                .addValue("status", row.getStatus().name())
+                .addValue("completedAt", toTimestamp(row.getCompletedAt()), Types.TIMESTAMP)
+                .addValue("failureState", row.getFailureState().name())
+                .addValue("failureReason", row.getFailureReason(), Types.VARCHAR)
+                .addValue("failureType", enumName(row.getFailureType()), Types.VARCHAR);
+    }
+
+    private Timestamp toTimestamp(Instant instant) {
+        if (instant == null) {
+            return null;
+        }
+
+        return Timestamp.from(instant);
+    }
+
+    private String enumName(Enum<?> value) {
+        if (value == null) {
+            return null;
+        }
+
+        return value.name();
+    }
+
     protected String buildEnqueueSql() {
         return """
                 INSERT INTO slack_notification_outbox (
@@ -380,6 +613,32 @@ public class SlackNotificationOutboxRepositoryAdapter implements SlackNotificati
         return outbox;
     }
 
+    private SlackNotificationOutbox claim(SlackNotificationOutboxRow row, Instant processingStartedAt) {
+        SlackNotificationOutbox outbox = row.toDomain();
+        outbox.claim(processingStartedAt);
+        return outbox;
+    }
+
+    private void claimOutboxes(List<SlackNotificationOutbox> claimedOutboxes, Instant processingStartedAt) {
+        List<Long> claimedOutboxIds = claimedOutboxes.stream()
+                                                     .map(outbox -> outbox.getId())
+                                                     .toList();
+        int claimedCount = slackNotificationOutboxMybatisMapper.claimRows(
+                claimedOutboxIds,
+                SlackNotificationOutboxStatus.PROCESSING.name(),
+                BoxProcessingLeaseState.CLAIMED.name(),
+                processingStartedAt,
+                BoxEventTimeState.ABSENT.name(),
+                BoxFailureState.ABSENT.name()
+        );
+        if (claimedCount != claimedOutboxIds.size()) {
+            throw new IllegalStateException(
+                    "claim 대상 outbox 일부를 갱신하지 못했습니다. expected=" + claimedOutboxIds.size()
+                            + ", actual=" + claimedCount
+            );
+        }
+    }
+
     private void saveHistory(SlackNotificationOutboxHistory history) {
         slackNotificationOutboxHistoryMybatisMapper.insert(SlackNotificationOutboxHistoryRow.from(history));
     }
@@ -404,6 +663,38 @@ public class SlackNotificationOutboxRepositoryAdapter implements SlackNotificati
         }
     }
 
+    private void validateClaimLimit(int claimLimit) {
+        if (claimLimit <= 0) {
+            throw new IllegalArgumentException("claimLimit은 0보다 커야 합니다.");
+        }
+    }
+
+    private void validateClaimExclusions(Collection<SlackNotificationOutboxClaimExclusion> claimExclusions) {
+        if (claimExclusions == null) {
+            throw new IllegalArgumentException("claimExclusions는 비어 있을 수 없습니다.");
+        }
+    }
+
+    private void validateCompletions(List<SlackNotificationOutboxCompletion> completions) {
+        if (completions == null) {
+            throw new IllegalArgumentException("completions는 비어 있을 수 없습니다.");
+        }
+        if (completions.stream().anyMatch(completion -> !completion.outbox().hasId())) {
+            throw new IllegalArgumentException("outboxId는 비어 있을 수 없습니다.");
+        }
+        if (completions.stream().anyMatch(completion -> completion.history() == null)) {
+            throw new IllegalArgumentException("history는 비어 있을 수 없습니다.");
+        }
+
+        long distinctOutboxCount = completions.stream()
+                                              .map(completion -> completion.outboxId())
+                                              .distinct()
+                                              .count();
+        if (distinctOutboxCount != completions.size()) {
+            throw new IllegalArgumentException("completions에 중복된 outboxId가 있습니다.");
+        }
+    }
+
     private void validateSaveIfProcessingLeaseMatchedArguments(
             SlackNotificationOutbox outbox,
             Instant claimedProcessingStartedAt
@@ -468,4 +759,17 @@ public class SlackNotificationOutboxRepositoryAdapter implements SlackNotificati
 
         return processingLease.startedAt().equals(claimedProcessingStartedAt);
     }
+
+    private record ProcessingLeaseSnapshot(
+            String status,
+            String processingLeaseState,
+            Instant processingStartedAt
+    ) {
+
+        private boolean isClaimedBy(Instant claimedProcessingStartedAt) {
+            return SlackNotificationOutboxStatus.PROCESSING.name().equals(status)
+                    && BoxProcessingLeaseState.CLAIMED.name().equals(processingLeaseState)
+                    && claimedProcessingStartedAt.equals(processingStartedAt);
+        }
+    }
 }
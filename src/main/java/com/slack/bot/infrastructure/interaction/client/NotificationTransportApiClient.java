@@ -7,14 +7,18 @@ import com.google.gson.Gson;
 import com.slack.api.model.block.LayoutBlock;
 import com.slack.api.model.view.View;
 import com.slack.api.util.json.GsonFactory;
+import com.slack.bot.application.interaction.client.exception.SlackApiRateLimitedException;
 import com.slack.bot.application.interaction.client.exception.SlackBotMessageDispatchException;
+import com.slack.bot.application.interaction.client.exception.SlackChannelNotFoundException;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
@@ -23,6 +27,9 @@ import org.springframework.web.client.RestClient;
 public class NotificationTransportApiClient {
 
     private static final int ERROR_BODY_MAX_LENGTH = 500;
+    private static final int TOO_MANY_REQUESTS_STATUS = 429;
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+    private static final String CHANNEL_NOT_FOUND_ERROR = "channel_not_found";
     private static final Gson SNAKE_CASE_GSON = GsonFactory.createSnakeCase();
 
     private final RestClient slackClient;
@@ -77,11 +84,21 @@ public class NotificationTransportApiClient {
         ensureOk(response, "슬랙 봇 메시지 전송 실패: 블록 메시지 전송 실패");
     }
 
-    public void openModal(String token, String triggerId, View view) {
+    public String openModal(String token, String triggerId, View view) {
         Map<String, Object> body = buildOpenModalBody(triggerId, serializeView(view));
         JsonNode response = postForJson("views.open", token, body);
 
         ensureOk(response, "슬랙 봇 메시지 전송 실패: 모달 열기 실패");
+        return response.path("view")
+                       .path("id")
+                       .asText(null);
+    }
+
+    public void updateModal(String token, String viewId, View view) {
+        Map<String, Object> body = buildUpdateModalBody(viewId, serializeView(view));
+        JsonNode response = postForJson("views.update", token, body);
+
+        ensureOk(response, "슬랙 봇 메시지 전송 실패: 모달 갱신 실패");
     }
 
     public void openModal(String token, String triggerId, JsonNode view) {
@@ -130,10 +147,14 @@ public class NotificationTransportApiClient {
         if (!response.path("ok").asBoolean(false)) {
             String error = response.path("error").asText("알 수 없는 오류");
             String details = resolveResponseDetails(response);
-            if (details.isBlank()) {
-                throw new SlackBotMessageDispatchException(failureMessage + " - " + error);
+            String message = failureMessage + " - " + error;
+            if (!details.isBlank()) {
+                message = message + " - " + details;
             }
-            throw new SlackBotMessageDispatchException(failureMessage + " - " + error + " - " + details);
+            if (CHANNEL_NOT_FOUND_ERROR.equals(error)) {
+                throw new SlackChannelNotFoundException(message);
+            }
+            throw new SlackBotMessageDispatchException(message);
         }
     }
 
@@ -155,6 +176,10 @@ public class NotificationTransportApiClient {
 
     private RestClient.ResponseSpec.ErrorHandler slackApiErrorHandler(String apiName) {
         return (request, responseError) -> {
+            if (responseError.getStatusCode().value() == TOO_MANY_REQUESTS_STATUS) {
+                throw new SlackApiRateLimitedException(apiName, resolveRetryAfter(responseError));
+            }
+
             String responseBody = readResponseBody(responseError);
             StringBuilder messageBuilder = new StringBuilder()
                     .append("슬랙 봇 메시지 전송 실패: Slack API 요청 실패 (")
@@ -169,6 +194,19 @@ public class NotificationTransportApiClient {
         };
     }
 
+    private Duration resolveRetryAfter(ClientHttpResponse responseError) {
+        String retryAfter = responseError.getHeaders().getFirst(RETRY_AFTER_HEADER);
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     private String truncateBody(String responseBody) {
         if (responseBody.length() <= ERROR_BODY_MAX_LENGTH) {
             return responseBody;
@@ -177,7 +215,7 @@ public class NotificationTransportApiClient {
         return responseBody.substring(0, ERROR_BODY_MAX_LENGTH) + "...(truncated)";
     }
 
-    private String readResponseBody(org.springframework.http.client.ClientHttpResponse responseError) {
+    private String readResponseBody(ClientHttpResponse responseError) {
         try {
             return new String(responseError.getBody().readAllBytes(), StandardCharsets.UTF_8);
         } catch (IOException e) {
@@ -247,6 +285,14 @@ public class NotificationTransportApiClient {
         return body;
     }
 
+    private Map<String, Object> buildUpdateModalBody(String viewId, JsonNode view) {
+        Map<String, Object> body = new HashMap<>();
+
+        body.put("view_id", viewId);
+        body.put("view", view);
+        return body;
+    }
+
     private JsonNode serializeView(View view) {
         String snakeCaseJson = SNAKE_CASE_GSON.toJson(view);
 
@@ -0,0 +1,138 @@
+package com.slack.bot.infrastructure.interaction.client;
+
+import com.slack.bot.global.config.properties.SlackApiRateLimitProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SlackApiRateLimiter {
+
+    private static final String THROTTLED_TEAMS_METRIC = "slack.api.rate_limit.throttled_teams";
+    private static final String BUCKETS_METRIC = "slack.api.rate_limit.buckets";
+
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final SlackApiRateLimitProperties slackApiRateLimitProperties;
+    private final Duration idleBucketTtl;
+    private final ConcurrentMap<ThrottledSlackApi, SlackApiTokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Set<String> registeredApiNames = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<Instant> nextIdleSweepAt;
+
+    public SlackApiRateLimiter(
+            Clock clock,
+            MeterRegistry meterRegistry,
+            SlackApiRateLimitProperties slackApiRateLimitProperties
+    ) {
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.slackApiRateLimitProperties = slackApiRateLimitProperties;
+        this.idleBucketTtl = Duration.ofMillis(slackApiRateLimitProperties.idleBucketTtlMs());
+        this.nextIdleSweepAt = new AtomicReference<>(clock.instant().plus(idleBucketTtl));
+
+        Gauge.builder(BUCKETS_METRIC, buckets, Map::size)
+             .description("Slack API 호출 허용량을 추적 중인 팀/메서드 수")
+             .register(meterRegistry);
+    }
+
+    public boolean tryAcquire(String teamId, String apiName) {
+        return bucketOf(teamId, apiName).tryAcquire(clock.instant());
+    }
+
+    public void throttle(String teamId, String apiName, Duration retryAfter) {
+        Duration throttleDuration = resolveRetryAfter(retryAfter);
+        Instant now = clock.instant();
+
+        bucketOf(teamId, apiName).throttleUntil(now.plus(throttleDuration), now);
+        log.warn(
+                "Slack API 호출 한도 초과로 팀 호출을 지연합니다. teamId={}, apiName={}, retryAfter={}",
+                teamId,
+                apiName,
+                throttleDuration
+        );
+    }
+
+    public Duration remainingThrottle(String teamId, String apiName) {
+        return bucketOf(teamId, apiName).remainingThrottle(clock.instant());
+    }
+
+    public Set<ThrottledSlackApi> throttledApis() {
+        Instant now = clock.instant();
+
+        return buckets.entrySet()
+                      .stream()
+                      .filter(entry -> entry.getValue().isThrottled(now))
+                      .map(entry -> entry.getKey())
+                      .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public int bucketCount() {
+        return buckets.size();
+    }
+
+    private Duration resolveRetryAfter(Duration retryAfter) {
+        if (retryAfter == null || retryAfter.isNegative() || retryAfter.isZero()) {
+            return Duration.ofMillis(slackApiRateLimitProperties.defaultRetryAfterMs());
+        }
+
+        return retryAfter;
+    }
+
+    private SlackApiTokenBucket bucketOf(String teamId, String apiName) {
+        evictIdleBucketsIfDue();
+
+        return buckets.computeIfAbsent(new ThrottledSlackApi(teamId, apiName), this::createBucket);
+    }
+
+    private void evictIdleBucketsIfDue() {
+        Instant now = clock.instant();
+        Instant sweepAt = nextIdleSweepAt.get();
+
+        if (now.isBefore(sweepAt) || !nextIdleSweepAt.compareAndSet(sweepAt, now.plus(idleBucketTtl))) {
+            return;
+        }
+
+        buckets.values().removeIf(bucket -> bucket.isIdle(now, idleBucketTtl));
+    }
+
+    private SlackApiTokenBucket createBucket(ThrottledSlackApi key) {
+        SlackApiRateLimitProperties.MethodLimit methodLimit = slackApiRateLimitProperties.limitOf(key.apiName());
+
+        registerGauge(key.apiName());
+        return new SlackApiTokenBucket(
+                methodLimit.permitsPerMinute(),
+                methodLimit.burstCapacity(),
+                clock.instant()
+        );
+    }
+
+    private void registerGauge(String apiName) {
+        if (!registeredApiNames.add(apiName)) {
+            return;
+        }
+
+        Gauge.builder(THROTTLED_TEAMS_METRIC, buckets, target -> countThrottledTeams(target, apiName))
+             .description("메서드별 Slack API 호출이 지연 중인 팀 수")
+             .tag("api_method", apiName)
+             .register(meterRegistry);
+    }
+
+    private double countThrottledTeams(Map<ThrottledSlackApi, SlackApiTokenBucket> target, String apiName) {
+        Instant now = clock.instant();
+
+        return target.entrySet()
+                     .stream()
+                     .filter(entry -> entry.getKey().apiName().equals(apiName))
+                     .filter(entry -> entry.getValue().isThrottled(now))
+                     .count();
+    }
+}
@@ -0,0 +1,88 @@
+package com.slack.bot.infrastructure.interaction.client;
+
+import java.time.Duration;
+import java.time.Instant;
+
+class SlackApiTokenBucket {
+
+    private static final long NANOS_PER_MINUTE = Duration.ofMinutes(1L).toNanos();
+
+    private final int burstCapacity;
+    private final long refillNanosPerPermit;
+
+    private double availablePermits;
+    private Instant lastRefilledAt;
+    private Instant throttledUntil;
+    private Instant lastUsedAt;
+
+    SlackApiTokenBucket(int permitsPerMinute, int burstCapacity, Instant now) {
+        this.burstCapacity = burstCapacity;
+        this.refillNanosPerPermit = Math.max(1L, NANOS_PER_MINUTE / permitsPerMinute);
+        this.availablePermits = burstCapacity;
+        this.lastRefilledAt = now;
+        this.throttledUntil = now;
+        this.lastUsedAt = now;
+    }
+
+    synchronized boolean tryAcquire(Instant now) {
+        lastUsedAt = now;
+        if (now.isBefore(throttledUntil)) {
+            return false;
+        }
+
+        refill(now);
+        if (availablePermits >= 1.0d) {
+            availablePermits -= 1.0d;
+            return true;
+        }
+
+        long missingNanos = (long) Math.ceil((1.0d - availablePermits) * refillNanosPerPermit);
+        throttledUntil = now.plusNanos(missingNanos);
+        return false;
+    }
+
+    synchronized void throttleUntil(Instant until, Instant now) {
+        lastUsedAt = now;
+        refill(now);
+        availablePermits = 0.0d;
+        if (until.isAfter(throttledUntil)) {
+            throttledUntil = until;
+        }
+    }
+
+    synchronized boolean isThrottled(Instant now) {
+        return now.isBefore(throttledUntil);
+    }
+
+    synchronized Duration remainingThrottle(Instant now) {
+        if (!now.isBefore(throttledUntil)) {
+            return Duration.ZERO;
+        }
+
+        return Duration.between(now, throttledUntil);
+    }
+
+    synchronized double availablePermits(Instant now) {
+        refill(now);
+        return availablePermits;
+    }
+
+    synchronized boolean isIdle(Instant now, Duration idleTtl) {
+        if (isThrottled(now) || now.isBefore(lastUsedAt.plus(idleTtl))) {
+            return false;
+        }
+
+        refill(now);
+        return availablePermits >= burstCapacity;
+    }
+
+    private void refill(Instant now) {
+        if (!now.isAfter(lastRefilledAt)) {
+            return;
+        }
+
+        long elapsedNanos = Duration.between(lastRefilledAt, now).toNanos();
+        availablePermits = Math.min(burstCapacity, availablePermits + (double) elapsedNanos / refillNanosPerPermit);
+        lastRefilledAt = now;
+    }
+}
@@ -0,0 +1,4 @@
+package com.slack.bot.infrastructure.interaction.client;
+
+public record ThrottledSlackApi(String teamId, String apiName) {
+}
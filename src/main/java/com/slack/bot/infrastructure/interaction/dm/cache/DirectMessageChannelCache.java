@@ -0,0 +1,88 @@
+package com.slack.bot.infrastructure.interaction.dm.cache;
+
+import com.slack.bot.global.config.properties.DirectMessageChannelCacheProperties;
+import com.slack.bot.infrastructure.common.cache.ExpiringLocalCache;
+import com.slack.bot.infrastructure.interaction.dm.repository.DirectMessageChannelRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class DirectMessageChannelCache {
+
+    private static final String METRIC_PREFIX = "slack.dm.channel_cache";
+
+    private final DirectMessageChannelRepository directMessageChannelRepository;
+    private final ExpiringLocalCache<DirectMessageKey, String> channelIds;
+
+    public DirectMessageChannelCache(
+            Clock clock,
+            MeterRegistry meterRegistry,
+            DirectMessageChannelCacheProperties directMessageChannelCacheProperties,
+            DirectMessageChannelRepository directMessageChannelRepository
+    ) {
+        this.directMessageChannelRepository = directMessageChannelRepository;
+        this.channelIds = new ExpiringLocalCache<>(
+                METRIC_PREFIX,
+                clock,
+                meterRegistry,
+                Duration.ofMillis(directMessageChannelCacheProperties.ttlMs()),
+                directMessageChannelCacheProperties.maximumSize()
+        );
+    }
+
+    public String resolve(String teamId, String userId, Supplier<String> channelOpener) {
+        if (teamId == null || teamId.isBlank() || userId == null || userId.isBlank()) {
+            return channelOpener.get();
+        }
+
+        DirectMessageKey key = new DirectMessageKey(teamId, userId);
+
+        return channelIds.get(key, ignored -> loadOrOpen(key, channelOpener))
+                         .orElseThrow();
+    }
+
+    public void evictChannel(String teamId, String channelId) {
+        if (teamId == null || teamId.isBlank() || channelId == null || channelId.isBlank()) {
+            return;
+        }
+
+        directMessageChannelRepository.deleteByChannelId(teamId, channelId);
+        channelIds.evictIf(channelId::equals);
+    }
+
+    public Optional<String> reopen(String teamId, String staleChannelId, Function<String, String> channelOpener) {
+        if (teamId == null || teamId.isBlank() || staleChannelId == null || staleChannelId.isBlank()) {
+            return Optional.empty();
+        }
+
+        Optional<String> userId = directMessageChannelRepository.findUserId(teamId, staleChannelId);
+
+        evictChannel(teamId, staleChannelId);
+        return userId.map(id -> resolve(teamId, id, () -> channelOpener.apply(id)));
+    }
+
+    public void evictAll() {
+        channelIds.evictAll();
+    }
+
+    public int size() {
+        return channelIds.size();
+    }
+
+    private Optional<String> loadOrOpen(DirectMessageKey key, Supplier<String> channelOpener) {
+        Optional<String> storedChannelId = directMessageChannelRepository.findChannelId(key.teamId(), key.userId());
+        if (storedChannelId.isPresent()) {
+            return storedChannelId;
+        }
+
+        String openedChannelId = channelOpener.get();
+        directMessageChannelRepository.save(key.teamId(), key.userId(), openedChannelId);
+        return Optional.of(openedChannelId);
+    }
+
+    private record DirectMessageKey(String teamId, String userId) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.slack.bot.infrastructure.interaction.dm.persistence;
+
+import com.slack.bot.infrastructure.interaction.dm.repository.DirectMessageChannelRepository;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class DirectMessageChannelRepositoryAdapter implements DirectMessageChannelRepository {
+
+    private final Clock clock;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findChannelId(String teamId, String userId) {
+        validateTeamId(teamId);
+        validateUserId(userId);
+
+        List<String> channelIds = namedParameterJdbcTemplate.queryForList(
+                """
+                SELECT channel_id
+                FROM slack_direct_message_channels
+                WHERE team_id = :teamId
+                  AND user_id = :userId
+                """,
+                new MapSqlParameterSource()
+                        .addValue("teamId", teamId)
+                        .addValue("userId", userId),
+                String.class
+        );
+
+        return channelIds.stream()
+                         .findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findUserId(String teamId, String channelId) {
+        validateTeamId(teamId);
+        validateChannelId(channelId);
+
+        List<String> userIds = namedParameterJdbcTemplate.queryForList(
+                """
+                SELECT user_id
+                FROM slack_direct_message_channels
+                WHERE team_id = :teamId
+                  AND channel_id = :channelId
+                """,
+                new MapSqlParameterSource()
+                        .addValue("teamId", teamId)
+                        .addValue("channelId", channelId),
+                String.class
+        );
+
+        return userIds.stream()
+                      .findFirst();
+    }
+
+    @Override
+    @Transactional
+    public void save(String teamId, String userId, String channelId) {
+        validateTeamId(teamId);
+        validateUserId(userId);
+        validateChannelId(channelId);
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("teamId", teamId)
+                .addValue("userId", userId)
+                .addValue("channelId", channelId)
+                .addValue("updatedAt", Timestamp.from(clock.instant()));
+        if (updateChannel(parameters) > 0) {
+            return;
+        }
+
+        try {
+            namedParameterJdbcTemplate.update(
+                    """
+                    INSERT INTO slack_direct_message_channels (team_id, user_id, channel_id, updated_at)
+                    VALUES (:teamId, :userId, :channelId, :updatedAt)
+                    """,
+                    parameters
+            );
+        } catch (DuplicateKeyException ignored) {
+            updateChannel(parameters);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteByChannelId(String teamId, String channelId) {
+        validateTeamId(teamId);
+        validateChannelId(channelId);
+
+        namedParameterJdbcTemplate.update(
+                """
+                DELETE FROM slack_direct_message_channels
+                WHERE team_id = :teamId
+                  AND channel_id = :channelId
+                """,
+                new MapSqlParameterSource()
+                        .addValue("teamId", teamId)
+                        .addValue("channelId", channelId)
+        );
+    }
+
+    private int updateChannel(MapSqlParameterSource parameters) {
+        return namedParameterJdbcTemplate.update(
+                """
+                UPDATE slack_direct_message_channels
+                SET channel_id = :channelId,
+                    updated_at = :updatedAt
+                WHERE team_id = :teamId
+                  AND user_id = :userId
+                """,
+                parameters
+        );
+    }
+
+    private void validateTeamId(String teamId) {
+        if (teamId == null || teamId.isBlank()) {
+            throw new IllegalArgumentException("teamId는 비어 있을 수 없습니다.");
+        }
+    }
+
+    private void validateUserId(String userId) {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("userId는 비어 있을 수 없습니다.");
+        }
+    }
+
+    private void validateChannelId(String channelId) {
+        if (channelId == null || channelId.isBlank()) {
+            throw new IllegalArgumentException("channelId는 비어 있을 수 없습니다.");
+        }
+    }
+}
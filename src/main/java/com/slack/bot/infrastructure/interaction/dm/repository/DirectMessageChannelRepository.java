@@ -0,0 +1,14 @@
+package com.slack.bot.infrastructure.interaction.dm.repository;
+
+import java.util.Optional;
+
+public interface DirectMessageChannelRepository {
+
+    Optional<String> findChannelId(String teamId, String userId);
+
+    Optional<String> findUserId(String teamId, String channelId);
+
+    void save(String teamId, String userId, String channelId);
+
+    void deleteByChannelId(String teamId, String channelId);
+}
@@ -6,6 +6,7 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.slack.bot.domain.link.AccessLinkSequence;
 import com.slack.bot.domain.link.dto.AccessLinkSequenceBlockDto;
 import com.slack.bot.domain.link.repository.AccessLinkSequenceRepository;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -15,7 +16,7 @@ import org.springframework.stereotype.Repository;
 @RequiredArgsConstructor
 public class AccessLinkSequenceRepositoryAdapter implements AccessLinkSequenceRepository {
 
-    private static final Object CREATE_LOCK = new Object();
+    private static final ReentrantLock CREATE_LOCK = new ReentrantLock();
 
     private final JPAQueryFactory queryFactory;
     private final AccessLinkSequencePersistenceHandler persistenceHandler;
@@ -44,7 +45,8 @@ public class AccessLinkSequenceRepositoryAdapter implements AccessLinkSequenceRe
     }
 
     private void ensureInitialized(Long initialValue) {
-        synchronized (CREATE_LOCK) {
+        CREATE_LOCK.lock();
+        try {
             boolean exists = queryFactory.selectOne()
                                          .from(accessLinkSequence)
                                          .where(accessLinkSequence.id.eq(AccessLinkSequence.DEFAULT_ID))
@@ -54,6 +56,8 @@ public class AccessLinkSequenceRepositoryAdapter implements AccessLinkSequenceRe
             }
 
             createIfAbsent(initialValue);
+        } finally {
+            CREATE_LOCK.unlock();
         }
     }
 
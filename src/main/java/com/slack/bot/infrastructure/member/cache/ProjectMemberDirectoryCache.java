@@ -0,0 +1,92 @@
+package com.slack.bot.infrastructure.member.cache;
+
+import com.slack.bot.domain.member.dto.ProjectMemberMentionDto;
+import com.slack.bot.domain.member.repository.ProjectMemberRepository;
+import com.slack.bot.global.config.properties.ProjectMemberDirectoryCacheProperties;
+import com.slack.bot.infrastructure.common.cache.ExpiringLocalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class ProjectMemberDirectoryCache {
+
+    private static final String METRIC_PREFIX = "review.member.directory_cache";
+
+    private final ProjectMemberRepository projectMemberRepository;
+    private final ExpiringLocalCache<MemberKey, ProjectMemberMentionDto> members;
+
+    public ProjectMemberDirectoryCache(
+            Clock clock,
+            MeterRegistry meterRegistry,
+            ProjectMemberDirectoryCacheProperties projectMemberDirectoryCacheProperties,
+            ProjectMemberRepository projectMemberRepository
+    ) {
+        this.projectMemberRepository = projectMemberRepository;
+        this.members = new ExpiringLocalCache<>(
+                METRIC_PREFIX,
+                clock,
+                meterRegistry,
+                Duration.ofMillis(projectMemberDirectoryCacheProperties.ttlMs()),
+                projectMemberDirectoryCacheProperties.maximumSize()
+        );
+    }
+
+    public Map<String, ProjectMemberMentionDto> findByGithubIds(String teamId, Collection<String> githubIds) {
+        if (teamId == null || teamId.isBlank() || githubIds == null || githubIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<MemberKey> keys = githubIds.stream()
+                                       .filter(githubId -> githubId != null && !githubId.isBlank())
+                                       .map(githubId -> new MemberKey(teamId, githubId))
+                                       .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, ProjectMemberMentionDto> result = new HashMap<>();
+        members.getAll(keys, missingKeys -> loadMembers(teamId, missingKeys))
+               .forEach((key, member) -> result.put(key.githubId(), member));
+        return result;
+    }
+
+    public void evictTeam(String teamId) {
+        if (teamId == null) {
+            return;
+        }
+
+        members.evictIf(member -> teamId.equals(member.teamId()));
+    }
+
+    public void evictAll() {
+        members.evictAll();
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    private Map<MemberKey, ProjectMemberMentionDto> loadMembers(String teamId, Set<MemberKey> missingKeys) {
+        Set<String> githubIds = missingKeys.stream()
+                                           .map(MemberKey::githubId)
+                                           .collect(Collectors.toSet());
+
+        return projectMemberRepository.findByGithubUsers(teamId, githubIds)
+                                      .stream()
+                                      .map(ProjectMemberMentionDto::from)
+                                      .collect(Collectors.toMap(
+                                              member -> new MemberKey(teamId, member.githubId()),
+                                              member -> member,
+                                              (first, second) -> first
+                                      ));
+    }
+
+    private record MemberKey(String teamId, String githubId) {
+    }
+}
@@ -6,6 +6,8 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.slack.bot.domain.member.ProjectMember;
 import com.slack.bot.domain.member.repository.ProjectMemberRepository;
 import com.slack.bot.infrastructure.common.MysqlDuplicateKeyDetector;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -77,4 +79,19 @@ public class ProjectMemberRepositoryAdapter implements ProjectMemberRepository {
 
         return Optional.ofNullable(result);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectMember> findByGithubUsers(String teamId, Collection<String> githubIds) {
+        if (githubIds == null || githubIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory.selectFrom(projectMember)
+                           .where(
+                                   projectMember.teamId.eq(teamId),
+                                   projectMember.githubId.value.in(githubIds)
+                           )
+                           .fetch();
+    }
 }
@@ -0,0 +1,62 @@
+package com.slack.bot.infrastructure.project.cache;
+
+import com.slack.bot.domain.project.dto.ProjectChannelRouteDto;
+import com.slack.bot.domain.project.repository.ProjectRepository;
+import com.slack.bot.global.config.properties.ProjectChannelRouteCacheProperties;
+import com.slack.bot.infrastructure.common.cache.ExpiringLocalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+public class ProjectChannelRouteCache {
+
+    private static final String METRIC_PREFIX = "review.project.channel_route_cache";
+
+    private final ProjectRepository projectRepository;
+    private final ExpiringLocalCache<String, ProjectChannelRouteDto> routes;
+
+    public ProjectChannelRouteCache(
+            Clock clock,
+            MeterRegistry meterRegistry,
+            ProjectChannelRouteCacheProperties projectChannelRouteCacheProperties,
+            ProjectRepository projectRepository
+    ) {
+        this.projectRepository = projectRepository;
+        this.routes = new ExpiringLocalCache<>(
+                METRIC_PREFIX,
+                clock,
+                meterRegistry,
+                Duration.ofMillis(projectChannelRouteCacheProperties.ttlMs()),
+                projectChannelRouteCacheProperties.maximumSize()
+        );
+    }
+
+    public Optional<ProjectChannelRouteDto> findByApiKey(String apiKey) {
+        if (apiKey == null || apiKey.isBlank()) {
+            return Optional.empty();
+        }
+
+        return routes.get(apiKey, projectRepository::findChannelRouteByApiKey, this::isResolved);
+    }
+
+    public void evictTeam(String teamId) {
+        if (teamId == null) {
+            return;
+        }
+
+        routes.evictIf(route -> teamId.equals(route.teamId()));
+    }
+
+    public void evictAll() {
+        routes.evictAll();
+    }
+
+    public int size() {
+        return routes.size();
+    }
+
+    private boolean isResolved(ProjectChannelRouteDto route) {
+        return route.hasWorkspace() && route.hasChannel();
+    }
+}
@@ -1,9 +1,13 @@
 package com.slack.bot.infrastructure.project.persistence;
 
+import static com.slack.bot.domain.channel.QChannel.channel;
 import static com.slack.bot.domain.project.QProject.project;
+import static com.slack.bot.domain.workspace.QWorkspace.workspace;
 
 import com.slack.bot.domain.project.Project;
+import com.slack.bot.domain.project.dto.ProjectChannelRouteDto;
 import com.slack.bot.domain.project.repository.ProjectRepository;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +38,26 @@ public class ProjectRepositoryAdapter implements ProjectRepository {
         return Optional.ofNullable(result);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ProjectChannelRouteDto> findChannelRouteByApiKey(String apiKey) {
+        ProjectChannelRouteDto result = queryFactory.select(Projections.constructor(
+                                                            ProjectChannelRouteDto.class,
+                                                            project.id,
+                                                            workspace.teamId,
+                                                            workspace.accessToken,
+                                                            channel.slackChannelId
+                                                    ))
+                                                    .from(project)
+                                                    .leftJoin(workspace).on(workspace.userId.eq(project.userId))
+                                                    .leftJoin(channel).on(channel.teamId.eq(workspace.teamId))
+                                                    .where(project.apiKey.eq(apiKey))
+                                                    .orderBy(workspace.id.asc(), channel.id.asc())
+                                                    .fetchFirst();
+
+        return Optional.ofNullable(result);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean existsById(Long projectId) {
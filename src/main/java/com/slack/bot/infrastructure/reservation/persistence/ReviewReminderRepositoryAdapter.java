@@ -2,8 +2,15 @@ package com.slack.bot.infrastructure.reservation.persistence;
 
 import com.slack.bot.domain.reservation.ReviewReminder;
 import com.slack.bot.domain.reservation.repository.ReviewReminderRepository;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ReviewReminderRepositoryAdapter implements ReviewReminderRepository {
 
     private final JpaReviewReminderRepository jpaReviewReminderRepository;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     @Override
     @Transactional
@@ -30,4 +38,95 @@ public class ReviewReminderRepositoryAdapter implements ReviewReminderRepository
     public void deleteByReservationId(Long reservationId) {
         jpaReviewReminderRepository.deleteByReservationId(reservationId);
     }
+
+    @Override
+    @Transactional
+    public List<ReviewReminder> claimDue(Instant dueAt, Instant leaseExpiredBefore, int claimLimit) {
+        validateClaimDueArguments(dueAt, leaseExpiredBefore, claimLimit);
+
+        List<Long> claimableIds = namedParameterJdbcTemplate.query(
+                """
+                SELECT id
+                FROM review_reminders
+                WHERE fired_at IS NULL
+                  AND scheduled_at <= :dueAt
+                  AND (processing_started_at IS NULL OR processing_started_at < :leaseExpiredBefore)
+                ORDER BY scheduled_at ASC, id ASC
+                LIMIT :claimLimit
+                FOR UPDATE SKIP LOCKED
+                """,
+                new MapSqlParameterSource()
+                        .addValue("dueAt", Timestamp.from(dueAt))
+                        .addValue("leaseExpiredBefore", Timestamp.from(leaseExpiredBefore))
+                        .addValue("claimLimit", claimLimit),
+                (resultSet, rowNum) -> resultSet.getLong(1)
+        );
+        if (claimableIds.isEmpty()) {
+            return List.of();
+        }
+
+        claimReminders(claimableIds, dueAt);
+        return jpaReviewReminderRepository.findAllById(claimableIds)
+                                          .stream()
+                                          .sorted(Comparator.comparing(ReviewReminder::getScheduledAt)
+                                                            .thenComparing(ReviewReminder::getId))
+                                          .toList();
+    }
+
+    @Override
+    @Transactional
+    public int markFiredAll(Collection<Long> reminderIds, Instant firedAt) {
+        if (firedAt == null) {
+            throw new IllegalArgumentException("firedAt은 비어 있을 수 없습니다.");
+        }
+        if (reminderIds == null || reminderIds.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp firedTimestamp = Timestamp.from(firedAt);
+        return namedParameterJdbcTemplate.update(
+                """
+                UPDATE review_reminders
+                SET fired_at = :firedAt,
+                    updated_at = :firedAt
+                WHERE id IN (:reminderIds)
+                  AND fired_at IS NULL
+                """,
+                new MapSqlParameterSource()
+                        .addValue("firedAt", firedTimestamp)
+                        .addValue("reminderIds", reminderIds)
+        );
+    }
+
+    private void claimReminders(List<Long> claimableIds, Instant processingStartedAt) {
+        int claimedCount = namedParameterJdbcTemplate.update(
+                """
+                UPDATE review_reminders
+                SET processing_started_at = :processingStartedAt
+                WHERE id IN (:reminderIds)
+                """,
+                new MapSqlParameterSource()
+                        .addValue("processingStartedAt", Timestamp.from(processingStartedAt))
+                        .addValue("reminderIds", claimableIds)
+        );
+
+        if (claimedCount != claimableIds.size()) {
+            throw new IllegalStateException(
+                    "claim 대상 review reminder 일부를 갱신하지 못했습니다. expected=" + claimableIds.size()
+                            + ", actual=" + claimedCount
+            );
+        }
+    }
+
+    private void validateClaimDueArguments(Instant dueAt, Instant leaseExpiredBefore, int claimLimit) {
+        if (dueAt == null) {
+            throw new IllegalArgumentException("dueAt은 비어 있을 수 없습니다.");
+        }
+        if (leaseExpiredBefore == null) {
+            throw new IllegalArgumentException("leaseExpiredBefore는 비어 있을 수 없습니다.");
+        }
+        if (claimLimit <= 0) {
+            throw new IllegalArgumentException("claimLimit은 0보다 커야 합니다.");
+        }
+    }
 }
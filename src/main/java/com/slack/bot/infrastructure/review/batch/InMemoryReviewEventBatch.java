@@ -6,13 +6,13 @@ import com.slack.bot.application.review.dto.ReviewNotificationPayload;
 import com.slack.bot.application.review.dto.request.ReviewAssignmentRequest;
 import com.slack.bot.application.round.ReviewRequestRoundCoordinator;
 import com.slack.bot.application.round.dto.ReviewRoundRegistrationResultDto;
-import java.time.Instant;
+import com.slack.bot.application.worker.HashedWheelTimer;
+import com.slack.bot.application.worker.HashedWheelTimer.WheelTimeout;
+import java.time.Duration;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -22,10 +22,10 @@ public class InMemoryReviewEventBatch implements ReviewEventBatch {
     private static final long DEFAULT_BATCH_WINDOW_MILLIS = 5_000L;
     private static final int DEFAULT_PROCESS_BATCH_SIZE = 30;
 
-    private final TaskScheduler taskScheduler;
+    private final HashedWheelTimer reviewEventBatchTimer;
     private final ReviewRequestInboxProcessor reviewRequestInboxProcessor;
     private final ReviewRequestRoundCoordinator reviewRequestRoundCoordinator;
-    private final ConcurrentHashMap<String, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, WheelTimeout> scheduledTasks = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, Long> scheduledVersions = new ConcurrentHashMap<>();
     private final AtomicLong scheduleVersionSequence = new AtomicLong();
 
@@ -60,13 +60,13 @@ public class InMemoryReviewEventBatch implements ReviewEventBatch {
         long version = scheduleVersionSequence.incrementAndGet();
         scheduledVersions.put(batchKey, version);
 
-        ScheduledFuture<?> nextFuture = taskScheduler.schedule(
+        WheelTimeout nextTimeout = reviewEventBatchTimer.schedule(
                 () -> flush(batchKey, version),
-                Instant.now().plusMillis(batchWindowMillis)
+                Duration.ofMillis(batchWindowMillis)
         );
-        ScheduledFuture<?> previousFuture = scheduledTasks.put(batchKey, nextFuture);
-        if (previousFuture != null) {
-            previousFuture.cancel(false);
+        WheelTimeout previousTimeout = scheduledTasks.put(batchKey, nextTimeout);
+        if (previousTimeout != null) {
+            previousTimeout.cancel();
         }
     }
 
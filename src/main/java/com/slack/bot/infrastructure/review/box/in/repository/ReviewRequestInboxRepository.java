@@ -1,5 +1,6 @@
 package com.slack.bot.infrastructure.review.box.in.repository;
 
+import com.slack.bot.infrastructure.common.BoxHistoryRetention;
 import com.slack.bot.infrastructure.review.box.in.ReviewRequestInbox;
 import com.slack.bot.infrastructure.review.box.in.ReviewRequestInboxHistory;
 import java.time.Instant;
@@ -40,6 +41,14 @@ public interface ReviewRequestInboxRepository {
 
     int deleteCompletedBefore(Instant completedBefore, int deleteBatchSize);
 
+    int deleteCompletedBefore(
+            Instant completedBefore,
+            int deleteBatchSize,
+            BoxHistoryRetention historyRetention
+    );
+
+    long countCompletedBefore(Instant completedBefore);
+
     boolean saveIfProcessingLeaseMatched(
             ReviewRequestInbox inbox,
             Instant claimedProcessingStartedAt
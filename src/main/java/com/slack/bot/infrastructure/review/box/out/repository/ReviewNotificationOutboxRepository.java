@@ -1,5 +1,6 @@
 package com.slack.bot.infrastructure.review.box.out.repository;
 
+import com.slack.bot.infrastructure.common.BoxHistoryRetention;
 import com.slack.bot.infrastructure.review.box.out.ReviewNotificationOutbox;
 import com.slack.bot.infrastructure.review.box.out.ReviewNotificationOutboxHistory;
 import java.time.Instant;
@@ -42,4 +43,12 @@ public interface ReviewNotificationOutboxRepository {
     );
 
     int deleteCompletedBefore(Instant completedBefore, int deleteBatchSize);
+
+    int deleteCompletedBefore(
+            Instant completedBefore,
+            int deleteBatchSize,
+            BoxHistoryRetention historyRetention
+    );
+
+    long countCompletedBefore(Instant completedBefore);
 }
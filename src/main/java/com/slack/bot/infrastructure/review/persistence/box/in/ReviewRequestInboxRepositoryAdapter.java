@@ -1,5 +1,6 @@
 package com.slack.bot.infrastructure.review.persistence.box.in;
 
+import com.slack.bot.infrastructure.common.BoxHistoryRetention;
 import com.slack.bot.infrastructure.review.box.in.ReviewRequestInbox;
 import com.slack.bot.infrastructure.review.box.in.ReviewRequestInboxFailureType;
 import com.slack.bot.infrastructure.review.box.in.ReviewRequestInboxHistory;
@@ -244,18 +245,56 @@ public class ReviewRequestInboxRepositoryAdapter implements ReviewRequestInboxRe
     @Override
     @Transactional
     public int deleteCompletedBefore(Instant completedBefore, int deleteBatchSize) {
+        return deleteCompletedBefore(completedBefore, deleteBatchSize, BoxHistoryRetention.DELETE_ROWS);
+    }
+
+    @Override
+    @Transactional
+    public int deleteCompletedBefore(
+            Instant completedBefore,
+            int deleteBatchSize,
+            BoxHistoryRetention historyRetention
+    ) {
         validateCompletedBefore(completedBefore);
         validateDeleteBatchSize(deleteBatchSize);
+        validateHistoryRetention(historyRetention);
 
         List<Long> deletableInboxIds = selectCompletedDeletionTargetIds(completedBefore, deleteBatchSize);
         if (deletableInboxIds.isEmpty()) {
             return 0;
         }
 
-        deleteHistories(deletableInboxIds);
+        if (historyRetention.deletesRows()) {
+            deleteHistories(deletableInboxIds);
+        }
         return deleteInboxes(deletableInboxIds);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long countCompletedBefore(Instant completedBefore) {
+        validateCompletedBefore(completedBefore);
+
+        Long completedCount = namedParameterJdbcTemplate.queryForObject(
+                """
+                SELECT COUNT(*)
+                FROM review_request_inbox
+                WHERE (status = :processedStatus AND processed_at < :completedBefore)
+                   OR (status = :failedStatus AND failed_at < :completedBefore)
+                """,
+                new MapSqlParameterSource()
+                        .addValue("processedStatus", ReviewRequestInboxStatus.PROCESSED.name())
+                        .addValue("failedStatus", ReviewRequestInboxStatus.FAILED.name())
+                        .addValue("completedBefore", Timestamp.from(completedBefore)),
+                Long.class
+        );
+        if (completedCount == null) {
+            return 0L;
+        }
+
+        return completedCount;
+    }
+
     private void batchInsertTimeoutRecoveryHistory(
             List<TimeoutRecoveryTarget> timedOutRows,
             Instant failedAt,
@@ -697,6 +736,12 @@ public class ReviewRequestInboxRepositoryAdapter implements ReviewRequestInboxRe
         }
     }
 
+    private void validateHistoryRetention(BoxHistoryRetention historyRetention) {
+        if (historyRetention == null) {
+            throw new IllegalArgumentException("historyRetention은 비어 있을 수 없습니다.");
+        }
+    }
+
     private void validateSaveIfProcessingLeaseMatchedArguments(
             ReviewRequestInbox inbox,
             Instant claimedProcessingStartedAt
@@ -1,6 +1,7 @@
 package com.slack.bot.infrastructure.review.persistence.box.out;
 
 import com.slack.bot.infrastructure.common.BoxEventTime;
+import com.slack.bot.infrastructure.common.BoxHistoryRetention;
 import com.slack.bot.infrastructure.interaction.box.SlackInteractionFailureType;
 import com.slack.bot.infrastructure.review.box.out.ReviewNotificationOutbox;
 import com.slack.bot.infrastructure.review.box.out.ReviewNotificationOutboxHistory;
@@ -356,18 +357,56 @@ public class ReviewNotificationOutboxRepositoryAdapter implements ReviewNotifica
     @Override
     @Transactional
     public int deleteCompletedBefore(Instant completedBefore, int deleteBatchSize) {
+        return deleteCompletedBefore(completedBefore, deleteBatchSize, BoxHistoryRetention.DELETE_ROWS);
+    }
+
+    @Override
+    @Transactional
+    public int deleteCompletedBefore(
+            Instant completedBefore,
+            int deleteBatchSize,
+            BoxHistoryRetention historyRetention
+    ) {
         validateCompletedBefore(completedBefore);
         validateDeleteBatchSize(deleteBatchSize);
+        validateHistoryRetention(historyRetention);
 
         List<Long> deletableOutboxIds = selectCompletedDeletionTargetIds(completedBefore, deleteBatchSize);
         if (deletableOutboxIds.isEmpty()) {
             return 0;
         }
 
-        deleteHistories(deletableOutboxIds);
+        if (historyRetention.deletesRows()) {
+            deleteHistories(deletableOutboxIds);
+        }
         return deleteOutboxes(deletableOutboxIds);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long countCompletedBefore(Instant completedBefore) {
+        validateCompletedBefore(completedBefore);
+
+        Long completedCount = namedParameterJdbcTemplate.queryForObject(
+                """
+                SELECT COUNT(*)
+                FROM review_notification_outbox
+                WHERE (status = :sentStatus AND sent_at < :completedBefore)
+                   OR (status = :failedStatus AND failed_at < :completedBefore)
+                """,
+                new MapSqlParameterSource()
+                        .addValue("sentStatus", ReviewNotificationOutboxStatus.SENT.name())
+                        .addValue("failedStatus", ReviewNotificationOutboxStatus.FAILED.name())
+                        .addValue("completedBefore", Timestamp.from(completedBefore)),
+                Long.class
+        );
+        if (completedCount == null) {
+            return 0L;
+        }
+
+        return completedCount;
+    }
+
     private void batchInsertTimeoutRecoveryHistory(
             List<TimeoutRecoveryTarget> timedOutRows,
             Instant failedAt,
@@ -654,6 +693,12 @@ public class ReviewNotificationOutboxRepositoryAdapter implements ReviewNotifica
         }
     }
 
+    private void validateHistoryRetention(BoxHistoryRetention historyRetention) {
+        if (historyRetention == null) {
+            throw new IllegalArgumentException("historyRetention은 비어 있을 수 없습니다.");
+        }
+    }
+
     private ReviewNotificationOutbox insertOutbox(ReviewNotificationOutbox outbox) {
         ReviewNotificationOutboxRow row = ReviewNotificationOutboxRow.from(outbox);
         int insertedCount = reviewNotificationOutboxMybatisMapper.insert(row);
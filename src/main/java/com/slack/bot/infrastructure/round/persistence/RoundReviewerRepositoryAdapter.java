@@ -5,9 +5,12 @@ import static com.slack.bot.domain.round.QRoundReviewer.roundReviewer;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.slack.bot.domain.round.RoundReviewer;
 import com.slack.bot.domain.round.repository.RoundReviewerRepository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +20,7 @@ public class RoundReviewerRepositoryAdapter implements RoundReviewerRepository {
 
     private final JPAQueryFactory queryFactory;
     private final JpaRoundReviewerRepository jpaRoundReviewerRepository;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     @Override
     @Transactional(readOnly = true)
@@ -39,15 +43,76 @@ public class RoundReviewerRepositoryAdapter implements RoundReviewerRepository {
                            .fetch();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<RoundReviewer> findAllInRounds(Collection<Long> pullRequestRoundIds) {
+        if (pullRequestRoundIds == null || pullRequestRoundIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory.selectFrom(roundReviewer)
+                           .where(roundReviewer.pullRequestRoundId.in(pullRequestRoundIds))
+                           .orderBy(roundReviewer.id.asc())
+                           .fetch();
+    }
+
     @Override
     @Transactional
     public RoundReviewer save(RoundReviewer roundReviewer) {
         return jpaRoundReviewerRepository.save(roundReviewer);
     }
 
+    @Override
+    @Transactional
+    public void upsertAll(List<RoundReviewer> roundReviewers) {
+        if (roundReviewers == null || roundReviewers.isEmpty()) {
+            return;
+        }
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        for (int i = 0; i < roundReviewers.size(); i++) {
+            RoundReviewer target = roundReviewers.get(i);
+
+            parameters.addValue("pullRequestRoundId" + i, target.getPullRequestRoundId())
+                      .addValue("reviewerGithubId" + i, target.getReviewerGithubId())
+                      .addValue("state" + i, target.getState().name());
+        }
+
+        namedParameterJdbcTemplate.update(buildUpsertSql(roundReviewers.size()), parameters);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<RoundReviewer> findAll() {
         return jpaRoundReviewerRepository.findAll();
     }
+
+    protected String buildUpsertSql(int rowCount) {
+        StringBuilder sql = new StringBuilder(
+                """
+                INSERT INTO round_reviewer (
+                    created_at,
+                    pull_request_round_id,
+                    reviewer_github_id,
+                    state
+                )
+                VALUES
+                """
+        );
+
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(",\n");
+            }
+            sql.append("(CURRENT_TIMESTAMP(6), :pullRequestRoundId")
+               .append(i)
+               .append(", :reviewerGithubId")
+               .append(i)
+               .append(", :state")
+               .append(i)
+               .append(')');
+        }
+        sql.append("\nAS new\nON DUPLICATE KEY UPDATE state = new.state");
+        return sql.toString();
+    }
 }
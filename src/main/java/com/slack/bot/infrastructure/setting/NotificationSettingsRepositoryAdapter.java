@@ -3,12 +3,17 @@ package com.slack.bot.infrastructure.setting;
 import static com.slack.bot.domain.member.QProjectMember.projectMember;
 import static com.slack.bot.domain.setting.QNotificationSettings.notificationSettings;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.slack.bot.domain.setting.NotificationSettings;
 import com.slack.bot.domain.setting.repository.NotificationSettingsRepository;
 import com.slack.bot.infrastructure.common.MysqlDuplicateKeyDetector;
 import com.slack.bot.infrastructure.setting.exception.NotificationSettingsCreationConflictException;
 import jakarta.persistence.EntityManager;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -49,6 +54,31 @@ public class NotificationSettingsRepositoryAdapter implements NotificationSettin
         return Optional.ofNullable(result);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, NotificationSettings> findAllBySlackUsers(String teamId, Collection<String> slackUserIds) {
+        if (slackUserIds == null || slackUserIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Tuple> rows = queryFactory
+                .select(projectMember.slackUserId, notificationSettings)
+                .from(notificationSettings)
+                .innerJoin(projectMember)
+                .on(projectMember.id.eq(notificationSettings.projectMemberId))
+                .where(
+                        projectMember.teamId.eq(teamId),
+                        projectMember.slackUserId.in(slackUserIds)
+                )
+                .fetch();
+
+        Map<String, NotificationSettings> result = new HashMap<>();
+        for (Tuple row : rows) {
+            result.put(row.get(projectMember.slackUserId), row.get(notificationSettings));
+        }
+        return result;
+    }
+
     @Override
     public NotificationSettings save(NotificationSettings notificationSettings) {
         return jpaNotificationSettings.save(notificationSettings);
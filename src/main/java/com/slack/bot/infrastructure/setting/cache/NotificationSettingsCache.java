@@ -0,0 +1,142 @@
+package com.slack.bot.infrastructure.setting.cache;
+
+import com.slack.bot.domain.setting.NotificationSettings;
+import com.slack.bot.domain.setting.dto.NotificationSettingsSnapshotDto;
+import com.slack.bot.domain.setting.repository.NotificationSettingsRepository;
+import com.slack.bot.global.config.properties.NotificationSettingsCacheProperties;
+import com.slack.bot.infrastructure.common.cache.ExpiringLocalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class NotificationSettingsCache {
+
+    private static final String METRIC_PREFIX = "slack.setting.notification_cache";
+
+    private final NotificationSettingsRepository notificationSettingsRepository;
+    private final ExpiringLocalCache<SettingsKey, CachedSettings> settings;
+
+    public NotificationSettingsCache(
+            Clock clock,
+            MeterRegistry meterRegistry,
+            NotificationSettingsCacheProperties notificationSettingsCacheProperties,
+            NotificationSettingsRepository notificationSettingsRepository
+    ) {
+        this.notificationSettingsRepository = notificationSettingsRepository;
+        this.settings = new ExpiringLocalCache<>(
+                METRIC_PREFIX,
+                clock,
+                meterRegistry,
+                Duration.ofMillis(notificationSettingsCacheProperties.ttlMs()),
+                notificationSettingsCacheProperties.maximumSize()
+        );
+    }
+
+    public Optional<NotificationSettingsSnapshotDto> findBySlackUser(String teamId, String slackUserId) {
+        if (isBlank(teamId) || isBlank(slackUserId)) {
+            return Optional.empty();
+        }
+
+        return settings.get(new SettingsKey(teamId, slackUserId), this::loadSettings)
+                       .map(CachedSettings::snapshot);
+    }
+
+    public Map<String, NotificationSettingsSnapshotDto> findAllBySlackUsers(
+            String teamId,
+            Collection<String> slackUserIds
+    ) {
+        if (isBlank(teamId) || slackUserIds == null || slackUserIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<SettingsKey> keys = slackUserIds.stream()
+                                            .filter(slackUserId -> !isBlank(slackUserId))
+                                            .map(slackUserId -> new SettingsKey(teamId, slackUserId))
+                                            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, NotificationSettingsSnapshotDto> result = new HashMap<>();
+        settings.getAll(keys, missingKeys -> loadAllSettings(teamId, missingKeys))
+                .forEach((key, cachedSettings) -> {
+                    if (!cachedSettings.isAbsent()) {
+                        result.put(key.slackUserId(), cachedSettings.snapshot());
+                    }
+                });
+        return result;
+    }
+
+    public void evictProjectMember(Long projectMemberId) {
+        if (projectMemberId == null) {
+            return;
+        }
+
+        settings.evictIf(cachedSettings -> cachedSettings.isAbsent() || cachedSettings.belongsTo(projectMemberId));
+    }
+
+    public void evictAll() {
+        settings.evictAll();
+    }
+
+    public int size() {
+        return settings.size();
+    }
+
+    private Optional<CachedSettings> loadSettings(SettingsKey key) {
+        CachedSettings cachedSettings = notificationSettingsRepository.findBySlackUser(key.teamId(), key.slackUserId())
+                                                                      .map(CachedSettings::from)
+                                                                      .orElse(CachedSettings.ABSENT);
+
+        return Optional.of(cachedSettings);
+    }
+
+    private Map<SettingsKey, CachedSettings> loadAllSettings(
+            String teamId,
+            Set<SettingsKey> missingKeys
+    ) {
+        Set<String> slackUserIds = missingKeys.stream()
+                                              .map(SettingsKey::slackUserId)
+                                              .collect(Collectors.toSet());
+        Map<SettingsKey, CachedSettings> loaded = new HashMap<>();
+
+        missingKeys.forEach(key -> loaded.put(key, CachedSettings.ABSENT));
+        notificationSettingsRepository.findAllBySlackUsers(teamId, slackUserIds)
+                                      .forEach((slackUserId, notificationSettings) -> loaded.put(
+                                              new SettingsKey(teamId, slackUserId),
+                                              CachedSettings.from(notificationSettings)
+                                      ));
+        return loaded;
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private record SettingsKey(String teamId, String slackUserId) {
+    }
+
+    private record CachedSettings(NotificationSettingsSnapshotDto snapshot) {
+
+        private static final CachedSettings ABSENT = new CachedSettings(null);
+
+        private static CachedSettings from(NotificationSettings notificationSettings) {
+            return new CachedSettings(NotificationSettingsSnapshotDto.from(notificationSettings));
+        }
+
+        private boolean isAbsent() {
+            return snapshot == null;
+        }
+
+        private boolean belongsTo(Long projectMemberId) {
+            return projectMemberId.equals(snapshot.projectMemberId());
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.slack.bot.infrastructure.worker;
+
+import com.slack.bot.application.worker.AdaptivePollingRunner;
+import com.slack.bot.application.worker.PollingHintBroadcaster;
+import com.slack.bot.application.worker.PollingHintEvent;
+import com.slack.bot.application.worker.PollingHintTarget;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+@Slf4j
+public class JdbcPollingHintBroadcaster implements PollingHintBroadcaster, SmartLifecycle {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final AdaptivePollingRunner adaptivePollingRunner;
+    private final Set<PollingHintTarget> pendingTargets = ConcurrentHashMap.newKeySet();
+    private final Map<PollingHintTarget, Long> observedSequences = new EnumMap<>(PollingHintTarget.class);
+    private final ReentrantLock synchronizationLock = new ReentrantLock();
+
+    private boolean hintRowsPrepared;
+
+    public JdbcPollingHintBroadcaster(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            ApplicationEventPublisher applicationEventPublisher,
+            long syncIntervalMs
+    ) {
+        this(namedParameterJdbcTemplate, applicationEventPublisher, syncIntervalMs, true);
+    }
+
+    public JdbcPollingHintBroadcaster(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            ApplicationEventPublisher applicationEventPublisher,
+            long syncIntervalMs,
+            boolean autoStartup
+    ) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.adaptivePollingRunner = new AdaptivePollingRunner(
+                "polling hint sync",
+                Duration.ofMillis(syncIntervalMs),
+                Duration.ofMillis(syncIntervalMs),
+                this::synchronize,
+                autoStartup
+        );
+    }
+
+    @Override
+    public void broadcast(PollingHintTarget target) {
+        if (pendingTargets.add(target)) {
+            adaptivePollingRunner.wakeUp();
+        }
+    }
+
+    int synchronize() {
+        synchronizationLock.lock();
+        try {
+            synchronizeHints();
+        } finally {
+            synchronizationLock.unlock();
+        }
+        return 0;
+    }
+
+    private void synchronizeHints() {
+        prepareHintRows();
+
+        Set<PollingHintTarget> publishedTargets = flushPendingTargets();
+        Map<PollingHintTarget, Long> currentSequences = findSequences();
+        int remoteHintCount = 0;
+
+        for (Map.Entry<PollingHintTarget, Long> entry : currentSequences.entrySet()) {
+            PollingHintTarget target = entry.getKey();
+            Long previousSequence = observedSequences.put(target, entry.getValue());
+            if (previousSequence == null) {
+                continue;
+            }
+
+            long ownIncrement = publishedTargets.contains(target) ? 1L : 0L;
+            if (entry.getValue() - previousSequence > ownIncrement) {
+                applicationEventPublisher.publishEvent(new PollingHintEvent(target));
+                remoteHintCount++;
+            }
+        }
+
+        if (remoteHintCount > 0) {
+            log.debug("다른 노드의 polling hint {}건을 전달했습니다.", remoteHintCount);
+        }
+    }
+
+    private void prepareHintRows() {
+        if (hintRowsPrepared) {
+            return;
+        }
+
+        Set<PollingHintTarget> missingTargets = EnumSet.allOf(PollingHintTarget.class);
+        missingTargets.removeAll(findSequences().keySet());
+        for (PollingHintTarget target : missingTargets) {
+            insertHintRow(target);
+        }
+        hintRowsPrepared = true;
+    }
+
+    private void insertHintRow(PollingHintTarget target) {
+        try {
+            namedParameterJdbcTemplate.update(
+                    """
+                    INSERT INTO polling_hints (target, hint_sequence)
+                    VALUES (:target, 0)
+                    """,
+                    new MapSqlParameterSource("target", target.name())
+            );
+        } catch (DuplicateKeyException ignored) {
+            log.debug("다른 노드가 polling hint 행을 먼저 생성했습니다. target={}", target);
+        }
+    }
+
+    private Set<PollingHintTarget> flushPendingTargets() {
+        Set<PollingHintTarget> flushedTargets = EnumSet.noneOf(PollingHintTarget.class);
+        for (PollingHintTarget target : PollingHintTarget.values()) {
+            if (pendingTargets.remove(target)) {
+                flushedTargets.add(target);
+            }
+        }
+        if (flushedTargets.isEmpty()) {
+            return flushedTargets;
+        }
+
+        try {
+            SqlParameterSource parameters = new MapSqlParameterSource(
+                    "targets",
+                    flushedTargets.stream()
+                                  .map(PollingHintTarget::name)
+                                  .toList()
+            );
+            namedParameterJdbcTemplate.update(
+                    """
+                    UPDATE polling_hints
+                    SET hint_sequence = hint_sequence + 1
+                    WHERE target IN (:targets)
+                    """,
+                    parameters
+            );
+        } catch (RuntimeException e) {
+            pendingTargets.addAll(flushedTargets);
+            throw e;
+        }
+        return flushedTargets;
+    }
+
+    private Map<PollingHintTarget, Long> findSequences() {
+        List<Map.Entry<String, Long>> rows = namedParameterJdbcTemplate.query(
+                """
+                SELECT target, hint_sequence
+                FROM polling_hints
+                """,
+                (resultSet, rowNum) -> Map.entry(resultSet.getString("target"), resultSet.getLong("hint_sequence"))
+        );
+
+        Map<PollingHintTarget, Long> sequences = new EnumMap<>(PollingHintTarget.class);
+        for (Map.Entry<String, Long> row : rows) {
+            resolveTarget(row.getKey()).ifPresent(target -> sequences.put(target, row.getValue()));
+        }
+        return sequences;
+    }
+
+    private Optional<PollingHintTarget> resolveTarget(String targetName) {
+        return Arrays.stream(PollingHintTarget.values())
+                     .filter(target -> target.name().equals(targetName))
+                     .findFirst();
+    }
+
+    @Override
+    public void start() {
+        adaptivePollingRunner.start();
+    }
+
+    @Override
+    public void stop() {
+        adaptivePollingRunner.stop();
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        adaptivePollingRunner.stop(callback);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return adaptivePollingRunner.isRunning();
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return adaptivePollingRunner.isAutoStartup();
+    }
+
+    @Override
+    public int getPhase() {
+        return adaptivePollingRunner.getPhase();
+    }
+}
@@ -0,0 +1,64 @@
+package com.slack.bot.infrastructure.workspace.cache;
+
+import com.slack.bot.domain.workspace.Workspace;
+import com.slack.bot.domain.workspace.repository.WorkspaceRepository;
+import com.slack.bot.global.config.properties.WorkspaceTokenCacheProperties;
+import com.slack.bot.infrastructure.common.cache.ExpiringLocalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+public class WorkspaceAccessTokenCache {
+
+    private static final String METRIC_PREFIX = "slack.workspace.token_cache";
+
+    private final WorkspaceRepository workspaceRepository;
+    private final ExpiringLocalCache<String, String> accessTokens;
+
+    public WorkspaceAccessTokenCache(
+            Clock clock,
+            MeterRegistry meterRegistry,
+            WorkspaceTokenCacheProperties workspaceTokenCacheProperties,
+            WorkspaceRepository workspaceRepository
+    ) {
+        this.workspaceRepository = workspaceRepository;
+        this.accessTokens = new ExpiringLocalCache<>(
+                METRIC_PREFIX,
+                clock,
+                meterRegistry,
+                Duration.ofMillis(workspaceTokenCacheProperties.ttlMs()),
+                workspaceTokenCacheProperties.maximumSize()
+        );
+    }
+
+    public Optional<String> findAccessToken(String teamId) {
+        if (teamId == null || teamId.isBlank()) {
+            return Optional.empty();
+        }
+
+        return accessTokens.get(teamId, this::loadAccessToken);
+    }
+
+    public void evict(String teamId) {
+        if (teamId == null) {
+            return;
+        }
+
+        accessTokens.evict(teamId);
+    }
+
+    public void evictAll() {
+        accessTokens.evictAll();
+    }
+
+    public int size() {
+        return accessTokens.size();
+    }
+
+    private Optional<String> loadAccessToken(String teamId) {
+        return workspaceRepository.findByTeamId(teamId)
+                                  .map(Workspace::getAccessToken)
+                                  .filter(token -> !token.isBlank());
+    }
+}
@@ -28,7 +28,10 @@ public class SlackInteractionController {
             throw new SlackSignatureVerificationException("슬랙 요청 시그니처 검증에 실패했습니다.");
         }
 
-        SlackActionResponse response = slackInteractionServiceFacade.handle(request.payloadJson());
+        SlackActionResponse response = slackInteractionServiceFacade.handle(
+                request.payloadJson(),
+                request.receivedNanos()
+        );
 
         return ResponseEntity.ok()
                              .contentType(MediaType.APPLICATION_JSON)
@@ -52,7 +55,7 @@ public class SlackInteractionController {
         if (parsed.signature() == null || parsed.signature().isBlank()) {
             throw new IllegalArgumentException("슬랙 요청 signature가 필요합니다.");
         }
-        if (parsed.rawBody() == null || parsed.rawBody().isBlank()) {
+        if (parsed.rawBody() == null || parsed.rawBody().length == 0) {
             throw new IllegalArgumentException("슬랙 원본 요청 본문이 필요합니다.");
         }
         try {
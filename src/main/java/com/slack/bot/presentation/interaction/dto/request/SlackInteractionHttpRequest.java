@@ -3,7 +3,8 @@ package com.slack.bot.presentation.interaction.dto.request;
 public record SlackInteractionHttpRequest(
         String timestamp,
         String signature,
-        String rawBody,
-        String payloadJson
+        byte[] rawBody,
+        String payloadJson,
+        long receivedNanos
 ) {
 }
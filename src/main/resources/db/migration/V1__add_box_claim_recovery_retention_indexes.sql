@@ -0,0 +1,43 @@
+CREATE INDEX idx_slack_interaction_inbox_claim
+    ON slack_interaction_inbox (interaction_type, status, id);
+CREATE INDEX idx_slack_interaction_inbox_recovery
+    ON slack_interaction_inbox (interaction_type, status, processing_started_at);
+CREATE INDEX idx_slack_interaction_inbox_processed
+    ON slack_interaction_inbox (status, processed_at);
+CREATE INDEX idx_slack_interaction_inbox_failed
+    ON slack_interaction_inbox (status, failed_at);
+CREATE INDEX idx_slack_interaction_inbox_history_inbox_id
+    ON slack_interaction_inbox_history (inbox_id);
+
+CREATE INDEX idx_slack_notification_outbox_claim
+    ON slack_notification_outbox (status, id);
+CREATE INDEX idx_slack_notification_outbox_recovery
+    ON slack_notification_outbox (status, processing_started_at);
+CREATE INDEX idx_slack_notification_outbox_sent
+    ON slack_notification_outbox (status, sent_at);
+CREATE INDEX idx_slack_notification_outbox_failed
+    ON slack_notification_outbox (status, failed_at);
+CREATE INDEX idx_slack_notification_outbox_history_outbox_id
+    ON slack_notification_outbox_history (outbox_id);
+
+CREATE INDEX idx_review_request_inbox_claim
+    ON review_request_inbox (status, available_at, id);
+CREATE INDEX idx_review_request_inbox_recovery
+    ON review_request_inbox (status, processing_started_at);
+CREATE INDEX idx_review_request_inbox_processed
+    ON review_request_inbox (status, processed_at);
+CREATE INDEX idx_review_request_inbox_failed
+    ON review_request_inbox (status, failed_at);
+CREATE INDEX idx_review_request_inbox_history_inbox_id
+    ON review_request_inbox_history (inbox_id);
+
+CREATE INDEX idx_review_notification_outbox_claim
+    ON review_notification_outbox (status, id);
+CREATE INDEX idx_review_notification_outbox_recovery
+    ON review_notification_outbox (status, processing_started_at);
+CREATE INDEX idx_review_notification_outbox_sent
+    ON review_notification_outbox (status, sent_at);
+CREATE INDEX idx_review_notification_outbox_failed
+    ON review_notification_outbox (status, failed_at);
+CREATE INDEX idx_review_notification_outbox_history_outbox_id
+    ON review_notification_outbox_history (outbox_id);
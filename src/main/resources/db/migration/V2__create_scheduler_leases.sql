@@ -0,0 +1,5 @@
+CREATE TABLE scheduler_leases (
+    lease_name VARCHAR(100) NOT NULL PRIMARY KEY,
+    owner VARCHAR(255) NOT NULL,
+    lease_until TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,7 @@
+CREATE TABLE slack_direct_message_channels (
+    team_id VARCHAR(255) NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+    channel_id VARCHAR(255) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (team_id, user_id)
+);
@@ -0,0 +1,5 @@
+ALTER TABLE review_reminders
+    ADD COLUMN processing_started_at TIMESTAMP(6);
+
+CREATE INDEX idx_review_reminders_due
+    ON review_reminders (fired_at, scheduled_at);
@@ -0,0 +1,5 @@
+CREATE TABLE polling_hints (
+    target VARCHAR(50) NOT NULL,
+    hint_sequence BIGINT NOT NULL,
+    PRIMARY KEY (target)
+);
@@ -0,0 +1,53 @@
+-- box history 테이블 월 단위 partition 1회성 전환 작업
+--
+-- BoxHistoryPartitionScheduler는 이미 partition된 history 테이블에 월 partition을 추가하고
+-- 보존 기간이 지난 partition을 삭제만 한다. 아래 ALTER는 테이블 전체를 다시 쓰는 작업이므로
+-- 트래픽이 적은 점검 시간에 테이블마다 한 번만 실행하고, 가능하면 gh-ost 또는
+-- pt-online-schema-change로 같은 변경을 적용한다. Flyway migration에 두지 않는 이유는
+-- 배포 시점에 대형 테이블 rebuild가 자동으로 일어나지 않게 하기 위해서다.
+--
+-- 1. RANGE COLUMNS는 TIMESTAMP를 허용하지 않으므로 completed_at을 DATETIME(6)으로 바꾼다.
+--    변환 시 세션 time_zone 기준 wall-clock 값이 저장되므로 애플리케이션 Clock 시간대(Asia/Seoul)로 맞춘다.
+--    애플리케이션 JDBC 연결도 같은 시간대(connectionTimeZone=Asia/Seoul)로 기록해야 partition 경계와 일치한다.
+-- 2. partition key가 primary key에 포함돼야 하므로 primary key를 (id, completed_at)으로 바꾼다.
+-- 3. 기존 row는 실행하는 달의 partition에 함께 담고, 미래 row를 위한 p_future는 비워 둔다.
+--    p202610과 '2026-11-01 00:00:00'은 실행하는 달과 그 다음 달 1일로 바꾼다.
+--    이후 달 partition은 scheduler가 비어 있는 p_future를 REORGANIZE해 추가하므로 row 복사가 일어나지 않는다.
+
+SET SESSION time_zone = '+09:00';
+
+ALTER TABLE slack_interaction_inbox_history
+    MODIFY COLUMN completed_at DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, completed_at)
+    PARTITION BY RANGE COLUMNS (completed_at) (
+        PARTITION p202610 VALUES LESS THAN ('2026-11-01 00:00:00'),
+        PARTITION p_future VALUES LESS THAN (MAXVALUE)
+    );
+
+ALTER TABLE slack_notification_outbox_history
+    MODIFY COLUMN completed_at DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, completed_at)
+    PARTITION BY RANGE COLUMNS (completed_at) (
+        PARTITION p202610 VALUES LESS THAN ('2026-11-01 00:00:00'),
+        PARTITION p_future VALUES LESS THAN (MAXVALUE)
+    );
+
+ALTER TABLE review_request_inbox_history
+    MODIFY COLUMN completed_at DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, completed_at)
+    PARTITION BY RANGE COLUMNS (completed_at) (
+        PARTITION p202610 VALUES LESS THAN ('2026-11-01 00:00:00'),
+        PARTITION p_future VALUES LESS THAN (MAXVALUE)
+    );
+
+ALTER TABLE review_notification_outbox_history
+    MODIFY COLUMN completed_at DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, completed_at)
+    PARTITION BY RANGE COLUMNS (completed_at) (
+        PARTITION p202610 VALUES LESS THAN ('2026-11-01 00:00:00'),
+        PARTITION p_future VALUES LESS THAN (MAXVALUE)
+    );
@@ -6,6 +6,7 @@ import com.slack.bot.application.interaction.box.in.SlackBlockActionInboxWorker;
 import com.slack.bot.application.interaction.box.in.SlackInteractionInboxProcessor;
 import com.slack.bot.application.interaction.box.in.SlackViewSubmissionInboxWorker;
 import com.slack.bot.application.interaction.box.out.SlackNotificationOutboxWorker;
+import com.slack.bot.application.interaction.reminder.ReviewReminderWorker;
 import com.slack.bot.application.interaction.publisher.ReviewInteractionEventPublisher;
 import com.slack.bot.application.interaction.reservation.ReviewReservationCoordinator;
 import com.slack.bot.application.review.box.in.ReviewRequestInboxWorker;
@@ -48,7 +49,8 @@ import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
         SlackViewSubmissionInboxWorker.class,
         SlackNotificationOutboxWorker.class,
         ReviewRequestInboxWorker.class,
-        ReviewNotificationOutboxWorker.class
+        ReviewNotificationOutboxWorker.class,
+        ReviewReminderWorker.class
 })
 @MockitoSpyBean(types = {
         Clock.class,
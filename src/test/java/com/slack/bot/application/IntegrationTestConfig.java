@@ -2,6 +2,7 @@ package com.slack.bot.application;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.slack.bot.application.command.client.MemberConnectionSlackApiClient;
 import com.slack.bot.application.event.client.SlackEventApiClient;
 import com.slack.bot.application.event.dto.ChannelNameWrapper;
@@ -9,6 +10,7 @@ import com.slack.bot.application.review.box.ReviewNotificationSourceContext;
 import com.slack.bot.application.review.box.out.ReviewNotificationOutboxEnqueuer;
 import com.slack.bot.application.review.client.ReviewSlackApiClient;
 import com.slack.bot.application.review.channel.ReviewSlackChannelResolver;
+import com.slack.bot.domain.round.repository.RoundReviewerRepository;
 import com.slack.bot.infrastructure.common.MysqlDuplicateKeyDetector;
 import com.slack.bot.infrastructure.interaction.box.in.repository.SlackInteractionInboxRepository;
 import com.slack.bot.infrastructure.interaction.box.out.repository.SlackNotificationOutboxRepository;
@@ -27,6 +29,8 @@ import com.slack.bot.infrastructure.review.persistence.box.in.ReviewRequestInbox
 import com.slack.bot.infrastructure.review.persistence.box.out.H2ReviewNotificationOutboxRepositoryAdapter;
 import com.slack.bot.infrastructure.review.persistence.box.out.ReviewNotificationOutboxHistoryMybatisMapper;
 import com.slack.bot.infrastructure.review.persistence.box.out.ReviewNotificationOutboxMybatisMapper;
+import com.slack.bot.infrastructure.round.persistence.H2RoundReviewerRepositoryAdapter;
+import com.slack.bot.infrastructure.round.persistence.JpaRoundReviewerRepository;
 import java.sql.SQLException;
 import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -149,6 +153,20 @@ public class IntegrationTestConfig {
         );
     }
 
+    @Bean
+    @Primary
+    public RoundReviewerRepository roundReviewerRepository(
+            JPAQueryFactory queryFactory,
+            JpaRoundReviewerRepository jpaRoundReviewerRepository,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate
+    ) {
+        return new H2RoundReviewerRepositoryAdapter(
+                queryFactory,
+                jpaRoundReviewerRepository,
+                namedParameterJdbcTemplate
+        );
+    }
+
     private static final class StubMemberConnectionSlackApiClient extends MemberConnectionSlackApiClient {
 
         private StubMemberConnectionSlackApiClient(RestClient slackClient) {
@@ -0,0 +1,369 @@
+package com.slack.bot.application.box.cleanup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.slack.bot.global.config.properties.BoxCleanupProperties;
+import com.slack.bot.infrastructure.common.lease.repository.SchedulerLeaseRepository;
+import com.slack.bot.infrastructure.interaction.box.in.repository.SlackInteractionInboxRepository;
+import com.slack.bot.infrastructure.interaction.box.out.repository.SlackNotificationOutboxRepository;
+import com.slack.bot.infrastructure.review.box.in.repository.ReviewRequestInboxRepository;
+import com.slack.bot.infrastructure.review.box.out.repository.ReviewNotificationOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BoxCleanupDrainerTest {
+
+    private static final Instant NOW = Instant.parse("2026-04-13T00:00:00Z");
+    private static final Instant COMPLETED_BEFORE = Instant.parse("2026-03-14T00:00:00Z");
+
+    Clock clock;
+    SimpleMeterRegistry meterRegistry;
+    BoxCleanupService boxCleanupService;
+    SchedulerLeaseRepository schedulerLeaseRepository;
+    SlackInteractionInboxRepository slackInteractionInboxRepository;
+    List<Duration> pauses;
+    BoxCleanupReplicationLagProbe replicationLagProbe;
+    BoxCleanupDrainer boxCleanupDrainer;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        boxCleanupService = mock(BoxCleanupService.class);
+        schedulerLeaseRepository = mock(SchedulerLeaseRepository.class);
+        slackInteractionInboxRepository = mock(SlackInteractionInboxRepository.class);
+        pauses = new ArrayList<>();
+        replicationLagProbe = BoxCleanupReplicationLagProbe.NONE;
+        given(clock.instant()).willReturn(NOW);
+        given(schedulerLeaseRepository.tryAcquire(eq("box-cleanup"), anyString(), any(), any())).willReturn(true);
+
+        boxCleanupDrainer = createDrainer(new BoxCleanupProperties(true, 1_800_000L, 30L, 10));
+    }
+
+    @Test
+    void 모든_box의_삭제_건수가_batch보다_작아질_때까지_라운드를_반복한다() {
+        // given
+        given(boxCleanupService.cleanCompletedBoxes(COMPLETED_BEFORE, 10)).willReturn(
+                result(10, 3, 10, 0),
+                result(10, 0, 2, 0),
+                result(4, 0, 0, 0)
+        );
+        given(slackInteractionInboxRepository.countCompletedBefore(COMPLETED_BEFORE)).willReturn(0L);
+
+        // when
+        BoxCleanupDrainer.DrainResult actual = boxCleanupDrainer.drain(COMPLETED_BEFORE);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.leaseAcquired()).isTrue(),
+                () -> assertThat(actual.caughtUp()).isTrue(),
+                () -> assertThat(actual.rounds()).isEqualTo(3),
+                () -> assertThat(actual.total().interactionInboxDeleted()).isEqualTo(24),
+                () -> assertThat(actual.total().totalDeleted()).isEqualTo(39),
+                () -> assertThat(pauses).hasSize(2),
+                () -> assertThat(deletedCount("interaction_inbox")).isEqualTo(24.0d),
+                () -> assertThat(meterRegistry.get("box.cleanup.round").timer().count()).isEqualTo(3L),
+                () -> verify(schedulerLeaseRepository).release(eq("box-cleanup"), anyString())
+        );
+    }
+
+    @Test
+    void 다른_노드가_lease를_보유하면_정리하지_않는다() {
+        // given
+        given(schedulerLeaseRepository.tryAcquire(eq("box-cleanup"), anyString(), any(), any())).willReturn(false);
+
+        // when
+        BoxCleanupDrainer.DrainResult actual = boxCleanupDrainer.drain(COMPLETED_BEFORE);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.leaseAcquired()).isFalse(),
+                () -> verify(boxCleanupService, never()).cleanCompletedBoxes(any(), any(Integer.class)),
+                () -> verify(schedulerLeaseRepository, never()).release(anyString(), anyString())
+        );
+    }
+
+    @Test
+    void lease_획득_중_예외가_발생하면_정리하지_않는다() {
+        // given
+        given(schedulerLeaseRepository.tryAcquire(eq("box-cleanup"), anyString(), any(), any()))
+                .willThrow(new IllegalStateException("lease 조회 실패"));
+
+        // when
+        BoxCleanupDrainer.DrainResult actual = boxCleanupDrainer.drain(COMPLETED_BEFORE);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.leaseAcquired()).isFalse(),
+                () -> verify(boxCleanupService, never()).cleanCompletedBoxes(any(), any(Integer.class)),
+                () -> verify(schedulerLeaseRepository, never()).release(anyString(), anyString())
+        );
+    }
+
+    @Test
+    void 라운드_사이_휴지_중_인터럽트되면_인터럽트_상태를_유지하고_종료한다() {
+        // given
+        BoxCleanupDrainer interruptedDrainer = new BoxCleanupDrainer(
+                clock,
+                new BoxCleanupProperties(true, 1_800_000L, 30L, 10),
+                boxCleanupService,
+                new BoxCleanupMetrics(
+                        new SimpleMeterRegistry(),
+                        slackInteractionInboxRepository,
+                        mock(SlackNotificationOutboxRepository.class),
+                        mock(ReviewRequestInboxRepository.class),
+                        mock(ReviewNotificationOutboxRepository.class)
+                ),
+                schedulerLeaseRepository,
+                replicationLagProbe,
+                duration -> {
+                    throw new InterruptedException();
+                }
+        );
+        given(boxCleanupService.cleanCompletedBoxes(COMPLETED_BEFORE, 10)).willReturn(result(10, 0, 0, 0));
+
+        // when
+        BoxCleanupDrainer.DrainResult actual = interruptedDrainer.drain(COMPLETED_BEFORE);
+        boolean interrupted = Thread.interrupted();
+
+        // then
+        assertAll(
+                () -> assertThat(interrupted).isTrue(),
+                () -> assertThat(actual.rounds()).isEqualTo(1),
+                () -> assertThat(actual.caughtUp()).isFalse(),
+                () -> verify(schedulerLeaseRepository).release(eq("box-cleanup"), anyString())
+        );
+    }
+
+    @Test
+    void backlog_집계에_실패한_box가_있어도_나머지_box의_backlog를_갱신한다() {
+        // given
+        SlackNotificationOutboxRepository slackNotificationOutboxRepository = mock(SlackNotificationOutboxRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        BoxCleanupMetrics boxCleanupMetrics = new BoxCleanupMetrics(
+                meterRegistry,
+                slackInteractionInboxRepository,
+                slackNotificationOutboxRepository,
+                mock(ReviewRequestInboxRepository.class),
+                mock(ReviewNotificationOutboxRepository.class)
+        );
+        given(slackInteractionInboxRepository.countCompletedBefore(COMPLETED_BEFORE))
+                .willThrow(new IllegalStateException("count 실패"));
+        given(slackNotificationOutboxRepository.countCompletedBefore(COMPLETED_BEFORE)).willReturn(7L);
+
+        // when
+        boxCleanupMetrics.refreshBacklog(COMPLETED_BEFORE);
+
+        // then
+        assertAll(
+                () -> assertThat(backlog("interaction_inbox")).isZero(),
+                () -> assertThat(backlog("interaction_outbox")).isEqualTo(7.0d)
+        );
+    }
+
+    @Test
+    void 실패한_box가_있으면_다음_라운드를_실행하지_않는다() {
+        // given
+        given(boxCleanupService.cleanCompletedBoxes(COMPLETED_BEFORE, 10)).willReturn(
+                new BoxCleanupService.CleanupResult(
+                        BoxCleanupService.DomainCleanupResult.succeeded(10),
+                        BoxCleanupService.DomainCleanupResult.failedResult(),
+                        BoxCleanupService.DomainCleanupResult.succeeded(0),
+                        BoxCleanupService.DomainCleanupResult.succeeded(0)
+                )
+        );
+
+        // when
+        BoxCleanupDrainer.DrainResult actual = boxCleanupDrainer.drain(COMPLETED_BEFORE);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.rounds()).isEqualTo(1),
+                () -> assertThat(actual.caughtUp()).isFalse(),
+                () -> assertThat(actual.total().hasFailure()).isTrue(),
+                () -> assertThat(pauses).isEmpty()
+        );
+    }
+
+    @Test
+    void 최대_실행_시간을_넘기면_backlog가_남아도_종료한다() {
+        // given
+        boxCleanupDrainer = createDrainer(
+                new BoxCleanupProperties(true, 1_800_000L, 30L, 10, 1_000L, 20L, 5_000L, 1.0d, 120_000L, 5_000L, 1_000L)
+        );
+        given(clock.instant()).willReturn(NOW, NOW, NOW.plusMillis(400L), NOW.plusMillis(400L), NOW.plusMillis(1_000L));
+        given(boxCleanupService.cleanCompletedBoxes(COMPLETED_BEFORE, 10)).willReturn(result(10, 10, 10, 10));
+        given(slackInteractionInboxRepository.countCompletedBefore(COMPLETED_BEFORE)).willReturn(1_234L);
+
+        // when
+        BoxCleanupDrainer.DrainResult actual = boxCleanupDrainer.drain(COMPLETED_BEFORE);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.rounds()).isEqualTo(2),
+                () -> assertThat(actual.caughtUp()).isFalse(),
+                () -> assertThat(pauses).containsExactly(Duration.ofMillis(400L)),
+                () -> assertThat(backlog("interaction_inbox")).isEqualTo(1_234.0d)
+        );
+    }
+
+    @Test
+    void lease_갱신에_실패하면_다음_라운드를_실행하지_않는다() {
+        // given
+        given(schedulerLeaseRepository.tryAcquire(eq("box-cleanup"), anyString(), any(), any())).willReturn(true, false);
+        given(boxCleanupService.cleanCompletedBoxes(COMPLETED_BEFORE, 10)).willReturn(result(10, 0, 0, 0));
+
+        // when
+        BoxCleanupDrainer.DrainResult actual = boxCleanupDrainer.drain(COMPLETED_BEFORE);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.rounds()).isEqualTo(1),
+                () -> verify(boxCleanupService, times(1)).cleanCompletedBoxes(COMPLETED_BEFORE, 10),
+                () -> assertThat(pauses).isEmpty()
+        );
+    }
+
+    @Test
+    void 라운드_사이_휴지_시간은_지연_시간에_비례하고_최소_최대값으로_제한된다() {
+        // given
+        BoxCleanupDrainer drainer = createDrainer(
+                new BoxCleanupProperties(true, 1_800_000L, 30L, 10, 600_000L, 20L, 5_000L, 2.0d, 120_000L, 5_000L, 1_000L)
+        );
+
+        // when
+        Duration fast = drainer.resolvePause(Duration.ofMillis(1L));
+        Duration normal = drainer.resolvePause(Duration.ofMillis(300L));
+        Duration slow = drainer.resolvePause(Duration.ofSeconds(10L));
+
+        // then
+        assertAll(
+                () -> assertThat(fast).isEqualTo(Duration.ofMillis(20L)),
+                () -> assertThat(normal).isEqualTo(Duration.ofMillis(600L)),
+                () -> assertThat(slow).isEqualTo(Duration.ofMillis(5_000L))
+        );
+    }
+
+    @Test
+    void replica_지연이_허용치를_넘으면_따라잡을_때까지_최대_휴지_시간씩_다음_라운드를_보류한다() {
+        // given
+        List<Optional<Duration>> lags = new ArrayList<>(List.of(
+                Optional.of(Duration.ofSeconds(3L)),
+                Optional.of(Duration.ofSeconds(2L)),
+                Optional.of(Duration.ofMillis(500L))
+        ));
+        replicationLagProbe = () -> lags.isEmpty() ? Optional.empty() : lags.removeFirst();
+        given(boxCleanupService.cleanCompletedBoxes(COMPLETED_BEFORE, 10)).willReturn(
+                result(10, 0, 0, 0),
+                result(3, 0, 0, 0)
+        );
+
+        // when
+        BoxCleanupDrainer.DrainResult actual = boxCleanupDrainer.drain(COMPLETED_BEFORE);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.rounds()).isEqualTo(2),
+                () -> assertThat(actual.caughtUp()).isTrue(),
+                () -> assertThat(pauses).containsExactly(
+                        Duration.ofMillis(20L),
+                        Duration.ofMillis(5_000L),
+                        Duration.ofMillis(5_000L)
+                ),
+                () -> assertThat(meterRegistry.get("box.cleanup.replication_lag_pauses").counter().count())
+                        .isEqualTo(2.0d)
+        );
+    }
+
+    @Test
+    void replica_지연이_최대_실행_시간까지_해소되지_않으면_backlog가_남아도_종료한다() {
+        // given
+        replicationLagProbe = () -> {
+            throw new IllegalStateException("replica 조회 실패");
+        };
+        boxCleanupDrainer = createDrainer(
+                new BoxCleanupProperties(true, 1_800_000L, 30L, 10, 1_000L, 20L, 5_000L, 1.0d, 120_000L, 5_000L, 1_000L)
+        );
+        given(clock.instant()).willReturn(NOW, NOW, NOW, NOW, NOW.plusMillis(1_000L));
+        given(boxCleanupService.cleanCompletedBoxes(COMPLETED_BEFORE, 10)).willReturn(result(10, 0, 0, 0));
+
+        // when
+        BoxCleanupDrainer.DrainResult actual = boxCleanupDrainer.drain(COMPLETED_BEFORE);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.rounds()).isEqualTo(1),
+                () -> assertThat(actual.caughtUp()).isFalse(),
+                () -> assertThat(pauses).containsExactly(Duration.ofMillis(20L), Duration.ofMillis(5_000L)),
+                () -> verify(boxCleanupService, times(1)).cleanCompletedBoxes(COMPLETED_BEFORE, 10)
+        );
+    }
+
+    private BoxCleanupDrainer createDrainer(BoxCleanupProperties properties) {
+        meterRegistry = new SimpleMeterRegistry();
+        BoxCleanupMetrics boxCleanupMetrics = new BoxCleanupMetrics(
+                meterRegistry,
+                slackInteractionInboxRepository,
+                mock(SlackNotificationOutboxRepository.class),
+                mock(ReviewRequestInboxRepository.class),
+                mock(ReviewNotificationOutboxRepository.class)
+        );
+
+        return new BoxCleanupDrainer(
+                clock,
+                properties,
+                boxCleanupService,
+                boxCleanupMetrics,
+                schedulerLeaseRepository,
+                () -> replicationLagProbe.currentLag(),
+                pauses::add
+        );
+    }
+
+    private BoxCleanupService.CleanupResult result(
+            int interactionInboxDeleted,
+            int interactionOutboxDeleted,
+            int reviewInboxDeleted,
+            int reviewOutboxDeleted
+    ) {
+        return new BoxCleanupService.CleanupResult(
+                BoxCleanupService.DomainCleanupResult.succeeded(interactionInboxDeleted),
+                BoxCleanupService.DomainCleanupResult.succeeded(interactionOutboxDeleted),
+                BoxCleanupService.DomainCleanupResult.succeeded(reviewInboxDeleted),
+                BoxCleanupService.DomainCleanupResult.succeeded(reviewOutboxDeleted)
+        );
+    }
+
+    private double deletedCount(String box) {
+        return meterRegistry.get("box.cleanup.deleted")
+                            .tag("box", box)
+                            .counter()
+                            .count();
+    }
+
+    private double backlog(String box) {
+        return meterRegistry.get("box.cleanup.backlog")
+                            .tag("box", box)
+                            .gauge()
+                            .value();
+    }
+}
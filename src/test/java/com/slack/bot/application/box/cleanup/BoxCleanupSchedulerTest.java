@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import ch.qos.logback.classic.Level;
@@ -39,27 +40,27 @@ class BoxCleanupSchedulerTest {
             .withUserConfiguration(BoxCleanupSchedulerTestConfiguration.class);
 
     @Mock
-    BoxCleanupService boxCleanupService;
+    BoxCleanupDrainer boxCleanupDrainer;
 
     @Test
     void enabled가_true면_완료된_box_정리를_실행한다() {
         // given
         Clock clock = Clock.fixed(Instant.parse("2026-04-13T00:00:00Z"), ZoneId.of("Asia/Seoul"));
         BoxCleanupProperties properties = new BoxCleanupProperties(true, 1_800_000L, 30L, 500);
-        BoxCleanupScheduler scheduler = new BoxCleanupScheduler(clock, properties, boxCleanupService);
-        given(boxCleanupService.cleanCompletedBoxes(Instant.parse("2026-03-14T00:00:00Z"), 500))
-                .willReturn(new BoxCleanupService.CleanupResult(
+        BoxCleanupScheduler scheduler = new BoxCleanupScheduler(clock, properties, boxCleanupDrainer);
+        given(boxCleanupDrainer.drain(Instant.parse("2026-03-14T00:00:00Z")))
+                .willReturn(drained(new BoxCleanupService.CleanupResult(
                         BoxCleanupService.DomainCleanupResult.succeeded(1),
                         BoxCleanupService.DomainCleanupResult.succeeded(2),
                         BoxCleanupService.DomainCleanupResult.succeeded(3),
                         BoxCleanupService.DomainCleanupResult.succeeded(4)
-                ));
+                )));
 
         // when
         scheduler.cleanCompletedBoxes();
 
         // then
-        verify(boxCleanupService).cleanCompletedBoxes(Instant.parse("2026-03-14T00:00:00Z"), 500);
+        verify(boxCleanupDrainer).drain(Instant.parse("2026-03-14T00:00:00Z"));
     }
 
     @Test
@@ -67,15 +68,15 @@ class BoxCleanupSchedulerTest {
         // given
         Clock clock = Clock.fixed(Instant.parse("2026-04-13T00:00:00Z"), ZoneId.of("Asia/Seoul"));
         BoxCleanupProperties properties = new BoxCleanupProperties(true, 1_800_000L, 30L, 500);
-        BoxCleanupScheduler scheduler = new BoxCleanupScheduler(clock, properties, boxCleanupService);
+        BoxCleanupScheduler scheduler = new BoxCleanupScheduler(clock, properties, boxCleanupDrainer);
         ListAppender<ILoggingEvent> listAppender = attachListAppender();
-        given(boxCleanupService.cleanCompletedBoxes(Instant.parse("2026-03-14T00:00:00Z"), 500))
-                .willReturn(new BoxCleanupService.CleanupResult(
+        given(boxCleanupDrainer.drain(Instant.parse("2026-03-14T00:00:00Z")))
+                .willReturn(drained(new BoxCleanupService.CleanupResult(
                         BoxCleanupService.DomainCleanupResult.succeeded(1),
                         BoxCleanupService.DomainCleanupResult.succeeded(2),
                         BoxCleanupService.DomainCleanupResult.succeeded(3),
                         BoxCleanupService.DomainCleanupResult.succeeded(4)
-                ));
+                )));
 
         // when
         try {
@@ -83,7 +84,7 @@ class BoxCleanupSchedulerTest {
 
             // then
             assertThat(logLevels(listAppender)).contains(Level.INFO);
-            assertThat(logMessages(listAppender)).contains("box cleanup을 완료했습니다. interactionInboxDeleted=1, interactionOutboxDeleted=2, reviewInboxDeleted=3, reviewOutboxDeleted=4, totalDeleted=10");
+            assertThat(logMessages(listAppender)).contains("box cleanup을 완료했습니다. interactionInboxDeleted=1, interactionOutboxDeleted=2, reviewInboxDeleted=3, reviewOutboxDeleted=4, totalDeleted=10, rounds=1, caughtUp=true");
         } finally {
             detachListAppender(listAppender);
         }
@@ -122,10 +123,10 @@ class BoxCleanupSchedulerTest {
         // given
         Clock clock = Clock.fixed(Instant.parse("2026-04-13T00:00:00Z"), ZoneId.of("Asia/Seoul"));
         BoxCleanupProperties properties = new BoxCleanupProperties(true, 1_800_000L, 30L, 500);
-        BoxCleanupScheduler scheduler = new BoxCleanupScheduler(clock, properties, boxCleanupService);
+        BoxCleanupScheduler scheduler = new BoxCleanupScheduler(clock, properties, boxCleanupDrainer);
         willThrow(new RuntimeException("cleanup failure"))
-                .given(boxCleanupService)
-                .cleanCompletedBoxes(Instant.parse("2026-03-14T00:00:00Z"), 500);
+                .given(boxCleanupDrainer)
+                .drain(Instant.parse("2026-03-14T00:00:00Z"));
 
         // when & then
         assertThatCode(() -> scheduler.cleanCompletedBoxes()).doesNotThrowAnyException();
@@ -136,15 +137,15 @@ class BoxCleanupSchedulerTest {
         // given
         Clock clock = Clock.fixed(Instant.parse("2026-04-13T00:00:00Z"), ZoneId.of("Asia/Seoul"));
         BoxCleanupProperties properties = new BoxCleanupProperties(true, 1_800_000L, 30L, 500);
-        BoxCleanupScheduler scheduler = new BoxCleanupScheduler(clock, properties, boxCleanupService);
+        BoxCleanupScheduler scheduler = new BoxCleanupScheduler(clock, properties, boxCleanupDrainer);
         ListAppender<ILoggingEvent> listAppender = attachListAppender();
-        given(boxCleanupService.cleanCompletedBoxes(Instant.parse("2026-03-14T00:00:00Z"), 500))
-                .willReturn(new BoxCleanupService.CleanupResult(
+        given(boxCleanupDrainer.drain(Instant.parse("2026-03-14T00:00:00Z")))
+                .willReturn(drained(new BoxCleanupService.CleanupResult(
                         BoxCleanupService.DomainCleanupResult.succeeded(1),
                         BoxCleanupService.DomainCleanupResult.failedResult(),
                         BoxCleanupService.DomainCleanupResult.succeeded(3),
                         BoxCleanupService.DomainCleanupResult.succeeded(4)
-                ));
+                )));
 
         // when
         try {
@@ -153,13 +154,83 @@ class BoxCleanupSchedulerTest {
             // then
             assertThat(logLevels(listAppender)).contains(Level.WARN);
             assertThat(logMessages(listAppender)).contains(
-                    "box cleanup이 부분 실패로 종료됐습니다. interactionInboxDeleted=1, interactionInboxFailed=false, interactionOutboxDeleted=0, interactionOutboxFailed=true, reviewInboxDeleted=3, reviewInboxFailed=false, reviewOutboxDeleted=4, reviewOutboxFailed=false, totalDeleted=8"
+                    "box cleanup이 부분 실패로 종료됐습니다. interactionInboxDeleted=1, interactionInboxFailed=false, interactionOutboxDeleted=0, interactionOutboxFailed=true, reviewInboxDeleted=3, reviewInboxFailed=false, reviewOutboxDeleted=4, reviewOutboxFailed=false, totalDeleted=8, rounds=1"
             );
         } finally {
             detachListAppender(listAppender);
         }
     }
 
+    @Test
+    void 다른_노드가_lease를_보유하면_정리를_건너뛴다() {
+        // given
+        Clock clock = Clock.fixed(Instant.parse("2026-04-13T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+        BoxCleanupProperties properties = new BoxCleanupProperties(true, 1_800_000L, 30L, 500);
+        BoxCleanupScheduler scheduler = new BoxCleanupScheduler(clock, properties, boxCleanupDrainer);
+        ListAppender<ILoggingEvent> listAppender = attachListAppender();
+        given(boxCleanupDrainer.drain(Instant.parse("2026-03-14T00:00:00Z")))
+                .willReturn(BoxCleanupDrainer.DrainResult.skipped());
+
+        // when
+        try {
+            scheduler.cleanCompletedBoxes();
+
+            // then
+            assertThat(logMessages(listAppender)).containsExactly(
+                    "다른 노드가 box cleanup lease를 보유하고 있어 이번 실행을 건너뜁니다."
+            );
+        } finally {
+            detachListAppender(listAppender);
+        }
+    }
+
+    @Test
+    void backlog가_남으면_다음_tick에_이어서_정리한다() {
+        // given
+        Clock clock = Clock.fixed(Instant.parse("2026-04-13T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+        BoxCleanupProperties properties = new BoxCleanupProperties(true, 1_800_000L, 30L, 500);
+        BoxCleanupScheduler scheduler = new BoxCleanupScheduler(clock, properties, boxCleanupDrainer);
+        given(boxCleanupDrainer.drain(Instant.parse("2026-03-14T00:00:00Z")))
+                .willReturn(new BoxCleanupDrainer.DrainResult(succeededResult(), 20, false, true));
+
+        // when
+        scheduler.cleanCompletedBoxes();
+        scheduler.cleanCompletedBoxes();
+
+        // then
+        verify(boxCleanupDrainer, times(2)).drain(Instant.parse("2026-03-14T00:00:00Z"));
+    }
+
+    @Test
+    void backlog를_따라잡으면_fixed_delay_동안_다음_tick을_건너뛴다() {
+        // given
+        Clock clock = Clock.fixed(Instant.parse("2026-04-13T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+        BoxCleanupProperties properties = new BoxCleanupProperties(true, 1_800_000L, 30L, 500);
+        BoxCleanupScheduler scheduler = new BoxCleanupScheduler(clock, properties, boxCleanupDrainer);
+        given(boxCleanupDrainer.drain(Instant.parse("2026-03-14T00:00:00Z")))
+                .willReturn(drained(succeededResult()));
+
+        // when
+        scheduler.cleanCompletedBoxes();
+        scheduler.cleanCompletedBoxes();
+
+        // then
+        verify(boxCleanupDrainer, times(1)).drain(Instant.parse("2026-03-14T00:00:00Z"));
+    }
+
+    private BoxCleanupService.CleanupResult succeededResult() {
+        return new BoxCleanupService.CleanupResult(
+                BoxCleanupService.DomainCleanupResult.succeeded(500),
+                BoxCleanupService.DomainCleanupResult.succeeded(0),
+                BoxCleanupService.DomainCleanupResult.succeeded(0),
+                BoxCleanupService.DomainCleanupResult.succeeded(0)
+        );
+    }
+
+    private BoxCleanupDrainer.DrainResult drained(BoxCleanupService.CleanupResult result) {
+        return new BoxCleanupDrainer.DrainResult(result, 1, !result.hasFailure(), true);
+    }
+
     private ListAppender<ILoggingEvent> attachListAppender() {
         Logger logger = (Logger) LoggerFactory.getLogger(BoxCleanupScheduler.class);
         ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
@@ -205,8 +276,8 @@ class BoxCleanupSchedulerTest {
         }
 
         @Bean
-        BoxCleanupService boxCleanupService() {
-            return mock(BoxCleanupService.class);
+        BoxCleanupDrainer boxCleanupDrainer() {
+            return mock(BoxCleanupDrainer.class);
         }
     }
 }
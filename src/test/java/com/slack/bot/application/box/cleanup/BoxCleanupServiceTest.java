@@ -11,6 +11,8 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
+import com.slack.bot.global.config.properties.BoxHistoryPartitionProperties;
+import com.slack.bot.infrastructure.common.BoxHistoryRetention;
 import com.slack.bot.infrastructure.interaction.box.in.repository.SlackInteractionInboxRepository;
 import com.slack.bot.infrastructure.interaction.box.out.repository.SlackNotificationOutboxRepository;
 import com.slack.bot.infrastructure.review.box.in.repository.ReviewRequestInboxRepository;
@@ -18,11 +20,11 @@ import com.slack.bot.infrastructure.review.box.out.repository.ReviewNotification
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.LoggerFactory;
@@ -44,17 +46,27 @@ class BoxCleanupServiceTest {
     @Mock
     ReviewNotificationOutboxRepository reviewNotificationOutboxRepository;
 
-    @InjectMocks
     BoxCleanupService boxCleanupService;
 
+    @BeforeEach
+    void setUp() {
+        boxCleanupService = new BoxCleanupService(
+                slackInteractionInboxRepository,
+                slackNotificationOutboxRepository,
+                reviewRequestInboxRepository,
+                reviewNotificationOutboxRepository,
+                new BoxHistoryPartitionProperties()
+        );
+    }
+
     @Test
     void 완료된_box를_모두_정리하고_집계결과를_반환한다() {
         // given
         Instant completedBefore = Instant.parse("2026-04-13T00:00:00Z");
-        given(slackInteractionInboxRepository.deleteCompletedBefore(completedBefore, 100)).willReturn(1);
-        given(slackNotificationOutboxRepository.deleteCompletedBefore(completedBefore, 100)).willReturn(2);
-        given(reviewRequestInboxRepository.deleteCompletedBefore(completedBefore, 100)).willReturn(3);
-        given(reviewNotificationOutboxRepository.deleteCompletedBefore(completedBefore, 100)).willReturn(4);
+        given(slackInteractionInboxRepository.deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS)).willReturn(1);
+        given(slackNotificationOutboxRepository.deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS)).willReturn(2);
+        given(reviewRequestInboxRepository.deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS)).willReturn(3);
+        given(reviewNotificationOutboxRepository.deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS)).willReturn(4);
 
         // when
         BoxCleanupService.CleanupResult result = boxCleanupService.cleanCompletedBoxes(completedBefore, 100);
@@ -72,22 +84,22 @@ class BoxCleanupServiceTest {
                 () -> assertThat(result.reviewInbox().failed()).isFalse(),
                 () -> assertThat(result.reviewOutbox().failed()).isFalse()
         );
-        verify(slackInteractionInboxRepository).deleteCompletedBefore(completedBefore, 100);
-        verify(slackNotificationOutboxRepository).deleteCompletedBefore(completedBefore, 100);
-        verify(reviewRequestInboxRepository).deleteCompletedBefore(completedBefore, 100);
-        verify(reviewNotificationOutboxRepository).deleteCompletedBefore(completedBefore, 100);
+        verify(slackInteractionInboxRepository).deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS);
+        verify(slackNotificationOutboxRepository).deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS);
+        verify(reviewRequestInboxRepository).deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS);
+        verify(reviewNotificationOutboxRepository).deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS);
     }
 
     @Test
     void 한_도메인_정리에_실패해도_나머지_도메인_정리는_계속한다() {
         // given
         Instant completedBefore = Instant.parse("2026-04-13T00:00:00Z");
-        given(slackInteractionInboxRepository.deleteCompletedBefore(completedBefore, 100)).willReturn(1);
+        given(slackInteractionInboxRepository.deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS)).willReturn(1);
         willThrow(new RuntimeException("interaction outbox failure"))
                 .given(slackNotificationOutboxRepository)
-                .deleteCompletedBefore(completedBefore, 100);
-        given(reviewRequestInboxRepository.deleteCompletedBefore(completedBefore, 100)).willReturn(3);
-        given(reviewNotificationOutboxRepository.deleteCompletedBefore(completedBefore, 100)).willReturn(4);
+                .deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS);
+        given(reviewRequestInboxRepository.deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS)).willReturn(3);
+        given(reviewNotificationOutboxRepository.deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS)).willReturn(4);
 
         // when
         BoxCleanupService.CleanupResult result = boxCleanupService.cleanCompletedBoxes(completedBefore, 100);
@@ -105,10 +117,10 @@ class BoxCleanupServiceTest {
                 () -> assertThat(result.reviewInbox().failed()).isFalse(),
                 () -> assertThat(result.reviewOutbox().failed()).isFalse()
         );
-        verify(slackInteractionInboxRepository).deleteCompletedBefore(completedBefore, 100);
-        verify(slackNotificationOutboxRepository).deleteCompletedBefore(completedBefore, 100);
-        verify(reviewRequestInboxRepository).deleteCompletedBefore(completedBefore, 100);
-        verify(reviewNotificationOutboxRepository).deleteCompletedBefore(completedBefore, 100);
+        verify(slackInteractionInboxRepository).deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS);
+        verify(slackNotificationOutboxRepository).deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS);
+        verify(reviewRequestInboxRepository).deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS);
+        verify(reviewNotificationOutboxRepository).deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS);
     }
 
     @Test
@@ -116,12 +128,12 @@ class BoxCleanupServiceTest {
         // given
         Instant completedBefore = Instant.parse("2026-04-13T00:00:00Z");
         ListAppender<ILoggingEvent> listAppender = attachListAppender();
-        given(slackInteractionInboxRepository.deleteCompletedBefore(completedBefore, 100)).willReturn(1);
+        given(slackInteractionInboxRepository.deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS)).willReturn(1);
         willThrow(new RuntimeException("interaction outbox failure"))
                 .given(slackNotificationOutboxRepository)
-                .deleteCompletedBefore(completedBefore, 100);
-        given(reviewRequestInboxRepository.deleteCompletedBefore(completedBefore, 100)).willReturn(3);
-        given(reviewNotificationOutboxRepository.deleteCompletedBefore(completedBefore, 100)).willReturn(4);
+                .deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS);
+        given(reviewRequestInboxRepository.deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS)).willReturn(3);
+        given(reviewNotificationOutboxRepository.deleteCompletedBefore(completedBefore, 100, BoxHistoryRetention.DELETE_ROWS)).willReturn(4);
 
         // when
         try {
@@ -171,6 +183,47 @@ class BoxCleanupServiceTest {
         return levels;
     }
 
+    @Test
+    void history_partition이_활성화되면_history_row는_삭제하지_않도록_요청한다() {
+        // given
+        Instant completedBefore = Instant.parse("2026-04-13T00:00:00Z");
+        BoxCleanupService partitionedCleanupService = new BoxCleanupService(
+                slackInteractionInboxRepository,
+                slackNotificationOutboxRepository,
+                reviewRequestInboxRepository,
+                reviewNotificationOutboxRepository,
+                new BoxHistoryPartitionProperties(true, 3_600_000L, 3)
+        );
+        given(slackInteractionInboxRepository.deleteCompletedBefore(
+                completedBefore,
+                100,
+                BoxHistoryRetention.DROP_PARTITIONS
+        )).willReturn(1);
+
+        // when
+        BoxCleanupService.CleanupResult result = partitionedCleanupService.cleanCompletedBoxes(completedBefore, 100);
+
+        // then
+        assertAll(
+                () -> assertThat(result.interactionInboxDeleted()).isEqualTo(1),
+                () -> verify(slackNotificationOutboxRepository).deleteCompletedBefore(
+                        completedBefore,
+                        100,
+                        BoxHistoryRetention.DROP_PARTITIONS
+                ),
+                () -> verify(reviewRequestInboxRepository).deleteCompletedBefore(
+                        completedBefore,
+                        100,
+                        BoxHistoryRetention.DROP_PARTITIONS
+                ),
+                () -> verify(reviewNotificationOutboxRepository).deleteCompletedBefore(
+                        completedBefore,
+                        100,
+                        BoxHistoryRetention.DROP_PARTITIONS
+                )
+        );
+    }
+
     @Test
     void completed_before가_null이면_예외를_던진다() {
         // when & then
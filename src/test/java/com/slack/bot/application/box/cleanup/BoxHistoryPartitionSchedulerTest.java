@@ -0,0 +1,197 @@
+package com.slack.bot.application.box.cleanup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+@SuppressWarnings("NonAsciiCharacters")
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BoxHistoryPartitionSchedulerTest {
+
+    private static final Instant NOW = Instant.parse("2026-04-13T00:00:00Z");
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(BoxHistoryPartitionSchedulerTestConfiguration.class);
+
+    @Mock
+    BoxHistoryPartitionService boxHistoryPartitionService;
+
+    BoxHistoryPartitionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new BoxHistoryPartitionScheduler(
+                Clock.fixed(NOW, ZoneId.of("Asia/Seoul")),
+                boxHistoryPartitionService
+        );
+    }
+
+    @Test
+    void 실패가_없으면_완료_로그를_남긴다() {
+        // given
+        ListAppender<ILoggingEvent> listAppender = attachListAppender();
+        given(boxHistoryPartitionService.maintainPartitions(NOW))
+                .willReturn(new BoxHistoryPartitionService.MaintenanceResult(4, 2, 0, 0, true));
+
+        // when
+        try {
+            scheduler.maintainPartitions();
+
+            // then
+            assertThat(logLevels(listAppender)).containsExactly(Level.INFO);
+            assertThat(logMessages(listAppender)).containsExactly(
+                    "box history partition 관리를 완료했습니다. addedPartitions=4, droppedPartitions=2"
+            );
+        } finally {
+            detachListAppender(listAppender);
+        }
+    }
+
+    @Test
+    void 부분_실패결과가_오면_경고_로그를_남긴다() {
+        // given
+        ListAppender<ILoggingEvent> listAppender = attachListAppender();
+        given(boxHistoryPartitionService.maintainPartitions(NOW))
+                .willReturn(new BoxHistoryPartitionService.MaintenanceResult(3, 1, 1, 1, true));
+
+        // when
+        try {
+            scheduler.maintainPartitions();
+
+            // then
+            assertThat(logLevels(listAppender)).containsExactly(Level.WARN);
+            assertThat(logMessages(listAppender)).containsExactly(
+                    "box history partition 관리가 부분 실패로 종료됐습니다. addedPartitions=3, droppedPartitions=1, failedTables=1, unpartitionedTables=1"
+            );
+        } finally {
+            detachListAppender(listAppender);
+        }
+    }
+
+    @Test
+    void 다른_노드가_lease를_보유하면_관리를_건너뛴다() {
+        // given
+        ListAppender<ILoggingEvent> listAppender = attachListAppender();
+        given(boxHistoryPartitionService.maintainPartitions(NOW))
+                .willReturn(BoxHistoryPartitionService.MaintenanceResult.skipped());
+
+        // when
+        try {
+            scheduler.maintainPartitions();
+
+            // then
+            assertThat(logMessages(listAppender)).containsExactly(
+                    "다른 노드가 box history partition lease를 보유하고 있어 이번 실행을 건너뜁니다."
+            );
+        } finally {
+            detachListAppender(listAppender);
+        }
+    }
+
+    @Test
+    void 관리_실행중_예외가_발생해도_전파하지_않는다() {
+        // given
+        willThrow(new RuntimeException("partition failure"))
+                .given(boxHistoryPartitionService)
+                .maintainPartitions(NOW);
+
+        // when & then
+        assertThatCode(() -> scheduler.maintainPartitions()).doesNotThrowAnyException();
+    }
+
+    @Test
+    void enabled가_true면_scheduler_빈을_등록한다() {
+        // given
+        ApplicationContextRunner runner = contextRunner.withPropertyValues(
+                "app.cleanup.box.history-partition.enabled=true"
+        );
+
+        // when & then
+        runner.run(context -> assertThat(context).hasSingleBean(BoxHistoryPartitionScheduler.class));
+    }
+
+    @Test
+    void enabled가_false면_scheduler_빈을_등록하지_않는다() {
+        // given
+        ApplicationContextRunner runner = contextRunner.withPropertyValues(
+                "app.cleanup.box.history-partition.enabled=false"
+        );
+
+        // when & then
+        runner.run(context -> assertThat(context).doesNotHaveBean(BoxHistoryPartitionScheduler.class));
+    }
+
+    private ListAppender<ILoggingEvent> attachListAppender() {
+        Logger logger = (Logger) LoggerFactory.getLogger(BoxHistoryPartitionScheduler.class);
+        ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+        listAppender.start();
+        logger.addAppender(listAppender);
+        return listAppender;
+    }
+
+    private void detachListAppender(ListAppender<ILoggingEvent> listAppender) {
+        Logger logger = (Logger) LoggerFactory.getLogger(BoxHistoryPartitionScheduler.class);
+        logger.detachAppender(listAppender);
+        listAppender.stop();
+    }
+
+    private List<String> logMessages(ListAppender<ILoggingEvent> listAppender) {
+        List<String> messages = new ArrayList<>();
+
+        for (ILoggingEvent event : listAppender.list) {
+            messages.add(event.getFormattedMessage());
+        }
+
+        return messages;
+    }
+
+    private List<Level> logLevels(ListAppender<ILoggingEvent> listAppender) {
+        List<Level> levels = new ArrayList<>();
+
+        for (ILoggingEvent event : listAppender.list) {
+            levels.add(event.getLevel());
+        }
+
+        return levels;
+    }
+
+    @Configuration
+    @Import(BoxHistoryPartitionScheduler.class)
+    static class BoxHistoryPartitionSchedulerTestConfiguration {
+
+        @Bean
+        Clock clock() {
+            return Clock.fixed(NOW, ZoneId.of("Asia/Seoul"));
+        }
+
+        @Bean
+        BoxHistoryPartitionService boxHistoryPartitionService() {
+            return mock(BoxHistoryPartitionService.class);
+        }
+    }
+}
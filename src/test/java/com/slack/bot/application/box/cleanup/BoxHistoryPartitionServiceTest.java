@@ -0,0 +1,217 @@
+package com.slack.bot.application.box.cleanup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.slack.bot.global.config.properties.BoxCleanupProperties;
+import com.slack.bot.global.config.properties.BoxHistoryPartitionProperties;
+import com.slack.bot.infrastructure.common.lease.repository.SchedulerLeaseRepository;
+import com.slack.bot.infrastructure.common.partition.repository.BoxHistoryPartitionRepository;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@SuppressWarnings("NonAsciiCharacters")
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BoxHistoryPartitionServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-04-13T00:00:00Z");
+
+    @Mock
+    BoxHistoryPartitionRepository boxHistoryPartitionRepository;
+
+    @Mock
+    SchedulerLeaseRepository schedulerLeaseRepository;
+
+    BoxHistoryPartitionService boxHistoryPartitionService;
+
+    @BeforeEach
+    void setUp() {
+        boxHistoryPartitionService = createService(Clock.fixed(NOW, ZoneId.of("Asia/Seoul")));
+    }
+
+    @Test
+    void partition이_없는_테이블은_DDL로_전환하지_않고_운영_전환이_필요하다고_보고한다() {
+        // given
+        givenLeaseAcquired();
+        given(boxHistoryPartitionRepository.findPartitionNames(anyString())).willReturn(List.of());
+
+        // when
+        BoxHistoryPartitionService.MaintenanceResult actual = boxHistoryPartitionService.maintainPartitions(NOW);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.unpartitionedTables()).isEqualTo(4),
+                () -> assertThat(actual.addedPartitions()).isZero(),
+                () -> assertThat(actual.hasFailure()).isTrue(),
+                () -> verify(boxHistoryPartitionRepository, never()).addMonthlyPartitions(anyString(), anyList()),
+                () -> verify(boxHistoryPartitionRepository, never()).dropPartitions(anyString(), anyList())
+        );
+    }
+
+    @Test
+    void 다른_노드가_lease를_보유하면_partition을_관리하지_않는다() {
+        // given
+        given(schedulerLeaseRepository.tryAcquire(eq("box-history-partition"), anyString(), any(), any()))
+                .willReturn(false);
+
+        // when
+        BoxHistoryPartitionService.MaintenanceResult actual = boxHistoryPartitionService.maintainPartitions(NOW);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.leaseAcquired()).isFalse(),
+                () -> verify(boxHistoryPartitionRepository, never()).findPartitionNames(anyString()),
+                () -> verify(schedulerLeaseRepository, never()).release(anyString(), anyString())
+        );
+    }
+
+    @Test
+    void lease_획득_중_예외가_발생하면_partition을_관리하지_않는다() {
+        // given
+        given(schedulerLeaseRepository.tryAcquire(eq("box-history-partition"), anyString(), any(), any()))
+                .willThrow(new IllegalStateException("lease 조회 실패"));
+
+        // when
+        BoxHistoryPartitionService.MaintenanceResult actual = boxHistoryPartitionService.maintainPartitions(NOW);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.leaseAcquired()).isFalse(),
+                () -> verify(boxHistoryPartitionRepository, never()).findPartitionNames(anyString()),
+                () -> verify(schedulerLeaseRepository, never()).release(anyString(), anyString())
+        );
+    }
+
+    @Test
+    void partition_경계는_주입된_Clock의_시간대_기준_월로_계산한다() {
+        // given
+        Instant now = Instant.parse("2026-04-30T16:00:00Z");
+        BoxHistoryPartitionService seoulService = createService(Clock.fixed(now, ZoneId.of("Asia/Seoul")));
+        givenLeaseAcquired();
+        given(boxHistoryPartitionRepository.findPartitionNames(anyString())).willReturn(
+                List.of("p202603", "p202604", "p202605", "p202606", "p_future")
+        );
+
+        // when
+        BoxHistoryPartitionService.MaintenanceResult actual = seoulService.maintainPartitions(now);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.addedPartitions()).isEqualTo(4),
+                () -> assertThat(actual.droppedPartitions()).isEqualTo(4),
+                () -> verify(boxHistoryPartitionRepository).addMonthlyPartitions(
+                        "review_request_inbox_history",
+                        List.of(YearMonth.of(2026, 7))
+                ),
+                () -> verify(boxHistoryPartitionRepository).dropPartitions(
+                        "review_request_inbox_history",
+                        List.of("p202603")
+                ),
+                () -> verify(schedulerLeaseRepository).release(eq("box-history-partition"), anyString())
+        );
+    }
+
+    @Test
+    void 부족한_미래_partition을_추가하고_보존기간이_지난_partition을_삭제한다() {
+        // given
+        givenLeaseAcquired();
+        given(boxHistoryPartitionRepository.findPartitionNames(anyString())).willReturn(
+                List.of("p202601", "p202602", "p202603", "p202604", "p_future")
+        );
+
+        // when
+        BoxHistoryPartitionService.MaintenanceResult actual = boxHistoryPartitionService.maintainPartitions(NOW);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.addedPartitions()).isEqualTo(8),
+                () -> assertThat(actual.droppedPartitions()).isEqualTo(8),
+                () -> verify(boxHistoryPartitionRepository).addMonthlyPartitions(
+                        "review_request_inbox_history",
+                        List.of(YearMonth.of(2026, 5), YearMonth.of(2026, 6))
+                ),
+                () -> verify(boxHistoryPartitionRepository).dropPartitions(
+                        "review_request_inbox_history",
+                        List.of("p202601", "p202602")
+                )
+        );
+    }
+
+    @Test
+    void 선생성과_삭제할_partition이_없으면_DDL을_실행하지_않는다() {
+        // given
+        givenLeaseAcquired();
+        given(boxHistoryPartitionRepository.findPartitionNames(anyString())).willReturn(
+                List.of("p202603", "p202604", "p202605", "p202606", "p_future")
+        );
+
+        // when
+        BoxHistoryPartitionService.MaintenanceResult actual = boxHistoryPartitionService.maintainPartitions(NOW);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo(BoxHistoryPartitionService.MaintenanceResult.empty()),
+                () -> verify(boxHistoryPartitionRepository, never()).addMonthlyPartitions(anyString(), anyList()),
+                () -> verify(boxHistoryPartitionRepository, never()).dropPartitions(anyString(), anyList())
+        );
+    }
+
+    @Test
+    void 한_테이블이_실패해도_나머지_테이블은_관리한다() {
+        // given
+        givenLeaseAcquired();
+        given(boxHistoryPartitionRepository.findPartitionNames(anyString())).willReturn(
+                List.of("p202602", "p202603", "p202604", "p202605", "p202606", "p_future")
+        );
+        willThrow(new RuntimeException("lock wait timeout"))
+                .given(boxHistoryPartitionRepository)
+                .dropPartitions("slack_interaction_inbox_history", List.of("p202602"));
+
+        // when
+        BoxHistoryPartitionService.MaintenanceResult actual = boxHistoryPartitionService.maintainPartitions(NOW);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.failedTables()).isEqualTo(1),
+                () -> assertThat(actual.droppedPartitions()).isEqualTo(3),
+                () -> verify(boxHistoryPartitionRepository).dropPartitions(
+                        "review_notification_outbox_history",
+                        List.of("p202602")
+                )
+        );
+    }
+
+    private BoxHistoryPartitionService createService(Clock clock) {
+        return new BoxHistoryPartitionService(
+                clock,
+                new BoxCleanupProperties(true, 1_800_000L, 30L, 500),
+                new BoxHistoryPartitionProperties(true, 3_600_000L, 2),
+                boxHistoryPartitionRepository,
+                schedulerLeaseRepository
+        );
+    }
+
+    private void givenLeaseAcquired() {
+        given(schedulerLeaseRepository.tryAcquire(eq("box-history-partition"), anyString(), any(), any()))
+                .willReturn(true);
+    }
+}
@@ -0,0 +1,119 @@
+package com.slack.bot.application.command.link;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.slack.bot.domain.link.dto.AccessLinkSequenceBlockDto;
+import com.slack.bot.domain.link.repository.AccessLinkSequenceRepository;
+import com.slack.bot.global.config.properties.AccessLinkKeyProperties;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("benchmark")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class AccessLinkKeyGeneratorBenchmarkTest {
+
+    private static final String KEY_SECRET = "benchmark-access-link-secret";
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURE_ROUNDS = 50_000;
+
+    AtomicLong sequence = new AtomicLong(916_132_831L);
+    AccessLinkSequenceRepository sequenceRepository = (size, initialValue) -> {
+        long end = sequence.addAndGet(size);
+
+        return new AccessLinkSequenceBlockDto(end - size + 1L, end);
+    };
+    AccessLinkKeyGenerator accessLinkKeyGenerator = new AccessLinkKeyGenerator(
+            sequenceRepository,
+            new AccessLinkKeyProperties(KEY_SECRET)
+    );
+
+    @Test
+    void 풀링한_Cipher와_정수_연산_인코딩은_호출마다_Cipher와_BigInteger를_만드는_방식보다_빠르다() throws Exception {
+        // given
+        SecretKeySpec secretKey = new SecretKeySpec(
+                Arrays.copyOf(MessageDigest.getInstance("SHA-256").digest(KEY_SECRET.getBytes(StandardCharsets.UTF_8)), 16),
+                "AES"
+        );
+        AtomicLong legacyValue = new AtomicLong(916_132_832L);
+        AtomicLong cipherPerCallValue = new AtomicLong(916_132_832L);
+
+        // when
+        long legacyNanos = measureNanos(ignored -> legacyKey(secretKey, legacyValue.getAndIncrement()));
+        long cipherPerCallNanos = measureNanos(ignored -> cipherPerCall(secretKey, cipherPerCallValue.getAndIncrement()));
+        long reusableNanos = measureNanos(ignored -> accessLinkKeyGenerator.generateKey());
+
+        // then
+        System.out.printf(
+                "access link key: 호출마다 Cipher/BigInteger 생성 %.3fus, 호출마다 Cipher 생성 %.3fus, 풀링한 Cipher 재사용 %.3fus%n",
+                legacyNanos / 1_000.0d,
+                cipherPerCallNanos / 1_000.0d,
+                reusableNanos / 1_000.0d
+        );
+        assertThat(reusableNanos).isLessThan(legacyNanos);
+    }
+
+    private String cipherPerCall(SecretKeySpec secretKey, long value) {
+        try {
+            Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey);
+
+            byte[] encrypted = cipher.doFinal(ByteBuffer.allocate(16).putLong(0L).putLong(value).array());
+            return HexFormat.of().formatHex(encrypted, 0, 11);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String legacyKey(SecretKeySpec secretKey, long value) {
+        try {
+            Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey);
+
+            byte[] encrypted = cipher.doFinal(ByteBuffer.allocate(16).putLong(0L).putLong(value).array());
+            BigInteger current = new BigInteger(1, encrypted);
+            BigInteger base = BigInteger.valueOf(ALPHABET.length());
+            StringBuilder builder = new StringBuilder();
+
+            while (current.signum() > 0) {
+                BigInteger[] divRem = current.divideAndRemainder(base);
+                builder.append(ALPHABET.charAt(divRem[1].intValue()));
+                current = divRem[0];
+            }
+            return "0".repeat(22 - builder.length()) + builder.reverse();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long measureNanos(LongFunction<String> generation) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            assertThat(generation.apply(i)).hasSize(22);
+        }
+
+        long[] elapsedNanos = new long[MEASURE_ROUNDS];
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long startedNanos = System.nanoTime();
+            String key = generation.apply(i);
+            elapsedNanos[i] = System.nanoTime() - startedNanos;
+
+            assertThat(key).hasSize(22);
+        }
+
+        Arrays.sort(elapsedNanos);
+        return elapsedNanos[MEASURE_ROUNDS / 2];
+    }
+}
@@ -1,6 +1,7 @@
 package com.slack.bot.application.command.link;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.slack.bot.application.IntegrationTest;
@@ -8,13 +9,21 @@ import com.slack.bot.domain.link.AccessLinkSequence;
 import com.slack.bot.domain.link.repository.AccessLinkSequenceRepository;
 import com.slack.bot.global.config.properties.AccessLinkKeyProperties;
 import com.slack.bot.infrastructure.link.persistence.JpaAccessLinkSequenceRepository;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -27,6 +36,8 @@ import org.springframework.test.context.jdbc.Sql;
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 class AccessLinkKeyGeneratorTest {
 
+    private static final String LEGACY_ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
     @Autowired
     AccessLinkSequenceRepository sequenceRepository;
 
@@ -126,4 +137,99 @@ class AccessLinkKeyGeneratorTest {
                 () -> assertThat(keys).hasSize(total)
         );
     }
+
+    @Test
+    @Sql(scripts = "classpath:sql/fixtures/link/access_link_sequence_initial_seed.sql")
+    void 가상_스레드에서_동시에_요청해도_Cipher는_CPU_수만큼만_보관한다() {
+        // given
+        int taskCount = 1_000;
+        Set<String> keys = ConcurrentHashMap.newKeySet();
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < taskCount; i++) {
+                executor.execute(() -> keys.add(generator.generateKey()));
+            }
+        }
+
+        // then
+        assertAll(
+                () -> assertThat(keys).hasSize(taskCount),
+                () -> assertThat(generator.pooledEncoderCount())
+                        .isBetween(1, Runtime.getRuntime().availableProcessors())
+        );
+    }
+
+    @Test
+    @Sql(scripts = "classpath:sql/fixtures/link/access_link_sequence_initial_seed.sql")
+    void 키는_AES_암호문을_22자리_Base62로_인코딩한_값이다() throws Exception {
+        // when
+        String actual = generator.generateKey();
+
+        // then
+        assertThat(actual).isEqualTo(legacyKey(916_132_832L));
+    }
+
+    @Test
+    @Sql(scripts = "classpath:sql/fixtures/link/access_link_sequence_initial_seed.sql")
+    void 블록_크기_이상을_한_번에_생성하면_전용_블록을_확보한다() throws Exception {
+        // when
+        List<String> keys = generator.generateKeys(1_500);
+        AccessLinkSequence sequence = sequenceJpaRepository.findById(AccessLinkSequence.DEFAULT_ID)
+                                                           .orElseThrow();
+
+        // then
+        assertAll(
+                () -> assertThat(keys).hasSize(1_500)
+                                      .doesNotHaveDuplicates()
+                                      .allMatch(key -> key.matches("^[0-9A-Za-z]{22}$")),
+                () -> assertThat(keys.getFirst()).isEqualTo(legacyKey(916_132_832L)),
+                () -> assertThat(sequence.getNextValue()).isEqualTo(916_132_831L + 1_500L)
+        );
+    }
+
+    @Test
+    @Sql(scripts = "classpath:sql/fixtures/link/access_link_sequence_initial_seed.sql")
+    void 블록_크기보다_적게_생성하면_공유_블록에서_키를_꺼낸다() {
+        // when
+        List<String> keys = generator.generateKeys(3);
+        String next = generator.generateKey();
+        AccessLinkSequence sequence = sequenceJpaRepository.findById(AccessLinkSequence.DEFAULT_ID)
+                                                           .orElseThrow();
+
+        // then
+        assertAll(
+                () -> assertThat(keys).hasSize(3)
+                                      .doesNotHaveDuplicates()
+                                      .doesNotContain(next),
+                () -> assertThat(sequence.getNextValue()).isEqualTo(916_132_831L + 1_000L)
+        );
+    }
+
+    @Test
+    void 생성할_키_개수가_0_이하이면_예외를_던진다() {
+        // when & then
+        assertThatThrownBy(() -> generator.generateKeys(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("생성할 키 개수는 0보다 커야 합니다.");
+    }
+
+    private String legacyKey(long value) throws Exception {
+        byte[] hash = MessageDigest.getInstance("SHA-256")
+                                   .digest(accessLinkKeyProperties.keySecret().getBytes(StandardCharsets.UTF_8));
+        Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
+
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(Arrays.copyOf(hash, 16), "AES"));
+        byte[] encrypted = cipher.doFinal(ByteBuffer.allocate(16).putLong(0L).putLong(value).array());
+        BigInteger current = new BigInteger(1, encrypted);
+        BigInteger base = BigInteger.valueOf(LEGACY_ALPHABET.length());
+        StringBuilder builder = new StringBuilder();
+
+        while (current.signum() > 0) {
+            BigInteger[] divRem = current.divideAndRemainder(base);
+            builder.append(LEGACY_ALPHABET.charAt(divRem[1].intValue()));
+            current = divRem[0];
+        }
+        return "0".repeat(22 - builder.length()) + builder.reverse();
+    }
 }
@@ -5,12 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.slack.bot.application.event.handler.spy.SpyChannelRepository;
 import com.slack.bot.application.event.handler.spy.SpyWorkspaceRepository;
+import com.slack.bot.application.worker.PollingHintPublisher;
+import com.slack.bot.application.worker.PollingHintTarget;
+import com.slack.bot.infrastructure.project.cache.ProjectChannelRouteCache;
+import com.slack.bot.infrastructure.workspace.cache.WorkspaceAccessTokenCache;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -25,6 +30,9 @@ class AppUninstalledEventHandlerTest {
 
     private SpyChannelRepository spyChannelRepository;
     private SpyWorkspaceRepository spyWorkspaceRepository;
+    private WorkspaceAccessTokenCache workspaceAccessTokenCache;
+    private ProjectChannelRouteCache projectChannelRouteCache;
+    private PollingHintPublisher pollingHintPublisher;
     private AppUninstalledEventHandler appUninstalledEventHandler;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -33,6 +41,9 @@ class AppUninstalledEventHandlerTest {
     void setUp() {
         spyChannelRepository = new SpyChannelRepository();
         spyWorkspaceRepository = new SpyWorkspaceRepository();
+        workspaceAccessTokenCache = mock(WorkspaceAccessTokenCache.class);
+        projectChannelRouteCache = mock(ProjectChannelRouteCache.class);
+        pollingHintPublisher = mock(PollingHintPublisher.class);
 
         TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
 
@@ -45,7 +56,10 @@ class AppUninstalledEventHandlerTest {
         appUninstalledEventHandler = new AppUninstalledEventHandler(
                 spyChannelRepository,
                 spyWorkspaceRepository,
-                transactionTemplate
+                workspaceAccessTokenCache,
+                projectChannelRouteCache,
+                transactionTemplate,
+                pollingHintPublisher
         );
     }
 
@@ -69,7 +83,10 @@ class AppUninstalledEventHandlerTest {
                 () -> assertThat(spyChannelRepository.getDeleteByTeamIdCallCount()).isEqualTo(1),
                 () -> assertThat(spyChannelRepository.getLastDeletedTeamId()).isEqualTo(teamId),
                 () -> assertThat(spyWorkspaceRepository.getDeleteByTeamIdCallCount()).isEqualTo(1),
-                () -> assertThat(spyWorkspaceRepository.getLastDeletedTeamId()).isEqualTo(teamId)
+                () -> assertThat(spyWorkspaceRepository.getLastDeletedTeamId()).isEqualTo(teamId),
+                () -> verify(workspaceAccessTokenCache).evict(teamId),
+                () -> verify(pollingHintPublisher).publish(PollingHintTarget.WORKSPACE_ACCESS_TOKEN),
+                () -> verify(projectChannelRouteCache).evictTeam(teamId)
         );
     }
 }
@@ -17,6 +17,7 @@ import com.slack.bot.domain.channel.Channel;
 import com.slack.bot.domain.channel.repository.ChannelRepository;
 import com.slack.bot.domain.workspace.repository.WorkspaceRepository;
 import com.slack.bot.global.config.properties.EventMessageProperties;
+import com.slack.bot.infrastructure.project.cache.ProjectChannelRouteCache;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -53,6 +54,9 @@ class MemberJoinedChannelEventHandlerTest {
     @Autowired
     PlatformTransactionManager transactionManager;
 
+    @Autowired
+    ProjectChannelRouteCache projectChannelRouteCache;
+
     private MemberJoinedChannelEventHandler memberJoinedChannelEventHandler;
 
     @BeforeEach
@@ -63,7 +67,8 @@ class MemberJoinedChannelEventHandlerTest {
                 slackEventApiClient,
                 memberJoinedEventParser,
                 eventMessageProperties,
-                new TransactionTemplate(transactionManager)
+                new TransactionTemplate(transactionManager),
+                projectChannelRouteCache
         );
     }
 
@@ -0,0 +1,93 @@
+package com.slack.bot.application.interaction.box;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BoxCompletionBufferTest {
+
+    @Test
+    void flushSize만큼_쌓이면_즉시_저장한다() {
+        // given
+        List<List<Integer>> flushed = new ArrayList<>();
+        BoxCompletionBuffer<Integer> buffer = new BoxCompletionBuffer<>(3, flushed::add);
+
+        // when
+        buffer.add(1);
+        buffer.add(2);
+        List<List<Integer>> beforeFull = List.copyOf(flushed);
+        buffer.add(3);
+
+        // then
+        assertAll(
+                () -> assertThat(beforeFull).isEmpty(),
+                () -> assertThat(flushed).containsExactly(List.of(1, 2, 3))
+        );
+    }
+
+    @Test
+    void flush는_남은_완료건을_flushSize_단위로_모두_저장한다() {
+        // given
+        List<List<Integer>> flushed = new ArrayList<>();
+        BoxCompletionBuffer<Integer> buffer = new BoxCompletionBuffer<>(10, flushed::add);
+        IntStream.rangeClosed(1, 4).forEach(buffer::add);
+
+        // when
+        buffer.flush();
+        buffer.flush();
+
+        // then
+        assertThat(flushed).containsExactly(List.of(1, 2, 3, 4));
+    }
+
+    @Test
+    void 여러_스레드에서_추가해도_모든_완료건을_한_번씩만_저장한다() {
+        // given
+        List<Integer> flushed = new CopyOnWriteArrayList<>();
+        List<Integer> chunkSizes = new CopyOnWriteArrayList<>();
+        BoxCompletionBuffer<Integer> buffer = new BoxCompletionBuffer<>(5, chunk -> {
+            chunkSizes.add(chunk.size());
+            flushed.addAll(chunk);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        try {
+            CompletableFuture.allOf(IntStream.range(0, 1_000)
+                                             .mapToObj(value -> CompletableFuture.runAsync(() -> buffer.add(value), executor))
+                                             .toArray(CompletableFuture[]::new))
+                             .join();
+            buffer.flush();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertAll(
+                () -> assertThat(flushed).hasSize(1_000)
+                                         .doesNotHaveDuplicates(),
+                () -> assertThat(chunkSizes).allSatisfy(size -> assertThat(size).isBetween(1, 5))
+        );
+    }
+
+    @Test
+    void flushSize가_0_이하면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> new BoxCompletionBuffer<Integer>(0, chunk -> { }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("flushSize는 0보다 커야 합니다.");
+    }
+}
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.verify;
 import com.slack.bot.application.worker.PollingHintPublisher;
 import com.slack.bot.application.worker.PollingHintTarget;
 import java.util.List;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -34,10 +35,12 @@ class InteractionImmediateProcessorTest {
                 pollingHintPublisher
         );
 
-        if (TransactionSynchronizationManager.isSynchronizationActive()) {
-            TransactionSynchronizationManager.clearSynchronization();
-        }
-        TransactionSynchronizationManager.setActualTransactionActive(false);
+        clearTransactionSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clearTransactionSynchronization();
     }
 
     @Test
@@ -124,4 +127,11 @@ class InteractionImmediateProcessorTest {
         // then
         verify(pollingHintPublisher, never()).publish(PollingHintTarget.BLOCK_ACTION_INBOX);
     }
+
+    private void clearTransactionSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
 }
@@ -0,0 +1,101 @@
+package com.slack.bot.application.interaction.box;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.slack.bot.application.interaction.dto.SlackInteractionPayload;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SlackInteractionPayloadContextTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    SlackInteractionPayloadContext context = new SlackInteractionPayloadContext();
+
+    @Test
+    void 컨텍스트의_노드와_같은_노드면_원본_JSON을_반환한다() throws Exception {
+        // given
+        String rawJson = "{ \"type\" : \"block_actions\" }";
+        JsonNode node = objectMapper.readTree(rawJson);
+
+        // when
+        String actual = context.withPayload(
+                new SlackInteractionPayload(rawJson, node),
+                () -> context.resolveJson(node)
+        );
+
+        // then
+        assertThat(actual).isEqualTo(rawJson);
+    }
+
+    @Test
+    void 컨텍스트의_노드와_다른_노드면_노드를_직렬화한다() throws Exception {
+        // given
+        String rawJson = "{ \"type\" : \"block_actions\" }";
+        JsonNode node = objectMapper.readTree(rawJson);
+        JsonNode otherNode = objectMapper.readTree(rawJson);
+
+        // when
+        String actual = context.withPayload(
+                new SlackInteractionPayload(rawJson, node),
+                () -> context.resolveJson(otherNode)
+        );
+
+        // then
+        assertThat(actual).isEqualTo("{\"type\":\"block_actions\"}");
+    }
+
+    @Test
+    void 컨텍스트_안에서는_요청_수신_시각을_반환한다() throws Exception {
+        // given
+        String rawJson = "{ \"type\" : \"block_actions\" }";
+        JsonNode node = objectMapper.readTree(rawJson);
+
+        // when
+        long actual = context.withPayload(
+                new SlackInteractionPayload(rawJson, node, 1_234L),
+                () -> context.resolveReceivedNanos()
+        );
+
+        // then
+        assertThat(actual).isEqualTo(1_234L);
+    }
+
+    @Test
+    void 컨텍스트_밖에서는_노드를_직렬화한다() throws Exception {
+        // given
+        JsonNode node = objectMapper.readTree("{ \"type\" : \"view_submission\" }");
+
+        // when
+        String actual = context.resolveJson(node);
+
+        // then
+        assertThat(actual).isEqualTo("{\"type\":\"view_submission\"}");
+    }
+
+    @Test
+    void 내부에서_예외가_발생해도_컨텍스트는_복원된다() throws Exception {
+        // given
+        String rawJson = "{ \"type\" : \"block_actions\" }";
+        JsonNode node = objectMapper.readTree(rawJson);
+        SlackInteractionPayload payload = new SlackInteractionPayload(rawJson, node);
+
+        // when
+        Runnable failing = () -> {
+            throw new IllegalStateException("test");
+        };
+
+        // then
+        assertAll(
+                () -> assertThatThrownBy(() -> context.withPayload(payload, failing))
+                        .isInstanceOf(IllegalStateException.class),
+                () -> assertThat(context.resolveJson(node)).isEqualTo("{\"type\":\"block_actions\"}")
+        );
+    }
+}
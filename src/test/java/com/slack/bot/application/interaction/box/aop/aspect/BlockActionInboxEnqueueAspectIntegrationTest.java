@@ -15,10 +15,12 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.slack.bot.application.IntegrationTest;
 import com.slack.bot.application.interaction.block.BlockActionType;
 import com.slack.bot.application.interaction.box.ProcessingSourceContext;
+import com.slack.bot.application.interaction.box.SlackInteractionPayloadContext;
 import com.slack.bot.application.interaction.box.aop.aspect.exception.BlockActionAopProceedException;
 import com.slack.bot.application.interaction.box.aop.aspect.support.AspectIntegrationProbes.BlockActionAspectProbe;
 import com.slack.bot.application.interaction.box.aop.aspect.support.AspectIntegrationProbes.BlockActionProbeMode;
 import com.slack.bot.application.interaction.box.in.SlackInteractionInboxProcessor;
+import com.slack.bot.application.interaction.dto.SlackInteractionPayload;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -39,6 +41,9 @@ class BlockActionInboxEnqueueAspectIntegrationTest {
     @Autowired
     SlackInteractionInboxProcessor slackInteractionInboxProcessor;
 
+    @Autowired
+    SlackInteractionPayloadContext slackInteractionPayloadContext;
+
     @Autowired
     BlockActionAspectProbe blockActionAspectProbe;
 
@@ -182,6 +187,26 @@ class BlockActionInboxEnqueueAspectIntegrationTest {
         verify(slackInteractionInboxProcessor, never()).enqueueBlockAction(anyString());
     }
 
+    @Test
+    void 파싱된_payload_컨텍스트가_있으면_재직렬화하지_않고_원본_JSON을_적재한다() {
+        // given
+        JsonNode payload = blockActionPayload();
+        String rawPayloadJson = "{ \"type\" : \"block_actions\" }";
+        doReturn(true)
+                .when(slackInteractionInboxProcessor)
+                .enqueueBlockAction(rawPayloadJson);
+
+        // when
+        slackInteractionPayloadContext.withPayload(
+                new SlackInteractionPayload(rawPayloadJson, payload),
+                () -> blockActionAspectProbe.handle(payload, BlockActionProbeMode.RETURN_VALUE)
+        );
+
+        // then
+        assertThat(blockActionAspectProbe.proceedCount()).isZero();
+        verify(slackInteractionInboxProcessor).enqueueBlockAction(rawPayloadJson);
+    }
+
     private JsonNode blockActionPayload() {
         return blockActionPayload(BlockActionType.CANCEL_REVIEW_RESERVATION.value());
     }
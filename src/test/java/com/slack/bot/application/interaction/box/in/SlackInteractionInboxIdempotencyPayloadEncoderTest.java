@@ -284,6 +284,60 @@ class SlackInteractionInboxIdempotencyPayloadEncoderTest {
         assertThat(actual).isEqualTo(payloadJson);
     }
 
+    @Test
+    void view_submission_state와_blocks가_커도_멱등성_필드만_추출한다() throws Exception {
+        // given
+        ObjectNode payload = payloadForViewSubmission("T1", "U1", "V1", "review_time_submit", "{\"project_id\":123}");
+        ObjectNode view = (ObjectNode) payload.path("view");
+        ArrayNode blocks = view.putArray("blocks");
+        for (int i = 0; i < 500; i++) {
+            blocks.addObject()
+                  .put("type", "input")
+                  .put("block_id", "block-" + i)
+                  .putObject("element")
+                  .put("action_id", "action-" + i);
+        }
+        view.putObject("state")
+            .putObject("values")
+            .putObject("block-0")
+            .putObject("action-0")
+            .put("value", "selected");
+
+        // when
+        String source = encoder.encodeViewSubmission(payload.toString());
+
+        // then
+        JsonNode sourceNode = objectMapper.readTree(source);
+        assertAll(
+                () -> assertThat(sourceNode.path("teamId").asText()).isEqualTo("T1"),
+                () -> assertThat(sourceNode.path("userId").asText()).isEqualTo("U1"),
+                () -> assertThat(sourceNode.path("viewId").asText()).isEqualTo("V1"),
+                () -> assertThat(sourceNode.path("callbackId").asText()).isEqualTo("review_time_submit"),
+                () -> assertThat(sourceNode.path("privateMetadata").asText()).isEqualTo("{\"project_id\":123}")
+        );
+    }
+
+    @Test
+    void block_action_두번째_action과_null_값은_멱등성_필드에_반영되지_않는다() throws Exception {
+        // given
+        ObjectNode payload = payloadForBlockAction("T1", "C1", "U1", "first-action", "first-value", "1700000.1111");
+        ((ArrayNode) payload.path("actions")).addObject()
+                                             .put("action_id", "second-action")
+                                             .put("value", "second-value");
+        ((ObjectNode) payload.path("channel")).putNull("id");
+
+        // when
+        String source = encoder.encodeBlockAction(payload.toString());
+
+        // then
+        JsonNode sourceNode = objectMapper.readTree(source);
+        assertAll(
+                () -> assertThat(sourceNode.path("channelId").asText()).isEmpty(),
+                () -> assertThat(sourceNode.path("actionId").asText()).isEqualTo("first-action"),
+                () -> assertThat(sourceNode.path("actionValue").asText()).isEqualTo("first-value")
+        );
+    }
+
     private ObjectNode payloadForBlockAction(
             String teamId,
             String channelId,
@@ -0,0 +1,117 @@
+package com.slack.bot.application.interaction.box.in;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("benchmark")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SlackInteractionIngressBenchmarkTest {
+
+    private static final int BLOCK_COUNT = 2_000;
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURE_ROUNDS = 2_000;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    SlackInteractionInboxIdempotencyPayloadEncoder encoder =
+            new SlackInteractionInboxIdempotencyPayloadEncoder(objectMapper);
+
+    @Test
+    void 큰_view_submission_payload는_한_번만_파싱하면_적재_경로가_빨라진다() throws Exception {
+        // given
+        String payloadJson = largeViewSubmissionPayload().toString();
+
+        // when
+        long treeIngressNanos = measureNanos(() -> treeIngress(payloadJson));
+        long parseOnceIngressNanos = measureNanos(() -> parseOnceIngress(payloadJson));
+
+        // then
+        System.out.printf(
+                "view_submission ingress (payload %,d bytes): 재파싱 %.3fms, 단일 파싱 %.3fms%n",
+                payloadJson.length(),
+                treeIngressNanos / 1_000_000.0d,
+                parseOnceIngressNanos / 1_000_000.0d
+        );
+        assertThat(parseOnceIngressNanos).isLessThan(treeIngressNanos);
+    }
+
+    private String treeIngress(String payloadJson) throws Exception {
+        JsonNode payload = objectMapper.readTree(payloadJson);
+        String reserialized = payload.toString();
+        JsonNode reparsed = objectMapper.readTree(reserialized);
+        JsonNode view = reparsed.path("view");
+
+        return reparsed.path("team").path("id").asText()
+                + reparsed.path("user").path("id").asText()
+                + view.path("id").asText()
+                + view.path("callback_id").asText()
+                + view.path("private_metadata").asText();
+    }
+
+    private String parseOnceIngress(String payloadJson) throws Exception {
+        JsonNode payload = objectMapper.readTree(payloadJson);
+
+        return payload.path("type").asText() + encoder.encodeViewSubmission(payloadJson);
+    }
+
+    private long measureNanos(IngressTask task) throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            assertThat(task.run()).isNotBlank();
+        }
+
+        long[] elapsedNanos = new long[MEASURE_ROUNDS];
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long startedNanos = System.nanoTime();
+            String result = task.run();
+            elapsedNanos[i] = System.nanoTime() - startedNanos;
+
+            assertThat(result).isNotBlank();
+        }
+
+        Arrays.sort(elapsedNanos);
+        return elapsedNanos[MEASURE_ROUNDS / 2];
+    }
+
+    private ObjectNode largeViewSubmissionPayload() {
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.put("type", "view_submission");
+        payload.putObject("team").put("id", "T1");
+        payload.putObject("user").put("id", "U1");
+
+        ObjectNode view = payload.putObject("view");
+        view.put("id", "V1");
+        view.put("callback_id", "review_time_submit");
+        view.put("private_metadata", "{\"project_id\":123}");
+
+        ArrayNode blocks = view.putArray("blocks");
+        ObjectNode values = view.putObject("state").putObject("values");
+        for (int i = 0; i < BLOCK_COUNT; i++) {
+            blocks.addObject()
+                  .put("type", "input")
+                  .put("block_id", "block-" + i)
+                  .putObject("element")
+                  .put("type", "plain_text_input")
+                  .put("action_id", "action-" + i);
+            values.putObject("block-" + i)
+                  .putObject("action-" + i)
+                  .put("type", "plain_text_input")
+                  .put("value", "입력값-" + i);
+        }
+        return payload;
+    }
+
+    @FunctionalInterface
+    private interface IngressTask {
+
+        String run() throws Exception;
+    }
+}
@@ -2,6 +2,8 @@ package com.slack.bot.application.interaction.box.out;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -9,6 +11,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import com.slack.bot.application.worker.AdaptivePollingRunner;
 import com.slack.bot.application.worker.PollingHintEvent;
 import com.slack.bot.application.worker.PollingHintTarget;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -44,7 +47,7 @@ class SlackNotificationOutboxWorkerTest {
         slackNotificationOutboxWorker.processPendingOutbox();
 
         // then
-        verify(slackNotificationOutboxProcessor).processPending(50);
+        verify(slackNotificationOutboxProcessor).processPending(eq(50), any(Executor.class));
     }
 
     @Test
@@ -1,11 +1,15 @@
 package com.slack.bot.application.interaction.box.retry;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
+import com.slack.bot.application.interaction.client.exception.SlackApiRateLimitedException;
 import com.slack.bot.application.interaction.client.exception.SlackBotMessageDispatchException;
+import com.slack.bot.application.interaction.client.exception.SlackChannelNotFoundException;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
+import java.time.Duration;
 import org.springframework.web.client.ResourceAccessException;
 
 @SuppressWarnings("NonAsciiCharacters")
@@ -24,6 +28,26 @@ class InteractionRetryExceptionClassifierTest {
         assertThat(actual).isTrue();
     }
 
+    @Test
+    void 채널을_찾을_수_없는_슬랙_전송_예외는_non_retryable로_판단한다() {
+        // given
+        InteractionRetryExceptionClassifier exceptionClassifier = InteractionRetryExceptionClassifier.create();
+
+        // when
+        boolean actual = exceptionClassifier.isRetryable(new SlackChannelNotFoundException("channel_not_found"));
+        boolean wrapped = exceptionClassifier.isRetryable(
+                new IllegalStateException("wrapped", new SlackChannelNotFoundException("channel_not_found"))
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isFalse(),
+                () -> assertThat(wrapped).isFalse(),
+                () -> assertThat(exceptionClassifier.getRetryableExceptions())
+                        .containsEntry(SlackChannelNotFoundException.class, false)
+        );
+    }
+
     @Test
     void 네트워크_접근_예외는_retryable로_판단한다() {
         // given
@@ -84,6 +108,26 @@ class InteractionRetryExceptionClassifierTest {
         assertThat(actual).isFalse();
     }
 
+    @Test
+    void 슬랙_API_rate_limit_예외는_retryable_맵과_isRetryable_모두_재시도하지_않는다() {
+        // given
+        InteractionRetryExceptionClassifier exceptionClassifier = InteractionRetryExceptionClassifier.create();
+        SlackApiRateLimitedException exception = new SlackApiRateLimitedException(
+                "chat.postMessage",
+                Duration.ofSeconds(1L)
+        );
+
+        // when
+        boolean actual = exceptionClassifier.isRetryable(exception);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isFalse(),
+                () -> assertThat(exceptionClassifier.getRetryableExceptions())
+                        .containsEntry(SlackApiRateLimitedException.class, false)
+        );
+    }
+
     private static class SelfCauseRuntimeException extends RuntimeException {
 
         private SelfCauseRuntimeException(String message) {
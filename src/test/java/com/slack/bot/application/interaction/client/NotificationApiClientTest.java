@@ -7,6 +7,8 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -17,7 +19,12 @@ import com.slack.bot.application.interaction.box.out.OutboxIdempotencySourceCont
 import com.slack.bot.application.interaction.box.out.OutboxWorkspaceResolver;
 import com.slack.bot.application.interaction.box.out.SlackNotificationOutboxWriter;
 import com.slack.bot.application.interaction.box.out.exception.OutboxWorkspaceNotFoundException;
+import com.slack.bot.global.config.properties.DirectMessageChannelCacheProperties;
 import com.slack.bot.infrastructure.interaction.client.NotificationTransportApiClient;
+import com.slack.bot.infrastructure.interaction.dm.cache.DirectMessageChannelCache;
+import com.slack.bot.infrastructure.interaction.dm.repository.DirectMessageChannelRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -46,6 +53,9 @@ class NotificationApiClientTest {
     @Mock
     private OutboxWorkspaceResolver outboxWorkspaceResolver;
 
+    @Mock
+    private DirectMessageChannelRepository directMessageChannelRepository;
+
     @BeforeEach
     void setUp() {
         lenient().when(outboxWorkspaceResolver.resolve("token")).thenReturn("T1");
@@ -55,7 +65,13 @@ class NotificationApiClientTest {
                 outboxWorkspaceResolver,
                 slackNotificationOutboxWriter,
                 notificationTransportApiClient,
-                outboxIdempotencySourceContext
+                outboxIdempotencySourceContext,
+                new DirectMessageChannelCache(
+                        Clock.systemUTC(),
+                        new SimpleMeterRegistry(),
+                        new DirectMessageChannelCacheProperties(),
+                        directMessageChannelRepository
+                )
         );
     }
 
@@ -192,6 +208,18 @@ class NotificationApiClientTest {
         verify(notificationTransportApiClient).openModal("token", "TRIGGER", view);
     }
 
+    @Test
+    void View_모달_갱신은_전송_클라이언트에_위임한다() {
+        // given
+        View view = Views.view(v -> v.type("modal"));
+
+        // when
+        notificationApiClient.updateModal("token", "V1", view);
+
+        // then
+        verify(notificationTransportApiClient).updateModal("token", "V1", view);
+    }
+
     @Test
     void DM_채널_오픈은_전송_클라이언트에_위임한다() {
         // given
@@ -204,6 +232,37 @@ class NotificationApiClientTest {
         // then
         assertThat(actual).isEqualTo("D123");
         verify(notificationTransportApiClient).openDirectMessageChannel("token", "U1");
+        verify(directMessageChannelRepository).save("T1", "U1", "D123");
+    }
+
+    @Test
+    void 한_번_연_DM_채널은_다시_열지_않는다() {
+        // given
+        given(notificationTransportApiClient.openDirectMessageChannel("token", "U1"))
+                .willReturn("D123");
+
+        // when
+        String first = notificationApiClient.openDirectMessageChannel("token", "U1");
+        String second = notificationApiClient.openDirectMessageChannel("token", "U1");
+
+        // then
+        assertThat(first).isEqualTo("D123");
+        assertThat(second).isEqualTo("D123");
+        verify(notificationTransportApiClient, times(1)).openDirectMessageChannel("token", "U1");
+        verify(directMessageChannelRepository, times(1)).findChannelId("T1", "U1");
+    }
+
+    @Test
+    void 저장된_DM_채널이_있으면_전송_클라이언트를_호출하지_않는다() {
+        // given
+        given(directMessageChannelRepository.findChannelId("T1", "U1")).willReturn(Optional.of("D999"));
+
+        // when
+        String actual = notificationApiClient.openDirectMessageChannel("token", "U1");
+
+        // then
+        assertThat(actual).isEqualTo("D999");
+        verify(notificationTransportApiClient, never()).openDirectMessageChannel(any(), any());
     }
 
     @Test
@@ -1,6 +1,10 @@
 package com.slack.bot.application.interaction.client;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.springframework.http.HttpMethod.POST;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
@@ -9,7 +13,18 @@ import static org.springframework.test.web.client.match.MockRestRequestMatchers.
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
+import com.slack.bot.application.interaction.client.exception.SlackApiRateLimitedException;
 import com.slack.bot.application.interaction.client.exception.SlackDmException;
+import com.slack.bot.global.config.properties.DirectMessageChannelCacheProperties;
+import com.slack.bot.global.config.properties.SlackApiRateLimitProperties;
+import com.slack.bot.global.config.properties.SlackApiRateLimitProperties.MethodLimit;
+import com.slack.bot.infrastructure.interaction.client.SlackApiRateLimiter;
+import com.slack.bot.infrastructure.interaction.dm.cache.DirectMessageChannelCache;
+import com.slack.bot.infrastructure.interaction.dm.repository.DirectMessageChannelRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -27,6 +42,7 @@ import org.springframework.web.client.RestClient;
 class ReviewReminderSlackDirectMessageClientTest {
 
     private MockRestServiceServer mockServer;
+    private DirectMessageChannelRepository directMessageChannelRepository;
     private ReviewReminderSlackDirectMessageClient slackDirectMessageClient;
 
     @BeforeEach
@@ -39,7 +55,18 @@ class ReviewReminderSlackDirectMessageClientTest {
                                           .build();
 
         RestClient slackClient = restClientBuilder.build();
-        slackDirectMessageClient = new ReviewReminderSlackDirectMessageClient(slackClient);
+        directMessageChannelRepository = mock(DirectMessageChannelRepository.class);
+        DirectMessageChannelCache directMessageChannelCache = new DirectMessageChannelCache(
+                Clock.systemUTC(),
+                new SimpleMeterRegistry(),
+                new DirectMessageChannelCacheProperties(),
+                directMessageChannelRepository
+        );
+        slackDirectMessageClient = new ReviewReminderSlackDirectMessageClient(
+                slackClient,
+                directMessageChannelCache,
+                new SlackApiRateLimiter(Clock.systemUTC(), new SimpleMeterRegistry(), new SlackApiRateLimitProperties())
+        );
     }
 
     @Test
@@ -81,12 +108,118 @@ class ReviewReminderSlackDirectMessageClientTest {
                   .andRespond(withSuccess("{\"ok\":true}", MediaType.APPLICATION_JSON));
 
         // when
-        slackDirectMessageClient.send(token, userId, text);
+        slackDirectMessageClient.send("T1", token, userId, text);
 
         // then
         mockServer.verify();
     }
 
+    @Test
+    void 저장된_DM_채널이_있으면_채널을_다시_열지_않는다() {
+        // given
+        String token = "xoxb-token";
+        given(directMessageChannelRepository.findChannelId("T1", "U123")).willReturn(Optional.of("D234"));
+
+        mockServer.expect(requestTo("https://slack.com/api/chat.postMessage"))
+                  .andExpect(method(POST))
+                  .andExpect(content().json("{\"channel\":\"D234\",\"text\":\"hello\"}"))
+                  .andRespond(withSuccess("{\"ok\":true}", MediaType.APPLICATION_JSON));
+        mockServer.expect(requestTo("https://slack.com/api/chat.postMessage"))
+                  .andExpect(method(POST))
+                  .andExpect(content().json("{\"channel\":\"D234\",\"text\":\"again\"}"))
+                  .andRespond(withSuccess("{\"ok\":true}", MediaType.APPLICATION_JSON));
+
+        // when
+        slackDirectMessageClient.send("T1", token, "U123", "hello");
+        slackDirectMessageClient.send("T1", token, "U123", "again");
+
+        // then
+        assertAll(
+                () -> mockServer.verify(),
+                () -> verify(directMessageChannelRepository).findChannelId("T1", "U123")
+        );
+    }
+
+    @Test
+    void 저장된_DM_채널을_찾을_수_없으면_채널을_다시_열어_한_번_재전송한다() {
+        // given
+        String token = "xoxb-token";
+        given(directMessageChannelRepository.findChannelId("T1", "U123")).willReturn(
+                Optional.of("D-OLD"),
+                Optional.empty()
+        );
+
+        mockServer.expect(requestTo("https://slack.com/api/chat.postMessage"))
+                  .andExpect(method(POST))
+                  .andExpect(content().json("{\"channel\":\"D-OLD\",\"text\":\"hello\"}"))
+                  .andRespond(withSuccess("{\"ok\":false,\"error\":\"channel_not_found\"}", MediaType.APPLICATION_JSON));
+        mockServer.expect(requestTo("https://slack.com/api/conversations.open"))
+                  .andExpect(method(POST))
+                  .andExpect(content().json("{\"users\":\"U123\"}"))
+                  .andRespond(withSuccess("{\"ok\":true,\"channel\":{\"id\":\"D-NEW\"}}", MediaType.APPLICATION_JSON));
+        mockServer.expect(requestTo("https://slack.com/api/chat.postMessage"))
+                  .andExpect(method(POST))
+                  .andExpect(content().json("{\"channel\":\"D-NEW\",\"text\":\"hello\"}"))
+                  .andRespond(withSuccess("{\"ok\":true}", MediaType.APPLICATION_JSON));
+
+        // when
+        slackDirectMessageClient.send("T1", token, "U123", "hello");
+
+        // then
+        assertAll(
+                () -> mockServer.verify(),
+                () -> verify(directMessageChannelRepository).deleteByChannelId("T1", "D-OLD"),
+                () -> verify(directMessageChannelRepository).save("T1", "U123", "D-NEW")
+        );
+    }
+
+    @Test
+    void 채널_재오픈과_재전송도_Slack_API_호출마다_한도를_차감한다() {
+        // given
+        RestClient.Builder restClientBuilder = RestClient.builder()
+                                                         .baseUrl("https://slack.com/api/");
+        MockRestServiceServer limitedServer = MockRestServiceServer.bindTo(restClientBuilder)
+                                                                   .build();
+        ReviewReminderSlackDirectMessageClient limitedClient = new ReviewReminderSlackDirectMessageClient(
+                restClientBuilder.build(),
+                new DirectMessageChannelCache(
+                        Clock.systemUTC(),
+                        new SimpleMeterRegistry(),
+                        new DirectMessageChannelCacheProperties(),
+                        directMessageChannelRepository
+                ),
+                new SlackApiRateLimiter(
+                        Clock.systemUTC(),
+                        new SimpleMeterRegistry(),
+                        new SlackApiRateLimitProperties(
+                                60,
+                                1,
+                                30_000L,
+                                Map.of("chat.postMessage", new MethodLimit(60, 1))
+                        )
+                )
+        );
+        given(directMessageChannelRepository.findChannelId("T1", "U123")).willReturn(
+                Optional.of("D-OLD"),
+                Optional.empty()
+        );
+
+        limitedServer.expect(requestTo("https://slack.com/api/chat.postMessage"))
+                     .andExpect(method(POST))
+                     .andRespond(withSuccess("{\"ok\":false,\"error\":\"channel_not_found\"}", MediaType.APPLICATION_JSON));
+        limitedServer.expect(requestTo("https://slack.com/api/conversations.open"))
+                     .andExpect(method(POST))
+                     .andRespond(withSuccess("{\"ok\":true,\"channel\":{\"id\":\"D-NEW\"}}", MediaType.APPLICATION_JSON));
+
+        // when & then
+        assertThatThrownBy(() -> limitedClient.send("T1", "xoxb-token", "U123", "hello"))
+                .isInstanceOf(SlackApiRateLimitedException.class)
+                .extracting("apiName")
+                .isEqualTo("chat.postMessage");
+
+        limitedServer.verify();
+    }
+
     @Test
     void DM_채널_오픈_응답이_ok_false이면_예외를_던진다() {
         // given
@@ -106,7 +239,7 @@ class ReviewReminderSlackDirectMessageClientTest {
                   .andRespond(withSuccess(openResponseBody, MediaType.APPLICATION_JSON));
 
         // when & then
-        assertThatThrownBy(() -> slackDirectMessageClient.send(token, userId, "message"))
+        assertThatThrownBy(() -> slackDirectMessageClient.send("T1", token, userId, "message"))
                         .isInstanceOf(SlackDmException.class)
                         .hasMessageContaining("channel_not_found");
         mockServer.verify();
@@ -144,7 +277,7 @@ class ReviewReminderSlackDirectMessageClientTest {
                   .andRespond(withSuccess(postResponseBody, MediaType.APPLICATION_JSON));
 
         // when & then
-        assertThatThrownBy(() -> slackDirectMessageClient.send(token, userId, "message"))
+        assertThatThrownBy(() -> slackDirectMessageClient.send("T1", token, userId, "message"))
                         .isInstanceOf(SlackDmException.class)
                         .hasMessageContaining("not_in_channel");
         mockServer.verify();
@@ -181,7 +314,7 @@ class ReviewReminderSlackDirectMessageClientTest {
                   .andRespond(withSuccess(postResponseBody, MediaType.APPLICATION_JSON));
 
         // when & then
-        assertThatThrownBy(() -> slackDirectMessageClient.send(token, userId, "message"))
+        assertThatThrownBy(() -> slackDirectMessageClient.send("T1", token, userId, "message"))
                         .isInstanceOf(SlackDmException.class)
                         .hasMessageContaining("알 수 없는 오류");
         mockServer.verify();
@@ -216,7 +349,7 @@ class ReviewReminderSlackDirectMessageClientTest {
                           .body(longBody));
 
         // when & then
-        assertThatThrownBy(() -> slackDirectMessageClient.send(token, userId, "message"))
+        assertThatThrownBy(() -> slackDirectMessageClient.send("T1", token, userId, "message"))
                         .isInstanceOf(SlackDmException.class)
                         .hasMessageContaining("status=500")
                         .hasMessageContaining("...(truncated)");
@@ -252,7 +385,7 @@ class ReviewReminderSlackDirectMessageClientTest {
                           .body(shortBody));
 
         // when & then
-        assertThatThrownBy(() -> slackDirectMessageClient.send(token, userId, "message"))
+        assertThatThrownBy(() -> slackDirectMessageClient.send("T1", token, userId, "message"))
                 .isInstanceOf(SlackDmException.class)
                 .hasMessageContaining("short-body")
                 .hasMessageNotContaining("...(truncated)");
@@ -261,7 +394,7 @@ class ReviewReminderSlackDirectMessageClientTest {
     @Test
     void 필수_값이_비어_있으면_API_호출_없이_예외를_던진다() {
         // when & then
-        assertThatThrownBy(() -> slackDirectMessageClient.send("", "", ""))
+        assertThatThrownBy(() -> slackDirectMessageClient.send("T1", "", "", ""))
                 .isInstanceOf(SlackDmException.class);
 
         mockServer.verify();
@@ -294,7 +427,7 @@ class ReviewReminderSlackDirectMessageClientTest {
                           .contentType(MediaType.TEXT_PLAIN)
                           .body(longBody));
 
-        assertThatThrownBy(() -> slackDirectMessageClient.send(token, userId, "message"))
+        assertThatThrownBy(() -> slackDirectMessageClient.send("T1", token, userId, "message"))
                 .isInstanceOf(SlackDmException.class)
                 .hasMessageContaining("...(truncated)");
     }
@@ -324,7 +457,7 @@ class ReviewReminderSlackDirectMessageClientTest {
                           .body(new InputStreamResource(new FailingInputStream("boom")))
                           .createResponse(request));
 
-        assertThatThrownBy(() -> slackDirectMessageClient.send(token, userId, "message"))
+        assertThatThrownBy(() -> slackDirectMessageClient.send("T1", token, userId, "message"))
                 .isInstanceOf(SlackDmException.class)
                 .hasMessageNotContaining("body=");
     }
@@ -15,6 +15,10 @@ import com.slack.bot.domain.setting.NotificationSettings;
 import com.slack.bot.domain.setting.repository.NotificationSettingsRepository;
 import com.slack.bot.domain.setting.vo.OptionalNotifications;
 import com.slack.bot.domain.setting.vo.ReservationConfirmed;
+import com.slack.bot.global.config.properties.NotificationSettingsCacheProperties;
+import com.slack.bot.infrastructure.setting.cache.NotificationSettingsCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -41,7 +45,14 @@ class NotificationDispatcherTest {
 
     @BeforeEach
     void setUp() {
-        notificationDispatcher = new NotificationDispatcher(notificationApiClient, notificationSettingsRepository);
+        NotificationSettingsCache notificationSettingsCache = new NotificationSettingsCache(
+                Clock.systemUTC(),
+                new SimpleMeterRegistry(),
+                new NotificationSettingsCacheProperties(),
+                notificationSettingsRepository
+        );
+
+        notificationDispatcher = new NotificationDispatcher(notificationApiClient, notificationSettingsCache);
     }
 
     @Test
@@ -1,16 +1,22 @@
 package com.slack.bot.application.interaction.reminder;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.slack.bot.application.interaction.client.ReviewReminderSlackDirectMessageClient;
+import com.slack.bot.application.interaction.client.exception.SlackApiRateLimitedException;
 import com.slack.bot.application.interaction.client.exception.SlackDmException;
 import com.slack.bot.domain.reservation.ReviewReminder;
 import com.slack.bot.domain.reservation.repository.ReviewReminderRepository;
@@ -23,11 +29,29 @@ import com.slack.bot.domain.setting.vo.OptionalNotifications;
 import com.slack.bot.domain.setting.vo.ReservationConfirmed;
 import com.slack.bot.domain.workspace.Workspace;
 import com.slack.bot.domain.workspace.repository.WorkspaceRepository;
+import com.slack.bot.global.config.properties.NotificationSettingsCacheProperties;
 import com.slack.bot.global.config.properties.ReviewReminderMessageProperties;
+import com.slack.bot.global.config.properties.SlackApiRateLimitProperties;
+import com.slack.bot.global.config.properties.WorkspaceTokenCacheProperties;
+import com.slack.bot.infrastructure.interaction.client.SlackApiRateLimiter;
+import com.slack.bot.infrastructure.setting.cache.NotificationSettingsCache;
+import com.slack.bot.infrastructure.workspace.cache.WorkspaceAccessTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -36,6 +60,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @SuppressWarnings("NonAsciiCharacters")
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -60,6 +85,7 @@ class ReviewReminderDispatcherTest {
     @Mock
     ReviewReminderSlackDirectMessageClient reviewReminderSlackDirectMessageClient;
 
+    private SlackApiRateLimiter slackApiRateLimiter;
     private ReviewReminderDispatcher dispatcher;
 
     @BeforeEach
@@ -70,16 +96,26 @@ class ReviewReminderDispatcherTest {
                 "PR: %s (%s)"
         );
 
+        slackApiRateLimiter = new SlackApiRateLimiter(clock, new SimpleMeterRegistry(), new SlackApiRateLimitProperties());
         dispatcher = new ReviewReminderDispatcher(
                 clock,
-                workspaceRepository,
+                new WorkspaceAccessTokenCache(
+                        clock,
+                        new SimpleMeterRegistry(),
+                        new WorkspaceTokenCacheProperties(),
+                        workspaceRepository
+                ),
                 reviewReminderRepository,
                 reviewReminderSlackDirectMessageClient,
-                messageProperties,
-                notificationSettingsRepository
+                new ReviewReminderMessageRenderer(messageProperties),
+                new NotificationSettingsCache(
+                        clock,
+                        new SimpleMeterRegistry(),
+                        new NotificationSettingsCacheProperties(),
+                        notificationSettingsRepository
+                ),
+                slackApiRateLimiter
         );
-
-        given(reviewReminderRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
     }
 
     @Test
@@ -101,18 +137,16 @@ class ReviewReminderDispatcherTest {
         );
 
         given(workspaceRepository.findByTeamId(TEAM_ID)).willReturn(Optional.of(workspace));
-        given(notificationSettingsRepository.findBySlackUser(TEAM_ID, REVIEWER_ID))
-                .willReturn(Optional.of(notificationSettings));
+        given(notificationSettingsRepository.findAllBySlackUsers(TEAM_ID, Set.of(REVIEWER_ID)))
+                .willReturn(Map.of(REVIEWER_ID, notificationSettings));
 
         // when
         dispatcher.send(reminder);
 
         // then
-        ArgumentCaptor<ReviewReminder> actual = ArgumentCaptor.forClass(ReviewReminder.class);
-        verify(reviewReminderRepository).save(actual.capture());
-
-        assertThat(actual.getValue().isFired()).isTrue();
-        verify(reviewReminderSlackDirectMessageClient, never()).send(any(), any(), any());
+        assertThat(reminder.isFired()).isTrue();
+        verify(reviewReminderRepository).markFiredAll(any(), eq(FIXED_NOW));
+        verify(reviewReminderSlackDirectMessageClient, never()).send(any(), any(), any(), any());
     }
 
     @Test
@@ -125,10 +159,9 @@ class ReviewReminderDispatcherTest {
         dispatcher.send(reminder);
 
         // then
-        ArgumentCaptor<ReviewReminder> actual = ArgumentCaptor.forClass(ReviewReminder.class);
-        verify(reviewReminderRepository).save(actual.capture());
+        verify(reviewReminderRepository).markFiredAll(any(), eq(FIXED_NOW));
         verifyNoInteractions(notificationSettingsRepository, reviewReminderSlackDirectMessageClient);
-        assertThat(actual.getValue().isFired()).isTrue();
+        assertThat(reminder.isFired()).isTrue();
     }
 
     @Test
@@ -144,8 +177,8 @@ class ReviewReminderDispatcherTest {
         NotificationSettings notificationSettings = NotificationSettings.defaults(1L);
 
         given(workspaceRepository.findByTeamId(TEAM_ID)).willReturn(Optional.of(workspace));
-        given(notificationSettingsRepository.findBySlackUser(TEAM_ID, REVIEWER_ID))
-                .willReturn(Optional.of(notificationSettings));
+        given(notificationSettingsRepository.findAllBySlackUsers(TEAM_ID, Set.of(REVIEWER_ID)))
+                .willReturn(Map.of(REVIEWER_ID, notificationSettings));
 
         // when
         dispatcher.send(reminder);
@@ -154,11 +187,10 @@ class ReviewReminderDispatcherTest {
         String expectedAuthorMessage = "리뷰어 <@U-REVIEWER> <https://github.com/org/repo/pull/1|Great PR>";
         String expectedReviewerMessage = "PR: Great PR (https://github.com/org/repo/pull/1)";
 
-        ArgumentCaptor<ReviewReminder> actual = ArgumentCaptor.forClass(ReviewReminder.class);
-        verify(reviewReminderSlackDirectMessageClient).send(TOKEN, AUTHOR_ID, expectedAuthorMessage);
-        verify(reviewReminderSlackDirectMessageClient).send(TOKEN, REVIEWER_ID, expectedReviewerMessage);
-        verify(reviewReminderRepository).save(actual.capture());
-        assertThat(actual.getValue().isFired()).isTrue();
+        verify(reviewReminderSlackDirectMessageClient).send(TEAM_ID, TOKEN, AUTHOR_ID, expectedAuthorMessage);
+        verify(reviewReminderSlackDirectMessageClient).send(TEAM_ID, TOKEN, REVIEWER_ID, expectedReviewerMessage);
+        verify(reviewReminderRepository).markFiredAll(any(), eq(FIXED_NOW));
+        assertThat(reminder.isFired()).isTrue();
     }
 
     @Test
@@ -174,15 +206,16 @@ class ReviewReminderDispatcherTest {
         NotificationSettings notificationSettings = NotificationSettings.defaults(1L);
 
         given(workspaceRepository.findByTeamId(TEAM_ID)).willReturn(Optional.of(workspace));
-        given(notificationSettingsRepository.findBySlackUser(TEAM_ID, REVIEWER_ID))
-                .willReturn(Optional.of(notificationSettings));
+        given(notificationSettingsRepository.findAllBySlackUsers(TEAM_ID, Set.of(REVIEWER_ID)))
+                .willReturn(Map.of(REVIEWER_ID, notificationSettings));
 
         // when
         dispatcher.send(reminder);
 
         // then
-        verify(reviewReminderSlackDirectMessageClient, never()).send(eq(TOKEN), eq(""), anyString());
+        verify(reviewReminderSlackDirectMessageClient, never()).send(eq(TEAM_ID), eq(TOKEN), eq(""), anyString());
         verify(reviewReminderSlackDirectMessageClient).send(
+                        TEAM_ID,
                         TOKEN,
                         REVIEWER_ID,
                         "PR: Great PR (https://github.com/org/repo/pull/1)"
@@ -217,14 +250,14 @@ class ReviewReminderDispatcherTest {
         NotificationSettings notificationSettings = NotificationSettings.defaults(1L);
 
         given(workspaceRepository.findByTeamId(TEAM_ID)).willReturn(Optional.of(workspace));
-        given(notificationSettingsRepository.findBySlackUser(TEAM_ID, REVIEWER_ID))
-                .willReturn(Optional.of(notificationSettings));
+        given(notificationSettingsRepository.findAllBySlackUsers(TEAM_ID, Set.of(REVIEWER_ID)))
+                .willReturn(Map.of(REVIEWER_ID, notificationSettings));
 
         // when
         dispatcher.send(reminder);
 
         // then
-        verify(reviewReminderSlackDirectMessageClient).send(TOKEN, AUTHOR_ID, "리뷰어 <@U-REVIEWER> OnlyTitle");
+        verify(reviewReminderSlackDirectMessageClient).send(TEAM_ID, TOKEN, AUTHOR_ID, "리뷰어 <@U-REVIEWER> OnlyTitle");
     }
 
     @Test
@@ -255,14 +288,14 @@ class ReviewReminderDispatcherTest {
         NotificationSettings notificationSettings = NotificationSettings.defaults(1L);
 
         given(workspaceRepository.findByTeamId(TEAM_ID)).willReturn(Optional.of(workspace));
-        given(notificationSettingsRepository.findBySlackUser(TEAM_ID, REVIEWER_ID))
-                .willReturn(Optional.of(notificationSettings));
+        given(notificationSettingsRepository.findAllBySlackUsers(TEAM_ID, Set.of(REVIEWER_ID)))
+                .willReturn(Map.of(REVIEWER_ID, notificationSettings));
 
         // when
         dispatcher.send(reminder);
 
         // then
-        verify(reviewReminderSlackDirectMessageClient).send(TOKEN, AUTHOR_ID, "리뷰어 <@U-REVIEWER> ");
+        verify(reviewReminderSlackDirectMessageClient).send(TEAM_ID, TOKEN, AUTHOR_ID, "리뷰어 <@U-REVIEWER> ");
     }
 
     @Test
@@ -296,7 +329,7 @@ class ReviewReminderDispatcherTest {
         dispatcher.send(reminder);
 
         // then
-        verify(reviewReminderSlackDirectMessageClient).send(TOKEN, AUTHOR_ID, "리뷰어  <https://github.com/org/repo/pull/1|Great PR>");
+        verify(reviewReminderSlackDirectMessageClient).send(TEAM_ID, TOKEN, AUTHOR_ID, "리뷰어  <https://github.com/org/repo/pull/1|Great PR>");
     }
 
     @Test
@@ -330,7 +363,7 @@ class ReviewReminderDispatcherTest {
         dispatcher.send(reminder);
 
         // then
-        verify(reviewReminderSlackDirectMessageClient).send(TOKEN, AUTHOR_ID, "리뷰어  <https://github.com/org/repo/pull/1|Great PR>");
+        verify(reviewReminderSlackDirectMessageClient).send(TEAM_ID, TOKEN, AUTHOR_ID, "리뷰어  <https://github.com/org/repo/pull/1|Great PR>");
     }
 
     @Test
@@ -361,14 +394,14 @@ class ReviewReminderDispatcherTest {
         NotificationSettings notificationSettings = NotificationSettings.defaults(1L);
 
         given(workspaceRepository.findByTeamId(TEAM_ID)).willReturn(Optional.of(workspace));
-        given(notificationSettingsRepository.findBySlackUser(TEAM_ID, REVIEWER_ID))
-                .willReturn(Optional.of(notificationSettings));
+        given(notificationSettingsRepository.findAllBySlackUsers(TEAM_ID, Set.of(REVIEWER_ID)))
+                .willReturn(Map.of(REVIEWER_ID, notificationSettings));
 
         // when
         dispatcher.send(reminder);
 
         // then
-        verify(reviewReminderSlackDirectMessageClient).send(TOKEN, REVIEWER_ID, "PR:  (https://github.com/org/repo/pull/1)");
+        verify(reviewReminderSlackDirectMessageClient).send(TEAM_ID, TOKEN, REVIEWER_ID, "PR:  (https://github.com/org/repo/pull/1)");
     }
 
     @Test
@@ -384,20 +417,235 @@ class ReviewReminderDispatcherTest {
         NotificationSettings notificationSettings = NotificationSettings.defaults(1L);
 
         given(workspaceRepository.findByTeamId(TEAM_ID)).willReturn(Optional.of(workspace));
-        given(notificationSettingsRepository.findBySlackUser(TEAM_ID, REVIEWER_ID))
-                .willReturn(Optional.of(notificationSettings));
+        given(notificationSettingsRepository.findAllBySlackUsers(TEAM_ID, Set.of(REVIEWER_ID)))
+                .willReturn(Map.of(REVIEWER_ID, notificationSettings));
         willThrow(new SlackDmException("전송 실패"))
                 .given(reviewReminderSlackDirectMessageClient)
-                .send(TOKEN, AUTHOR_ID, "리뷰어 <@U-REVIEWER> <https://github.com/org/repo/pull/1|Great PR>");
+                .send(TEAM_ID, TOKEN, AUTHOR_ID, "리뷰어 <@U-REVIEWER> <https://github.com/org/repo/pull/1|Great PR>");
 
         // when
         dispatcher.send(reminder);
 
         // then
-        ArgumentCaptor<ReviewReminder> actual = ArgumentCaptor.forClass(ReviewReminder.class);
+        verify(reviewReminderRepository).markFiredAll(any(), eq(FIXED_NOW));
+        assertThat(reminder.isFired()).isTrue();
+    }
+
+    @Test
+    void 같은_팀의_리마인더는_워크스페이스와_알림_설정을_한_번씩만_조회하고_한_번에_fired로_표시한다() {
+        // given
+        ReviewReminder first = createReminder(1L, TEAM_ID, AUTHOR_ID, REVIEWER_ID);
+        ReviewReminder second = createReminder(2L, TEAM_ID, AUTHOR_ID, "U-REVIEWER-2");
+        ReviewReminder otherTeam = createReminder(3L, "T2", AUTHOR_ID, REVIEWER_ID);
+        given(workspaceRepository.findByTeamId(TEAM_ID)).willReturn(Optional.of(createWorkspace(TEAM_ID, TOKEN)));
+        given(workspaceRepository.findByTeamId("T2")).willReturn(Optional.of(createWorkspace("T2", "xoxb-token-2")));
+        given(notificationSettingsRepository.findAllBySlackUsers(TEAM_ID, Set.of(REVIEWER_ID, "U-REVIEWER-2")))
+                .willReturn(Map.of());
+        given(notificationSettingsRepository.findAllBySlackUsers("T2", Set.of(REVIEWER_ID)))
+                .willReturn(Map.of());
+        AtomicInteger dispatchedCount = new AtomicInteger();
+        Executor countingExecutor = command -> {
+            dispatchedCount.incrementAndGet();
+            command.run();
+        };
+
+        // when
+        dispatcher.sendAll(List.of(first, second, otherTeam), countingExecutor);
+
+        // then
+        ArgumentCaptor<List<Long>> firedIds = ArgumentCaptor.captor();
+        assertAll(
+                () -> assertThat(dispatchedCount).hasValue(3),
+                () -> verify(workspaceRepository, times(1)).findByTeamId(TEAM_ID),
+                () -> verify(workspaceRepository, times(1)).findByTeamId("T2"),
+                () -> verify(notificationSettingsRepository, never()).findBySlackUser(any(), any()),
+                () -> verify(reviewReminderSlackDirectMessageClient).send(eq("T2"), eq("xoxb-token-2"), eq(REVIEWER_ID), any()),
+                () -> verify(reviewReminderRepository, times(1)).markFiredAll(firedIds.capture(), eq(FIXED_NOW)),
+                () -> assertThat(firedIds.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L)
+        );
+    }
+
+    @Test
+    void 알림_설정이_꺼진_리뷰어의_리마인더만_전송하지_않는다() {
+        // given
+        ReviewReminder enabled = createReminder(1L, TEAM_ID, AUTHOR_ID, REVIEWER_ID);
+        ReviewReminder disabled = createReminder(2L, TEAM_ID, AUTHOR_ID, "U-REVIEWER-OFF");
+        NotificationSettings disabledSettings = NotificationSettings.create(
+                2L,
+                ReservationConfirmed.defaults(),
+                OptionalNotifications.defaults().updateReviewReminder(false)
+        );
+        given(workspaceRepository.findByTeamId(TEAM_ID)).willReturn(Optional.of(createWorkspace(TEAM_ID, TOKEN)));
+        given(notificationSettingsRepository.findAllBySlackUsers(TEAM_ID, Set.of(REVIEWER_ID, "U-REVIEWER-OFF")))
+                .willReturn(Map.of("U-REVIEWER-OFF", disabledSettings));
+
+        // when
+        dispatcher.sendAll(List.of(enabled, disabled), Runnable::run);
+
+        // then
+        assertAll(
+                () -> verify(reviewReminderSlackDirectMessageClient).send(eq(TEAM_ID), eq(TOKEN), eq(REVIEWER_ID), any()),
+                () -> verify(reviewReminderSlackDirectMessageClient, never()).send(any(), any(), eq("U-REVIEWER-OFF"), any()),
+                () -> assertThat(enabled.isFired()).isTrue(),
+                () -> assertThat(disabled.isFired()).isTrue()
+        );
+    }
+
+    @Test
+    void 작성자_DM_호출_한도를_넘은_리마인더는_fired로_표시하지_않고_claim을_유지한다() {
+        // given
+        ReviewReminder sent = createReminder(1L, TEAM_ID, AUTHOR_ID, REVIEWER_ID);
+        ReviewReminder deferred = createReminder(2L, TEAM_ID, "U-AUTHOR-2", REVIEWER_ID);
+        given(workspaceRepository.findByTeamId(TEAM_ID)).willReturn(Optional.of(createWorkspace(TEAM_ID, TOKEN)));
+        given(notificationSettingsRepository.findAllBySlackUsers(TEAM_ID, Set.of(REVIEWER_ID)))
+                .willReturn(Map.of());
+        lenient().doThrow(new SlackApiRateLimitedException("chat.postMessage", Duration.ofSeconds(1L)))
+                 .when(reviewReminderSlackDirectMessageClient)
+                 .send(eq(TEAM_ID), eq(TOKEN), eq("U-AUTHOR-2"), anyString());
+
+        // when
+        dispatcher.sendAll(List.of(sent, deferred), Runnable::run);
+
+        // then
+        assertAll(
+                () -> verify(reviewReminderSlackDirectMessageClient, times(1)).send(eq(TEAM_ID), eq(TOKEN), eq(REVIEWER_ID), any()),
+                () -> verify(reviewReminderRepository).markFiredAll(List.of(1L), FIXED_NOW),
+                () -> assertThat(sent.isFired()).isTrue(),
+                () -> assertThat(deferred.isFired()).isFalse()
+        );
+    }
+
+    @Test
+    void 작성자_DM을_보낸_뒤_리뷰어_DM_호출_한도를_넘으면_중복_전송을_막기_위해_fired로_표시한다() {
+        // given
+        ReviewReminder reminder = createReminder(1L, TEAM_ID, AUTHOR_ID, REVIEWER_ID);
+        given(workspaceRepository.findByTeamId(TEAM_ID)).willReturn(Optional.of(createWorkspace(TEAM_ID, TOKEN)));
+        given(notificationSettingsRepository.findAllBySlackUsers(TEAM_ID, Set.of(REVIEWER_ID)))
+                .willReturn(Map.of());
+        lenient().doThrow(new SlackApiRateLimitedException("chat.postMessage", Duration.ofSeconds(1L)))
+                 .when(reviewReminderSlackDirectMessageClient)
+                 .send(eq(TEAM_ID), eq(TOKEN), eq(REVIEWER_ID), anyString());
+
+        // when
+        dispatcher.sendAll(List.of(reminder), Runnable::run);
+
+        // then
+        assertAll(
+                () -> verify(reviewReminderSlackDirectMessageClient).send(eq(TEAM_ID), eq(TOKEN), eq(AUTHOR_ID), any()),
+                () -> verify(reviewReminderRepository).markFiredAll(List.of(1L), FIXED_NOW),
+                () -> assertThat(reminder.isFired()).isTrue()
+        );
+    }
+
+    @Test
+    void 팀의_chat_postMessage가_스로틀_중이면_전송하지_않고_claim을_유지한다() {
+        // given
+        ReviewReminder reminder = createReminder(1L, TEAM_ID, AUTHOR_ID, REVIEWER_ID);
+        given(workspaceRepository.findByTeamId(TEAM_ID)).willReturn(Optional.of(createWorkspace(TEAM_ID, TOKEN)));
+        given(notificationSettingsRepository.findAllBySlackUsers(TEAM_ID, Set.of(REVIEWER_ID)))
+                .willReturn(Map.of());
+        slackApiRateLimiter.throttle(TEAM_ID, "chat.postMessage", Duration.ofSeconds(30L));
+
+        // when
+        dispatcher.sendAll(List.of(reminder), Runnable::run);
+
+        // then
+        assertAll(
+                () -> verifyNoInteractions(reviewReminderSlackDirectMessageClient),
+                () -> verify(reviewReminderRepository, never()).markFiredAll(any(), any()),
+                () -> assertThat(reminder.isFired()).isFalse()
+        );
+    }
+
+    @Test
+    void 비동기로_전송한_리마인더는_모든_전송이_끝난_뒤_호출_스레드에서_한_번에_fired로_표시한다() {
+        // given
+        List<ReviewReminder> reminders = LongStream.rangeClosed(1L, 12L)
+                                                   .mapToObj(id -> createReminder(id, TEAM_ID, AUTHOR_ID, REVIEWER_ID))
+                                                   .toList();
+        given(workspaceRepository.findByTeamId(TEAM_ID)).willReturn(Optional.of(createWorkspace(TEAM_ID, TOKEN)));
+        given(notificationSettingsRepository.findAllBySlackUsers(TEAM_ID, Set.of(REVIEWER_ID)))
+                .willReturn(Map.of());
+        Thread callerThread = Thread.currentThread();
+        AtomicReference<Thread> markFiredThread = new AtomicReference<>();
+        willAnswer(invocation -> {
+            markFiredThread.set(Thread.currentThread());
+            return null;
+        }).given(reviewReminderRepository).markFiredAll(any(), eq(FIXED_NOW));
+        ExecutorService dispatchExecutor = Executors.newFixedThreadPool(4);
+
+        // when
+        try {
+            dispatcher.sendAll(reminders, dispatchExecutor);
+        } finally {
+            dispatchExecutor.shutdownNow();
+        }
+
+        // then
+        ArgumentCaptor<List<Long>> firedIds = ArgumentCaptor.captor();
+        verify(reviewReminderRepository, times(1)).markFiredAll(firedIds.capture(), eq(FIXED_NOW));
+        assertAll(
+                () -> assertThat(markFiredThread).hasValue(callerThread),
+                () -> assertThat(firedIds.getValue()).containsExactlyInAnyOrder(
+                        1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L
+                )
+        );
+    }
+
+    @Test
+    void 전송_예약이_실패해도_이미_전송한_리마인더는_fired로_표시한다() {
+        // given
+        ReviewReminder sent = createReminder(1L, TEAM_ID, AUTHOR_ID, REVIEWER_ID);
+        ReviewReminder rejected = createReminder(2L, TEAM_ID, AUTHOR_ID, REVIEWER_ID);
+        given(workspaceRepository.findByTeamId(TEAM_ID)).willReturn(Optional.of(createWorkspace(TEAM_ID, TOKEN)));
+        given(notificationSettingsRepository.findAllBySlackUsers(TEAM_ID, Set.of(REVIEWER_ID)))
+                .willReturn(Map.of());
+        AtomicInteger submittedCount = new AtomicInteger();
+        Executor rejectingExecutor = command -> {
+            if (submittedCount.incrementAndGet() > 1) {
+                throw new RejectedExecutionException("rejected");
+            }
+            command.run();
+        };
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> dispatcher.sendAll(List.of(sent, rejected), rejectingExecutor))
+                        .isInstanceOf(RejectedExecutionException.class),
+                () -> verify(reviewReminderRepository).markFiredAll(List.of(1L), FIXED_NOW),
+                () -> assertThat(sent.isFired()).isTrue(),
+                () -> assertThat(rejected.isFired()).isFalse()
+        );
+    }
+
+    private ReviewReminder createReminder(Long id, String teamId, String authorId, String reviewerId) {
+        ReviewReminder reminder = ReviewReminder.builder()
+                                                .reservationId(id * 100L)
+                                                .scheduledAt(FIXED_NOW.plusSeconds(60))
+                                                .destination(ReminderDestination.builder()
+                                                                                .teamId(teamId)
+                                                                                .channelId("C1")
+                                                                                .build())
+                                                .participants(ReminderParticipants.builder()
+                                                                                   .pullRequestAuthorSlackId(authorId)
+                                                                                   .reviewerSlackId(reviewerId)
+                                                                                   .build())
+                                                .pullRequest(ReminderPullRequest.builder()
+                                                                                .pullRequestUrl("https://github.com/org/repo/pull/1")
+                                                                                .pullRequestTitle("Great PR")
+                                                                                .build())
+                                                .build();
+        ReflectionTestUtils.setField(reminder, "id", id);
+        return reminder;
+    }
 
-        verify(reviewReminderRepository).save(actual.capture());
-        assertThat(actual.getValue().isFired()).isTrue();
+    private Workspace createWorkspace(String teamId, String accessToken) {
+        return Workspace.builder()
+                        .teamId(teamId)
+                        .accessToken(accessToken)
+                        .botUserId("B1")
+                        .userId(1L)
+                        .build();
     }
 
     private ReviewReminder createReminder(String authorId, String reviewerId) {
@@ -0,0 +1,103 @@
+package com.slack.bot.application.interaction.reminder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.slack.bot.domain.reservation.ReviewReminder;
+import com.slack.bot.domain.reservation.vo.ReminderDestination;
+import com.slack.bot.domain.reservation.vo.ReminderParticipants;
+import com.slack.bot.domain.reservation.vo.ReminderPullRequest;
+import com.slack.bot.global.config.properties.ReviewReminderMessageProperties;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ReviewReminderMessageRendererTest {
+
+    @Test
+    void 미리_컴파일한_템플릿은_String_format과_같은_메시지를_만든다() {
+        // given
+        String authorTemplate = "리뷰어 %s님이 %s 리뷰를 시작할 시간입니다.%n진행률 100%%";
+        String reviewerTemplate = "%s%n%s";
+        ReviewReminderMessageRenderer renderer = new ReviewReminderMessageRenderer(
+                new ReviewReminderMessageProperties(authorTemplate, reviewerTemplate)
+        );
+        ReviewReminder reminder = createReminder();
+
+        // when
+        String authorMessage = renderer.renderAuthorMessage(reminder);
+        String reviewerMessage = renderer.renderReviewerMessage(reminder);
+
+        // then
+        assertAll(
+                () -> assertThat(authorMessage).isEqualTo(String.format(
+                        authorTemplate,
+                        "<@U-REVIEWER>",
+                        "<https://github.com/org/repo/pull/1|Great PR>"
+                )),
+                () -> assertThat(reviewerMessage).isEqualTo(String.format(
+                        reviewerTemplate,
+                        "Great PR",
+                        "https://github.com/org/repo/pull/1"
+                ))
+        );
+    }
+
+    @Test
+    void 인자가_없는_템플릿은_그대로_전달한다() {
+        // given
+        ReviewReminderMessageRenderer renderer = new ReviewReminderMessageRenderer(
+                new ReviewReminderMessageProperties("리뷰를 시작해 주세요.", "PR: %s")
+        );
+        ReviewReminder reminder = createReminder();
+
+        // when & then
+        assertAll(
+                () -> assertThat(renderer.renderAuthorMessage(reminder)).isEqualTo("리뷰를 시작해 주세요."),
+                () -> assertThat(renderer.renderReviewerMessage(reminder)).isEqualTo("PR: Great PR")
+        );
+    }
+
+    @Test
+    void 지원하지_않는_서식_지정자가_있으면_생성_시점에_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> new ReviewReminderMessageRenderer(
+                new ReviewReminderMessageProperties("리뷰어 %d", "PR: %s (%s)")
+        ))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("리마인더 메시지 템플릿은 %s, %n, %%만 지원합니다.");
+    }
+
+    @Test
+    void 인자가_두_개를_넘으면_생성_시점에_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> new ReviewReminderMessageRenderer(
+                new ReviewReminderMessageProperties("%s %s %s", "PR: %s (%s)")
+        ))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("리마인더 메시지 템플릿의 %s는 최대 2개입니다.");
+    }
+
+    private ReviewReminder createReminder() {
+        return ReviewReminder.builder()
+                             .reservationId(100L)
+                             .scheduledAt(Instant.parse("2024-01-01T00:01:00Z"))
+                             .destination(ReminderDestination.builder()
+                                                             .teamId("T1")
+                                                             .channelId("C1")
+                                                             .build())
+                             .participants(ReminderParticipants.builder()
+                                                                .pullRequestAuthorSlackId("U-AUTHOR")
+                                                                .reviewerSlackId("U-REVIEWER")
+                                                                .build())
+                             .pullRequest(ReminderPullRequest.builder()
+                                                             .pullRequestUrl("https://github.com/org/repo/pull/1")
+                                                             .pullRequestTitle("Great PR")
+                                                             .build())
+                             .build();
+    }
+}
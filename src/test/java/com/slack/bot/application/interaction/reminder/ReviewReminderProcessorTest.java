@@ -0,0 +1,114 @@
+package com.slack.bot.application.interaction.reminder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.slack.bot.domain.reservation.ReviewReminder;
+import com.slack.bot.domain.reservation.repository.ReviewReminderRepository;
+import com.slack.bot.global.config.properties.ReviewReminderWorkerProperties;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(MockitoExtension.class)
+class ReviewReminderProcessorTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-24T00:00:00.123456789Z");
+    private static final Instant TRUNCATED_NOW = Instant.parse("2026-03-24T00:00:00.123456Z");
+
+    @Mock
+    ReviewReminderRepository reviewReminderRepository;
+
+    @Mock
+    ReviewReminderDispatcher reviewReminderDispatcher;
+
+    ReviewReminderProcessor reviewReminderProcessor;
+
+    @BeforeEach
+    void setUp() {
+        reviewReminderProcessor = new ReviewReminderProcessor(
+                Clock.fixed(NOW, ZoneOffset.UTC),
+                reviewReminderRepository,
+                reviewReminderDispatcher,
+                new ReviewReminderWorkerProperties(1_000L, 5_000L, 50, 60_000L, 4)
+        );
+    }
+
+    @Test
+    void 기한이_지난_리마인더를_claim해서_한_번에_전송한다() {
+        // given
+        ReviewReminder first = mock(ReviewReminder.class);
+        ReviewReminder second = mock(ReviewReminder.class);
+        given(reviewReminderRepository.claimDue(TRUNCATED_NOW, TRUNCATED_NOW.minusMillis(60_000L), 10))
+                .willReturn(List.of(first, second));
+
+        // when
+        int actual = reviewReminderProcessor.processDue(10);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo(2),
+                () -> verify(reviewReminderDispatcher).sendAll(eq(List.of(first, second)), any())
+        );
+    }
+
+    @Test
+    void 일괄_전송_중_예외가_발생해도_claim한_건수를_반환한다() {
+        // given
+        ReviewReminder reminder = mock(ReviewReminder.class);
+        given(reviewReminderRepository.claimDue(TRUNCATED_NOW, TRUNCATED_NOW.minusMillis(60_000L), 10))
+                .willReturn(List.of(reminder));
+        willThrow(new IllegalStateException("boom")).given(reviewReminderDispatcher).sendAll(any(), any());
+
+        // when
+        int actual = reviewReminderProcessor.processDue(10);
+
+        // then
+        assertThat(actual).isEqualTo(1);
+    }
+
+    @Test
+    void claim한_리마인더가_없으면_전송하지_않는다() {
+        // given
+        given(reviewReminderRepository.claimDue(TRUNCATED_NOW, TRUNCATED_NOW.minusMillis(60_000L), 10))
+                .willReturn(List.of());
+
+        // when
+        int actual = reviewReminderProcessor.processDue(10);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isZero(),
+                () -> verifyNoInteractions(reviewReminderDispatcher)
+        );
+    }
+
+    @Test
+    void limit이_0이하면_claim하지_않는다() {
+        // when
+        int actual = reviewReminderProcessor.processDue(0);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isZero(),
+                () -> verifyNoInteractions(reviewReminderRepository, reviewReminderDispatcher)
+        );
+    }
+}
@@ -1,24 +1,26 @@
 package com.slack.bot.application.interaction.reminder;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.BDDMockito.given;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.slack.bot.application.interaction.reminder.dto.ReminderScheduleCommandDto;
+import com.slack.bot.application.worker.PollingHintPublisher;
+import com.slack.bot.application.worker.PollingHintTarget;
 import com.slack.bot.domain.reservation.ReviewReminder;
 import com.slack.bot.domain.reservation.repository.ReviewReminderRepository;
 import java.time.Instant;
-import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.scheduling.TaskScheduler;
 
 @SuppressWarnings("NonAsciiCharacters")
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -26,23 +28,20 @@ import org.springframework.scheduling.TaskScheduler;
 class ReviewReminderSchedulerTest {
 
     @Mock
-    TaskScheduler taskScheduler;
+    PollingHintPublisher pollingHintPublisher;
 
     @Mock
     ReviewReminderRepository reviewReminderRepository;
 
-    @Mock
-    ReviewReminderDispatcher reviewReminderDispatcher;
-
     private ReviewReminderScheduler scheduler;
 
     @BeforeEach
     void setUp() {
-        scheduler = new ReviewReminderScheduler(taskScheduler, reviewReminderRepository, reviewReminderDispatcher);
+        scheduler = new ReviewReminderScheduler(pollingHintPublisher, reviewReminderRepository);
     }
 
     @Test
-    void 예약을_저장하고_스케줄러에_등록한다() {
+    void 예약을_저장하고_리마인더_worker를_깨운다() {
         // given
         ReminderScheduleCommandDto command = new ReminderScheduleCommandDto(
                 10L,
@@ -54,26 +53,22 @@ class ReviewReminderSchedulerTest {
                 "https://github.com/org/repo/pull/1",
                 "Add feature"
         );
-        ReviewReminder reminder = command.toReminder();
-
-        ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
-        ArgumentCaptor<Instant> actual = ArgumentCaptor.forClass(Instant.class);
-
-        given(reviewReminderRepository.save(any())).willReturn(reminder);
-        given(taskScheduler.schedule(runnableCaptor.capture(), actual.capture()))
-                .willReturn(null);
-        given(reviewReminderRepository.findByReservationId(10L)).willReturn(Optional.of(reminder));
+        ArgumentCaptor<ReviewReminder> reminderCaptor = ArgumentCaptor.forClass(ReviewReminder.class);
 
         // when
         scheduler.schedule(command);
 
         // then
-        verify(reviewReminderRepository).save(any());
-        assertThat(actual.getValue()).isEqualTo(command.scheduledAt());
-
-
-        runnableCaptor.getValue().run();
-        verify(reviewReminderDispatcher).send(reminder);
+        InOrder inOrder = inOrder(reviewReminderRepository, pollingHintPublisher);
+        inOrder.verify(reviewReminderRepository).save(reminderCaptor.capture());
+        inOrder.verify(pollingHintPublisher).publish(PollingHintTarget.REVIEW_REMINDER);
+
+        ReviewReminder actual = reminderCaptor.getValue();
+        assertAll(
+                () -> assertThat(actual.getReservationId()).isEqualTo(10L),
+                () -> assertThat(actual.getScheduledAt()).isEqualTo(command.scheduledAt()),
+                () -> assertThat(actual.isFired()).isFalse()
+        );
     }
 
     @Test
@@ -86,5 +81,6 @@ class ReviewReminderSchedulerTest {
 
         // then
         verify(reviewReminderRepository).deleteByReservationId(reservationId);
+        verifyNoInteractions(pollingHintPublisher);
     }
 }
@@ -0,0 +1,121 @@
+package com.slack.bot.application.interaction.reminder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.slack.bot.application.worker.AdaptivePollingRunner;
+import com.slack.bot.application.worker.BoundedDispatchExecutor;
+import com.slack.bot.application.worker.PollingHintEvent;
+import com.slack.bot.application.worker.PollingHintTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@SuppressWarnings("NonAsciiCharacters")
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ReviewReminderWorkerTest {
+
+    @Mock
+    ReviewReminderProcessor reviewReminderProcessor;
+
+    ReviewReminderWorker reviewReminderWorker;
+
+    @BeforeEach
+    void setUp() {
+        reviewReminderWorker = new ReviewReminderWorker(
+                reviewReminderProcessor,
+                50,
+                1_000L,
+                5_000L,
+                false
+        );
+    }
+
+    @Test
+    void worker는_기한이_지난_리마인더를_처리한다() {
+        // when
+        reviewReminderWorker.processDueReminders();
+
+        // then
+        verify(reviewReminderProcessor).processDue(eq(50), any());
+    }
+
+    @Test
+    void 기본_생성자는_auto_startup을_활성화한다() {
+        // when
+        ReviewReminderWorker worker = new ReviewReminderWorker(
+                reviewReminderProcessor,
+                50,
+                1_000L,
+                5_000L
+        );
+
+        // then
+        assertThat(worker.isAutoStartup()).isTrue();
+    }
+
+    @Test
+    void 매칭된_wake_up_hint만_poll을_재개한다() {
+        // given
+        AdaptivePollingRunner adaptivePollingRunner = mock(AdaptivePollingRunner.class);
+        ReviewReminderWorker worker = new ReviewReminderWorker(
+                reviewReminderProcessor,
+                50,
+                adaptivePollingRunner
+        );
+
+        // when
+        worker.wakeUp(new PollingHintEvent(PollingHintTarget.REVIEW_REQUEST_INBOX));
+        worker.wakeUp(new PollingHintEvent(PollingHintTarget.REVIEW_REMINDER));
+
+        // then
+        verify(adaptivePollingRunner).wakeUp();
+    }
+
+    @Test
+    void 시작하면_dispatch_executor를_먼저_시작하고_중지하면_poller를_먼저_중지한다() {
+        // given
+        AdaptivePollingRunner adaptivePollingRunner = mock(AdaptivePollingRunner.class);
+        BoundedDispatchExecutor dispatchExecutor = mock(BoundedDispatchExecutor.class);
+        ReviewReminderWorker worker = new ReviewReminderWorker(
+                reviewReminderProcessor,
+                50,
+                adaptivePollingRunner,
+                dispatchExecutor
+        );
+
+        // when
+        worker.start();
+        worker.stop();
+
+        // then
+        InOrder inOrder = inOrder(adaptivePollingRunner, dispatchExecutor);
+        inOrder.verify(dispatchExecutor).start();
+        inOrder.verify(adaptivePollingRunner).start();
+        inOrder.verify(adaptivePollingRunner).stop();
+        inOrder.verify(dispatchExecutor).stop();
+    }
+
+    @Test
+    void batch_size가_0이하면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> new ReviewReminderWorker(
+                reviewReminderProcessor,
+                0,
+                mock(AdaptivePollingRunner.class)
+        ))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("batchSize는 0보다 커야 합니다.");
+    }
+}
@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
 import com.slack.api.model.block.LayoutBlock;
+import com.slack.api.model.block.SectionBlock;
 import com.slack.api.model.view.View;
 import com.slack.api.model.view.Views;
 import com.slack.bot.application.interaction.view.ViewCallbackId;
@@ -46,6 +47,44 @@ class ReviewReservationTimeViewFactoryTest {
         );
     }
 
+    @Test
+    void 로딩_모달은_제출_버튼_없이_안내_문구를_보여준다() {
+        // given
+        ReviewReservationTimeViewFactory factory = new ReviewReservationTimeViewFactory(
+                new ReviewReservationTimeOptionsProperties(List.of()),
+                customFactory
+        );
+
+        // when
+        View actualView = factory.loadingModal();
+
+        // then
+        assertAll(
+                () -> assertThat(actualView.getTitle().getText()).isEqualTo("리뷰 시간 설정"),
+                () -> assertThat(actualView.getSubmit()).isNull(),
+                () -> assertThat(actualView.getBlocks()).hasSize(1)
+        );
+    }
+
+    @Test
+    void 안내_모달은_전달한_문구를_보여준다() {
+        // given
+        ReviewReservationTimeViewFactory factory = new ReviewReservationTimeViewFactory(
+                new ReviewReservationTimeOptionsProperties(List.of()),
+                customFactory
+        );
+
+        // when
+        View actualView = factory.noticeModal("이미 예약된 리뷰가 있습니다.");
+
+        // then
+        SectionBlock actualBlock = (SectionBlock) actualView.getBlocks().getFirst();
+        assertAll(
+                () -> assertThat(actualView.getClose().getText()).isEqualTo("닫기"),
+                () -> assertThat(actualBlock.getText().getText()).isEqualTo("이미 예약된 리뷰가 있습니다.")
+        );
+    }
+
     @Test
     void 커스텀_모달은_팩토리에_위임한다() {
         // given
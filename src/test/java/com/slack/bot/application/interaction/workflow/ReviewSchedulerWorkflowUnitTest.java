@@ -0,0 +1,356 @@
+package com.slack.bot.application.interaction.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.slack.api.model.view.View;
+import com.slack.api.model.view.Views;
+import com.slack.bot.application.interaction.box.SlackInteractionPayloadContext;
+import com.slack.bot.application.interaction.client.NotificationApiClient;
+import com.slack.bot.application.interaction.dto.SlackInteractionPayload;
+import com.slack.bot.application.interaction.dto.ReviewScheduleMetaDto;
+import com.slack.bot.application.interaction.publisher.ReviewInteractionEventPublisher;
+import com.slack.bot.application.interaction.publisher.ReviewReservationRequestEvent;
+import com.slack.bot.application.interaction.reply.InteractionErrorType;
+import com.slack.bot.application.interaction.reply.SlackActionErrorNotifier;
+import com.slack.bot.application.interaction.reservation.AuthorResolver;
+import com.slack.bot.application.interaction.reservation.ProjectIdResolver;
+import com.slack.bot.application.interaction.reservation.ReservationMetaResolver;
+import com.slack.bot.application.interaction.reservation.ReviewReservationCoordinator;
+import com.slack.bot.application.interaction.view.ModalOpenBudget;
+import com.slack.bot.application.interaction.view.factory.ReviewReservationTimeViewFactory;
+import com.slack.bot.domain.reservation.ReviewReservation;
+import com.slack.bot.global.config.properties.ModalOpenBudgetProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ReviewSchedulerWorkflowUnitTest {
+
+    private static final String META_JSON = "{\"teamId\":\"T1\"}";
+
+    @Mock
+    AuthorResolver authorResolver;
+
+    @Mock
+    ProjectIdResolver projectIdResolver;
+
+    @Mock
+    NotificationApiClient slackApiClient;
+
+    @Mock
+    SlackActionErrorNotifier errorNotifier;
+
+    @Mock
+    ReviewReservationTimeViewFactory slackViews;
+
+    @Mock
+    ReservationMetaResolver reservationMetaResolver;
+
+    @Mock
+    ReviewReservationCoordinator reviewReservationCoordinator;
+
+    @Mock
+    ReviewInteractionEventPublisher reviewInteractionEventPublisher;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    SlackInteractionPayloadContext payloadContext = new SlackInteractionPayloadContext();
+    SimpleMeterRegistry meterRegistry;
+    ReviewScheduleMetaDto meta;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        meta = new ReviewScheduleMetaDto("T1", "C1", 10L, 1, "PR", "https://github.com/pr/1", "gh", null, null, "1");
+
+        given(reservationMetaResolver.parseMeta(META_JSON)).willReturn(meta);
+        given(authorResolver.resolveAuthorSlackId(meta)).willReturn("U_AUTHOR");
+        given(projectIdResolver.resolve("1", "T1")).willReturn(1L);
+    }
+
+    @Test
+    void 조회가_로딩_임계값_안에_끝나면_리뷰_시간_모달을_바로_연다() {
+        // given
+        View timeModal = modal("time");
+        ReviewSchedulerWorkflow workflow = workflow(1_500L, Runnable::run);
+
+        given(reviewReservationCoordinator.findActive("T1", 1L, "U1", 10L)).willReturn(Optional.empty());
+        given(slackViews.reviewTimeSubmitModal(META_JSON)).willReturn(timeModal);
+
+        // when
+        Optional<ReviewReservation> actual = workflow.handleOpenScheduler(payload(), action(), "T1", "C1", "U1", "xoxb");
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEmpty(),
+                () -> verify(slackApiClient).openModal("xoxb", "TRIGGER_1", timeModal),
+                () -> verify(slackApiClient, never()).updateModal(anyString(), anyString(), any(View.class)),
+                () -> verify(reviewInteractionEventPublisher).publish(any(ReviewReservationRequestEvent.class)),
+                () -> assertThat(durationCount("opened")).isEqualTo(1L),
+                () -> assertThat(stageCount("lookup")).isEqualTo(1L),
+                () -> assertThat(stageCount("open")).isEqualTo(1L)
+        );
+    }
+
+    @Test
+    void 조회가_로딩_임계값을_넘기면_로딩_모달을_먼저_열고_조회_후_모달을_갱신한다() {
+        // given
+        View loadingModal = modal("loading");
+        View timeModal = modal("time");
+        CountDownLatch loadingOpened = new CountDownLatch(1);
+        ReviewSchedulerWorkflow workflow = workflow(0L, deferredUntil(loadingOpened));
+
+        given(reviewReservationCoordinator.findActive("T1", 1L, "U1", 10L)).willReturn(Optional.empty());
+        given(slackViews.loadingModal()).willReturn(loadingModal);
+        given(slackViews.reviewTimeSubmitModal(META_JSON)).willReturn(timeModal);
+        willAnswer(invocation -> {
+            loadingOpened.countDown();
+            return "V_LOADING";
+        }).given(slackApiClient).openModal("xoxb", "TRIGGER_1", loadingModal);
+
+        // when
+        Optional<ReviewReservation> actual = workflow.handleOpenScheduler(payload(), action(), "T1", "C1", "U1", "xoxb");
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEmpty(),
+                () -> verify(slackApiClient).openModal("xoxb", "TRIGGER_1", loadingModal),
+                () -> verify(slackApiClient).updateModal("xoxb", "V_LOADING", timeModal),
+                () -> verify(slackApiClient, never()).openModal("xoxb", "TRIGGER_1", timeModal),
+                () -> assertThat(stageCount("loading")).isEqualTo(1L),
+                () -> assertThat(durationCount("updated")).isEqualTo(1L)
+        );
+    }
+
+    @Test
+    void 로딩_모달을_연_뒤_이미_예약이_있으면_안내_화면으로_갱신한다() {
+        // given
+        View loadingModal = modal("loading");
+        View noticeModal = modal("notice");
+        ReviewReservation reservation = mock(ReviewReservation.class);
+        CountDownLatch loadingOpened = new CountDownLatch(1);
+        ReviewSchedulerWorkflow workflow = workflow(0L, deferredUntil(loadingOpened));
+
+        given(reviewReservationCoordinator.findActive("T1", 1L, "U1", 10L)).willReturn(Optional.of(reservation));
+        given(slackViews.loadingModal()).willReturn(loadingModal);
+        given(slackViews.noticeModal("이미 예약된 리뷰가 있습니다. 채널 메시지를 확인해 주세요.")).willReturn(noticeModal);
+        willAnswer(invocation -> {
+            loadingOpened.countDown();
+            return "V_LOADING";
+        }).given(slackApiClient).openModal("xoxb", "TRIGGER_1", loadingModal);
+
+        // when
+        Optional<ReviewReservation> actual = workflow.handleOpenScheduler(payload(), action(), "T1", "C1", "U1", "xoxb");
+
+        // then
+        assertAll(
+                () -> assertThat(actual).containsSame(reservation),
+                () -> verify(slackApiClient).updateModal("xoxb", "V_LOADING", noticeModal),
+                () -> verify(slackViews, never()).reviewTimeSubmitModal(anyString()),
+                () -> assertThat(durationCount("duplicate")).isEqualTo(1L)
+        );
+    }
+
+    @Test
+    void 로딩_모달을_연_뒤_예기치_않은_오류가_나면_오류_안내_화면으로_갱신한다() {
+        // given
+        View loadingModal = modal("loading");
+        View noticeModal = modal("notice");
+        CountDownLatch loadingOpened = new CountDownLatch(1);
+        ReviewSchedulerWorkflow workflow = workflow(0L, deferredUntil(loadingOpened));
+
+        given(reviewReservationCoordinator.findActive("T1", 1L, "U1", 10L)).willReturn(Optional.empty());
+        given(slackViews.loadingModal()).willReturn(loadingModal);
+        given(slackViews.noticeModal(InteractionErrorType.RESERVATION_LOAD_FAILURE.message())).willReturn(noticeModal);
+        willAnswer(invocation -> {
+            loadingOpened.countDown();
+            return "V_LOADING";
+        }).given(slackApiClient).openModal("xoxb", "TRIGGER_1", loadingModal);
+        willThrow(new IllegalArgumentException("publish failed"))
+                .given(reviewInteractionEventPublisher)
+                .publish(any(ReviewReservationRequestEvent.class));
+
+        // when
+        Optional<ReviewReservation> actual = workflow.handleOpenScheduler(payload(), action(), "T1", "C1", "U1", "xoxb");
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEmpty(),
+                () -> verify(slackApiClient).updateModal("xoxb", "V_LOADING", noticeModal),
+                () -> verify(errorNotifier).notify("xoxb", "C1", "U1", InteractionErrorType.RESERVATION_LOAD_FAILURE),
+                () -> verify(slackViews, never()).reviewTimeSubmitModal(anyString()),
+                () -> assertThat(durationCount("load_failure")).isEqualTo(1L)
+        );
+    }
+
+    @Test
+    void 로딩_모달이_없으면_예기치_않은_오류를_그대로_전파한다() {
+        // given
+        ReviewSchedulerWorkflow workflow = workflow(1_500L, Runnable::run);
+
+        given(reviewReservationCoordinator.findActive("T1", 1L, "U1", 10L)).willReturn(Optional.empty());
+        willThrow(new IllegalArgumentException("publish failed"))
+                .given(reviewInteractionEventPublisher)
+                .publish(any(ReviewReservationRequestEvent.class));
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(
+                        () -> workflow.handleOpenScheduler(payload(), action(), "T1", "C1", "U1", "xoxb")
+                ).isInstanceOf(IllegalArgumentException.class),
+                () -> verify(slackApiClient, never()).updateModal(anyString(), anyString(), any(View.class))
+        );
+    }
+
+    @Test
+    void 모달_오픈_예산은_요청_수신_시각부터_계산한다() {
+        // given
+        View timeModal = modal("time");
+        ReviewSchedulerWorkflow workflow = workflow(1_500L, Runnable::run);
+        JsonNode payload = payload();
+        long receivedNanos = System.nanoTime() - TimeUnit.SECONDS.toNanos(2L);
+
+        given(reviewReservationCoordinator.findActive("T1", 1L, "U1", 10L)).willReturn(Optional.empty());
+        given(slackViews.reviewTimeSubmitModal(META_JSON)).willReturn(timeModal);
+
+        // when
+        payloadContext.withPayload(
+                new SlackInteractionPayload(payload.toString(), payload, receivedNanos),
+                () -> workflow.handleOpenScheduler(payload, action(), "T1", "C1", "U1", "xoxb")
+        );
+
+        // then
+        double elapsedMillis = meterRegistry.get("slack.modal.open.duration")
+                                            .tag("flow", "open_review_scheduler")
+                                            .tag("outcome", "opened")
+                                            .timer()
+                                            .totalTime(TimeUnit.MILLISECONDS);
+
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(2_000.0d);
+    }
+
+    @Test
+    void 조회_작업이_거절되면_요청_스레드에서_조회한다() {
+        // given
+        View timeModal = modal("time");
+        ReviewSchedulerWorkflow workflow = workflow(1_500L, task -> {
+            throw new RejectedExecutionException("busy");
+        });
+
+        given(reviewReservationCoordinator.findActive("T1", 1L, "U1", 10L)).willReturn(Optional.empty());
+        given(slackViews.reviewTimeSubmitModal(META_JSON)).willReturn(timeModal);
+
+        // when
+        workflow.handleOpenScheduler(payload(), action(), "T1", "C1", "U1", "xoxb");
+
+        // then
+        verify(slackApiClient).openModal(eq("xoxb"), eq("TRIGGER_1"), eq(timeModal));
+    }
+
+    @Test
+    void 요청_스레드에서_실행한_조회가_실패하면_조회_실패를_안내한다() {
+        // given
+        ReviewSchedulerWorkflow workflow = workflow(1_500L, task -> {
+            throw new RejectedExecutionException("busy");
+        });
+
+        given(projectIdResolver.resolve("1", "T1")).willThrow(new IllegalStateException("project lookup failed"));
+
+        // when
+        Optional<ReviewReservation> actual = workflow.handleOpenScheduler(payload(), action(), "T1", "C1", "U1", "xoxb");
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEmpty(),
+                () -> verify(errorNotifier).notify("xoxb", "C1", "U1", InteractionErrorType.RESERVATION_LOAD_FAILURE),
+                () -> verify(reviewInteractionEventPublisher, never()).publish(any(ReviewReservationRequestEvent.class)),
+                () -> verify(slackApiClient, never()).openModal(anyString(), anyString(), any(View.class)),
+                () -> assertThat(durationCount("load_failure")).isEqualTo(1L)
+        );
+    }
+
+    private ReviewSchedulerWorkflow workflow(long loadingThresholdMs, TaskExecutor executor) {
+        return new ReviewSchedulerWorkflow(
+                authorResolver,
+                projectIdResolver,
+                slackApiClient,
+                errorNotifier,
+                slackViews,
+                reservationMetaResolver,
+                reviewReservationCoordinator,
+                reviewInteractionEventPublisher,
+                new ModalOpenBudget(meterRegistry, new ModalOpenBudgetProperties(3_000L, loadingThresholdMs)),
+                payloadContext,
+                executor
+        );
+    }
+
+    private TaskExecutor deferredUntil(CountDownLatch latch) {
+        return task -> {
+            Thread thread = new Thread(() -> {
+                try {
+                    latch.await(5L, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                task.run();
+            });
+
+            thread.setDaemon(true);
+            thread.start();
+        };
+    }
+
+    private JsonNode payload() {
+        return objectMapper.createObjectNode().put("trigger_id", "TRIGGER_1");
+    }
+
+    private JsonNode action() {
+        return objectMapper.createObjectNode().put("value", META_JSON);
+    }
+
+    private View modal(String callbackId) {
+        return Views.view(view -> view.type("modal").callbackId(callbackId));
+    }
+
+    private long durationCount(String outcome) {
+        return meterRegistry.get("slack.modal.open.duration")
+                            .tag("flow", "open_review_scheduler")
+                            .tag("outcome", outcome)
+                            .timer()
+                            .count();
+    }
+
+    private long stageCount(String stage) {
+        return meterRegistry.get("slack.modal.open.stage")
+                            .tag("flow", "open_review_scheduler")
+                            .tag("stage", stage)
+                            .timer()
+                            .count();
+    }
+}
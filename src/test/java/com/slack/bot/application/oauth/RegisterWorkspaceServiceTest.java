@@ -5,13 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.slack.bot.application.IntegrationTest;
 import com.slack.bot.application.oauth.dto.response.SlackTokenResponse;
+import com.slack.bot.application.worker.PollingHintEvent;
+import com.slack.bot.application.worker.PollingHintTarget;
 import com.slack.bot.domain.workspace.Workspace;
+import com.slack.bot.infrastructure.workspace.cache.WorkspaceAccessTokenCache;
 import com.slack.bot.infrastructure.workspace.persistence.JpaWorkspaceRepository;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional
@@ -26,6 +30,12 @@ class RegisterWorkspaceServiceTest {
     @Autowired
     JpaWorkspaceRepository jpaWorkspaceRepository;
 
+    @Autowired
+    WorkspaceAccessTokenCache workspaceAccessTokenCache;
+
+    @Autowired
+    ApplicationEventPublisher applicationEventPublisher;
+
     @Test
     void 기존_워크스페이스가_있으면_재연결_처리한다() {
         // given
@@ -84,4 +94,69 @@ class RegisterWorkspaceServiceTest {
                 ))
         );
     }
+
+    @Test
+    void 재연결하면_캐시된_access_token을_무효화한다() {
+        // given
+        Long userId = 1L;
+        jpaWorkspaceRepository.save(Workspace.builder()
+                                             .teamId("T123")
+                                             .accessToken("old-token")
+                                             .botUserId("B001")
+                                             .userId(userId)
+                                             .build());
+        workspaceAccessTokenCache.findAccessToken("T123");
+
+        SlackTokenResponse tokenResponse = new SlackTokenResponse(
+                true,
+                "xoxb-new-token",
+                "B002",
+                new SlackTokenResponse.Team("T123", "테스트 팀")
+        );
+
+        // when
+        registerWorkspaceService.registerWorkspace(tokenResponse, userId);
+
+        // then
+        assertThat(workspaceAccessTokenCache.findAccessToken("T123")).contains("xoxb-new-token");
+    }
+
+    @Test
+    void 다른_노드의_access_token_변경_hint를_받으면_캐시를_비운다() {
+        // given
+        saveWorkspace("T123", "xoxb-token");
+        workspaceAccessTokenCache.findAccessToken("T123");
+        int cachedSize = workspaceAccessTokenCache.size();
+
+        // when
+        applicationEventPublisher.publishEvent(new PollingHintEvent(PollingHintTarget.WORKSPACE_ACCESS_TOKEN));
+
+        // then
+        assertAll(
+                () -> assertThat(cachedSize).isEqualTo(1),
+                () -> assertThat(workspaceAccessTokenCache.size()).isZero()
+        );
+    }
+
+    @Test
+    void 다른_대상의_hint는_access_token_캐시를_유지한다() {
+        // given
+        saveWorkspace("T123", "xoxb-token");
+        workspaceAccessTokenCache.findAccessToken("T123");
+
+        // when
+        applicationEventPublisher.publishEvent(new PollingHintEvent(PollingHintTarget.NOTIFICATION_SETTINGS));
+
+        // then
+        assertThat(workspaceAccessTokenCache.size()).isEqualTo(1);
+    }
+
+    private void saveWorkspace(String teamId, String accessToken) {
+        jpaWorkspaceRepository.save(Workspace.builder()
+                                             .teamId(teamId)
+                                             .accessToken(accessToken)
+                                             .botUserId("B001")
+                                             .userId(1L)
+                                             .build());
+    }
 }
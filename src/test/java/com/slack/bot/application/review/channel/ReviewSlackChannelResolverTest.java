@@ -7,10 +7,12 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import com.slack.bot.application.IntegrationTest;
 import com.slack.bot.application.review.channel.dto.SlackChannelDto;
 import com.slack.bot.application.review.channel.exception.ReviewChannelResolveException;
+import com.slack.bot.infrastructure.project.cache.ProjectChannelRouteCache;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
 
 @IntegrationTest
@@ -21,6 +23,12 @@ class ReviewSlackChannelResolverTest {
     @Autowired
     ReviewSlackChannelResolver channelResolver;
 
+    @Autowired
+    ProjectChannelRouteCache projectChannelRouteCache;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     @Test
     @Sql(scripts = {
             "classpath:sql/fixtures/review/project_t1.sql",
@@ -68,4 +76,67 @@ class ReviewSlackChannelResolverTest {
                 .isInstanceOf(ReviewChannelResolveException.class)
                 .hasMessageContaining("유효하지 않은 API Key입니다.");
     }
+
+    @Test
+    @Sql(scripts = {
+            "classpath:sql/fixtures/review/project_t1.sql",
+            "classpath:sql/fixtures/review/workspace_t1.sql",
+            "classpath:sql/fixtures/review/channel_t1.sql"
+    })
+    void 한_번_조회한_채널_경로는_캐시에서_조회한다() {
+        // given
+        channelResolver.resolve("test-api-key");
+        jdbcTemplate.update("UPDATE channels SET slack_channel_id = 'C2' WHERE team_id = 'T1'");
+
+        // when
+        SlackChannelDto actual = channelResolver.resolve("test-api-key");
+
+        // then
+        assertAll(
+                () -> assertThat(actual.channelId()).isEqualTo("C1"),
+                () -> assertThat(projectChannelRouteCache.size()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @Sql(scripts = {
+            "classpath:sql/fixtures/review/project_t1.sql",
+            "classpath:sql/fixtures/review/workspace_t1.sql",
+            "classpath:sql/fixtures/review/channel_t1.sql"
+    })
+    void 팀의_채널_경로_캐시를_무효화하면_변경된_채널을_조회한다() {
+        // given
+        channelResolver.resolve("test-api-key");
+        jdbcTemplate.update("UPDATE channels SET slack_channel_id = 'C2' WHERE team_id = 'T1'");
+
+        // when
+        projectChannelRouteCache.evictTeam("T1");
+        SlackChannelDto actual = channelResolver.resolve("test-api-key");
+
+        // then
+        assertThat(actual.channelId()).isEqualTo("C2");
+    }
+
+    @Test
+    @Sql(scripts = {
+            "classpath:sql/fixtures/review/project_t1.sql",
+            "classpath:sql/fixtures/review/workspace_t1.sql"
+    })
+    void 채널이_없는_경로는_캐시하지_않는다() {
+        // given
+        assertThatThrownBy(() -> channelResolver.resolve("test-api-key"))
+                .isInstanceOf(ReviewChannelResolveException.class);
+        jdbcTemplate.update(
+                "INSERT INTO channels (id, team_id, slack_channel_id, channel_name) VALUES (1, 'T1', 'C1', 'review-channel')"
+        );
+
+        // when
+        SlackChannelDto actual = channelResolver.resolve("test-api-key");
+
+        // then
+        assertAll(
+                () -> assertThat(actual.channelId()).isEqualTo("C1"),
+                () -> assertThat(projectChannelRouteCache.size()).isEqualTo(1)
+        );
+    }
 }
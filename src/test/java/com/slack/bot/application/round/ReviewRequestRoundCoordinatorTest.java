@@ -106,6 +106,50 @@ class ReviewRequestRoundCoordinatorTest {
         );
     }
 
+    @Test
+    void 새_라운드에서_완료한_리뷰어는_이전_라운드에_반영되고_새_라운드_대상으로_이어진다() {
+        // given
+        coordinator.register("api-key", request(5000L, "commit-hash-1", List.of("reviewer-gh-1", "reviewer-gh-2")));
+        ReviewAssignmentRequest nextRound = new ReviewAssignmentRequest(
+                "repo",
+                5000L,
+                1,
+                "title",
+                "https://github.com/org/repo/pull/1",
+                "author",
+                "commit-hash-2",
+                List.of("reviewer-gh-2", "reviewer-gh-3"),
+                List.of("reviewer-gh-1")
+        );
+
+        // when
+        ReviewRoundRegistrationResultDto result = coordinator.register("api-key", nextRound);
+        List<PullRequestRound> rounds = pullRequestRoundRepository.findAll();
+        PullRequestRound previousRound = rounds.stream()
+                                               .filter(round -> round.getRoundNumber() == 1)
+                                               .findFirst()
+                                               .orElseThrow();
+        PullRequestRound latestRound = pullRequestRoundRepository.findLatestRound("api-key", 5000L)
+                                                                 .orElseThrow();
+        RoundReviewer previousReviewer = roundReviewerRepository
+                .findReviewerInRound(previousRound.getId(), "reviewer-gh-1")
+                .orElseThrow();
+        List<RoundReviewer> latestReviewers = roundReviewerRepository.findAllInRound(latestRound.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(result.reviewersToMention()).containsExactly("reviewer-gh-3", "reviewer-gh-1"),
+                () -> assertThat(previousReviewer.getState()).isEqualTo(RoundReviewerState.REVIEWED),
+                () -> assertThat(latestReviewers).extracting(RoundReviewer::getReviewerGithubId)
+                                                 .containsExactlyInAnyOrder(
+                                                         "reviewer-gh-1",
+                                                         "reviewer-gh-2",
+                                                         "reviewer-gh-3"
+                                                 ),
+                () -> assertThat(latestReviewers).allMatch(RoundReviewer::isRequested)
+        );
+    }
+
     @Test
     void 동일_startCommitHash가_여러_라운드에_있어도_최신_라운드를_조회한다() {
         // given
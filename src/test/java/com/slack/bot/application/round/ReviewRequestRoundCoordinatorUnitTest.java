@@ -4,7 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 @SuppressWarnings("NonAsciiCharacters")
@@ -215,13 +218,13 @@ class ReviewRequestRoundCoordinatorUnitTest {
                 List.of("reviewer-1"),
                 List.of()
         );
-        RoundReviewer reviewedReviewer = RoundReviewer.requested(1L, "reviewer-1");
-        reviewedReviewer.markReviewed();
+        RoundReviewer reviewedReviewer = RoundReviewer.reviewed(1L, "reviewer-1");
 
+        ReflectionTestUtils.setField(currentRound, "id", 1L);
         when(pullRequestRoundRepository.findLatestRound("api-key", 33L))
                 .thenReturn(Optional.of(currentRound));
-        when(roundReviewerRepository.findReviewerInRound(null, "reviewer-1"))
-                .thenReturn(Optional.of(reviewedReviewer));
+        when(roundReviewerRepository.findAllInRounds(List.of(1L)))
+                .thenReturn(List.of(reviewedReviewer));
 
         // when
         ReviewRoundRegistrationResultDto result = coordinator.register("api-key", request);
@@ -229,7 +232,10 @@ class ReviewRequestRoundCoordinatorUnitTest {
         // then
         assertAll(
                 () -> assertThat(result.reviewersToMention()).containsExactly("reviewer-1"),
-                () -> verify(roundReviewerRepository).save(reviewedReviewer)
+                () -> verify(roundReviewerRepository).upsertAll(argThat(reviewers -> reviewers.size() == 1
+                        && reviewers.getFirst().getPullRequestRoundId().equals(1L)
+                        && reviewers.getFirst().getReviewerGithubId().equals("reviewer-1")
+                        && reviewers.getFirst().isRequested()))
         );
     }
 
@@ -254,17 +260,72 @@ class ReviewRequestRoundCoordinatorUnitTest {
                 List.of()
         );
 
+        ReflectionTestUtils.setField(currentRound, "id", 1L);
         when(pullRequestRoundRepository.findLatestRound("api-key", 44L))
                 .thenReturn(Optional.of(currentRound));
         RoundReviewer requestedReviewer = RoundReviewer.requested(1L, "reviewer-1");
-        when(roundReviewerRepository.findReviewerInRound(null, "reviewer-1"))
-                .thenReturn(Optional.of(requestedReviewer));
+        when(roundReviewerRepository.findAllInRounds(List.of(1L)))
+                .thenReturn(List.of(requestedReviewer));
 
         // when
         ReviewRoundRegistrationResultDto result = coordinator.register("api-key", request);
 
         // then
-        assertThat(result.reviewersToMention()).isEmpty();
+        assertAll(
+                () -> assertThat(result.reviewersToMention()).isEmpty(),
+                () -> verify(roundReviewerRepository).upsertAll(List.of())
+        );
+    }
+
+    @Test
+    void 새_라운드의_리뷰어는_한_번에_조회하고_한_번에_upsert한다() {
+        // given
+        ReviewRequestRoundCoordinator coordinator = new ReviewRequestRoundCoordinator(
+                pullRequestRoundRepository,
+                roundReviewerRepository
+        );
+
+        PullRequestRound previousRound = PullRequestRound.create("api-key", 55L, 1, "hash-1");
+        PullRequestRound nextRound = PullRequestRound.create("api-key", 55L, 2, "hash-2");
+        ReviewAssignmentRequest request = new ReviewAssignmentRequest(
+                "repo",
+                55L,
+                1,
+                "title",
+                "url",
+                "author",
+                "hash-2",
+                List.of("reviewer-1", "reviewer-2", "reviewer-3"),
+                List.of("reviewer-4")
+        );
+
+        ReflectionTestUtils.setField(previousRound, "id", 1L);
+        ReflectionTestUtils.setField(nextRound, "id", 2L);
+        when(pullRequestRoundRepository.findLatestRound("api-key", 55L))
+                .thenReturn(Optional.of(previousRound));
+        when(pullRequestRoundRepository.save(any(PullRequestRound.class)))
+                .thenReturn(nextRound);
+        when(roundReviewerRepository.findAllInRounds(List.of(2L, 1L)))
+                .thenReturn(List.of(
+                        RoundReviewer.requested(1L, "reviewer-1"),
+                        RoundReviewer.requested(1L, "reviewer-4")
+                ));
+
+        // when
+        ReviewRoundRegistrationResultDto result = coordinator.register("api-key", request);
+
+        // then
+        assertAll(
+                () -> assertThat(result.reviewersToMention()).containsExactly("reviewer-2", "reviewer-3", "reviewer-4"),
+                () -> verify(roundReviewerRepository).findAllInRounds(List.of(2L, 1L)),
+                () -> verify(roundReviewerRepository).upsertAll(argThat(reviewers -> reviewers.size() == 5
+                        && reviewers.getFirst().getPullRequestRoundId().equals(1L)
+                        && reviewers.getFirst().isReviewed()
+                        && reviewers.stream().skip(1).allMatch(reviewer -> reviewer.getPullRequestRoundId().equals(2L)
+                                && reviewer.isRequested()))),
+                () -> verify(roundReviewerRepository, never()).findReviewerInRound(any(), any()),
+                () -> verify(roundReviewerRepository, never()).save(any())
+        );
     }
 
     private ReviewAssignmentRequest validRequest() {
@@ -6,15 +6,22 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import com.slack.bot.application.IntegrationTest;
 import com.slack.bot.application.setting.dto.request.UpdateNotificationSettingsRequest;
 import com.slack.bot.application.setting.dto.response.NotificationSettingsResponse;
+import com.slack.bot.application.worker.PollingHintEvent;
+import com.slack.bot.application.worker.PollingHintTarget;
 import com.slack.bot.domain.setting.DeliverySpace;
 import com.slack.bot.domain.setting.NotificationSettings;
+import com.slack.bot.domain.setting.dto.NotificationSettingsSnapshotDto;
 import com.slack.bot.domain.setting.vo.OptionalNotifications;
 import com.slack.bot.domain.setting.vo.ReservationConfirmed;
 import com.slack.bot.infrastructure.setting.JpaNotificationSettings;
+import com.slack.bot.infrastructure.setting.cache.NotificationSettingsCache;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.jdbc.Sql;
 
 @IntegrationTest
 @SuppressWarnings("NonAsciiCharacters")
@@ -27,6 +34,12 @@ class NotificationSettingsServiceTest {
     @Autowired
     JpaNotificationSettings jpaNotificationSettings;
 
+    @Autowired
+    NotificationSettingsCache notificationSettingsCache;
+
+    @Autowired
+    ApplicationEventPublisher applicationEventPublisher;
+
     @Test
     void 알림_설정이_없으면_기본값으로_생성한다() {
         // given
@@ -119,4 +132,75 @@ class NotificationSettingsServiceTest {
                 () -> assertThat(saved.getOptionalNotifications().isReviewCompletedEnabled()).isTrue()
         );
     }
+
+    @Test
+    @Sql({
+            "classpath:sql/fixtures/notification/project_member_t1.sql",
+            "classpath:sql/fixtures/notification/notification_settings_t1_u1_dm_enabled.sql"
+    })
+    void 알림_설정을_업데이트하면_캐시된_설정도_바로_갱신된다() {
+        // given
+        Optional<NotificationSettingsSnapshotDto> before = notificationSettingsCache.findBySlackUser("T1", "U1");
+        UpdateNotificationSettingsRequest request = new UpdateNotificationSettingsRequest(
+                DeliverySpace.TRIGGER_CHANNEL,
+                true,
+                true,
+                false,
+                true,
+                true
+        );
+
+        // when
+        notificationSettingsService.updateSettings(1L, request);
+
+        // then
+        Optional<NotificationSettingsSnapshotDto> after = notificationSettingsCache.findBySlackUser("T1", "U1");
+
+        assertAll(
+                () -> assertThat(before).hasValueSatisfying(snapshot -> assertAll(
+                        () -> assertThat(snapshot.directMessageEnabled()).isTrue(),
+                        () -> assertThat(snapshot.reviewReminderEnabled()).isTrue()
+                )),
+                () -> assertThat(after).hasValueSatisfying(snapshot -> assertAll(
+                        () -> assertThat(snapshot.directMessageEnabled()).isFalse(),
+                        () -> assertThat(snapshot.reviewReminderEnabled()).isFalse()
+                ))
+        );
+    }
+
+    @Test
+    @Sql({
+            "classpath:sql/fixtures/notification/project_member_t1.sql",
+            "classpath:sql/fixtures/notification/notification_settings_t1_u1_dm_enabled.sql"
+    })
+    void 다른_노드의_알림_설정_변경_hint를_받으면_캐시를_비운다() {
+        // given
+        notificationSettingsCache.findBySlackUser("T1", "U1");
+        int cachedSize = notificationSettingsCache.size();
+
+        // when
+        applicationEventPublisher.publishEvent(new PollingHintEvent(PollingHintTarget.NOTIFICATION_SETTINGS));
+
+        // then
+        assertAll(
+                () -> assertThat(cachedSize).isEqualTo(1),
+                () -> assertThat(notificationSettingsCache.size()).isZero()
+        );
+    }
+
+    @Test
+    @Sql({
+            "classpath:sql/fixtures/notification/project_member_t1.sql",
+            "classpath:sql/fixtures/notification/notification_settings_t1_u1_dm_enabled.sql"
+    })
+    void 다른_대상의_hint는_알림_설정_캐시를_유지한다() {
+        // given
+        notificationSettingsCache.findBySlackUser("T1", "U1");
+
+        // when
+        applicationEventPublisher.publishEvent(new PollingHintEvent(PollingHintTarget.REVIEW_REMINDER));
+
+        // then
+        assertThat(notificationSettingsCache.size()).isEqualTo(1);
+    }
 }
@@ -86,7 +86,7 @@ class AdaptivePollingRunnerIntegrationTest {
             SlackInteractionInbox inbox = savePendingBlockActionInbox(cancelReservationPayload("100"));
 
             // when
-            await().atMost(Duration.ofSeconds(3L)).untilAsserted(() -> {
+            await().atMost(Duration.ofSeconds(10L)).untilAsserted(() -> {
                 SlackInteractionInbox actualInbox = slackInteractionInboxMybatisMapper.findDomainById(inbox.getId())
                                                                                       .orElseThrow();
 
@@ -143,7 +143,7 @@ class AdaptivePollingRunnerIntegrationTest {
             adaptivePollingRunner.wakeUp();
 
             // then
-            await().atMost(Duration.ofSeconds(4L)).untilAsserted(() -> {
+            await().atMost(Duration.ofSeconds(10L)).untilAsserted(() -> {
                 SlackInteractionInbox actualInbox = slackInteractionInboxMybatisMapper.findDomainById(inbox.getId())
                                                                                       .orElseThrow();
 
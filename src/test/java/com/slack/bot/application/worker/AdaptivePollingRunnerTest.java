@@ -436,7 +436,9 @@ class AdaptivePollingRunnerTest {
             // when
             adaptivePollingRunner.start();
             boolean firstPhaseStarted = firstPhasePolled.await(500L, TimeUnit.MILLISECONDS);
-            await().atMost(Duration.ofSeconds(1L)).until(() -> !adaptivePollingRunner.isRunning());
+            await().dontCatchUncaughtExceptions()
+                   .atMost(Duration.ofSeconds(1L))
+                   .until(() -> !adaptivePollingRunner.isRunning());
             phase.set(2);
             adaptivePollingRunner.start();
             boolean secondPhaseStarted = secondPhasePolled.await(500L, TimeUnit.MILLISECONDS);
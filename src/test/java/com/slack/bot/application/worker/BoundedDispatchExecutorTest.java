@@ -0,0 +1,157 @@
+package com.slack.bot.application.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BoundedDispatchExecutorTest {
+
+    @Test
+    void 시작하지_않은_executor는_호출_스레드에서_작업을_실행한다() {
+        // given
+        BoundedDispatchExecutor executor = new BoundedDispatchExecutor("test", 2);
+        AtomicReference<Thread> executedThread = new AtomicReference<>();
+
+        // when
+        executor.execute(() -> executedThread.set(Thread.currentThread()));
+
+        // then
+        assertAll(
+                () -> assertThat(executor.isRunning()).isFalse(),
+                () -> assertThat(executedThread.get()).isSameAs(Thread.currentThread())
+        );
+    }
+
+    @Test
+    void 시작한_executor는_virtual_thread에서_동시성_한도_내로_작업을_실행한다() throws InterruptedException {
+        // given
+        int concurrency = 2;
+        int taskCount = 6;
+        BoundedDispatchExecutor executor = new BoundedDispatchExecutor("test", concurrency);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger virtualThreadCount = new AtomicInteger();
+        CountDownLatch completed = new CountDownLatch(taskCount);
+        executor.start();
+
+        // when
+        try {
+            for (int i = 0; i < taskCount; i++) {
+                executor.execute(() -> {
+                    int current = running.incrementAndGet();
+                    maxRunning.accumulateAndGet(current, Math::max);
+                    if (Thread.currentThread().isVirtual()) {
+                        virtualThreadCount.incrementAndGet();
+                    }
+                    sleepQuietly(20L);
+                    running.decrementAndGet();
+                    completed.countDown();
+                });
+            }
+            completed.await(5, TimeUnit.SECONDS);
+        } finally {
+            executor.stop();
+        }
+
+        // then
+        assertAll(
+                () -> assertThat(completed.getCount()).isZero(),
+                () -> assertThat(maxRunning.get()).isLessThanOrEqualTo(concurrency),
+                () -> assertThat(virtualThreadCount.get()).isEqualTo(taskCount)
+        );
+    }
+
+    @Test
+    void 이미_시작한_executor를_다시_시작해도_기존_동시성_한도를_유지한다() throws InterruptedException {
+        // given
+        BoundedDispatchExecutor executor = new BoundedDispatchExecutor("test", 1);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CountDownLatch secondStarted = new CountDownLatch(1);
+        executor.start();
+
+        // when
+        boolean secondStartedWhileFirstRunning;
+        try {
+            executor.execute(() -> {
+                firstStarted.countDown();
+                awaitQuietly(releaseFirst);
+            });
+            firstStarted.await(5, TimeUnit.SECONDS);
+            executor.start();
+            executor.execute(secondStarted::countDown);
+            secondStartedWhileFirstRunning = secondStarted.await(100L, TimeUnit.MILLISECONDS);
+            releaseFirst.countDown();
+            secondStarted.await(5, TimeUnit.SECONDS);
+        } finally {
+            releaseFirst.countDown();
+            executor.stop();
+        }
+
+        // then
+        assertAll(
+                () -> assertThat(secondStartedWhileFirstRunning).isFalse(),
+                () -> assertThat(secondStarted.getCount()).isZero()
+        );
+    }
+
+    @Test
+    void 중지한_executor는_다시_호출_스레드에서_작업을_실행한다() {
+        // given
+        BoundedDispatchExecutor executor = new BoundedDispatchExecutor("test", 2);
+        AtomicReference<Thread> executedThread = new AtomicReference<>();
+        executor.start();
+        executor.stop();
+
+        // when
+        executor.execute(() -> executedThread.set(Thread.currentThread()));
+
+        // then
+        assertAll(
+                () -> assertThat(executor.isRunning()).isFalse(),
+                () -> assertThat(executedThread.get()).isSameAs(Thread.currentThread())
+        );
+    }
+
+    @Test
+    void concurrency가_0이하면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> new BoundedDispatchExecutor("test", 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("concurrency는 0보다 커야 합니다.");
+    }
+
+    @Test
+    void executor_name이_비어_있으면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> new BoundedDispatchExecutor(" ", 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("executorName은 비어 있을 수 없습니다.");
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
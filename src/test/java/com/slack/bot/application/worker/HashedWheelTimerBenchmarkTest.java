@@ -0,0 +1,171 @@
+package com.slack.bot.application.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Tag("benchmark")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class HashedWheelTimerBenchmarkTest {
+
+    private static final int IN_FLIGHT_KEYS = 10_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 20;
+    private static final Duration FLUSH_DELAY = Duration.ofMinutes(5L);
+    private static final Runnable NO_OP = () -> { };
+    private static final Executor NO_OP_EXECUTOR = task -> { };
+
+    @Test
+    void 재버퍼링마다_타이머를_교체하면_해시_휠이_ThreadPoolTaskScheduler보다_빠르다() {
+        // given
+        ThreadPoolTaskScheduler taskScheduler = createTaskScheduler();
+        HashedWheelTimer wheelTimer = new HashedWheelTimer("benchmark-wheel", Duration.ofMillis(100L), 512, NO_OP_EXECUTOR);
+
+        try {
+            // when
+            SchedulerTimers schedulerTimers = new SchedulerTimers(taskScheduler);
+            WheelTimers wheelTimers = new WheelTimers(wheelTimer);
+            long schedulerNanos = measureRescheduleNanos(schedulerTimers);
+            long wheelNanos = measureRescheduleNanos(wheelTimers);
+
+            // then
+            System.out.printf(
+                    "batch flush 타이머 교체 %d건: ThreadPoolTaskScheduler %.3fms(대기열 %d건), HashedWheelTimer %.3fms(대기열 %d건)%n",
+                    IN_FLIGHT_KEYS,
+                    schedulerNanos / 1_000_000.0d,
+                    schedulerTimers.retainedCount,
+                    wheelNanos / 1_000_000.0d,
+                    wheelTimers.retainedCount
+            );
+            assertThat(wheelNanos).isLessThan(schedulerNanos);
+        } finally {
+            wheelTimer.stop();
+            taskScheduler.shutdown();
+        }
+    }
+
+    private ThreadPoolTaskScheduler createTaskScheduler() {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+
+        taskScheduler.setPoolSize(2);
+        taskScheduler.setThreadNamePrefix("benchmark-scheduler-");
+        taskScheduler.initialize();
+        return taskScheduler;
+    }
+
+    private long measureRescheduleNanos(BenchmarkTimers timers) {
+        timers.scheduleAll();
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            timers.rescheduleAll();
+        }
+
+        long[] elapsedNanos = new long[MEASURE_ROUNDS];
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long startedNanos = System.nanoTime();
+            timers.rescheduleAll();
+            elapsedNanos[i] = System.nanoTime() - startedNanos;
+        }
+        timers.recordRetainedCount();
+        timers.cancelAll();
+
+        Arrays.sort(elapsedNanos);
+        return elapsedNanos[MEASURE_ROUNDS / 2];
+    }
+
+    private interface BenchmarkTimers {
+
+        void scheduleAll();
+
+        void rescheduleAll();
+
+        void recordRetainedCount();
+
+        void cancelAll();
+    }
+
+    private static final class SchedulerTimers implements BenchmarkTimers {
+
+        private final ThreadPoolTaskScheduler taskScheduler;
+        private final ScheduledFuture<?>[] futures = new ScheduledFuture<?>[IN_FLIGHT_KEYS];
+        private int retainedCount;
+
+        private SchedulerTimers(ThreadPoolTaskScheduler taskScheduler) {
+            this.taskScheduler = taskScheduler;
+        }
+
+        @Override
+        public void scheduleAll() {
+            for (int i = 0; i < IN_FLIGHT_KEYS; i++) {
+                futures[i] = taskScheduler.schedule(NO_OP, Instant.now().plus(FLUSH_DELAY));
+            }
+        }
+
+        @Override
+        public void rescheduleAll() {
+            for (int i = 0; i < IN_FLIGHT_KEYS; i++) {
+                futures[i].cancel(false);
+                futures[i] = taskScheduler.schedule(NO_OP, Instant.now().plus(FLUSH_DELAY));
+            }
+        }
+
+        @Override
+        public void recordRetainedCount() {
+            retainedCount = taskScheduler.getScheduledThreadPoolExecutor().getQueue().size();
+        }
+
+        @Override
+        public void cancelAll() {
+            for (ScheduledFuture<?> future : futures) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    private static final class WheelTimers implements BenchmarkTimers {
+
+        private final HashedWheelTimer wheelTimer;
+        private final HashedWheelTimer.WheelTimeout[] timeouts = new HashedWheelTimer.WheelTimeout[IN_FLIGHT_KEYS];
+        private int retainedCount;
+
+        private WheelTimers(HashedWheelTimer wheelTimer) {
+            this.wheelTimer = wheelTimer;
+        }
+
+        @Override
+        public void scheduleAll() {
+            for (int i = 0; i < IN_FLIGHT_KEYS; i++) {
+                timeouts[i] = wheelTimer.schedule(NO_OP, FLUSH_DELAY);
+            }
+        }
+
+        @Override
+        public void rescheduleAll() {
+            for (int i = 0; i < IN_FLIGHT_KEYS; i++) {
+                timeouts[i].cancel();
+                timeouts[i] = wheelTimer.schedule(NO_OP, FLUSH_DELAY);
+            }
+        }
+
+        @Override
+        public void recordRetainedCount() {
+            retainedCount = wheelTimer.pendingCount();
+        }
+
+        @Override
+        public void cancelAll() {
+            for (HashedWheelTimer.WheelTimeout timeout : timeouts) {
+                timeout.cancel();
+            }
+        }
+    }
+}
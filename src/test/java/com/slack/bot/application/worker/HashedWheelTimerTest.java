@@ -0,0 +1,280 @@
+package com.slack.bot.application.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.slack.bot.application.worker.HashedWheelTimer.WheelTimeout;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class HashedWheelTimerTest {
+
+    HashedWheelTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        timer = new HashedWheelTimer("test", Duration.ofMillis(10L), 8, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    void 지연_시간이_지나면_작업을_실행한다() throws InterruptedException {
+        // given
+        CountDownLatch executed = new CountDownLatch(1);
+
+        // when
+        WheelTimeout timeout = timer.schedule(executed::countDown, Duration.ofMillis(30L));
+
+        // then
+        assertAll(
+                () -> assertThat(executed.await(2, TimeUnit.SECONDS)).isTrue(),
+                () -> await().atMost(1, TimeUnit.SECONDS).until(timeout::isExpired),
+                () -> assertThat(timer.pendingCount()).isZero()
+        );
+    }
+
+    @Test
+    void wheel_한_바퀴보다_긴_지연도_기한_이전에는_실행하지_않는다() {
+        // given
+        long scheduledAt = System.nanoTime();
+        AtomicLong executedAt = new AtomicLong();
+
+        // when
+        timer.schedule(() -> executedAt.set(System.nanoTime()), Duration.ofMillis(200L));
+
+        // then
+        await().atMost(2, TimeUnit.SECONDS).until(() -> executedAt.get() != 0L);
+        assertThat(Duration.ofNanos(executedAt.get() - scheduledAt)).isGreaterThanOrEqualTo(Duration.ofMillis(200L));
+    }
+
+    @Test
+    void 취소한_작업은_실행하지_않는다() throws InterruptedException {
+        // given
+        AtomicInteger executedCount = new AtomicInteger();
+        CountDownLatch sentinel = new CountDownLatch(1);
+        WheelTimeout timeout = timer.schedule(executedCount::incrementAndGet, Duration.ofMillis(30L));
+
+        // when
+        boolean cancelled = timeout.cancel();
+        timer.schedule(sentinel::countDown, Duration.ofMillis(60L));
+
+        // then
+        assertAll(
+                () -> assertThat(cancelled).isTrue(),
+                () -> assertThat(sentinel.await(2, TimeUnit.SECONDS)).isTrue(),
+                () -> assertThat(executedCount.get()).isZero(),
+                () -> assertThat(timeout.isCancelled()).isTrue(),
+                () -> assertThat(timeout.cancel()).isFalse()
+        );
+    }
+
+    @Test
+    void wheel에_배치된_뒤_취소한_작업도_실행하지_않는다() throws InterruptedException {
+        // given
+        AtomicInteger executedCount = new AtomicInteger();
+        CountDownLatch sentinel = new CountDownLatch(1);
+        WheelTimeout timeout = timer.schedule(executedCount::incrementAndGet, Duration.ofMillis(200L));
+        Thread.sleep(Duration.ofMillis(50L));
+
+        // when
+        boolean cancelled = timeout.cancel();
+        timer.schedule(sentinel::countDown, Duration.ofMillis(300L));
+
+        // then
+        assertAll(
+                () -> assertThat(cancelled).isTrue(),
+                () -> assertThat(sentinel.await(2, TimeUnit.SECONDS)).isTrue(),
+                () -> assertThat(executedCount.get()).isZero(),
+                () -> assertThat(timer.pendingCount()).isZero()
+        );
+    }
+
+    @Test
+    void 중지하면_대기_중인_작업을_모두_취소하고_다시_예약하면_재시작한다() throws InterruptedException {
+        // given
+        AtomicInteger executedCount = new AtomicInteger();
+        WheelTimeout first = timer.schedule(executedCount::incrementAndGet, Duration.ofSeconds(10L));
+        WheelTimeout second = timer.schedule(executedCount::incrementAndGet, Duration.ofMillis(500L));
+
+        // when
+        timer.stop();
+        boolean stoppedRunning = timer.isRunning();
+        int stoppedPendingCount = timer.pendingCount();
+        CountDownLatch restarted = new CountDownLatch(1);
+        timer.schedule(restarted::countDown, Duration.ofMillis(10L));
+
+        // then
+        assertAll(
+                () -> assertThat(stoppedRunning).isFalse(),
+                () -> assertThat(stoppedPendingCount).isZero(),
+                () -> assertThat(first.isCancelled()).isTrue(),
+                () -> assertThat(second.isCancelled()).isTrue(),
+                () -> assertThat(restarted.await(2, TimeUnit.SECONDS)).isTrue(),
+                () -> assertThat(executedCount.get()).isZero()
+        );
+    }
+
+    @Test
+    void 작업이_실패해도_다음_작업을_실행한다() throws InterruptedException {
+        // given
+        CountDownLatch executed = new CountDownLatch(1);
+        timer.schedule(() -> {
+            throw new IllegalStateException("boom");
+        }, Duration.ZERO);
+
+        // when
+        timer.schedule(executed::countDown, Duration.ofMillis(20L));
+
+        // then
+        assertThat(executed.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void 같은_bucket에_예약한_작업을_모두_실행한다() throws InterruptedException {
+        // given
+        HashedWheelTimer singleBucketTimer = new HashedWheelTimer("single", Duration.ofMillis(10L), 1, Runnable::run);
+        CountDownLatch executed = new CountDownLatch(3);
+
+        // when
+        singleBucketTimer.schedule(executed::countDown, Duration.ofMillis(20L));
+        singleBucketTimer.schedule(executed::countDown, Duration.ofMillis(40L));
+        singleBucketTimer.schedule(executed::countDown, Duration.ofMillis(60L));
+
+        // then
+        try {
+            assertAll(
+                    () -> assertThat(executed.await(2, TimeUnit.SECONDS)).isTrue(),
+                    () -> await().atMost(1, TimeUnit.SECONDS).until(() -> singleBucketTimer.pendingCount() == 0)
+            );
+        } finally {
+            singleBucketTimer.stop();
+        }
+    }
+
+    @Test
+    void 실행기가_만료_작업을_거절해도_timer는_계속_동작한다() {
+        // given
+        AtomicInteger rejectedCount = new AtomicInteger();
+        HashedWheelTimer rejectingTimer = new HashedWheelTimer("rejecting", Duration.ofMillis(10L), 8, command -> {
+            rejectedCount.incrementAndGet();
+            throw new RejectedExecutionException("rejected");
+        });
+
+        // when
+        WheelTimeout timeout = rejectingTimer.schedule(() -> {}, Duration.ZERO);
+
+        // then
+        try {
+            await().atMost(2, TimeUnit.SECONDS).until(timeout::isExpired);
+            assertAll(
+                    () -> assertThat(rejectedCount).hasValue(1),
+                    () -> assertThat(rejectingTimer.isRunning()).isTrue()
+            );
+        } finally {
+            rejectingTimer.stop();
+        }
+    }
+
+    @Test
+    void 인터럽트된_스레드에서_중지해도_ticker가_끝날_때까지_bucket을_건드리지_않는다() throws InterruptedException {
+        // given
+        CountDownLatch tickerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseTicker = new CountDownLatch(1);
+        WheelTimeout waiting = timer.schedule(() -> {}, Duration.ofSeconds(10L));
+        timer.schedule(() -> {
+            tickerBlocked.countDown();
+            awaitUninterruptibly(releaseTicker);
+        }, Duration.ZERO);
+        assertThat(tickerBlocked.await(2, TimeUnit.SECONDS)).isTrue();
+        AtomicBoolean stopperInterrupted = new AtomicBoolean();
+        Thread stopper = new Thread(() -> {
+            Thread.currentThread().interrupt();
+            timer.stop();
+            stopperInterrupted.set(Thread.interrupted());
+        });
+
+        // when
+        stopper.start();
+        stopper.join(200L);
+        boolean stoppingWhileTickerAlive = stopper.isAlive();
+        boolean cancelledWhileTickerAlive = waiting.isCancelled();
+        releaseTicker.countDown();
+        stopper.join(2_000L);
+
+        // then
+        assertAll(
+                () -> assertThat(stoppingWhileTickerAlive).isTrue(),
+                () -> assertThat(cancelledWhileTickerAlive).isFalse(),
+                () -> assertThat(stopper.isAlive()).isFalse(),
+                () -> assertThat(stopperInterrupted).isTrue(),
+                () -> assertThat(waiting.isCancelled()).isTrue(),
+                () -> assertThat(timer.isRunning()).isFalse(),
+                () -> assertThat(timer.pendingCount()).isZero()
+        );
+    }
+
+    @Test
+    void 만료_작업에서_중지해도_자기_자신을_기다리지_않는다() {
+        // given
+        WheelTimeout waiting = timer.schedule(() -> {}, Duration.ofSeconds(10L));
+        AtomicBoolean stopped = new AtomicBoolean();
+
+        // when
+        timer.schedule(() -> {
+            timer.stop();
+            stopped.set(true);
+        }, Duration.ZERO);
+
+        // then
+        await().atMost(Duration.ofSeconds(2L)).untilTrue(stopped);
+        assertAll(
+                () -> assertThat(timer.isRunning()).isFalse(),
+                () -> assertThat(waiting.isCancelled()).isTrue(),
+                () -> assertThat(timer.pendingCount()).isZero()
+        );
+    }
+
+    @Test
+    void tick_간격이_1ms_미만이면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> new HashedWheelTimer("test", Duration.ZERO, 8, Runnable::run))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("tickDuration은 1ms 이상이어야 합니다.");
+    }
+
+    @Test
+    void 음수_지연으로_예약하면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> timer.schedule(() -> {}, Duration.ofMillis(-1L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("delay는 0 이상이어야 합니다.");
+    }
+
+    private void awaitUninterruptibly(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException ignored) {
+            }
+        }
+    }
+}
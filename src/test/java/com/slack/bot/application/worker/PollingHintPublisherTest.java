@@ -0,0 +1,97 @@
+package com.slack.bot.application.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PollingHintPublisherTest {
+
+    ApplicationEventPublisher applicationEventPublisher;
+    PollingHintBroadcaster pollingHintBroadcaster;
+    PollingHintPublisher pollingHintPublisher;
+
+    @BeforeEach
+    void setUp() {
+        applicationEventPublisher = mock(ApplicationEventPublisher.class);
+        pollingHintBroadcaster = mock(PollingHintBroadcaster.class);
+        pollingHintPublisher = new PollingHintPublisher(applicationEventPublisher, pollingHintBroadcaster);
+        clearTransactionSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clearTransactionSynchronization();
+    }
+
+    @Test
+    void 트랜잭션이_없으면_즉시_로컬_이벤트와_노드간_hint를_발행한다() {
+        // when
+        pollingHintPublisher.publish(PollingHintTarget.INTERACTION_OUTBOX);
+
+        // then
+        verify(applicationEventPublisher).publishEvent(new PollingHintEvent(PollingHintTarget.INTERACTION_OUTBOX));
+        verify(pollingHintBroadcaster).broadcast(PollingHintTarget.INTERACTION_OUTBOX);
+    }
+
+    @Test
+    void 트랜잭션이_활성화된_경우_커밋_후에_발행한다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // when
+        pollingHintPublisher.publish(PollingHintTarget.INTERACTION_OUTBOX);
+
+        // then
+        verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+        verify(pollingHintBroadcaster, never()).broadcast(any());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+        assertThat(synchronizations).hasSize(1);
+
+        synchronizations.getFirst().afterCommit();
+
+        verify(applicationEventPublisher).publishEvent(new PollingHintEvent(PollingHintTarget.INTERACTION_OUTBOX));
+        verify(pollingHintBroadcaster).broadcast(PollingHintTarget.INTERACTION_OUTBOX);
+    }
+
+    @Test
+    void 트랜잭션이_롤백되면_발행하지_않는다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // when
+        pollingHintPublisher.publish(PollingHintTarget.INTERACTION_OUTBOX);
+        TransactionSynchronizationManager.getSynchronizations()
+                                         .forEach(synchronization -> synchronization.afterCompletion(
+                                                 TransactionSynchronization.STATUS_ROLLED_BACK
+                                         ));
+
+        // then
+        verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+        verify(pollingHintBroadcaster, never()).broadcast(any());
+    }
+
+    private void clearTransactionSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+}
@@ -1,5 +1,12 @@
 package com.slack.bot.context;
 
+import com.slack.bot.application.worker.HashedWheelTimer;
+import com.slack.bot.infrastructure.auth.jwt.cache.DecodedTokenCache;
+import com.slack.bot.infrastructure.interaction.dm.cache.DirectMessageChannelCache;
+import com.slack.bot.infrastructure.member.cache.ProjectMemberDirectoryCache;
+import com.slack.bot.infrastructure.project.cache.ProjectChannelRouteCache;
+import com.slack.bot.infrastructure.setting.cache.NotificationSettingsCache;
+import com.slack.bot.infrastructure.workspace.cache.WorkspaceAccessTokenCache;
 import java.util.Map;
 import java.util.concurrent.RunnableScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -13,11 +20,15 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
 import org.springframework.test.context.TestContext;
 import org.springframework.test.context.support.AbstractTestExecutionListener;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @Slf4j
 public class CleanupExecutionListener extends AbstractTestExecutionListener implements Ordered {
@@ -48,11 +59,15 @@ public class CleanupExecutionListener extends AbstractTestExecutionListener impl
         ApplicationContext applicationContext = testContext.getApplicationContext();
 
         cancelPendingScheduledTasks(applicationContext);
+        cancelPendingWheelTimeouts(applicationContext);
+        evictLocalCaches(applicationContext);
         waitForAllTaskExecutorsIdle(applicationContext);
+        waitForVirtualTaskExecutorsIdle(applicationContext);
         waitForTaskSchedulerIdle(applicationContext);
     }
 
     private void cancelPendingScheduledTasks(ApplicationContext applicationContext) {
+        cancelAnnotatedScheduledTasks(applicationContext);
         if (!applicationContext.containsBean("taskScheduler")) {
             return;
         }
@@ -78,11 +93,60 @@ public class CleanupExecutionListener extends AbstractTestExecutionListener impl
         executor.purge();
     }
 
+    private void cancelAnnotatedScheduledTasks(ApplicationContext applicationContext) {
+        applicationContext.getBeansOfType(ScheduledTaskHolder.class)
+                          .values()
+                          .forEach(scheduledTaskHolder -> scheduledTaskHolder.getScheduledTasks()
+                                                                             .forEach(ScheduledTask::cancel));
+    }
+
+    private void cancelPendingWheelTimeouts(ApplicationContext applicationContext) {
+        applicationContext.getBeansOfType(HashedWheelTimer.class)
+                          .values()
+                          .forEach(HashedWheelTimer::stop);
+    }
+
+    private void evictLocalCaches(ApplicationContext applicationContext) {
+        applicationContext.getBeansOfType(WorkspaceAccessTokenCache.class)
+                          .values()
+                          .forEach(WorkspaceAccessTokenCache::evictAll);
+        applicationContext.getBeansOfType(ProjectChannelRouteCache.class)
+                          .values()
+                          .forEach(ProjectChannelRouteCache::evictAll);
+        applicationContext.getBeansOfType(ProjectMemberDirectoryCache.class)
+                          .values()
+                          .forEach(ProjectMemberDirectoryCache::evictAll);
+        applicationContext.getBeansOfType(DirectMessageChannelCache.class)
+                          .values()
+                          .forEach(DirectMessageChannelCache::evictAll);
+        applicationContext.getBeansOfType(NotificationSettingsCache.class)
+                          .values()
+                          .forEach(NotificationSettingsCache::evictAll);
+        applicationContext.getBeansOfType(DecodedTokenCache.class)
+                          .values()
+                          .forEach(DecodedTokenCache::evictAll);
+    }
+
     private void waitForAllTaskExecutorsIdle(ApplicationContext applicationContext) {
         Map<String, ThreadPoolTaskExecutor> executors = applicationContext.getBeansOfType(ThreadPoolTaskExecutor.class);
         executors.forEach((beanName, taskExecutor) -> waitForTaskExecutorIdle(beanName, taskExecutor));
     }
 
+    private void waitForVirtualTaskExecutorsIdle(ApplicationContext applicationContext) {
+        Map<String, SimpleAsyncTaskExecutor> executors = applicationContext.getBeansOfType(SimpleAsyncTaskExecutor.class);
+        executors.forEach((beanName, taskExecutor) -> {
+            if (taskExecutor.isThrottleActive()) {
+                waitUntilIdle(beanName, () -> countInFlightTasks(taskExecutor) == 0);
+            }
+        });
+    }
+
+    private int countInFlightTasks(SimpleAsyncTaskExecutor taskExecutor) {
+        Object concurrencyThrottle = ReflectionTestUtils.getField(taskExecutor, "concurrencyThrottle");
+
+        return (int) ReflectionTestUtils.getField(concurrencyThrottle, "concurrencyCount");
+    }
+
     private void waitForTaskExecutorIdle(String beanName, ThreadPoolTaskExecutor taskExecutor) {
         waitUntilIdle(beanName, () -> {
             ThreadPoolExecutor executor = taskExecutor.getThreadPoolExecutor();
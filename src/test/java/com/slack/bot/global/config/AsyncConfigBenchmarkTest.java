@@ -0,0 +1,81 @@
+package com.slack.bot.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Tag("benchmark")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class AsyncConfigBenchmarkTest {
+
+    private static final int BLOCKING_TASK_COUNT = 200;
+    private static final Duration BLOCKING_TASK_DURATION = Duration.ofMillis(20L);
+
+    @Test
+    void 블로킹_작업이_많으면_가상_스레드_실행기의_처리량이_스레드_풀보다_높다() throws Exception {
+        // given
+        TaskExecutor platformExecutor = AsyncConfig.createTaskExecutor(
+                false,
+                4,
+                8,
+                "platform-",
+                BLOCKING_TASK_COUNT,
+                BLOCKING_TASK_COUNT
+        );
+        TaskExecutor virtualExecutor = AsyncConfig.createTaskExecutor(
+                true,
+                4,
+                8,
+                "virtual-",
+                BLOCKING_TASK_COUNT,
+                BLOCKING_TASK_COUNT
+        );
+
+        // when
+        long platformElapsedNanos = runBlockingTasks(platformExecutor);
+        long virtualElapsedNanos = runBlockingTasks(virtualExecutor);
+
+        // then
+        ((ThreadPoolTaskExecutor) platformExecutor).shutdown();
+
+        System.out.printf(
+                "블로킹 작업 %d건: 스레드 풀 %.1fms, 가상 스레드 %.1fms%n",
+                BLOCKING_TASK_COUNT,
+                platformElapsedNanos / 1_000_000.0d,
+                virtualElapsedNanos / 1_000_000.0d
+        );
+        assertThat(virtualElapsedNanos).isLessThan(platformElapsedNanos / 4L);
+    }
+
+    private long runBlockingTasks(TaskExecutor executor) throws InterruptedException {
+        CountDownLatch completed = new CountDownLatch(BLOCKING_TASK_COUNT);
+        long startedNanos = System.nanoTime();
+
+        for (int i = 0; i < BLOCKING_TASK_COUNT; i++) {
+            executor.execute(() -> {
+                sleepQuietly(BLOCKING_TASK_DURATION);
+                completed.countDown();
+            });
+        }
+
+        assertThat(completed.await(30L, TimeUnit.SECONDS)).isTrue();
+        return System.nanoTime() - startedNanos;
+    }
+
+    private void sleepQuietly(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
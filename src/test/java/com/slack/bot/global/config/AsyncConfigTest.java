@@ -0,0 +1,102 @@
+package com.slack.bot.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class AsyncConfigTest {
+
+    private static final int CONCURRENT_TASK_COUNT = 32;
+
+    @Test
+    void 가상_스레드_모드가_아니면_스레드_풀_실행기를_생성한다() {
+        // when
+        TaskExecutor actual = AsyncConfig.createTaskExecutor(false, 1, 2, "platform-", 10, 20);
+
+        // then
+        assertThat(actual).isInstanceOf(ThreadPoolTaskExecutor.class);
+
+        ((ThreadPoolTaskExecutor) actual).shutdown();
+    }
+
+    @Test
+    void 가상_스레드_모드이면_가상_스레드에서_작업을_실행한다() throws Exception {
+        // given
+        TaskExecutor executor = AsyncConfig.createTaskExecutor(true, 1, 2, "virtual-", 10, 20);
+        CompletableFuture<Thread> executedThread = new CompletableFuture<>();
+
+        // when
+        executor.execute(() -> executedThread.complete(Thread.currentThread()));
+
+        // then
+        Thread actual = executedThread.get(5L, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertThat(executor).isInstanceOf(SimpleAsyncTaskExecutor.class),
+                () -> assertThat(actual.isVirtual()).isTrue(),
+                () -> assertThat(actual.getName()).startsWith("virtual-")
+        );
+    }
+
+    @Test
+    void 가상_스레드_모드는_가상_스레드_동시_실행_한도를_넘는_작업을_거절한다() throws Exception {
+        // given
+        TaskExecutor executor = AsyncConfig.createTaskExecutor(true, 1, 8, "virtual-", 100, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+
+        executor.execute(() -> awaitQuietly(started, release));
+        executor.execute(() -> awaitQuietly(started, release));
+        started.await(5L, TimeUnit.SECONDS);
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> executor.execute(() -> { }))
+                    .isInstanceOf(TaskRejectedException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void 가상_스레드_모드는_최대_스레드_수와_무관하게_동시_실행_한도까지_블로킹_작업을_동시에_실행한다() throws Exception {
+        // given
+        TaskExecutor executor = AsyncConfig.createTaskExecutor(true, 1, 2, "virtual-", 0, CONCURRENT_TASK_COUNT);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(CONCURRENT_TASK_COUNT);
+
+        // when
+        try {
+            for (int i = 0; i < CONCURRENT_TASK_COUNT; i++) {
+                executor.execute(() -> awaitQuietly(started, release));
+            }
+
+            // then
+            assertThat(started.await(5L, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private void awaitQuietly(CountDownLatch started, CountDownLatch release) {
+        started.countDown();
+        try {
+            release.await(5L, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
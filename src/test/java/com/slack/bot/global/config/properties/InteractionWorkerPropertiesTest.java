@@ -114,4 +114,23 @@ class InteractionWorkerPropertiesTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("outbox.timeoutRecoveryBatchSize는 0보다 커야 합니다.");
     }
+
+    @Test
+    void outbox_properties는_dispatch_concurrency가_0이하면_예외를_던진다() {
+        // when & then
+        assertThatThrownBy(() -> new InteractionWorkerProperties.OutboxProperties(1_000L, 60_000L, 30_000L, 100, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("outbox.dispatchConcurrency는 0보다 커야 합니다.");
+    }
+
+    @Test
+    void outbox_properties의_기본_dispatch_concurrency는_워커_기본값과_같다() {
+        // when
+        InteractionWorkerProperties.OutboxProperties properties = new InteractionWorkerProperties.OutboxProperties();
+
+        // then
+        assertThat(properties.dispatchConcurrency())
+                .isEqualTo(InteractionWorkerProperties.OutboxProperties.DEFAULT_DISPATCH_CONCURRENCY)
+                .isEqualTo(8);
+    }
 }
@@ -0,0 +1,92 @@
+package com.slack.bot.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.slack.bot.global.config.properties.SlackProperties;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("benchmark")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SlackSignatureVerifierBenchmarkTest {
+
+    private static final String SIGNING_SECRET = "benchmark-signing-secret";
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURE_ROUNDS = 50_000;
+
+    SlackSignatureVerifier slackSignatureVerifier = new SlackSignatureVerifier(
+            new SlackProperties(SIGNING_SECRET, "client-id", "client-secret", "redirect-uri", "scopes", List.of())
+    );
+
+    @Test
+    void 초기화된_Mac을_복제하면_요청마다_Mac을_생성하는_방식보다_빠르다() throws Exception {
+        // given
+        String timestamp = String.valueOf(System.currentTimeMillis() / 1_000L);
+        String rawBody = "payload=" + "%7B%22type%22%3A%22block_actions%22%7D".repeat(32);
+        byte[] rawBodyBytes = rawBody.getBytes(StandardCharsets.UTF_8);
+        String signature = legacySignature(timestamp, rawBody);
+
+        // when
+        long legacyNanos = measureNanos(() -> legacyVerify(timestamp, signature, rawBody));
+        long reusableNanos = measureNanos(() -> slackSignatureVerifier.verify(timestamp, signature, rawBodyBytes));
+
+        // then
+        System.out.printf(
+                "slack signature verify (body %,d bytes): 요청마다 Mac 생성 %.3fus, Mac 복제 %.3fus%n",
+                rawBodyBytes.length,
+                legacyNanos / 1_000.0d,
+                reusableNanos / 1_000.0d
+        );
+        assertThat(reusableNanos).isLessThan(legacyNanos);
+    }
+
+    private boolean legacyVerify(String timestamp, String signature, String rawBody) {
+        String computed = legacySignature(timestamp, rawBody);
+
+        return MessageDigest.isEqual(
+                computed.getBytes(StandardCharsets.UTF_8),
+                signature.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private String legacySignature(String timestamp, String rawBody) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(SIGNING_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+
+            String base = "v0:" + timestamp + ":" + rawBody;
+            return "v0=" + HexFormat.of().formatHex(mac.doFinal(base.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long measureNanos(BooleanSupplier verification) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            assertThat(verification.getAsBoolean()).isTrue();
+        }
+
+        long[] elapsedNanos = new long[MEASURE_ROUNDS];
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long startedNanos = System.nanoTime();
+            boolean verified = verification.getAsBoolean();
+            elapsedNanos[i] = System.nanoTime() - startedNanos;
+
+            assertThat(verified).isTrue();
+        }
+
+        Arrays.sort(elapsedNanos);
+        return elapsedNanos[MEASURE_ROUNDS / 2];
+    }
+}
@@ -0,0 +1,133 @@
+package com.slack.bot.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.slack.bot.global.config.properties.SlackProperties;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.List;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SlackSignatureVerifierTest {
+
+    private static final String SIGNING_SECRET = "test-signing-secret";
+    private static final String PREVIOUS_SIGNING_SECRET = "previous-signing-secret";
+
+    SlackSignatureVerifier slackSignatureVerifier = new SlackSignatureVerifier(
+            new SlackProperties(
+                    SIGNING_SECRET,
+                    "client-id",
+                    "client-secret",
+                    "redirect-uri",
+                    "scopes",
+                    List.of(PREVIOUS_SIGNING_SECRET)
+            )
+    );
+
+    @Test
+    void 원본_바디_바이트로_계산한_서명이_일치하면_검증에_성공한다() throws Exception {
+        // given
+        String timestamp = currentTimestamp();
+        byte[] rawBody = "payload=%7B%22type%22%3A%22block_actions%22%2C%22text%22%3A%22%ED%95%9C%EA%B8%80%22%7D"
+                .getBytes(StandardCharsets.UTF_8);
+        String signature = sign(timestamp, rawBody);
+
+        // when
+        boolean actual = slackSignatureVerifier.verify(timestamp, signature, rawBody);
+
+        // then
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    void 바디가_변조되면_검증에_실패한다() throws Exception {
+        // given
+        String timestamp = currentTimestamp();
+        byte[] rawBody = "payload=%7B%7D".getBytes(StandardCharsets.UTF_8);
+        String signature = sign(timestamp, rawBody);
+        byte[] tamperedBody = "payload=%7B%22a%22%7D".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        boolean actual = slackSignatureVerifier.verify(timestamp, signature, tamperedBody);
+
+        // then
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    void timestamp가_허용_범위를_벗어나거나_서명이_없으면_검증에_실패한다() throws Exception {
+        // given
+        String expiredTimestamp = String.valueOf(System.currentTimeMillis() / 1_000L - 60L * 10L);
+        byte[] rawBody = "payload=%7B%7D".getBytes(StandardCharsets.UTF_8);
+        String expiredSignature = sign(expiredTimestamp, rawBody);
+
+        // when
+        boolean actualExpired = slackSignatureVerifier.verify(expiredTimestamp, expiredSignature, rawBody);
+        boolean actualMissingSignature = slackSignatureVerifier.verify(currentTimestamp(), null, rawBody);
+
+        // then
+        assertAll(
+                () -> assertThat(actualExpired).isFalse(),
+                () -> assertThat(actualMissingSignature).isFalse()
+        );
+    }
+
+    @Test
+    void 교체_중인_이전_signing_secret으로_서명해도_검증에_성공한다() throws Exception {
+        // given
+        String timestamp = currentTimestamp();
+        byte[] rawBody = "payload=%7B%7D".getBytes(StandardCharsets.UTF_8);
+        String previousSignature = sign(PREVIOUS_SIGNING_SECRET, timestamp, rawBody);
+        String unknownSignature = sign("unknown-signing-secret", timestamp, rawBody);
+
+        // when
+        boolean actualPrevious = slackSignatureVerifier.verify(timestamp, previousSignature, rawBody);
+        boolean actualUnknown = slackSignatureVerifier.verify(timestamp, unknownSignature, rawBody);
+
+        // then
+        assertAll(
+                () -> assertThat(actualPrevious).isTrue(),
+                () -> assertThat(actualUnknown).isFalse()
+        );
+    }
+
+    @Test
+    void 서명_헤더_형식이_올바르지_않으면_검증에_실패한다() throws Exception {
+        // given
+        String timestamp = currentTimestamp();
+        byte[] rawBody = "payload=%7B%7D".getBytes(StandardCharsets.UTF_8);
+        String signature = sign(timestamp, rawBody);
+
+        // when & then
+        assertAll(
+                () -> assertThat(slackSignatureVerifier.verify(timestamp, signature.substring(3), rawBody)).isFalse(),
+                () -> assertThat(slackSignatureVerifier.verify(timestamp, "v1=" + signature.substring(3), rawBody))
+                        .isFalse(),
+                () -> assertThat(slackSignatureVerifier.verify(timestamp, signature + "00", rawBody)).isFalse(),
+                () -> assertThat(slackSignatureVerifier.verify(timestamp, "v0=" + "zz".repeat(32), rawBody)).isFalse()
+        );
+    }
+
+    private String currentTimestamp() {
+        return String.valueOf(System.currentTimeMillis() / 1_000L);
+    }
+
+    private String sign(String timestamp, byte[] rawBody) throws Exception {
+        return sign(SIGNING_SECRET, timestamp, rawBody);
+    }
+
+    private String sign(String secret, String timestamp, byte[] rawBody) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+
+        String base = "v0:" + timestamp + ":" + new String(rawBody, StandardCharsets.UTF_8);
+        return "v0=" + HexFormat.of().formatHex(mac.doFinal(base.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,176 @@
+package com.slack.bot.infrastructure.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.nimbusds.jose.EncryptionMethod;
+import com.nimbusds.jose.JWEAlgorithm;
+import com.nimbusds.jose.JWEHeader;
+import com.nimbusds.jose.JWEObject;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.AESDecrypter;
+import com.nimbusds.jose.crypto.AESEncrypter;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.slack.bot.domain.auth.PrivateClaims;
+import com.slack.bot.domain.auth.TokenType;
+import com.slack.bot.global.config.properties.DecodedTokenCacheProperties;
+import com.slack.bot.global.config.properties.TokenProperties;
+import com.slack.bot.infrastructure.auth.jwt.cache.DecodedTokenCache;
+import com.slack.bot.infrastructure.auth.jwt.exception.ExpiredTokenException;
+import com.slack.bot.infrastructure.auth.jwt.exception.InvalidTokenException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class JwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-24T00:00:00Z");
+    private static final String ISSUER = "test-issuer";
+    private static final byte[] ACCESS_KEY = "thisIsA32ByteAccessTokenKeyForHS".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] REFRESH_KEY = "thisIsA32ByteRefreshTokenKeyForH".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ENCRYPTION_KEY = "thisIsA32ByteEncryptionKeyForAES".getBytes(StandardCharsets.UTF_8);
+
+    Clock clock;
+    AESDecrypter jweDecrypter;
+    DecodedTokenCache decodedTokenCache;
+    JwtDecoder jwtDecoder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        clock = mock(Clock.class);
+        given(clock.instant()).willReturn(NOW);
+        given(clock.getZone()).willReturn(ZoneOffset.UTC);
+
+        jweDecrypter = spy(new AESDecrypter(new SecretKeySpec(ENCRYPTION_KEY, "AES")));
+        decodedTokenCache = new DecodedTokenCache(clock, new SimpleMeterRegistry(), new DecodedTokenCacheProperties());
+        jwtDecoder = new JwtDecoder(
+                clock,
+                jweDecrypter,
+                new JwsVerifierFinder(
+                        new MACVerifier(new SecretKeySpec(ACCESS_KEY, "HmacSHA256")),
+                        new MACVerifier(new SecretKeySpec(REFRESH_KEY, "HmacSHA256"))
+                ),
+                new TokenProperties(
+                        new String(ACCESS_KEY, StandardCharsets.UTF_8),
+                        new String(REFRESH_KEY, StandardCharsets.UTF_8),
+                        new String(ENCRYPTION_KEY, StandardCharsets.UTF_8),
+                        ISSUER,
+                        3600,
+                        259200,
+                        3_600_000L,
+                        259_200_000L
+                ),
+                decodedTokenCache
+        );
+    }
+
+    @Test
+    void 같은_토큰을_다시_디코딩하면_복호화하지_않고_캐시된_클레임을_반환한다() throws Exception {
+        // given
+        String token = createToken(ISSUER, NOW.plusSeconds(60L));
+
+        // when
+        PrivateClaims first = jwtDecoder.decode(TokenType.ACCESS, token);
+        PrivateClaims second = jwtDecoder.decode(TokenType.ACCESS, token);
+
+        // then
+        assertAll(
+                () -> assertThat(first.userId()).isEqualTo(42L),
+                () -> assertThat(second).isEqualTo(first),
+                () -> verify(jweDecrypter, times(1)).decrypt(any(), any(), any(), any(), any(), any())
+        );
+    }
+
+    @Test
+    void 캐시된_토큰도_만료_시간이_지나면_만료_예외를_던진다() throws Exception {
+        // given
+        String token = createToken(ISSUER, NOW.plusSeconds(60L));
+        jwtDecoder.decode(TokenType.ACCESS, token);
+        given(clock.instant()).willReturn(NOW.plusSeconds(61L));
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> jwtDecoder.decode(TokenType.ACCESS, token))
+                        .isInstanceOf(ExpiredTokenException.class),
+                () -> assertThat(decodedTokenCache.size()).isZero()
+        );
+    }
+
+    @Test
+    void 캐시된_토큰을_변조하면_캐시를_거치지_않고_거부한다() throws Exception {
+        // given
+        String token = createToken(ISSUER, NOW.plusSeconds(60L));
+        jwtDecoder.decode(TokenType.ACCESS, token);
+        String tampered = token.substring(0, token.length() - 2) + flip(token.charAt(token.length() - 2))
+                + token.charAt(token.length() - 1);
+
+        // when & then
+        assertThatThrownBy(() -> jwtDecoder.decode(TokenType.ACCESS, tampered))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void 검증에_실패한_토큰은_캐시하지_않는다() throws Exception {
+        // given
+        String token = createToken("other-issuer", NOW.plusSeconds(60L));
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> jwtDecoder.decode(TokenType.ACCESS, token))
+                        .isInstanceOf(InvalidTokenException.class),
+                () -> assertThatThrownBy(() -> jwtDecoder.decode(TokenType.ACCESS, token))
+                        .isInstanceOf(InvalidTokenException.class),
+                () -> assertThat(decodedTokenCache.size()).isZero()
+        );
+    }
+
+    private String createToken(String issuer, Instant expiresAt) throws Exception {
+        JWTClaimsSet claimsSet = new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .claim("id", 42L)
+                .issueTime(Date.from(NOW))
+                .expirationTime(Date.from(expiresAt))
+                .build();
+        SignedJWT signedJwt = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claimsSet);
+
+        signedJwt.sign(new MACSigner(ACCESS_KEY));
+
+        JWEObject jweObject = new JWEObject(
+                new JWEHeader.Builder(JWEAlgorithm.A256KW, EncryptionMethod.A256GCM).contentType("JWT").build(),
+                new Payload(signedJwt)
+        );
+
+        jweObject.encrypt(new AESEncrypter(ENCRYPTION_KEY));
+        return jweObject.serialize();
+    }
+
+    private char flip(char value) {
+        if (value == 'A') {
+            return 'B';
+        }
+
+        return 'A';
+    }
+}
@@ -0,0 +1,113 @@
+package com.slack.bot.infrastructure.auth.jwt.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.slack.bot.domain.auth.PrivateClaims;
+import com.slack.bot.domain.auth.TokenType;
+import com.slack.bot.global.config.properties.DecodedTokenCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class DecodedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-24T00:00:00Z");
+    private static final PrivateClaims CLAIMS = new PrivateClaims(1L, LocalDateTime.of(2026, 3, 24, 0, 0));
+
+    Clock clock;
+    SimpleMeterRegistry meterRegistry;
+    DecodedTokenCache decodedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        meterRegistry = new SimpleMeterRegistry();
+        given(clock.instant()).willReturn(NOW);
+
+        decodedTokenCache = new DecodedTokenCache(clock, meterRegistry, new DecodedTokenCacheProperties(60_000L, 2));
+    }
+
+    @Test
+    void 디코딩한_토큰은_다시_디코딩하지_않는다() {
+        // given
+        AtomicInteger decodeCount = new AtomicInteger();
+        Supplier<DecodedToken> decoder = () -> {
+            decodeCount.incrementAndGet();
+            return new DecodedToken(CLAIMS, NOW.plusSeconds(30L));
+        };
+
+        // when
+        PrivateClaims first = decodedTokenCache.get(TokenType.ACCESS, "token", decoder);
+        PrivateClaims second = decodedTokenCache.get(TokenType.ACCESS, "token", decoder);
+
+        // then
+        assertAll(
+                () -> assertThat(first).isEqualTo(CLAIMS),
+                () -> assertThat(second).isEqualTo(CLAIMS),
+                () -> assertThat(decodeCount).hasValue(1),
+                () -> assertThat(requestCount("hit")).isEqualTo(1.0d)
+        );
+    }
+
+    @Test
+    void 만료_시간이_지난_토큰은_제거하고_다시_검증한다() {
+        // given
+        AtomicInteger decodeCount = new AtomicInteger();
+        decodedTokenCache.get(TokenType.ACCESS, "token", () -> new DecodedToken(CLAIMS, NOW.plusSeconds(30L)));
+        given(clock.instant()).willReturn(NOW.plusSeconds(31L));
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> decodedTokenCache.get(TokenType.ACCESS, "token", () -> {
+                    decodeCount.incrementAndGet();
+                    throw new IllegalArgumentException("만료된 토큰");
+                })).isInstanceOf(IllegalArgumentException.class),
+                () -> assertThat(decodeCount).hasValue(1),
+                () -> assertThat(decodedTokenCache.size()).isZero(),
+                () -> assertThat(meterRegistry.get("auth.token.decoded_cache.expired").counter().count())
+                        .isEqualTo(1.0d)
+        );
+    }
+
+    @Test
+    void 디코딩에_실패한_토큰은_캐시하지_않는다() {
+        // when
+        assertThatThrownBy(() -> decodedTokenCache.get(TokenType.ACCESS, "token", () -> {
+            throw new IllegalArgumentException("위변조된 토큰");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        // then
+        assertThat(decodedTokenCache.size()).isZero();
+    }
+
+    @Test
+    void 최대_크기를_넘으면_가장_먼저_만료될_토큰을_제거한다() {
+        // when
+        decodedTokenCache.get(TokenType.ACCESS, "token-1", () -> new DecodedToken(CLAIMS, NOW.plusSeconds(30L)));
+        decodedTokenCache.get(TokenType.ACCESS, "token-2", () -> new DecodedToken(CLAIMS, NOW.plusSeconds(30L)));
+        decodedTokenCache.get(TokenType.ACCESS, "token-3", () -> new DecodedToken(CLAIMS, NOW.plusSeconds(30L)));
+
+        // then
+        assertThat(decodedTokenCache.size()).isEqualTo(2);
+    }
+
+    private double requestCount(String result) {
+        return meterRegistry.get("auth.token.decoded_cache.requests")
+                            .tag("result", result)
+                            .counter()
+                            .count();
+    }
+}
@@ -0,0 +1,119 @@
+package com.slack.bot.infrastructure.common.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class MockSlackApiServer implements AutoCloseable {
+
+    private static final byte[] OK_BODY = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer httpServer;
+    private final ExecutorService handlerExecutor = Executors.newCachedThreadPool();
+    private final Map<String, Integer> statusByMethod = new ConcurrentHashMap<>();
+    private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final Duration responseDelay;
+
+    private volatile CountDownLatch responseGate = new CountDownLatch(0);
+
+    private MockSlackApiServer(Duration responseDelay) throws IOException {
+        this.responseDelay = responseDelay;
+        this.httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.httpServer.createContext("/", this::handle);
+        this.httpServer.setExecutor(handlerExecutor);
+    }
+
+    static MockSlackApiServer start() throws IOException {
+        return start(Duration.ZERO);
+    }
+
+    static MockSlackApiServer start(Duration responseDelay) throws IOException {
+        MockSlackApiServer server = new MockSlackApiServer(responseDelay);
+
+        server.httpServer.start();
+        return server;
+    }
+
+    String apiBaseUrl() {
+        return baseUrl() + "/api/";
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + httpServer.getAddress().getPort();
+    }
+
+    void respondWith(String apiName, int status) {
+        statusByMethod.put(apiName, status);
+    }
+
+    CountDownLatch holdResponses() {
+        CountDownLatch gate = new CountDownLatch(1);
+
+        responseGate = gate;
+        return gate;
+    }
+
+    int requestCount() {
+        return requestCount.get();
+    }
+
+    int connectionCount() {
+        return connections.size();
+    }
+
+    void resetCounters() {
+        connections.clear();
+        requestCount.set(0);
+    }
+
+    @Override
+    public void close() {
+        responseGate.countDown();
+        httpServer.stop(0);
+        handlerExecutor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream requestBody = exchange.getRequestBody()) {
+            requestBody.readAllBytes();
+            connections.add(exchange.getRemoteAddress());
+            requestCount.incrementAndGet();
+            awaitResponse();
+
+            String apiName = exchange.getRequestURI().getPath().replaceFirst("^/api/", "");
+            int status = statusByMethod.getOrDefault(apiName, 200);
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, OK_BODY.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(OK_BODY);
+            }
+        }
+    }
+
+    private void awaitResponse() {
+        try {
+            responseGate.await(5L, TimeUnit.SECONDS);
+            if (!responseDelay.isZero()) {
+                Thread.sleep(responseDelay);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.slack.bot.infrastructure.common.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.slack.bot.global.config.properties.SlackHttpTransportProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+@Tag("benchmark")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SlackHttpTransportBenchmarkTest {
+
+    private static final int CONCURRENCY = 32;
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int MEASURE_REQUESTS = 5_000;
+    private static final Duration RESPONSE_DELAY = Duration.ofMillis(2L);
+
+    @Test
+    void 공유_연결_풀_전송은_기본_전송보다_새_연결을_적게_연다() throws Exception {
+        try (
+                MockSlackApiServer mockSlackApiServer = MockSlackApiServer.start(RESPONSE_DELAY);
+                SlackHttpTransport slackHttpTransport = new SlackHttpTransport(
+                        new SimpleMeterRegistry(),
+                        new SlackHttpTransportProperties(1_000L, 3_000L, CONCURRENCY, 1_000L, false)
+                )
+        ) {
+            // given
+            SimpleClientHttpRequestFactory simpleFactory = new SimpleClientHttpRequestFactory();
+            simpleFactory.setConnectTimeout(Duration.ofSeconds(1L));
+            simpleFactory.setReadTimeout(Duration.ofSeconds(3L));
+            RestClient legacyClient = RestClient.builder()
+                                                .requestFactory(simpleFactory)
+                                                .baseUrl(mockSlackApiServer.apiBaseUrl())
+                                                .build();
+            RestClient pooledClient = RestClient.builder()
+                                                .requestFactory(slackHttpTransport.requestFactory())
+                                                .requestInterceptor(slackHttpTransport)
+                                                .baseUrl(mockSlackApiServer.apiBaseUrl())
+                                                .build();
+
+            // when
+            long legacyNanos = measureNanos(legacyClient, mockSlackApiServer);
+            int legacyConnections = mockSlackApiServer.connectionCount();
+            long pooledNanos = measureNanos(pooledClient, mockSlackApiServer);
+            int pooledConnections = mockSlackApiServer.connectionCount();
+
+            // then
+            System.out.printf(
+                    "slack http transport (%,d requests, concurrency %d): 기본 전송 %.1fms / 연결 %d개, 공유 연결 풀 %.1fms / 연결 %d개%n",
+                    MEASURE_REQUESTS,
+                    CONCURRENCY,
+                    legacyNanos / 1_000_000.0d,
+                    legacyConnections,
+                    pooledNanos / 1_000_000.0d,
+                    pooledConnections
+            );
+            assertThat(pooledConnections).isLessThan(legacyConnections)
+                                         .isLessThanOrEqualTo(CONCURRENCY);
+        }
+    }
+
+    private long measureNanos(RestClient restClient, MockSlackApiServer mockSlackApiServer) {
+        send(restClient, WARMUP_REQUESTS);
+        mockSlackApiServer.resetCounters();
+
+        long startedNanos = System.nanoTime();
+        send(restClient, MEASURE_REQUESTS);
+        return System.nanoTime() - startedNanos;
+    }
+
+    private void send(RestClient restClient, int requests) {
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY)) {
+            List<CompletableFuture<Void>> calls = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                calls.add(CompletableFuture.runAsync(
+                        () -> restClient.post()
+                                        .uri("chat.postMessage")
+                                        .body("{\"channel\":\"C1\",\"text\":\"benchmark\"}")
+                                        .retrieve()
+                                        .toBodilessEntity(),
+                        executor
+                ));
+            }
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.slack.bot.infrastructure.common.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.slack.bot.global.config.properties.SlackHttpTransportProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SlackHttpTransportTest {
+
+    SimpleMeterRegistry meterRegistry;
+    MockSlackApiServer mockSlackApiServer;
+    SlackHttpTransport slackHttpTransport;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        mockSlackApiServer = MockSlackApiServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (slackHttpTransport != null) {
+            slackHttpTransport.close();
+        }
+        mockSlackApiServer.close();
+    }
+
+    @Test
+    void Slack_API_호출_지연_시간을_메서드와_상태_코드별로_기록한다() {
+        // given
+        RestClient restClient = createRestClient(new SlackHttpTransportProperties());
+
+        // when
+        restClient.post().uri("chat.postMessage").body("{}").retrieve().toBodilessEntity();
+        restClient.post().uri("chat.postMessage").body("{}").retrieve().toBodilessEntity();
+        restClient.post().uri("views.open").body("{}").retrieve().toBodilessEntity();
+
+        // then
+        assertAll(
+                () -> assertThat(requestCount("chat.postMessage", "200")).isEqualTo(2L),
+                () -> assertThat(requestCount("views.open", "200")).isEqualTo(1L),
+                () -> assertThat(slackHttpTransport.inFlightRequests()).isZero(),
+                () -> assertThat(meterRegistry.get("slack.api.client.pool.saturation").gauge().value()).isZero()
+        );
+    }
+
+    @Test
+    void 오류_상태_코드는_메서드별_오류_수로_기록한다() {
+        // given
+        RestClient restClient = createRestClient(new SlackHttpTransportProperties());
+        mockSlackApiServer.respondWith("chat.postMessage", 429);
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(
+                        () -> restClient.post().uri("chat.postMessage").body("{}").retrieve().toBodilessEntity()
+                ).isInstanceOf(HttpClientErrorException.TooManyRequests.class),
+                () -> assertThat(errorCount("chat.postMessage", "429")).isEqualTo(1.0d),
+                () -> assertThat(requestCount("chat.postMessage", "429")).isEqualTo(1L)
+        );
+    }
+
+    @Test
+    void Slack_API_경로가_아닌_요청은_other_메서드로_기록한다() {
+        // given
+        createRestClient(new SlackHttpTransportProperties());
+        RestClient webhookClient = RestClient.builder()
+                                             .requestFactory(slackHttpTransport.requestFactory(
+                                                     Duration.ofSeconds(3L),
+                                                     Duration.ofSeconds(5L)
+                                             ))
+                                             .requestInterceptor(slackHttpTransport)
+                                             .build();
+
+        // when
+        webhookClient.post()
+                     .uri(mockSlackApiServer.baseUrl() + "/services/T1/B1/secret")
+                     .body("{}")
+                     .retrieve()
+                     .toBodilessEntity();
+
+        // then
+        assertThat(requestCount("other", "200")).isEqualTo(1L);
+    }
+
+    @Test
+    void 응답_본문을_닫을_때까지_연결_허가를_유지한다() throws Exception {
+        // given
+        RestClient restClient = createRestClient(new SlackHttpTransportProperties(1_000L, 3_000L, 1, 0L, false));
+        ClientHttpResponse response = restClient.post()
+                                                .uri("chat.postMessage")
+                                                .body("{}")
+                                                .exchange((request, exchangeResponse) -> exchangeResponse, false);
+
+        // when
+        int inFlightBeforeClose = slackHttpTransport.inFlightRequests();
+        Throwable rejectedBeforeClose = catchThrowable(
+                () -> restClient.post().uri("views.open").body("{}").retrieve().toBodilessEntity()
+        );
+        response.getBody().readAllBytes();
+        response.close();
+        response.close();
+
+        // then
+        assertAll(
+                () -> assertThat(inFlightBeforeClose).isEqualTo(1),
+                () -> assertThat(rejectedBeforeClose).isInstanceOf(ResourceAccessException.class)
+                                                     .hasMessageContaining("Slack HTTP 연결 풀이 포화되었습니다."),
+                () -> assertThat(slackHttpTransport.inFlightRequests()).isZero(),
+                () -> assertThat(meterRegistry.get("slack.api.client.pool.saturation").gauge().value()).isZero()
+        );
+    }
+
+    @Test
+    void 연결_풀이_포화되면_대기_시간이_지난_요청을_거절한다() {
+        // given
+        RestClient restClient = createRestClient(new SlackHttpTransportProperties(1_000L, 3_000L, 1, 0L, false));
+        CountDownLatch responseGate = mockSlackApiServer.holdResponses();
+        CompletableFuture<Void> occupying = CompletableFuture.runAsync(
+                () -> restClient.post().uri("chat.postMessage").body("{}").retrieve().toBodilessEntity()
+        );
+        await().atMost(Duration.ofSeconds(3L))
+               .until(() -> slackHttpTransport.inFlightRequests() == 1);
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(
+                        () -> restClient.post().uri("views.open").body("{}").retrieve().toBodilessEntity()
+                ).isInstanceOf(ResourceAccessException.class)
+                 .hasMessageContaining("Slack HTTP 연결 풀이 포화되었습니다."),
+                () -> assertThat(meterRegistry.get("slack.api.client.pool.saturation").gauge().value()).isEqualTo(1.0d),
+                () -> assertThat(errorCount("views.open", "pool_saturated")).isEqualTo(1.0d)
+        );
+        responseGate.countDown();
+        occupying.join();
+    }
+
+    @Test
+    void 응답이_읽기_제한_시간을_넘으면_요청을_실패시킨다() {
+        // given
+        RestClient restClient = createRestClient(new SlackHttpTransportProperties(1_000L, 200L, 4, 500L, false));
+        CountDownLatch responseGate = mockSlackApiServer.holdResponses();
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(
+                        () -> restClient.post().uri("chat.postMessage").body("{}").retrieve().toBodilessEntity()
+                ).isInstanceOf(ResourceAccessException.class),
+                () -> assertThat(slackHttpTransport.inFlightRequests()).isZero()
+        );
+        responseGate.countDown();
+    }
+
+    private RestClient createRestClient(SlackHttpTransportProperties properties) {
+        slackHttpTransport = new SlackHttpTransport(meterRegistry, properties);
+
+        return RestClient.builder()
+                         .requestFactory(slackHttpTransport.requestFactory())
+                         .requestInterceptor(slackHttpTransport)
+                         .baseUrl(mockSlackApiServer.apiBaseUrl())
+                         .build();
+    }
+
+    private long requestCount(String method, String status) {
+        return meterRegistry.get("slack.api.client.requests")
+                            .tag("method", method)
+                            .tag("status", status)
+                            .timer()
+                            .count();
+    }
+
+    private double errorCount(String method, String error) {
+        return meterRegistry.get("slack.api.client.errors")
+                            .tag("method", method)
+                            .tag("error", error)
+                            .counter()
+                            .count();
+    }
+}
@@ -0,0 +1,120 @@
+package com.slack.bot.infrastructure.common.lease.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.slack.bot.application.IntegrationTest;
+import com.slack.bot.infrastructure.common.lease.repository.SchedulerLeaseRepository;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+
+@IntegrationTest
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SchedulerLeaseRepositoryAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2026-04-13T00:00:00Z");
+
+    @Autowired
+    SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @Test
+    void lease가_없으면_획득한다() {
+        // when
+        boolean actual = schedulerLeaseRepository.tryAcquire("box-cleanup", "node-a", NOW, NOW.plusSeconds(60L));
+
+        // then
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    void 만료되지_않은_다른_소유자의_lease는_획득하지_못한다() {
+        // given
+        schedulerLeaseRepository.tryAcquire("box-cleanup", "node-a", NOW, NOW.plusSeconds(60L));
+
+        // when
+        boolean actual = schedulerLeaseRepository.tryAcquire(
+                "box-cleanup",
+                "node-b",
+                NOW.plusSeconds(30L),
+                NOW.plusSeconds(90L)
+        );
+
+        // then
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    void 같은_소유자는_lease를_갱신하고_만료된_lease는_다른_소유자가_가져간다() {
+        // given
+        schedulerLeaseRepository.tryAcquire("box-cleanup", "node-a", NOW, NOW.plusSeconds(60L));
+
+        // when
+        boolean renewed = schedulerLeaseRepository.tryAcquire(
+                "box-cleanup",
+                "node-a",
+                NOW.plusSeconds(30L),
+                NOW.plusSeconds(90L)
+        );
+        boolean takenBeforeExpiry = schedulerLeaseRepository.tryAcquire(
+                "box-cleanup",
+                "node-b",
+                NOW.plusSeconds(60L),
+                NOW.plusSeconds(120L)
+        );
+        boolean takenAfterExpiry = schedulerLeaseRepository.tryAcquire(
+                "box-cleanup",
+                "node-b",
+                NOW.plusSeconds(90L),
+                NOW.plusSeconds(150L)
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(renewed).isTrue(),
+                () -> assertThat(takenBeforeExpiry).isFalse(),
+                () -> assertThat(takenAfterExpiry).isTrue()
+        );
+    }
+
+    @Test
+    void 소유자가_release하면_다른_소유자가_즉시_획득한다() {
+        // given
+        schedulerLeaseRepository.tryAcquire("box-cleanup", "node-a", NOW, NOW.plusSeconds(60L));
+
+        // when
+        schedulerLeaseRepository.release("box-cleanup", "node-b");
+        boolean beforeOwnerRelease = schedulerLeaseRepository.tryAcquire(
+                "box-cleanup",
+                "node-b",
+                NOW,
+                NOW.plusSeconds(60L)
+        );
+        schedulerLeaseRepository.release("box-cleanup", "node-a");
+        boolean afterOwnerRelease = schedulerLeaseRepository.tryAcquire(
+                "box-cleanup",
+                "node-b",
+                NOW,
+                NOW.plusSeconds(60L)
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(beforeOwnerRelease).isFalse(),
+                () -> assertThat(afterOwnerRelease).isTrue()
+        );
+    }
+
+    @Test
+    void leaseUntil이_now_이후가_아니면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> schedulerLeaseRepository.tryAcquire("box-cleanup", "node-a", NOW, NOW))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasMessage("leaseUntil은 now 이후여야 합니다.");
+    }
+}
@@ -0,0 +1,125 @@
+package com.slack.bot.infrastructure.common.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+@Tag("benchmark")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BoxClaimIndexBenchmarkTest {
+
+    private static final int PENDING_ROWS = 50;
+    private static final int MEASURE_ROUNDS = 20;
+    private static final String CLAIM_SQL = """
+            SELECT id
+            FROM slack_notification_outbox
+            WHERE status IN ('PENDING', 'RETRY_PENDING')
+            ORDER BY id ASC
+            LIMIT 50
+            FOR UPDATE
+            """;
+
+    EmbeddedDatabase database;
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("classpath:sql/schema.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void 완료된_row가_많아도_인덱스가_있으면_claim_지연이_줄어든다() {
+        // given
+        long completedRows = Long.getLong("benchmark.rows", 1_000_000L);
+        insertOutboxRows(1L, completedRows, "SENT");
+        insertOutboxRows(completedRows + 1L, completedRows + PENDING_ROWS, "PENDING");
+
+        // when
+        long withoutIndexNanos = measureClaimNanos();
+        migrate();
+        long withIndexNanos = measureClaimNanos();
+
+        // then
+        System.out.printf(
+                "slack_notification_outbox claim (완료 row %,d건): 인덱스 없음 %.3fms, 인덱스 적용 %.3fms%n",
+                completedRows,
+                withoutIndexNanos / 1_000_000.0d,
+                withIndexNanos / 1_000_000.0d
+        );
+        assertThat(withIndexNanos).isLessThan(withoutIndexNanos);
+    }
+
+    private void insertOutboxRows(long fromId, long toId, String status) {
+        jdbcTemplate.update(
+                """
+                INSERT INTO slack_notification_outbox (
+                    id, created_at, updated_at, message_type, idempotency_key, team_id, channel_id,
+                    user_id_state, user_id, text_state, text, blocks_json_state, blocks_json,
+                    fallback_text_state, fallback_text, status, processing_attempt, processing_lease_state,
+                    sent_time_state, sent_at, failed_time_state, failure_state
+                )
+                SELECT X, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'CHANNEL_TEXT', 'benchmark-' || X, 'T1', 'C1',
+                       'ABSENT', '', 'PRESENT', 'text', 'ABSENT', '',
+                       'ABSENT', '', ?, 1, 'ABSENT',
+                       CASE WHEN ? = 'SENT' THEN 'PRESENT' ELSE 'ABSENT' END,
+                       CASE WHEN ? = 'SENT' THEN CURRENT_TIMESTAMP ELSE NULL END,
+                       'ABSENT', 'ABSENT'
+                FROM SYSTEM_RANGE(?, ?)
+                """,
+                status,
+                status,
+                status,
+                fromId,
+                toId
+        );
+    }
+
+    private long measureClaimNanos() {
+        jdbcTemplate.queryForList(CLAIM_SQL, Long.class);
+
+        long[] elapsedNanos = new long[MEASURE_ROUNDS];
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long startedNanos = System.nanoTime();
+            List<Long> claimedIds = jdbcTemplate.queryForList(CLAIM_SQL, Long.class);
+            elapsedNanos[i] = System.nanoTime() - startedNanos;
+
+            assertThat(claimedIds).hasSize(PENDING_ROWS);
+        }
+
+        Arrays.sort(elapsedNanos);
+        return elapsedNanos[MEASURE_ROUNDS / 2];
+    }
+
+    private void migrate() {
+        Flyway.configure()
+              .dataSource(database)
+              .locations("classpath:db/migration")
+              .baselineOnMigrate(true)
+              .baselineVersion("0")
+              .load()
+              .migrate();
+    }
+}
@@ -0,0 +1,227 @@
+package com.slack.bot.infrastructure.common.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BoxIndexMigrationTest {
+
+    EmbeddedDatabase database;
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("classpath:sql/schema.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void 기존_스키마에_baseline을_잡고_마이그레이션을_적용한다() {
+        // when
+        MigrateResult actual = migrate();
+
+        // then
+        assertAll(
+                () -> assertThat(actual.success).isTrue(),
+                () -> assertThat(actual.migrationsExecuted).isEqualTo(5),
+                () -> assertThat(actual.targetSchemaVersion).isEqualTo("5")
+        );
+    }
+
+    @Test
+    void 마이그레이션_후_claim_쿼리는_claim_인덱스를_사용한다() {
+        // given
+        migrate();
+
+        // when
+        String slackInteractionInboxPlan = explain(
+                """
+                SELECT id
+                FROM slack_interaction_inbox
+                WHERE interaction_type = 'BLOCK_ACTIONS'
+                  AND status IN ('PENDING', 'RETRY_PENDING')
+                ORDER BY id ASC
+                LIMIT 1
+                """
+        );
+        String slackNotificationOutboxPlan = explain(
+                """
+                SELECT id
+                FROM slack_notification_outbox
+                WHERE status IN ('PENDING', 'RETRY_PENDING')
+                ORDER BY id ASC
+                LIMIT 50
+                """
+        );
+        String reviewRequestInboxPlan = explain(
+                """
+                SELECT id
+                FROM review_request_inbox
+                WHERE status IN ('PENDING', 'RETRY_PENDING')
+                  AND available_at <= CURRENT_TIMESTAMP
+                ORDER BY available_at ASC, id ASC
+                LIMIT 1
+                """
+        );
+        String reviewNotificationOutboxPlan = explain(
+                """
+                SELECT id
+                FROM review_notification_outbox
+                WHERE status IN ('PENDING', 'RETRY_PENDING')
+                ORDER BY id ASC
+                LIMIT 1
+                """
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(slackInteractionInboxPlan).containsIgnoringCase("idx_slack_interaction_inbox_claim"),
+                () -> assertThat(slackNotificationOutboxPlan).containsIgnoringCase("idx_slack_notification_outbox_claim"),
+                () -> assertThat(reviewRequestInboxPlan).containsIgnoringCase("idx_review_request_inbox_claim"),
+                () -> assertThat(reviewNotificationOutboxPlan).containsIgnoringCase("idx_review_notification_outbox_claim")
+        );
+    }
+
+    @Test
+    void 마이그레이션_후_timeout_복구_쿼리는_recovery_인덱스를_사용한다() {
+        // given
+        migrate();
+
+        // when
+        String slackNotificationOutboxPlan = explain(
+                """
+                SELECT id
+                FROM slack_notification_outbox
+                WHERE status = 'PROCESSING'
+                  AND processing_started_at < CURRENT_TIMESTAMP
+                ORDER BY processing_started_at ASC, id ASC
+                LIMIT 100
+                """
+        );
+        String reviewRequestInboxPlan = explain(
+                """
+                SELECT id
+                FROM review_request_inbox
+                WHERE status = 'PROCESSING'
+                  AND processing_started_at < CURRENT_TIMESTAMP
+                ORDER BY processing_started_at ASC, id ASC
+                LIMIT 100
+                """
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(slackNotificationOutboxPlan).containsIgnoringCase("idx_slack_notification_outbox_recovery"),
+                () -> assertThat(reviewRequestInboxPlan).containsIgnoringCase("idx_review_request_inbox_recovery")
+        );
+    }
+
+    @Test
+    void 마이그레이션_후_테스트_스키마와_같은_리마인더_lease_컬럼과_polling_hint_테이블을_갖는다() {
+        // given
+        migrate();
+
+        // when
+        Integer processingStartedAtColumnCount = jdbcTemplate.queryForObject(
+                """
+                SELECT COUNT(*)
+                FROM INFORMATION_SCHEMA.COLUMNS
+                WHERE TABLE_NAME = 'REVIEW_REMINDERS'
+                  AND COLUMN_NAME = 'PROCESSING_STARTED_AT'
+                """,
+                Integer.class
+        );
+        Integer pollingHintTableCount = jdbcTemplate.queryForObject(
+                """
+                SELECT COUNT(*)
+                FROM INFORMATION_SCHEMA.TABLES
+                WHERE TABLE_NAME = 'POLLING_HINTS'
+                """,
+                Integer.class
+        );
+        String reviewReminderDuePlan = explain(
+                """
+                SELECT id
+                FROM review_reminders
+                WHERE fired_at IS NULL
+                  AND scheduled_at <= CURRENT_TIMESTAMP
+                ORDER BY scheduled_at ASC
+                LIMIT 50
+                """
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(processingStartedAtColumnCount).isEqualTo(1),
+                () -> assertThat(pollingHintTableCount).isEqualTo(1),
+                () -> assertThat(reviewReminderDuePlan).containsIgnoringCase("idx_review_reminders_due")
+        );
+    }
+
+    @Test
+    void 테스트_스키마는_모든_마이그레이션_파일을_적용한다() throws IOException {
+        // given
+        Resource[] migrations = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/*.sql");
+        YamlPropertiesFactoryBean yamlPropertiesFactoryBean = new YamlPropertiesFactoryBean();
+        yamlPropertiesFactoryBean.setResources(new ClassPathResource("application.yml"));
+        Properties testProperties = yamlPropertiesFactoryBean.getObject();
+
+        // when
+        List<String> schemaLocations = testProperties.stringPropertyNames()
+                                                     .stream()
+                                                     .filter(name -> name.startsWith("spring.sql.init.schema-locations"))
+                                                     .map(testProperties::getProperty)
+                                                     .toList();
+
+        // then
+        assertThat(schemaLocations).containsAll(
+                Arrays.stream(migrations)
+                      .map(migration -> "classpath:db/migration/" + migration.getFilename())
+                      .toList()
+        );
+    }
+
+    private MigrateResult migrate() {
+        return Flyway.configure()
+                     .dataSource(database)
+                     .locations("classpath:db/migration")
+                     .baselineOnMigrate(true)
+                     .baselineVersion("0")
+                     .load()
+                     .migrate();
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
@@ -396,6 +396,45 @@ class SlackNotificationOutboxTest {
         );
     }
 
+    @Test
+    void releaseClaim은_첫_claim이면_attempt를_되돌리고_PENDING으로_반환한다() {
+        // given
+        SlackNotificationOutbox outbox = pendingOutbox();
+        setProcessingState(outbox, Instant.parse("2026-02-15T00:00:00Z"), 1);
+
+        // when
+        outbox.releaseClaim(Instant.parse("2026-02-15T00:00:01Z"), "rate limited");
+
+        // then
+        assertAll(
+                () -> assertThat(outbox.getStatus()).isEqualTo(SlackNotificationOutboxStatus.PENDING),
+                () -> assertThat(outbox.getProcessingAttempt()).isZero(),
+                () -> assertThat(outbox.getProcessingLease().isClaimed()).isFalse(),
+                () -> assertThat(outbox.getFailedTime().isPresent()).isFalse(),
+                () -> assertThat(outbox.getFailure().isPresent()).isFalse()
+        );
+    }
+
+    @Test
+    void releaseClaim은_재시도_claim이면_attempt를_되돌리고_RETRY_PENDING으로_반환한다() {
+        // given
+        SlackNotificationOutbox outbox = pendingOutbox();
+        setProcessingState(outbox, Instant.parse("2026-02-15T00:00:00Z"), 2);
+        Instant releasedAt = Instant.parse("2026-02-15T00:00:01Z");
+
+        // when
+        outbox.releaseClaim(releasedAt, "rate limited");
+
+        // then
+        assertAll(
+                () -> assertThat(outbox.getStatus()).isEqualTo(SlackNotificationOutboxStatus.RETRY_PENDING),
+                () -> assertThat(outbox.getProcessingAttempt()).isEqualTo(1),
+                () -> assertThat(outbox.getProcessingLease().isClaimed()).isFalse(),
+                () -> assertThat(outbox.getFailedTime().occurredAt()).isEqualTo(releasedAt),
+                () -> assertThat(outbox.getFailure().type()).isEqualTo(SlackInteractionFailureType.RETRYABLE)
+        );
+    }
+
     @Test
     void markRetryPending은_failureReason이_null이면_예외를_던진다() {
         // given
@@ -6,12 +6,14 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import com.slack.bot.application.IntegrationTest;
 import com.slack.bot.infrastructure.interaction.box.SlackInteractionFailureType;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutbox;
+import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxClaimExclusion;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxHistory;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxMessageType;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxStatus;
 import com.slack.bot.infrastructure.interaction.box.out.repository.SlackNotificationOutboxRepository;
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
@@ -31,10 +33,10 @@ class SlackNotificationOutboxPersistenceRegressionTest {
     NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     @Test
-    void claimNextId는_retry_pending_outbox를_processing으로_동기화한다() {
+    void claimBatch는_retry_pending_outbox를_processing으로_동기화한다() {
         // given
-        SlackNotificationOutbox excludedOutbox = slackNotificationOutboxRepository.save(
-                createOutbox("claim-excluded-regression")
+        SlackNotificationOutbox pendingOutbox = slackNotificationOutboxRepository.save(
+                createOutbox("claim-pending-regression")
         );
         SlackNotificationOutbox retryPendingOutbox = createRetryPendingOutbox(
                 "claim-retry-regression",
@@ -44,10 +46,9 @@ class SlackNotificationOutboxPersistenceRegressionTest {
         Instant processingStartedAt = Instant.parse("2026-02-24T00:01:00Z");
 
         // when
-        assertThat(slackNotificationOutboxRepository.claimNextId(
-                processingStartedAt,
-                List.of(excludedOutbox.getId())
-        )).hasValue(retryPendingOutbox.getId());
+        assertThat(slackNotificationOutboxRepository.claimBatch(processingStartedAt, 10, List.of()))
+                .extracting(outbox -> outbox.getId())
+                .containsExactly(pendingOutbox.getId(), retryPendingOutbox.getId());
 
         // then
         assertAll(
@@ -75,6 +76,41 @@ class SlackNotificationOutboxPersistenceRegressionTest {
         );
     }
 
+    @Test
+    void claimBatch는_claimLimit만큼만_claim하고_claim된_outbox는_다시_claim하지_않는다() {
+        // given
+        SlackNotificationOutbox firstOutbox = slackNotificationOutboxRepository.save(createOutbox("claim-batch-first"));
+        SlackNotificationOutbox secondOutbox = slackNotificationOutboxRepository.save(createOutbox("claim-batch-second"));
+        SlackNotificationOutbox thirdOutbox = slackNotificationOutboxRepository.save(createOutbox("claim-batch-third"));
+        Instant processingStartedAt = Instant.parse("2026-02-24T00:01:00Z");
+
+        // when
+        List<SlackNotificationOutbox> firstBatch = slackNotificationOutboxRepository.claimBatch(processingStartedAt, 2, List.of());
+        List<SlackNotificationOutbox> secondBatch = slackNotificationOutboxRepository.claimBatch(processingStartedAt, 2, List.of());
+        List<SlackNotificationOutbox> thirdBatch = slackNotificationOutboxRepository.claimBatch(processingStartedAt, 2, List.of());
+
+        // then
+        assertAll(
+                () -> assertThat(firstBatch).extracting(outbox -> outbox.getId())
+                                            .containsExactly(firstOutbox.getId(), secondOutbox.getId()),
+                () -> assertThat(firstBatch).allSatisfy(outbox -> assertAll(
+                        () -> assertThat(outbox.getStatus()).isEqualTo(SlackNotificationOutboxStatus.PROCESSING),
+                        () -> assertThat(outbox.getProcessingAttempt()).isEqualTo(1),
+                        () -> assertThat(outbox.getProcessingLease().startedAt()).isEqualTo(processingStartedAt)
+                )),
+                () -> assertThat(secondBatch).extracting(outbox -> outbox.getId())
+                                             .containsExactly(thirdOutbox.getId()),
+                () -> assertThat(thirdBatch).isEmpty(),
+                () -> assertThat(findOutboxState(firstOutbox.getId()))
+                        .singleElement()
+                        .satisfies(snapshot -> assertAll(
+                                () -> assertThat(snapshot.status()).isEqualTo("PROCESSING"),
+                                () -> assertThat(snapshot.processingAttempt()).isEqualTo(1),
+                                () -> assertThat(snapshot.processingLeaseState()).isEqualTo("CLAIMED")
+                        ))
+        );
+    }
+
     @Test
     void recoverTimeoutProcessing은_timeout_outbox를_복구하고_history_실패_상태를_저장한다() {
         // given
@@ -145,12 +181,64 @@ class SlackNotificationOutboxPersistenceRegressionTest {
         return outbox;
     }
 
+    @Test
+    void claimBatch는_제외된_팀의_지연된_메서드를_쓰는_outbox만_claim하지_않는다() {
+        // given
+        SlackNotificationOutbox throttledOutbox = slackNotificationOutboxRepository.save(
+                createOutbox("claim-batch-throttled", "T1")
+        );
+        SlackNotificationOutbox otherMethodOutbox = slackNotificationOutboxRepository.save(
+                createEphemeralOutbox("claim-batch-other-method", "T1")
+        );
+        SlackNotificationOutbox availableOutbox = slackNotificationOutboxRepository.save(
+                createOutbox("claim-batch-available", "T2")
+        );
+        Instant processingStartedAt = Instant.parse("2026-02-24T00:02:00Z");
+
+        // when
+        List<SlackNotificationOutbox> actual = slackNotificationOutboxRepository.claimBatch(
+                processingStartedAt,
+                10,
+                List.of(new SlackNotificationOutboxClaimExclusion(
+                        "T1",
+                        SlackNotificationOutboxMessageType.usingSlackApiMethod("chat.postMessage")
+                ))
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(actual).extracting(outbox -> outbox.getId())
+                                        .containsExactly(otherMethodOutbox.getId(), availableOutbox.getId()),
+                () -> assertThat(findOutboxState(throttledOutbox.getId()))
+                        .singleElement()
+                        .satisfies(snapshot -> assertAll(
+                                () -> assertThat(snapshot.status()).isEqualTo("PENDING"),
+                                () -> assertThat(snapshot.processingAttempt()).isZero()
+                        ))
+        );
+    }
+
     private SlackNotificationOutbox createOutbox(String idempotencyKey) {
+        return createOutbox(idempotencyKey, "T1");
+    }
+
+    private SlackNotificationOutbox createOutbox(String idempotencyKey, String teamId) {
         return SlackNotificationOutbox.builder()
                                       .messageType(SlackNotificationOutboxMessageType.CHANNEL_TEXT)
                                       .idempotencyKey(idempotencyKey)
-                                      .teamId("T1")
+                                      .teamId(teamId)
+                                      .channelId("C1")
+                                      .text("hello")
+                                      .build();
+    }
+
+    private SlackNotificationOutbox createEphemeralOutbox(String idempotencyKey, String teamId) {
+        return SlackNotificationOutbox.builder()
+                                      .messageType(SlackNotificationOutboxMessageType.EPHEMERAL_TEXT)
+                                      .idempotencyKey(idempotencyKey)
+                                      .teamId(teamId)
                                       .channelId("C1")
+                                      .userId("U1")
                                       .text("hello")
                                       .build();
     }
@@ -11,12 +11,14 @@ import com.slack.bot.infrastructure.common.BoxProcessingLease;
 import com.slack.bot.infrastructure.interaction.box.SlackInteractionFailureType;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxHistory;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutbox;
+import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxCompletion;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxMessageType;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxStatus;
 import com.slack.bot.infrastructure.interaction.box.out.SlackNotificationOutboxStringField;
 import com.slack.bot.infrastructure.interaction.box.out.repository.SlackNotificationOutboxRepository;
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
@@ -116,6 +118,114 @@ class SlackNotificationOutboxRepositoryAdapterTest {
         );
     }
 
+    @Test
+    void saveAllIfProcessingLeaseMatched는_lease가_일치하는_outbox의_상태와_history를_일괄_저장한다() {
+        // given
+        Instant processingStartedAt = Instant.parse("2026-02-24T00:01:00Z");
+        SlackNotificationOutbox sentOutbox = createClaimedOutbox("bulk-complete-sent", processingStartedAt);
+        SlackNotificationOutbox failedOutbox = createClaimedOutbox("bulk-complete-failed", processingStartedAt);
+        SlackNotificationOutboxHistory sentHistory = sentOutbox.markSent(Instant.parse("2026-02-24T00:01:10Z"));
+        SlackNotificationOutboxHistory failedHistory = failedOutbox.markFailed(
+                Instant.parse("2026-02-24T00:01:20Z"),
+                "failure",
+                SlackInteractionFailureType.BUSINESS_INVARIANT
+        );
+
+        // when
+        Set<Long> actual = slackNotificationOutboxRepository.saveAllIfProcessingLeaseMatched(List.of(
+                new SlackNotificationOutboxCompletion(sentOutbox, sentHistory, processingStartedAt),
+                new SlackNotificationOutboxCompletion(failedOutbox, failedHistory, processingStartedAt)
+        ));
+
+        // then
+        List<SlackNotificationOutboxHistory> histories = slackNotificationOutboxHistoryMybatisMapper.findAllDomains();
+        assertAll(
+                () -> assertThat(actual).isEmpty(),
+                () -> assertThat(slackNotificationOutboxMybatisMapper.findDomainById(sentOutbox.getId()))
+                        .get()
+                        .extracting(SlackNotificationOutbox::getStatus)
+                        .isEqualTo(SlackNotificationOutboxStatus.SENT),
+                () -> assertThat(slackNotificationOutboxMybatisMapper.findDomainById(failedOutbox.getId()))
+                        .get()
+                        .extracting(SlackNotificationOutbox::getStatus)
+                        .isEqualTo(SlackNotificationOutboxStatus.FAILED),
+                () -> assertThat(histories)
+                        .extracting(SlackNotificationOutboxHistory::getOutboxId)
+                        .containsExactlyInAnyOrder(sentOutbox.getId(), failedOutbox.getId())
+        );
+    }
+
+    @Test
+    void saveAllIfProcessingLeaseMatched는_lease가_다른_outbox를_저장하지_않고_id를_반환한다() {
+        // given
+        Instant processingStartedAt = Instant.parse("2026-02-24T00:01:00Z");
+        SlackNotificationOutbox matchedOutbox = createClaimedOutbox("bulk-complete-matched", processingStartedAt);
+        SlackNotificationOutbox reclaimedOutbox = createClaimedOutbox("bulk-complete-reclaimed", processingStartedAt);
+        SlackNotificationOutboxHistory matchedHistory = matchedOutbox.markSent(Instant.parse("2026-02-24T00:01:10Z"));
+        SlackNotificationOutboxHistory reclaimedHistory = reclaimedOutbox.markSent(
+                Instant.parse("2026-02-24T00:01:10Z")
+        );
+
+        // when
+        Set<Long> actual = slackNotificationOutboxRepository.saveAllIfProcessingLeaseMatched(List.of(
+                new SlackNotificationOutboxCompletion(matchedOutbox, matchedHistory, processingStartedAt),
+                new SlackNotificationOutboxCompletion(
+                        reclaimedOutbox,
+                        reclaimedHistory,
+                        Instant.parse("2026-02-24T00:00:30Z")
+                )
+        ));
+
+        // then
+        assertAll(
+                () -> assertThat(actual).containsExactly(reclaimedOutbox.getId()),
+                () -> assertThat(slackNotificationOutboxMybatisMapper.findDomainById(matchedOutbox.getId()))
+                        .get()
+                        .extracting(SlackNotificationOutbox::getStatus)
+                        .isEqualTo(SlackNotificationOutboxStatus.SENT),
+                () -> assertThat(slackNotificationOutboxMybatisMapper.findDomainById(reclaimedOutbox.getId()))
+                        .get()
+                        .extracting(SlackNotificationOutbox::getStatus)
+                        .isEqualTo(SlackNotificationOutboxStatus.PROCESSING),
+                () -> assertThat(slackNotificationOutboxHistoryMybatisMapper.findAllDomains())
+                        .extracting(SlackNotificationOutboxHistory::getOutboxId)
+                        .containsExactly(matchedOutbox.getId())
+        );
+    }
+
+    @Test
+    void saveAllIfProcessingLeaseMatched는_같은_outbox가_중복되면_예외를_던진다() {
+        // given
+        Instant processingStartedAt = Instant.parse("2026-02-24T00:01:00Z");
+        SlackNotificationOutbox outbox = createClaimedOutbox("bulk-complete-duplicated", processingStartedAt);
+        SlackNotificationOutboxHistory history = outbox.markSent(Instant.parse("2026-02-24T00:01:10Z"));
+        SlackNotificationOutboxCompletion completion = new SlackNotificationOutboxCompletion(
+                outbox,
+                history,
+                processingStartedAt
+        );
+
+        // when & then
+        assertThatThrownBy(() -> slackNotificationOutboxRepository.saveAllIfProcessingLeaseMatched(
+                List.of(completion, completion)
+        ))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    private SlackNotificationOutbox createClaimedOutbox(String idempotencyKey, Instant processingStartedAt) {
+        SlackNotificationOutbox outbox = SlackNotificationOutbox.builder()
+                                                                .messageType(SlackNotificationOutboxMessageType.CHANNEL_TEXT)
+                                                                .idempotencyKey(idempotencyKey)
+                                                                .teamId("T1")
+                                                                .channelId("C1")
+                                                                .text("hello")
+                                                                .build();
+        SlackNotificationOutbox saved = slackNotificationOutboxRepository.save(outbox);
+        saved.claim(processingStartedAt);
+        return slackNotificationOutboxRepository.save(saved);
+    }
+
     private SlackNotificationOutbox createSentOutbox(String idempotencyKey, Instant sentAt) {
         SlackNotificationOutbox outbox = SlackNotificationOutbox.builder()
                                                                 .messageType(SlackNotificationOutboxMessageType.CHANNEL_TEXT)
@@ -2,6 +2,7 @@ package com.slack.bot.infrastructure.interaction.client;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.springframework.http.HttpMethod.POST;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
@@ -22,9 +23,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.slack.api.model.view.View;
 import com.slack.api.model.view.Views;
+import com.slack.bot.application.interaction.client.exception.SlackApiRateLimitedException;
 import com.slack.bot.application.interaction.client.exception.SlackBotMessageDispatchException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -672,6 +675,83 @@ class NotificationTransportApiClientTest {
         mockServer.verify();
     }
 
+    @Test
+    void 모달을_열면_응답의_view_id를_반환한다() {
+        // given
+        String token = "xoxb-token";
+        View view = Views.view(v -> v.type("modal").callbackId("review_time_submit"));
+        String responseBody = """
+                {
+                  "ok": true,
+                  "view": {
+                    "id": "V123"
+                  }
+                }
+                """;
+
+        mockServer.expect(requestTo("https://slack.com/api/views.open"))
+                  .andExpect(method(POST))
+                  .andRespond(withSuccess(responseBody, MediaType.APPLICATION_JSON));
+
+        // when
+        String actual = notificationApiClient.openModal(token, "TRIGGER_ID", view);
+
+        // then
+        assertThat(actual).isEqualTo("V123");
+    }
+
+    @Test
+    void 열린_모달을_view_id로_갱신한다() {
+        // given
+        String token = "xoxb-token";
+        View view = Views.view(v -> v.type("modal").callbackId("review_time_submit"));
+        String requestBody = """
+                {
+                  "view_id": "V123",
+                  "view": {
+                    "type": "modal",
+                    "callback_id": "review_time_submit"
+                  }
+                }
+                """;
+        String responseBody = """
+                {
+                  "ok": true
+                }
+                """;
+
+        mockServer.expect(requestTo("https://slack.com/api/views.update"))
+                  .andExpect(method(POST))
+                  .andExpect(header("Authorization", "Bearer " + token))
+                  .andExpect(content().json(requestBody, JsonCompareMode.LENIENT))
+                  .andRespond(withSuccess(responseBody, MediaType.APPLICATION_JSON));
+
+        // when & then
+        assertDoesNotThrow(() -> notificationApiClient.updateModal(token, "V123", view));
+        mockServer.verify();
+    }
+
+    @Test
+    void 모달_갱신_실패_시_예외를_던진다() {
+        // given
+        View view = Views.view(v -> v.type("modal").callbackId("review_time_submit"));
+        String responseBody = """
+                {
+                  "ok": false,
+                  "error": "not_found"
+                }
+                """;
+
+        mockServer.expect(requestTo("https://slack.com/api/views.update"))
+                  .andExpect(method(POST))
+                  .andRespond(withSuccess(responseBody, MediaType.APPLICATION_JSON));
+
+        // when & then
+        assertThatThrownBy(() -> notificationApiClient.updateModal("xoxb-token", "V123", view))
+                .isInstanceOf(SlackBotMessageDispatchException.class)
+                .hasMessageContaining("not_found");
+    }
+
     @Test
     void 모달_view_직렬화_실패시_원인_예외를_포함해_던진다() throws Exception {
         // given
@@ -740,6 +820,32 @@ class NotificationTransportApiClientTest {
                 .hasMessageContaining("429");
     }
 
+    @Test
+    void 호출_한도_초과_응답이면_Retry_After를_담은_예외를_던진다() {
+        // given
+        String token = "xoxb-token";
+        String channelId = "C123";
+        String text = "hello";
+
+        mockServer.expect(requestTo("https://slack.com/api/chat.postMessage"))
+                  .andExpect(method(POST))
+                  .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS)
+                          .header("Retry-After", "7")
+                          .contentType(MediaType.APPLICATION_JSON));
+
+        // when & then
+        assertThatThrownBy(() -> notificationApiClient.sendMessage(token, channelId, text))
+                .isInstanceOf(SlackApiRateLimitedException.class)
+                .satisfies(actual -> {
+                    SlackApiRateLimitedException exception = (SlackApiRateLimitedException) actual;
+
+                    assertAll(
+                            () -> assertThat(exception.getApiName()).isEqualTo("chat.postMessage"),
+                            () -> assertThat(exception.getRetryAfter()).isEqualTo(Duration.ofSeconds(7L))
+                    );
+                });
+    }
+
     @Test
     void HTTP_에러_응답에_body가_500자_이상이면_잘라서_반환한다() {
         // given
@@ -0,0 +1,185 @@
+package com.slack.bot.infrastructure.interaction.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.slack.bot.global.config.properties.SlackApiRateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SlackApiRateLimiterTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-24T00:00:00Z");
+
+    Clock clock;
+    SimpleMeterRegistry meterRegistry;
+    SlackApiRateLimiter slackApiRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        meterRegistry = new SimpleMeterRegistry();
+        given(clock.instant()).willReturn(NOW);
+
+        slackApiRateLimiter = new SlackApiRateLimiter(
+                clock,
+                meterRegistry,
+                new SlackApiRateLimitProperties(
+                        20,
+                        5,
+                        30_000L,
+                        Map.of("chat.postMessage", new SlackApiRateLimitProperties.MethodLimit(60, 2))
+                )
+        );
+    }
+
+    @Test
+    void burst_용량을_모두_쓰면_다음_허용량이_채워질_때까지_팀을_지연한다() {
+        // when
+        boolean first = slackApiRateLimiter.tryAcquire("T1", "chat.postMessage");
+        boolean second = slackApiRateLimiter.tryAcquire("T1", "chat.postMessage");
+        boolean third = slackApiRateLimiter.tryAcquire("T1", "chat.postMessage");
+
+        // then
+        assertAll(
+                () -> assertThat(first).isTrue(),
+                () -> assertThat(second).isTrue(),
+                () -> assertThat(third).isFalse(),
+                () -> assertThat(slackApiRateLimiter.remainingThrottle("T1", "chat.postMessage"))
+                        .isEqualTo(Duration.ofSeconds(1L)),
+                () -> assertThat(slackApiRateLimiter.throttledApis())
+                        .containsExactly(new ThrottledSlackApi("T1", "chat.postMessage"))
+        );
+    }
+
+    @Test
+    void 허용량이_다시_채워지면_호출을_허용한다() {
+        // given
+        slackApiRateLimiter.tryAcquire("T1", "chat.postMessage");
+        slackApiRateLimiter.tryAcquire("T1", "chat.postMessage");
+        slackApiRateLimiter.tryAcquire("T1", "chat.postMessage");
+        given(clock.instant()).willReturn(NOW.plusSeconds(1L));
+
+        // when
+        boolean actual = slackApiRateLimiter.tryAcquire("T1", "chat.postMessage");
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isTrue(),
+                () -> assertThat(slackApiRateLimiter.throttledApis()).isEmpty()
+        );
+    }
+
+    @Test
+    void Retry_After만큼_해당_팀만_지연한다() {
+        // given
+        slackApiRateLimiter.throttle("T1", "chat.postMessage", Duration.ofSeconds(10L));
+
+        // when
+        boolean throttledTeam = slackApiRateLimiter.tryAcquire("T1", "chat.postMessage");
+        boolean otherTeam = slackApiRateLimiter.tryAcquire("T2", "chat.postMessage");
+
+        // then
+        assertAll(
+                () -> assertThat(throttledTeam).isFalse(),
+                () -> assertThat(otherTeam).isTrue(),
+                () -> assertThat(slackApiRateLimiter.throttledApis())
+                        .containsExactly(new ThrottledSlackApi("T1", "chat.postMessage")),
+                () -> assertThat(slackApiRateLimiter.remainingThrottle("T1", "chat.postMessage"))
+                        .isEqualTo(Duration.ofSeconds(10L))
+        );
+    }
+
+    @Test
+    void Retry_After가_없으면_기본_지연_시간을_사용한다() {
+        // when
+        slackApiRateLimiter.throttle("T1", "chat.postEphemeral", null);
+
+        // then
+        assertThat(slackApiRateLimiter.remainingThrottle("T1", "chat.postEphemeral"))
+                .isEqualTo(Duration.ofSeconds(30L));
+    }
+
+    @Test
+    void 다른_메서드가_지연되어도_같은_팀의_메서드는_지연_대상에_포함하지_않는다() {
+        // given
+        slackApiRateLimiter.throttle("T1", "chat.postMessage", Duration.ofSeconds(10L));
+
+        // when
+        boolean otherMethod = slackApiRateLimiter.tryAcquire("T1", "chat.postEphemeral");
+
+        // then
+        assertAll(
+                () -> assertThat(otherMethod).isTrue(),
+                () -> assertThat(slackApiRateLimiter.throttledApis())
+                        .containsExactly(new ThrottledSlackApi("T1", "chat.postMessage"))
+        );
+    }
+
+    @Test
+    void 메서드별_지연_팀_수와_버킷_수를_gauge로_노출한다() {
+        // given
+        slackApiRateLimiter.throttle("T1", "chat.postMessage", Duration.ofSeconds(10L));
+        slackApiRateLimiter.tryAcquire("T2", "chat.postMessage");
+
+        // when
+        double throttledTeams = meterRegistry.get("slack.api.rate_limit.throttled_teams")
+                                             .tag("api_method", "chat.postMessage")
+                                             .gauge()
+                                             .value();
+        double buckets = meterRegistry.get("slack.api.rate_limit.buckets")
+                                      .gauge()
+                                      .value();
+
+        // then
+        assertAll(
+                () -> assertThat(throttledTeams).isEqualTo(1.0d),
+                () -> assertThat(buckets).isEqualTo(2.0d),
+                () -> assertThat(meterRegistry.find("slack.api.rate_limit.throttled_teams")
+                                              .tagKeys("team_id")
+                                              .gauges()).isEmpty()
+        );
+    }
+
+    @Test
+    void 유휴_시간이_지나고_허용량이_가득_찬_버킷은_제거한다() {
+        // given
+        slackApiRateLimiter.tryAcquire("T1", "chat.postMessage");
+        slackApiRateLimiter.throttle("T2", "chat.postMessage", Duration.ofMinutes(20L));
+        given(clock.instant()).willReturn(NOW.plus(Duration.ofMinutes(11L)));
+
+        // when
+        slackApiRateLimiter.tryAcquire("T3", "chat.postMessage");
+
+        // then
+        assertAll(
+                () -> assertThat(slackApiRateLimiter.bucketCount()).isEqualTo(2),
+                () -> assertThat(slackApiRateLimiter.remainingThrottle("T2", "chat.postMessage"))
+                        .isEqualTo(Duration.ofMinutes(9L))
+        );
+    }
+
+    @Test
+    void 유휴_시간이_지나지_않은_버킷은_유지한다() {
+        // given
+        slackApiRateLimiter.tryAcquire("T1", "chat.postMessage");
+        given(clock.instant()).willReturn(NOW.plus(Duration.ofMinutes(5L)));
+
+        // when
+        slackApiRateLimiter.tryAcquire("T2", "chat.postMessage");
+
+        // then
+        assertThat(slackApiRateLimiter.bucketCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,178 @@
+package com.slack.bot.infrastructure.interaction.dm.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.slack.bot.global.config.properties.DirectMessageChannelCacheProperties;
+import com.slack.bot.infrastructure.interaction.dm.repository.DirectMessageChannelRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class DirectMessageChannelCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-04-20T00:00:00Z");
+
+    Clock clock;
+    SimpleMeterRegistry meterRegistry;
+    DirectMessageChannelRepository directMessageChannelRepository;
+    DirectMessageChannelCache directMessageChannelCache;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        meterRegistry = new SimpleMeterRegistry();
+        directMessageChannelRepository = mock(DirectMessageChannelRepository.class);
+        given(clock.instant()).willReturn(NOW);
+
+        directMessageChannelCache = new DirectMessageChannelCache(
+                clock,
+                meterRegistry,
+                new DirectMessageChannelCacheProperties(60_000L, 2),
+                directMessageChannelRepository
+        );
+    }
+
+    @Test
+    void 저장소에_없는_채널은_열어서_저장하고_이후에는_로컬_캐시에서_반환한다() {
+        // given
+        AtomicInteger openCount = new AtomicInteger();
+        Supplier<String> opener = () -> {
+            openCount.incrementAndGet();
+            return "D1";
+        };
+
+        // when
+        String first = directMessageChannelCache.resolve("T1", "U1", opener);
+        String second = directMessageChannelCache.resolve("T1", "U1", opener);
+
+        // then
+        assertAll(
+                () -> assertThat(first).isEqualTo("D1"),
+                () -> assertThat(second).isEqualTo("D1"),
+                () -> assertThat(openCount).hasValue(1),
+                () -> verify(directMessageChannelRepository, times(1)).findChannelId("T1", "U1"),
+                () -> verify(directMessageChannelRepository).save("T1", "U1", "D1"),
+                () -> assertThat(requestCount("hit")).isEqualTo(1.0d),
+                () -> assertThat(requestCount("miss")).isEqualTo(1.0d)
+        );
+    }
+
+    @Test
+    void 저장소에_채널이_있으면_채널을_열지_않는다() {
+        // given
+        given(directMessageChannelRepository.findChannelId("T1", "U1")).willReturn(Optional.of("D1"));
+
+        // when
+        String actual = directMessageChannelCache.resolve("T1", "U1", () -> {
+            throw new AssertionError("채널을 열면 안 됩니다.");
+        });
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo("D1"),
+                () -> verify(directMessageChannelRepository, never()).save(any(), any(), any())
+        );
+    }
+
+    @Test
+    void 팀_ID가_없으면_캐시하지_않고_매번_채널을_연다() {
+        // given
+        AtomicInteger openCount = new AtomicInteger();
+
+        // when
+        directMessageChannelCache.resolve(null, "U1", () -> "D" + openCount.incrementAndGet());
+        String actual = directMessageChannelCache.resolve(null, "U1", () -> "D" + openCount.incrementAndGet());
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo("D2"),
+                () -> assertThat(directMessageChannelCache.size()).isZero(),
+                () -> verify(directMessageChannelRepository, never()).findChannelId(any(), any())
+        );
+    }
+
+    @Test
+    void 채널을_제거하면_저장소와_로컬_캐시에서_모두_제거하고_다음_조회에서_다시_연다() {
+        // given
+        directMessageChannelCache.resolve("T1", "U1", () -> "D-OLD");
+
+        // when
+        directMessageChannelCache.evictChannel("T1", "D-OLD");
+        String actual = directMessageChannelCache.resolve("T1", "U1", () -> "D-NEW");
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo("D-NEW"),
+                () -> verify(directMessageChannelRepository).deleteByChannelId("T1", "D-OLD"),
+                () -> verify(directMessageChannelRepository).save("T1", "U1", "D-NEW")
+        );
+    }
+
+    @Test
+    void 만료된_DM_채널을_다시_열면_기존_채널을_제거하고_같은_사용자의_새_채널을_반환한다() {
+        // given
+        directMessageChannelCache.resolve("T1", "U1", () -> "D-OLD");
+        given(directMessageChannelRepository.findUserId("T1", "D-OLD")).willReturn(Optional.of("U1"));
+
+        // when
+        Optional<String> actual = directMessageChannelCache.reopen("T1", "D-OLD", userId -> "D-NEW-" + userId);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).contains("D-NEW-U1"),
+                () -> verify(directMessageChannelRepository).deleteByChannelId("T1", "D-OLD"),
+                () -> verify(directMessageChannelRepository).save("T1", "U1", "D-NEW-U1")
+        );
+    }
+
+    @Test
+    void DM_채널이_아니면_다시_열지_않는다() {
+        // given
+        given(directMessageChannelRepository.findUserId("T1", "C1")).willReturn(Optional.empty());
+
+        // when
+        Optional<String> actual = directMessageChannelCache.reopen("T1", "C1", userId -> {
+            throw new AssertionError("채널을 열면 안 됩니다.");
+        });
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void TTL이_지나면_저장소에서_다시_조회한다() {
+        // given
+        given(directMessageChannelRepository.findChannelId("T1", "U1")).willReturn(Optional.of("D1"));
+        directMessageChannelCache.resolve("T1", "U1", () -> "D-UNUSED");
+        given(clock.instant()).willReturn(NOW.plusSeconds(60L));
+
+        // when
+        directMessageChannelCache.resolve("T1", "U1", () -> "D-UNUSED");
+
+        // then
+        verify(directMessageChannelRepository, times(2)).findChannelId("T1", "U1");
+    }
+
+    private double requestCount(String result) {
+        return meterRegistry.get("slack.dm.channel_cache.requests")
+                            .tag("result", result)
+                            .counter()
+                            .count();
+    }
+}
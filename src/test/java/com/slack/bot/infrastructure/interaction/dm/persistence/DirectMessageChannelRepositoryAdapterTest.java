@@ -0,0 +1,89 @@
+package com.slack.bot.infrastructure.interaction.dm.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.slack.bot.application.IntegrationTest;
+import com.slack.bot.infrastructure.interaction.dm.repository.DirectMessageChannelRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+
+@IntegrationTest
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class DirectMessageChannelRepositoryAdapterTest {
+
+    @Autowired
+    DirectMessageChannelRepository directMessageChannelRepository;
+
+    @Test
+    void 저장한_DM_채널을_조회한다() {
+        // given
+        directMessageChannelRepository.save("T1", "U1", "D1");
+
+        // when
+        Optional<String> actual = directMessageChannelRepository.findChannelId("T1", "U1");
+
+        // then
+        assertThat(actual).contains("D1");
+    }
+
+    @Test
+    void 같은_사용자의_DM_채널을_다시_저장하면_덮어쓴다() {
+        // given
+        directMessageChannelRepository.save("T1", "U1", "D1");
+
+        // when
+        directMessageChannelRepository.save("T1", "U1", "D2");
+
+        // then
+        assertThat(directMessageChannelRepository.findChannelId("T1", "U1")).contains("D2");
+    }
+
+    @Test
+    void 채널_ID로_삭제하면_같은_팀의_해당_채널만_삭제한다() {
+        // given
+        directMessageChannelRepository.save("T1", "U1", "D1");
+        directMessageChannelRepository.save("T1", "U2", "D2");
+        directMessageChannelRepository.save("T2", "U1", "D1");
+
+        // when
+        directMessageChannelRepository.deleteByChannelId("T1", "D1");
+
+        // then
+        assertAll(
+                () -> assertThat(directMessageChannelRepository.findChannelId("T1", "U1")).isEmpty(),
+                () -> assertThat(directMessageChannelRepository.findChannelId("T1", "U2")).contains("D2"),
+                () -> assertThat(directMessageChannelRepository.findChannelId("T2", "U1")).contains("D1")
+        );
+    }
+
+    @Test
+    void 채널_ID로_해당_DM_채널의_사용자를_조회한다() {
+        // given
+        directMessageChannelRepository.save("T1", "U1", "D1");
+        directMessageChannelRepository.save("T2", "U2", "D1");
+
+        // when
+        Optional<String> actual = directMessageChannelRepository.findUserId("T1", "D1");
+
+        // then
+        assertAll(
+                () -> assertThat(actual).contains("U1"),
+                () -> assertThat(directMessageChannelRepository.findUserId("T1", "C1")).isEmpty()
+        );
+    }
+
+    @Test
+    void 채널_ID가_비어_있으면_저장할_수_없다() {
+        // when & then
+        assertThatThrownBy(() -> directMessageChannelRepository.save("T1", "U1", " "))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasMessageContaining("channelId는 비어 있을 수 없습니다.");
+    }
+}
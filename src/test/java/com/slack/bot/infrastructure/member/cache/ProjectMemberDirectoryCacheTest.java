@@ -0,0 +1,184 @@
+package com.slack.bot.infrastructure.member.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.slack.bot.domain.member.ProjectMember;
+import com.slack.bot.domain.member.dto.ProjectMemberMentionDto;
+import com.slack.bot.domain.member.repository.ProjectMemberRepository;
+import com.slack.bot.domain.member.vo.GithubId;
+import com.slack.bot.global.config.properties.ProjectMemberDirectoryCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ProjectMemberDirectoryCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-24T00:00:00Z");
+
+    Clock clock;
+    SimpleMeterRegistry meterRegistry;
+    ProjectMemberRepository projectMemberRepository;
+    ProjectMemberDirectoryCache projectMemberDirectoryCache;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        meterRegistry = new SimpleMeterRegistry();
+        projectMemberRepository = mock(ProjectMemberRepository.class);
+        given(clock.instant()).willReturn(NOW);
+
+        projectMemberDirectoryCache = new ProjectMemberDirectoryCache(
+                clock,
+                meterRegistry,
+                new ProjectMemberDirectoryCacheProperties(60_000L, 10),
+                projectMemberRepository
+        );
+    }
+
+    @Test
+    void 여러_Github_ID를_한_번의_조회로_가져오고_이후에는_캐시에서_반환한다() {
+        // given
+        given(projectMemberRepository.findByGithubUsers("T1", Set.of("author-gh", "reviewer-gh")))
+                .willReturn(List.of(
+                        createMember("T1", "U1", "작성자", "author-gh"),
+                        createMember("T1", "U2", "리뷰어", "reviewer-gh")
+                ));
+
+        // when
+        Map<String, ProjectMemberMentionDto> first = projectMemberDirectoryCache.findByGithubIds(
+                "T1",
+                List.of("author-gh", "reviewer-gh")
+        );
+        Map<String, ProjectMemberMentionDto> second = projectMemberDirectoryCache.findByGithubIds(
+                "T1",
+                List.of("author-gh", "reviewer-gh")
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(first).containsOnlyKeys("author-gh", "reviewer-gh"),
+                () -> assertThat(second.get("reviewer-gh").mention()).isEqualTo("<@U2>"),
+                () -> verify(projectMemberRepository, times(1)).findByGithubUsers(anyString(), any()),
+                () -> assertThat(requestCount("hit")).isEqualTo(2.0d),
+                () -> assertThat(requestCount("miss")).isEqualTo(2.0d)
+        );
+    }
+
+    @Test
+    void 캐시에_없는_Github_ID만_저장소에서_조회한다() {
+        // given
+        given(projectMemberRepository.findByGithubUsers("T1", Set.of("author-gh")))
+                .willReturn(List.of(createMember("T1", "U1", "작성자", "author-gh")));
+        given(projectMemberRepository.findByGithubUsers("T1", Set.of("reviewer-gh")))
+                .willReturn(List.of(createMember("T1", "U2", "리뷰어", "reviewer-gh")));
+        projectMemberDirectoryCache.findByGithubIds("T1", List.of("author-gh"));
+
+        // when
+        Map<String, ProjectMemberMentionDto> actual = projectMemberDirectoryCache.findByGithubIds(
+                "T1",
+                List.of("author-gh", "reviewer-gh")
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(actual).containsOnlyKeys("author-gh", "reviewer-gh"),
+                () -> verify(projectMemberRepository, times(1)).findByGithubUsers("T1", Set.of("author-gh")),
+                () -> verify(projectMemberRepository, times(1)).findByGithubUsers("T1", Set.of("reviewer-gh"))
+        );
+    }
+
+    @Test
+    void 매핑되지_않은_Github_ID는_캐시하지_않는다() {
+        // given
+        given(projectMemberRepository.findByGithubUsers("T1", Set.of("unknown-gh"))).willReturn(
+                List.of(),
+                List.of(createMember("T1", "U3", "신규", "unknown-gh"))
+        );
+        projectMemberDirectoryCache.findByGithubIds("T1", List.of("unknown-gh"));
+
+        // when
+        Map<String, ProjectMemberMentionDto> actual = projectMemberDirectoryCache.findByGithubIds(
+                "T1",
+                List.of("unknown-gh")
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(actual.get("unknown-gh").slackUserId()).isEqualTo("U3"),
+                () -> verify(projectMemberRepository, times(2)).findByGithubUsers("T1", Set.of("unknown-gh"))
+        );
+    }
+
+    @Test
+    void evictTeam은_해당_팀의_멤버만_제거한다() {
+        // given
+        given(projectMemberRepository.findByGithubUsers("T1", Set.of("gh-1")))
+                .willReturn(List.of(createMember("T1", "U1", "팀1", "gh-1")));
+        given(projectMemberRepository.findByGithubUsers("T2", Set.of("gh-1")))
+                .willReturn(List.of(createMember("T2", "U9", "팀2", "gh-1")));
+        projectMemberDirectoryCache.findByGithubIds("T1", List.of("gh-1"));
+        projectMemberDirectoryCache.findByGithubIds("T2", List.of("gh-1"));
+
+        // when
+        projectMemberDirectoryCache.evictTeam("T1");
+
+        // then
+        assertAll(
+                () -> assertThat(projectMemberDirectoryCache.size()).isEqualTo(1),
+                () -> assertThat(projectMemberDirectoryCache.findByGithubIds("T2", List.of("gh-1")).get("gh-1").slackUserId())
+                        .isEqualTo("U9"),
+                () -> verify(projectMemberRepository, times(1)).findByGithubUsers("T2", Set.of("gh-1"))
+        );
+    }
+
+    @Test
+    void 비어_있는_Github_ID는_저장소를_조회하지_않는다() {
+        // when
+        Map<String, ProjectMemberMentionDto> actual = projectMemberDirectoryCache.findByGithubIds(
+                "T1",
+                Arrays.asList(null, " ")
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEmpty(),
+                () -> verify(projectMemberRepository, never()).findByGithubUsers(anyString(), any())
+        );
+    }
+
+    private double requestCount(String result) {
+        return meterRegistry.get("review.member.directory_cache.requests")
+                            .tag("result", result)
+                            .counter()
+                            .count();
+    }
+
+    private ProjectMember createMember(String teamId, String slackUserId, String displayName, String githubId) {
+        ProjectMember projectMember = ProjectMember.builder()
+                                                   .teamId(teamId)
+                                                   .slackUserId(slackUserId)
+                                                   .displayName(displayName)
+                                                   .build();
+
+        projectMember.connectGithubId(GithubId.create(githubId));
+        return projectMember;
+    }
+}
@@ -7,6 +7,7 @@ import com.slack.bot.application.IntegrationTest;
 import com.slack.bot.domain.member.ProjectMember;
 import com.slack.bot.domain.member.repository.ProjectMemberRepository;
 import com.slack.bot.domain.member.vo.GithubId;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -47,4 +48,37 @@ class ProjectMemberRepositoryAdapterTest {
                 ))
         );
     }
+
+    @Test
+    @Sql(scripts = "classpath:sql/fixtures/review/project_member_t1_mapped.sql")
+    void Github_ID_목록으로_팀_멤버를_한_번에_조회한다() {
+        // when
+        List<ProjectMember> actual = projectMemberRepository.findByGithubUsers(
+                "T1",
+                List.of("author-gh", "reviewer-gh-1", "unknown-gh")
+        );
+
+        // then
+        assertThat(actual).extracting(ProjectMember::getSlackUserId)
+                          .containsExactlyInAnyOrder("U1", "U2");
+    }
+
+    @Test
+    @Sql(scripts = "classpath:sql/fixtures/review/project_member_t1_mapped.sql")
+    void 다른_팀의_Github_ID는_조회하지_않는다() {
+        // when
+        List<ProjectMember> actual = projectMemberRepository.findByGithubUsers("T2", List.of("author-gh"));
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void 빈_Github_ID_목록이면_빈_목록을_반환한다() {
+        // when
+        List<ProjectMember> actual = projectMemberRepository.findByGithubUsers("T1", List.of());
+
+        // then
+        assertThat(actual).isEmpty();
+    }
 }
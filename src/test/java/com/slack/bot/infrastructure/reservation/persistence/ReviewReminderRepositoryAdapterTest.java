@@ -0,0 +1,174 @@
+package com.slack.bot.infrastructure.reservation.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.slack.bot.application.IntegrationTest;
+import com.slack.bot.application.interaction.reminder.dto.ReminderScheduleCommandDto;
+import com.slack.bot.domain.reservation.ReviewReminder;
+import com.slack.bot.domain.reservation.repository.ReviewReminderRepository;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@IntegrationTest
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ReviewReminderRepositoryAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-24T00:00:00Z");
+    private static final Instant LEASE_EXPIRED_BEFORE = NOW.minusSeconds(60L);
+
+    @Autowired
+    ReviewReminderRepository reviewReminderRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 기한이_지난_미발송_리마인더만_예약_시각_순서로_claim한다() {
+        // given
+        ReviewReminder later = saveReminder(1L, NOW.minusSeconds(10L));
+        ReviewReminder earlier = saveReminder(2L, NOW.minusSeconds(3_600L));
+        saveReminder(3L, NOW.plusSeconds(10L));
+        ReviewReminder fired = saveReminder(4L, NOW.minusSeconds(20L));
+        fired.markFired(NOW.minusSeconds(5L));
+        reviewReminderRepository.save(fired);
+
+        // when
+        List<ReviewReminder> actual = reviewReminderRepository.claimDue(NOW, LEASE_EXPIRED_BEFORE, 10);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).extracting(ReviewReminder::getId)
+                                        .containsExactly(earlier.getId(), later.getId()),
+                () -> assertThat(findProcessingStartedAt(earlier.getId())).isEqualTo(NOW),
+                () -> assertThat(findProcessingStartedAt(later.getId())).isEqualTo(NOW)
+        );
+    }
+
+    @Test
+    void 처리중인_리마인더는_lease가_만료되기_전까지_다시_claim하지_않는다() {
+        // given
+        ReviewReminder reminder = saveReminder(1L, NOW.minusSeconds(10L));
+        reviewReminderRepository.claimDue(NOW, LEASE_EXPIRED_BEFORE, 10);
+
+        // when
+        List<ReviewReminder> activeLease = reviewReminderRepository.claimDue(
+                NOW.plusSeconds(30L),
+                LEASE_EXPIRED_BEFORE.plusSeconds(30L),
+                10
+        );
+        List<ReviewReminder> expiredLease = reviewReminderRepository.claimDue(
+                NOW.plusSeconds(120L),
+                LEASE_EXPIRED_BEFORE.plusSeconds(120L),
+                10
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(activeLease).isEmpty(),
+                () -> assertThat(expiredLease).extracting(ReviewReminder::getId)
+                                              .containsExactly(reminder.getId()),
+                () -> assertThat(findProcessingStartedAt(reminder.getId())).isEqualTo(NOW.plusSeconds(120L))
+        );
+    }
+
+    @Test
+    void claim_개수는_limit을_넘지_않는다() {
+        // given
+        saveReminder(1L, NOW.minusSeconds(30L));
+        saveReminder(2L, NOW.minusSeconds(20L));
+        saveReminder(3L, NOW.minusSeconds(10L));
+
+        // when
+        List<ReviewReminder> actual = reviewReminderRepository.claimDue(NOW, LEASE_EXPIRED_BEFORE, 2);
+
+        // then
+        assertThat(actual).extracting(ReviewReminder::getReservationId)
+                          .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void claim_limit이_0이하면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> reviewReminderRepository.claimDue(NOW, LEASE_EXPIRED_BEFORE, 0))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasMessageContaining("claimLimit은 0보다 커야 합니다.");
+    }
+
+    @Test
+    void 여러_리마인더를_한_번에_fired로_표시하고_이미_발송된_리마인더는_건너뛴다() {
+        // given
+        ReviewReminder first = saveReminder(1L, NOW.minusSeconds(30L));
+        ReviewReminder second = saveReminder(2L, NOW.minusSeconds(20L));
+        ReviewReminder alreadyFired = saveReminder(3L, NOW.minusSeconds(10L));
+        alreadyFired.markFired(NOW.minusSeconds(5L));
+        reviewReminderRepository.save(alreadyFired);
+
+        // when
+        int actual = reviewReminderRepository.markFiredAll(
+                List.of(first.getId(), second.getId(), alreadyFired.getId()),
+                NOW
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo(2),
+                () -> assertThat(findFiredAt(first.getId())).isEqualTo(NOW),
+                () -> assertThat(findFiredAt(second.getId())).isEqualTo(NOW),
+                () -> assertThat(findFiredAt(alreadyFired.getId())).isEqualTo(NOW.minusSeconds(5L))
+        );
+    }
+
+    @Test
+    void fired로_표시할_리마인더가_없으면_아무것도_갱신하지_않는다() {
+        // when
+        int actual = reviewReminderRepository.markFiredAll(List.of(), NOW);
+
+        // then
+        assertThat(actual).isZero();
+    }
+
+    private ReviewReminder saveReminder(Long reservationId, Instant scheduledAt) {
+        ReminderScheduleCommandDto command = ReminderScheduleCommandDto.builder()
+                                                                       .reservationId(reservationId)
+                                                                       .scheduledAt(scheduledAt)
+                                                                       .teamId("T1")
+                                                                       .channelId("C1")
+                                                                       .pullRequestAuthorSlackId("U-AUTHOR")
+                                                                       .reviewerSlackId("U-REVIEWER")
+                                                                       .pullRequestUrl("https://github.com/org/repo/pull/1")
+                                                                       .pullRequestTitle("Add feature")
+                                                                       .build();
+
+        return reviewReminderRepository.save(command.toReminder());
+    }
+
+    private Instant findProcessingStartedAt(Long reminderId) {
+        Timestamp processingStartedAt = jdbcTemplate.queryForObject(
+                "SELECT processing_started_at FROM review_reminders WHERE id = ?",
+                Timestamp.class,
+                reminderId
+        );
+
+        return processingStartedAt.toInstant();
+    }
+
+    private Instant findFiredAt(Long reminderId) {
+        Timestamp firedAt = jdbcTemplate.queryForObject(
+                "SELECT fired_at FROM review_reminders WHERE id = ?",
+                Timestamp.class,
+                reminderId
+        );
+
+        return firedAt.toInstant();
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import com.slack.bot.application.IntegrationTest;
 import com.slack.bot.infrastructure.common.BoxEventTime;
 import com.slack.bot.infrastructure.common.BoxFailureSnapshot;
+import com.slack.bot.infrastructure.common.BoxHistoryRetention;
 import com.slack.bot.infrastructure.common.BoxProcessingLease;
 import com.slack.bot.infrastructure.review.box.in.ReviewRequestInbox;
 import com.slack.bot.infrastructure.review.box.in.ReviewRequestInboxFailureType;
@@ -436,6 +437,46 @@ class ReviewRequestInboxRepositoryAdapterTest {
         );
     }
 
+    @Test
+    void history를_partition으로_보존하면_inbox만_삭제하고_history는_남긴다() {
+        // given
+        ReviewRequestInbox processedInbox = createProcessedInbox(
+                "cleanup-review-partition",
+                3301L,
+                Instant.parse("2026-02-24T00:01:00Z")
+        );
+
+        // when
+        int deletedCount = reviewRequestInboxRepository.deleteCompletedBefore(
+                Instant.parse("2026-02-24T00:05:00Z"),
+                100,
+                BoxHistoryRetention.DROP_PARTITIONS
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(deletedCount).isEqualTo(1),
+                () -> assertThat(reviewRequestInboxMybatisMapper.findDomainById(processedInbox.getId())).isEmpty(),
+                () -> assertThat(
+                        reviewRequestInboxHistoryMybatisMapper.findDomainsByInboxIdOrderByIdDesc(processedInbox.getId())
+                ).hasSize(1)
+        );
+    }
+
+    @Test
+    void countCompletedBefore는_삭제_대상과_같은_조건의_건수를_센다() {
+        // given
+        createProcessedInbox("cleanup-review-count-1", 3201L, Instant.parse("2026-02-24T00:01:00Z"));
+        createProcessedInbox("cleanup-review-count-2", 3202L, Instant.parse("2026-02-24T00:02:00Z"));
+        createProcessedInbox("cleanup-review-count-3", 3203L, Instant.parse("2026-02-24T00:09:00Z"));
+
+        // when
+        long actual = reviewRequestInboxRepository.countCompletedBefore(Instant.parse("2026-02-24T00:05:00Z"));
+
+        // then
+        assertThat(actual).isEqualTo(2L);
+    }
+
     @Test
     void PROCESSING_타임아웃_복구는_재시도_가능과_소진건을_합쳐_배치_크기만큼만_처리한다() {
         // given
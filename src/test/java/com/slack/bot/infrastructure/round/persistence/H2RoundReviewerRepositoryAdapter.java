@@ -0,0 +1,67 @@
+package com.slack.bot.infrastructure.round.persistence;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+public class H2RoundReviewerRepositoryAdapter extends RoundReviewerRepositoryAdapter {
+
+    public H2RoundReviewerRepositoryAdapter(
+            JPAQueryFactory queryFactory,
+            JpaRoundReviewerRepository jpaRoundReviewerRepository,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate
+    ) {
+        super(queryFactory, jpaRoundReviewerRepository, namedParameterJdbcTemplate);
+    }
+
+    @Override
+    protected String buildUpsertSql(int rowCount) {
+        StringBuilder sql = new StringBuilder(
+                """
+                MERGE INTO round_reviewer AS target
+                USING (
+                    VALUES
+                """
+        );
+
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(",\n");
+            }
+            sql.append("(CAST(:pullRequestRoundId")
+               .append(i)
+               .append(" AS BIGINT), CAST(:reviewerGithubId")
+               .append(i)
+               .append(" AS VARCHAR(255)), CAST(:state")
+               .append(i)
+               .append(" AS VARCHAR(20)))");
+        }
+        sql.append(
+                """
+
+                ) AS source (
+                    pull_request_round_id,
+                    reviewer_github_id,
+                    state
+                )
+                ON target.pull_request_round_id = source.pull_request_round_id
+                   AND target.reviewer_github_id = source.reviewer_github_id
+                WHEN MATCHED THEN
+                    UPDATE SET state = source.state
+                WHEN NOT MATCHED THEN
+                    INSERT (
+                        created_at,
+                        pull_request_round_id,
+                        reviewer_github_id,
+                        state
+                    )
+                    VALUES (
+                        CURRENT_TIMESTAMP(6),
+                        source.pull_request_round_id,
+                        source.reviewer_github_id,
+                        source.state
+                    )
+                """
+        );
+        return sql.toString();
+    }
+}
@@ -0,0 +1,40 @@
+package com.slack.bot.infrastructure.round.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class RoundReviewerRepositoryAdapterTest {
+
+    RoundReviewerRepositoryAdapter roundReviewerRepositoryAdapter = new RoundReviewerRepositoryAdapter(
+            null,
+            null,
+            null
+    );
+
+    @Test
+    void MySQL_upsert는_VALUES_함수_대신_행_별칭으로_상태를_갱신한다() {
+        // when
+        String actual = roundReviewerRepositoryAdapter.buildUpsertSql(2);
+
+        // then
+        assertThat(actual).isEqualTo(
+                """
+                INSERT INTO round_reviewer (
+                    created_at,
+                    pull_request_round_id,
+                    reviewer_github_id,
+                    state
+                )
+                VALUES
+                (CURRENT_TIMESTAMP(6), :pullRequestRoundId0, :reviewerGithubId0, :state0),
+                (CURRENT_TIMESTAMP(6), :pullRequestRoundId1, :reviewerGithubId1, :state1)
+                AS new
+                ON DUPLICATE KEY UPDATE state = new.state"""
+        );
+    }
+}
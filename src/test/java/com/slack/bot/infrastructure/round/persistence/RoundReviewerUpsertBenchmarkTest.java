@@ -0,0 +1,170 @@
+package com.slack.bot.infrastructure.round.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+@Tag("benchmark")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class RoundReviewerUpsertBenchmarkTest {
+
+    private static final int WEBHOOKS_PER_BURST = 200;
+    private static final int REVIEWERS_PER_PULL_REQUEST = 12;
+    private static final int WARMUP_BURSTS = 3;
+    private static final int MEASURE_BURSTS = 10;
+
+    EmbeddedDatabase database;
+    JdbcTemplate jdbcTemplate;
+    NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    H2RoundReviewerRepositoryAdapter adapter = new H2RoundReviewerRepositoryAdapter(null, null, null);
+    long nextRoundId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("classpath:sql/schema.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(database);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void 리뷰어를_한_번에_조회하고_upsert하면_리뷰어별_조회와_저장보다_webhook_burst를_빨리_처리한다() {
+        // given
+        List<String> reviewerGithubIds = reviewerGithubIds();
+
+        // when
+        long perReviewerNanos = measureBurstNanos(previousRoundId -> registerPerReviewer(previousRoundId, reviewerGithubIds));
+        long bulkNanos = measureBurstNanos(previousRoundId -> registerInBulk(previousRoundId, reviewerGithubIds));
+
+        // then
+        System.out.printf(
+                "round_reviewer 등록 (webhook %,d건, 리뷰어 %d명): 리뷰어별 조회/저장 %.3fms, 일괄 조회/upsert %.3fms%n",
+                WEBHOOKS_PER_BURST,
+                REVIEWERS_PER_PULL_REQUEST,
+                perReviewerNanos / 1_000_000.0d,
+                bulkNanos / 1_000_000.0d
+        );
+        assertThat(bulkNanos).isLessThan(perReviewerNanos);
+    }
+
+    private long measureBurstNanos(LongConsumer registration) {
+        for (int i = 0; i < WARMUP_BURSTS; i++) {
+            runBurst(registration);
+        }
+
+        long[] elapsedNanos = new long[MEASURE_BURSTS];
+        for (int i = 0; i < MEASURE_BURSTS; i++) {
+            elapsedNanos[i] = runBurst(registration);
+        }
+
+        Arrays.sort(elapsedNanos);
+        return elapsedNanos[MEASURE_BURSTS / 2];
+    }
+
+    private long runBurst(LongConsumer registration) {
+        long[] previousRoundIds = new long[WEBHOOKS_PER_BURST];
+        for (int i = 0; i < WEBHOOKS_PER_BURST; i++) {
+            previousRoundIds[i] = seedPreviousRound();
+        }
+
+        long startedNanos = System.nanoTime();
+        for (long previousRoundId : previousRoundIds) {
+            registration.accept(previousRoundId);
+        }
+        return System.nanoTime() - startedNanos;
+    }
+
+    private long seedPreviousRound() {
+        long previousRoundId = nextRoundId;
+        nextRoundId += 2L;
+
+        jdbcTemplate.update(
+                """
+                INSERT INTO round_reviewer (created_at, pull_request_round_id, reviewer_github_id, state)
+                SELECT CURRENT_TIMESTAMP(6), ?, 'reviewer-' || X, 'REQUESTED'
+                FROM SYSTEM_RANGE(1, ?)
+                """,
+                previousRoundId,
+                REVIEWERS_PER_PULL_REQUEST
+        );
+        return previousRoundId;
+    }
+
+    private void registerPerReviewer(long previousRoundId, List<String> reviewerGithubIds) {
+        long roundId = previousRoundId + 1L;
+
+        for (String reviewerGithubId : reviewerGithubIds) {
+            List<String> currentStates = findState(roundId, reviewerGithubId);
+            if (currentStates.isEmpty()) {
+                jdbcTemplate.update(
+                        """
+                        INSERT INTO round_reviewer (created_at, pull_request_round_id, reviewer_github_id, state)
+                        VALUES (CURRENT_TIMESTAMP(6), ?, ?, 'REQUESTED')
+                        """,
+                        roundId,
+                        reviewerGithubId
+                );
+                findState(previousRoundId, reviewerGithubId);
+            }
+        }
+    }
+
+    private List<String> findState(long roundId, String reviewerGithubId) {
+        return jdbcTemplate.queryForList(
+                "SELECT state FROM round_reviewer WHERE pull_request_round_id = ? AND reviewer_github_id = ?",
+                String.class,
+                roundId,
+                reviewerGithubId
+        );
+    }
+
+    private void registerInBulk(long previousRoundId, List<String> reviewerGithubIds) {
+        long roundId = previousRoundId + 1L;
+
+        namedParameterJdbcTemplate.queryForList(
+                "SELECT reviewer_github_id, state FROM round_reviewer WHERE pull_request_round_id IN (:roundIds)",
+                new MapSqlParameterSource("roundIds", List.of(roundId, previousRoundId))
+        );
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        for (int i = 0; i < reviewerGithubIds.size(); i++) {
+            parameters.addValue("pullRequestRoundId" + i, roundId)
+                      .addValue("reviewerGithubId" + i, reviewerGithubIds.get(i))
+                      .addValue("state" + i, "REQUESTED");
+        }
+        namedParameterJdbcTemplate.update(adapter.buildUpsertSql(reviewerGithubIds.size()), parameters);
+    }
+
+    private List<String> reviewerGithubIds() {
+        List<String> reviewerGithubIds = new ArrayList<>();
+
+        for (int i = 1; i <= REVIEWERS_PER_PULL_REQUEST; i++) {
+            reviewerGithubIds.add("reviewer-" + i);
+        }
+        return reviewerGithubIds;
+    }
+}
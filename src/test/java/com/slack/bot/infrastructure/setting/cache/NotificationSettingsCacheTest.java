@@ -0,0 +1,255 @@
+package com.slack.bot.infrastructure.setting.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.slack.bot.domain.setting.NotificationSettings;
+import com.slack.bot.domain.setting.dto.NotificationSettingsSnapshotDto;
+import com.slack.bot.domain.setting.repository.NotificationSettingsRepository;
+import com.slack.bot.domain.setting.vo.OptionalNotifications;
+import com.slack.bot.domain.setting.vo.ReservationConfirmed;
+import com.slack.bot.global.config.properties.NotificationSettingsCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class NotificationSettingsCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-24T00:00:00Z");
+
+    Clock clock;
+    SimpleMeterRegistry meterRegistry;
+    NotificationSettingsRepository notificationSettingsRepository;
+    NotificationSettingsCache notificationSettingsCache;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        meterRegistry = new SimpleMeterRegistry();
+        notificationSettingsRepository = mock(NotificationSettingsRepository.class);
+        given(clock.instant()).willReturn(NOW);
+
+        notificationSettingsCache = new NotificationSettingsCache(
+                clock,
+                meterRegistry,
+                new NotificationSettingsCacheProperties(60_000L, 10),
+                notificationSettingsRepository
+        );
+    }
+
+    @Test
+    void 처음_조회한_설정은_캐시에_저장하고_이후에는_저장소를_조회하지_않는다() {
+        // given
+        given(notificationSettingsRepository.findBySlackUser("T1", "U1"))
+                .willReturn(Optional.of(NotificationSettings.defaults(1L)));
+
+        // when
+        Optional<NotificationSettingsSnapshotDto> first = notificationSettingsCache.findBySlackUser("T1", "U1");
+        Optional<NotificationSettingsSnapshotDto> second = notificationSettingsCache.findBySlackUser("T1", "U1");
+
+        // then
+        assertAll(
+                () -> assertThat(first).contains(new NotificationSettingsSnapshotDto(1L, true, true, true)),
+                () -> assertThat(second).isEqualTo(first),
+                () -> verify(notificationSettingsRepository, times(1)).findBySlackUser("T1", "U1"),
+                () -> assertThat(requestCount("hit")).isEqualTo(1.0d),
+                () -> assertThat(requestCount("miss")).isEqualTo(1.0d)
+        );
+    }
+
+    @Test
+    void 설정이_없는_사용자도_캐시해_저장소를_다시_조회하지_않는다() {
+        // given
+        given(notificationSettingsRepository.findBySlackUser("T1", "U1")).willReturn(Optional.empty());
+
+        // when
+        Optional<NotificationSettingsSnapshotDto> first = notificationSettingsCache.findBySlackUser("T1", "U1");
+        Optional<NotificationSettingsSnapshotDto> second = notificationSettingsCache.findBySlackUser("T1", "U1");
+
+        // then
+        assertAll(
+                () -> assertThat(first).isEmpty(),
+                () -> assertThat(second).isEmpty(),
+                () -> verify(notificationSettingsRepository, times(1)).findBySlackUser("T1", "U1"),
+                () -> assertThat(requestCount("hit")).isEqualTo(1.0d)
+        );
+    }
+
+    @Test
+    void 여러_사용자를_조회할_때_설정이_없는_사용자도_캐시한다() {
+        // given
+        given(notificationSettingsRepository.findAllBySlackUsers("T1", Set.of("U1", "U2")))
+                .willReturn(Map.of("U1", NotificationSettings.defaults(1L)));
+        notificationSettingsCache.findAllBySlackUsers("T1", List.of("U1", "U2"));
+
+        // when
+        Map<String, NotificationSettingsSnapshotDto> actual = notificationSettingsCache.findAllBySlackUsers(
+                "T1",
+                List.of("U1", "U2")
+        );
+        Optional<NotificationSettingsSnapshotDto> absent = notificationSettingsCache.findBySlackUser("T1", "U2");
+
+        // then
+        assertAll(
+                () -> assertThat(actual).containsOnlyKeys("U1"),
+                () -> assertThat(absent).isEmpty(),
+                () -> verify(notificationSettingsRepository, times(1)).findAllBySlackUsers("T1", Set.of("U1", "U2")),
+                () -> verify(notificationSettingsRepository, never()).findBySlackUser("T1", "U2")
+        );
+    }
+
+    @Test
+    void 프로젝트_멤버_설정을_무효화하면_설정이_없던_사용자도_다시_조회한다() {
+        // given
+        given(notificationSettingsRepository.findBySlackUser("T1", "U1")).willReturn(
+                Optional.empty(),
+                Optional.of(reviewReminderDisabled(1L))
+        );
+        notificationSettingsCache.findBySlackUser("T1", "U1");
+
+        // when
+        notificationSettingsCache.evictProjectMember(1L);
+        Optional<NotificationSettingsSnapshotDto> actual = notificationSettingsCache.findBySlackUser("T1", "U1");
+
+        // then
+        assertAll(
+                () -> assertThat(actual).hasValueSatisfying(
+                        snapshot -> assertThat(snapshot.reviewReminderEnabled()).isFalse()
+                ),
+                () -> verify(notificationSettingsRepository, times(2)).findBySlackUser("T1", "U1")
+        );
+    }
+
+    @Test
+    void 전체_무효화하면_설정이_없던_사용자도_다시_조회한다() {
+        // given
+        given(notificationSettingsRepository.findBySlackUser("T1", "U1")).willReturn(
+                Optional.empty(),
+                Optional.of(NotificationSettings.defaults(1L))
+        );
+        notificationSettingsCache.findBySlackUser("T1", "U1");
+
+        // when
+        notificationSettingsCache.evictAll();
+        Optional<NotificationSettingsSnapshotDto> actual = notificationSettingsCache.findBySlackUser("T1", "U1");
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isPresent(),
+                () -> verify(notificationSettingsRepository, times(2)).findBySlackUser("T1", "U1")
+        );
+    }
+
+    @Test
+    void 여러_사용자를_조회하면_캐시에_없는_사용자만_저장소에서_조회한다() {
+        // given
+        given(notificationSettingsRepository.findBySlackUser("T1", "U1"))
+                .willReturn(Optional.of(NotificationSettings.defaults(1L)));
+        given(notificationSettingsRepository.findAllBySlackUsers("T1", Set.of("U2")))
+                .willReturn(Map.of("U2", reviewReminderDisabled(2L)));
+        notificationSettingsCache.findBySlackUser("T1", "U1");
+
+        // when
+        Map<String, NotificationSettingsSnapshotDto> actual = notificationSettingsCache.findAllBySlackUsers(
+                "T1",
+                List.of("U1", "U2")
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(actual).containsOnlyKeys("U1", "U2"),
+                () -> assertThat(actual.get("U1").reviewReminderEnabled()).isTrue(),
+                () -> assertThat(actual.get("U2").reviewReminderEnabled()).isFalse(),
+                () -> verify(notificationSettingsRepository).findAllBySlackUsers("T1", Set.of("U2"))
+        );
+    }
+
+    @Test
+    void 프로젝트_멤버_설정을_무효화하면_해당_멤버만_다시_조회한다() {
+        // given
+        given(notificationSettingsRepository.findBySlackUser("T1", "U1")).willReturn(
+                Optional.of(NotificationSettings.defaults(1L)),
+                Optional.of(reviewReminderDisabled(1L))
+        );
+        given(notificationSettingsRepository.findBySlackUser("T1", "U2"))
+                .willReturn(Optional.of(NotificationSettings.defaults(2L)));
+        notificationSettingsCache.findBySlackUser("T1", "U1");
+        notificationSettingsCache.findBySlackUser("T1", "U2");
+
+        // when
+        notificationSettingsCache.evictProjectMember(1L);
+        Optional<NotificationSettingsSnapshotDto> actual = notificationSettingsCache.findBySlackUser("T1", "U1");
+        notificationSettingsCache.findBySlackUser("T1", "U2");
+
+        // then
+        assertAll(
+                () -> assertThat(actual).hasValueSatisfying(
+                        snapshot -> assertThat(snapshot.reviewReminderEnabled()).isFalse()
+                ),
+                () -> verify(notificationSettingsRepository, times(2)).findBySlackUser("T1", "U1"),
+                () -> verify(notificationSettingsRepository, times(1)).findBySlackUser("T1", "U2")
+        );
+    }
+
+    @Test
+    void TTL이_지나면_저장소에서_다시_조회한다() {
+        // given
+        given(notificationSettingsRepository.findBySlackUser("T1", "U1"))
+                .willReturn(Optional.of(NotificationSettings.defaults(1L)));
+        notificationSettingsCache.findBySlackUser("T1", "U1");
+        given(clock.instant()).willReturn(NOW.plusSeconds(60L));
+
+        // when
+        notificationSettingsCache.findBySlackUser("T1", "U1");
+
+        // then
+        verify(notificationSettingsRepository, times(2)).findBySlackUser("T1", "U1");
+    }
+
+    @Test
+    void 팀이나_사용자가_비어_있으면_저장소를_조회하지_않는다() {
+        // when
+        Optional<NotificationSettingsSnapshotDto> actual = notificationSettingsCache.findBySlackUser("T1", " ");
+        Map<String, NotificationSettingsSnapshotDto> actualAll = notificationSettingsCache.findAllBySlackUsers(
+                null,
+                List.of("U1")
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEmpty(),
+                () -> assertThat(actualAll).isEmpty(),
+                () -> verify(notificationSettingsRepository, never()).findBySlackUser("T1", " ")
+        );
+    }
+
+    private NotificationSettings reviewReminderDisabled(Long projectMemberId) {
+        return NotificationSettings.create(
+                projectMemberId,
+                ReservationConfirmed.defaults(),
+                OptionalNotifications.defaults().updateReviewReminder(false)
+        );
+    }
+
+    private double requestCount(String result) {
+        return meterRegistry.get("slack.setting.notification_cache.requests")
+                            .tag("result", result)
+                            .counter()
+                            .count();
+    }
+}
@@ -0,0 +1,116 @@
+package com.slack.bot.infrastructure.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.slack.bot.application.IntegrationTest;
+import com.slack.bot.application.worker.PollingHintEvent;
+import com.slack.bot.application.worker.PollingHintTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@IntegrationTest
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class JdbcPollingHintBroadcasterTest {
+
+    @Autowired
+    NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    ApplicationEventPublisher nodeAEventPublisher;
+    ApplicationEventPublisher nodeBEventPublisher;
+    JdbcPollingHintBroadcaster nodeA;
+    JdbcPollingHintBroadcaster nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeAEventPublisher = mock(ApplicationEventPublisher.class);
+        nodeBEventPublisher = mock(ApplicationEventPublisher.class);
+        nodeA = new JdbcPollingHintBroadcaster(namedParameterJdbcTemplate, nodeAEventPublisher, 200L, false);
+        nodeB = new JdbcPollingHintBroadcaster(namedParameterJdbcTemplate, nodeBEventPublisher, 200L, false);
+    }
+
+    @Test
+    void 처음_동기화하면_모든_target의_hint_행을_생성한다() {
+        // when
+        nodeA.synchronize();
+        nodeB.synchronize();
+
+        // then
+        Integer rowCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM polling_hints", Integer.class);
+
+        assertAll(
+                () -> assertThat(rowCount).isEqualTo(PollingHintTarget.values().length),
+                () -> verify(nodeAEventPublisher, never()).publishEvent(any(Object.class)),
+                () -> verify(nodeBEventPublisher, never()).publishEvent(any(Object.class))
+        );
+    }
+
+    @Test
+    void 다른_노드가_보낸_hint는_로컬_polling_hint_이벤트로_전달한다() {
+        // given
+        nodeA.synchronize();
+        nodeB.synchronize();
+        nodeA.broadcast(PollingHintTarget.REVIEW_NOTIFICATION_OUTBOX);
+        nodeA.synchronize();
+
+        // when
+        nodeB.synchronize();
+
+        // then
+        assertAll(
+                () -> verify(nodeBEventPublisher).publishEvent(
+                        new PollingHintEvent(PollingHintTarget.REVIEW_NOTIFICATION_OUTBOX)
+                ),
+                () -> verify(nodeAEventPublisher, never()).publishEvent(any(Object.class))
+        );
+    }
+
+    @Test
+    void 동기화_전에_쌓인_같은_target의_hint는_한_번만_기록한다() {
+        // given
+        nodeA.synchronize();
+
+        // when
+        nodeA.broadcast(PollingHintTarget.INTERACTION_OUTBOX);
+        nodeA.broadcast(PollingHintTarget.INTERACTION_OUTBOX);
+        nodeA.synchronize();
+
+        // then
+        Long actual = jdbcTemplate.queryForObject(
+                "SELECT hint_sequence FROM polling_hints WHERE target = 'INTERACTION_OUTBOX'",
+                Long.class
+        );
+
+        assertThat(actual).isEqualTo(1L);
+    }
+
+    @Test
+    void 자신이_보낸_hint와_다른_노드의_hint가_함께_기록되면_로컬_이벤트를_발행한다() {
+        // given
+        nodeA.synchronize();
+        nodeB.synchronize();
+        nodeB.broadcast(PollingHintTarget.REVIEW_REQUEST_INBOX);
+        nodeB.synchronize();
+        nodeA.broadcast(PollingHintTarget.REVIEW_REQUEST_INBOX);
+
+        // when
+        nodeA.synchronize();
+
+        // then
+        verify(nodeAEventPublisher).publishEvent(new PollingHintEvent(PollingHintTarget.REVIEW_REQUEST_INBOX));
+    }
+}
@@ -0,0 +1,162 @@
+package com.slack.bot.infrastructure.workspace.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.slack.bot.domain.workspace.Workspace;
+import com.slack.bot.domain.workspace.repository.WorkspaceRepository;
+import com.slack.bot.global.config.properties.WorkspaceTokenCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class WorkspaceAccessTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-24T00:00:00Z");
+
+    Clock clock;
+    SimpleMeterRegistry meterRegistry;
+    WorkspaceRepository workspaceRepository;
+    WorkspaceAccessTokenCache workspaceAccessTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        meterRegistry = new SimpleMeterRegistry();
+        workspaceRepository = mock(WorkspaceRepository.class);
+        given(clock.instant()).willReturn(NOW);
+
+        workspaceAccessTokenCache = new WorkspaceAccessTokenCache(
+                clock,
+                meterRegistry,
+                new WorkspaceTokenCacheProperties(60_000L, 2),
+                workspaceRepository
+        );
+    }
+
+    @Test
+    void 처음_조회한_토큰은_캐시에_저장하고_이후에는_저장소를_조회하지_않는다() {
+        // given
+        given(workspaceRepository.findByTeamId("T1")).willReturn(Optional.of(createWorkspace("T1", "xoxb-1")));
+
+        // when
+        Optional<String> first = workspaceAccessTokenCache.findAccessToken("T1");
+        Optional<String> second = workspaceAccessTokenCache.findAccessToken("T1");
+
+        // then
+        assertAll(
+                () -> assertThat(first).contains("xoxb-1"),
+                () -> assertThat(second).contains("xoxb-1"),
+                () -> verify(workspaceRepository, times(1)).findByTeamId("T1"),
+                () -> assertThat(requestCount("hit")).isEqualTo(1.0d),
+                () -> assertThat(requestCount("miss")).isEqualTo(1.0d)
+        );
+    }
+
+    @Test
+    void TTL이_지나면_저장소에서_다시_조회한다() {
+        // given
+        given(workspaceRepository.findByTeamId("T1")).willReturn(
+                Optional.of(createWorkspace("T1", "xoxb-old")),
+                Optional.of(createWorkspace("T1", "xoxb-new"))
+        );
+        workspaceAccessTokenCache.findAccessToken("T1");
+        given(clock.instant()).willReturn(NOW.plusSeconds(60L));
+
+        // when
+        Optional<String> actual = workspaceAccessTokenCache.findAccessToken("T1");
+
+        // then
+        assertAll(
+                () -> assertThat(actual).contains("xoxb-new"),
+                () -> verify(workspaceRepository, times(2)).findByTeamId("T1")
+        );
+    }
+
+    @Test
+    void evict한_팀은_다음_조회에서_저장소를_다시_조회한다() {
+        // given
+        given(workspaceRepository.findByTeamId("T1")).willReturn(
+                Optional.of(createWorkspace("T1", "xoxb-old")),
+                Optional.of(createWorkspace("T1", "xoxb-new"))
+        );
+        workspaceAccessTokenCache.findAccessToken("T1");
+
+        // when
+        workspaceAccessTokenCache.evict("T1");
+        Optional<String> actual = workspaceAccessTokenCache.findAccessToken("T1");
+
+        // then
+        assertThat(actual).contains("xoxb-new");
+    }
+
+    @Test
+    void 워크스페이스가_없으면_캐시하지_않는다() {
+        // given
+        given(workspaceRepository.findByTeamId("T1")).willReturn(
+                Optional.empty(),
+                Optional.of(createWorkspace("T1", "xoxb-1"))
+        );
+
+        // when
+        Optional<String> first = workspaceAccessTokenCache.findAccessToken("T1");
+        Optional<String> second = workspaceAccessTokenCache.findAccessToken("T1");
+
+        // then
+        assertAll(
+                () -> assertThat(first).isEmpty(),
+                () -> assertThat(second).contains("xoxb-1")
+        );
+    }
+
+    @Test
+    void 최대_크기를_넘으면_가장_먼저_만료될_토큰을_제거한다() {
+        // given
+        given(workspaceRepository.findByTeamId("T1")).willReturn(Optional.of(createWorkspace("T1", "xoxb-1")));
+        given(workspaceRepository.findByTeamId("T2")).willReturn(Optional.of(createWorkspace("T2", "xoxb-2")));
+        given(workspaceRepository.findByTeamId("T3")).willReturn(Optional.of(createWorkspace("T3", "xoxb-3")));
+        workspaceAccessTokenCache.findAccessToken("T1");
+        given(clock.instant()).willReturn(NOW.plusSeconds(1L));
+        workspaceAccessTokenCache.findAccessToken("T2");
+        given(clock.instant()).willReturn(NOW.plusSeconds(2L));
+
+        // when
+        workspaceAccessTokenCache.findAccessToken("T3");
+        workspaceAccessTokenCache.findAccessToken("T2");
+        workspaceAccessTokenCache.findAccessToken("T1");
+
+        // then
+        assertAll(
+                () -> assertThat(workspaceAccessTokenCache.size()).isEqualTo(2),
+                () -> verify(workspaceRepository, times(2)).findByTeamId("T1"),
+                () -> verify(workspaceRepository, times(1)).findByTeamId("T2")
+        );
+    }
+
+    private double requestCount(String result) {
+        return meterRegistry.get("slack.workspace.token_cache.requests")
+                            .tag("result", result)
+                            .counter()
+                            .count();
+    }
+
+    private Workspace createWorkspace(String teamId, String accessToken) {
+        return Workspace.builder()
+                        .teamId(teamId)
+                        .accessToken(accessToken)
+                        .botUserId("B1")
+                        .userId(1L)
+                        .build();
+    }
+}
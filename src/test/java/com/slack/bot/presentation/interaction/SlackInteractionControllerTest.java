@@ -1,5 +1,7 @@
 package com.slack.bot.presentation.interaction;
 
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
@@ -45,8 +47,8 @@ class SlackInteractionControllerTest extends CommonControllerSliceTestSupport {
         String encodedPayload = URLEncoder.encode(payloadJson, StandardCharsets.UTF_8);
         String requestBody = "payload=" + encodedPayload;
 
-        given(slackSignatureVerifier.verify("1700000000", "v0=signature", requestBody)).willReturn(true);
-        given(slackInteractionServiceFacade.handle(payloadJson)).willReturn(SlackActionResponse.empty());
+        given(slackSignatureVerifier.verify("1700000000", "v0=signature", requestBody.getBytes(StandardCharsets.UTF_8))).willReturn(true);
+        given(slackInteractionServiceFacade.handle(eq(payloadJson), anyLong())).willReturn(SlackActionResponse.empty());
 
         // when & then
         ResultActions resultActions = mockMvc.perform(
@@ -72,7 +74,7 @@ class SlackInteractionControllerTest extends CommonControllerSliceTestSupport {
         String encodedPayload = URLEncoder.encode(payloadJson, StandardCharsets.UTF_8);
         String requestBody = "payload=" + encodedPayload;
 
-        given(slackSignatureVerifier.verify("1700000000", "v0=bad-signature", requestBody)).willReturn(false);
+        given(slackSignatureVerifier.verify("1700000000", "v0=bad-signature", requestBody.getBytes(StandardCharsets.UTF_8))).willReturn(false);
 
         // when & then
         ResultActions resultActions = mockMvc.perform(
@@ -133,6 +135,28 @@ class SlackInteractionControllerTest extends CommonControllerSliceTestSupport {
                .andExpect(jsonPath("$.message").value("슬랙 요청 signature가 필요합니다."));
     }
 
+    @Test
+    void payload_외_폼_파라미터가_있어도_payload만_디코딩해_전달한다() throws Exception {
+        // given
+        String payloadJson = "{\"type\":\"block_actions\",\"text\":\"리뷰 요청 + 확인\"}";
+        String requestBody = "token=legacy&payload=" + URLEncoder.encode(payloadJson, StandardCharsets.UTF_8) + "&extra=1";
+
+        given(slackSignatureVerifier.verify("1700000000", "v0=signature", requestBody.getBytes(StandardCharsets.UTF_8)))
+                .willReturn(true);
+        given(slackInteractionServiceFacade.handle(eq(payloadJson), anyLong())).willReturn(SlackActionResponse.empty());
+
+        // when & then
+        mockMvc.perform(
+                       post("/slack/interactive")
+                               .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                               .header("X-Slack-Request-Timestamp", "1700000000")
+                               .header("X-Slack-Signature", "v0=signature")
+                               .content(requestBody)
+               )
+               .andExpect(status().isOk())
+               .andExpect(content().json("{}"));
+    }
+
     private void 인터랙티브_요청_처리_성공_문서화(ResultActions resultActions) throws Exception {
         resultActions.andDo(
                 restDocs.document(
@@ -21,5 +21,8 @@ TRUNCATE TABLE access_links;
 TRUNCATE TABLE access_link_sequences;
 TRUNCATE TABLE notification_settings;
 TRUNCATE TABLE projects;
+TRUNCATE TABLE polling_hints;
+TRUNCATE TABLE scheduler_leases;
+TRUNCATE TABLE slack_direct_message_channels;
 
 SET REFERENTIAL_INTEGRITY TRUE;
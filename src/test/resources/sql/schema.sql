@@ -20,6 +20,8 @@ DROP TABLE IF EXISTS review_request_inbox_history;
 DROP TABLE IF EXISTS review_request_inbox;
 DROP TABLE IF EXISTS round_reviewer;
 DROP TABLE IF EXISTS pull_request_rounds;
+DROP TABLE IF EXISTS polling_hints;
+DROP TABLE IF EXISTS scheduler_leases;
 
 CREATE TABLE IF NOT EXISTS test_audit_entity (
     id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
@@ -317,3 +319,4 @@ CREATE TABLE IF NOT EXISTS round_reviewer (
         reviewer_github_id
     )
 );
+